@@ -2,11 +2,37 @@
 
 package org.frcpm.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.frcpm.web.websocket.OutboundBackpressureInterceptor;
+import org.frcpm.web.websocket.PresenceRegistry;
+import org.frcpm.web.websocket.StompMetrics;
+import org.frcpm.web.websocket.StompRateLimitInterceptor;
+import org.frcpm.web.websocket.TimedJacksonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.List;
+import java.util.logging.Logger;
 
 /**
  * WebSocket configuration for real-time collaboration features.
@@ -19,33 +45,140 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  *     <artifactId>spring-boot-starter-websocket</artifactId>
  * </dependency>
  * 
+ * The broker is selected with frc.websocket.broker.mode:
+ * - simple (default): in-JVM broker; subscriptions live in this instance only
+ * - relay: subscriptions and fan-out live in an external STOMP broker
+ *   (ActiveMQ/Artemis, RabbitMQ), so several instances can run behind the
+ *   load balancer. Unresolved user destinations and the user registry are
+ *   broadcast through the broker so /user/... messages reach the instance
+ *   holding the user's session.
+ * 
+ * The message broker infrastructure is set up by {@link BrokerConfiguration}
+ * in place of @EnableWebSocketMessageBroker, so that each session's send
+ * buffer can be measured.
+ * 
  * @author FRC Project Management Team
  * @version 2.0.0
  * @since Phase 2C - Progressive Web App Development
  */
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    private static final Logger LOGGER = Logger.getLogger(WebSocketConfig.class.getName());
+    
+    static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+    static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+    
+    @Value("${frc.websocket.broker.mode:simple}")
+    private String brokerMode;
+    
+    @Value("${frc.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+    
+    @Value("${frc.websocket.broker.relay-port:61613}")
+    private int relayPort;
+    
+    @Value("${frc.websocket.broker.virtual-host:}")
+    private String virtualHost;
+    
+    @Value("${frc.websocket.broker.client-login:guest}")
+    private String clientLogin;
+    
+    @Value("${frc.websocket.broker.client-passcode:guest}")
+    private String clientPasscode;
+    
+    @Value("${frc.websocket.broker.system-login:guest}")
+    private String systemLogin;
+    
+    @Value("${frc.websocket.broker.system-passcode:guest}")
+    private String systemPasscode;
+    
+    @Value("${frc.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+    
+    @Value("${frc.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+    
+    @Value("${frc.websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+    
+    @Value("${frc.websocket.outbound.pool-size:4}")
+    private int outboundPoolSize;
+    
+    @Value("${frc.websocket.outbound.queue-capacity:2000}")
+    private int outboundQueueCapacity;
+    
+    @Autowired
+    private StompRateLimitInterceptor rateLimitInterceptor;
+    
+    @Autowired
+    private PresenceRegistry presenceRegistry;
+    
+    @Autowired
+    private OutboundBackpressureInterceptor backpressureInterceptor;
+    
+    @Autowired
+    private StompMetrics stompMetrics;
+    
+    /** Boot's mapper, so STOMP payloads are written like REST responses (ISO-8601 dates) */
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private TaskScheduler heartbeatScheduler;
+    
+    /**
+     * The broker's own scheduler, defined by the message broker configuration
+     * this class customizes - hence lazy.
+     */
+    @Autowired
+    public void setHeartbeatScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
+    
     /**
      * Configure message broker for different types of real-time communication.
      * 
-     * 🔧 FIXED: Removed setHeartbeatValue() - method doesn't exist in newer Spring versions
-     * Use heartbeat configuration in SockJS instead.
+     * STOMP heartbeats are negotiated every 10 seconds in both directions, so
+     * the presence registry can tell a silent client from a dead one.
+     * 
+     * /user is deliberately not a broker prefix: user destinations are always
+     * resolved to the target user's own sessions rather than delivered to
+     * whoever subscribes to the literal destination.
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable simple broker for topic-based broadcasting
-        config.enableSimpleBroker("/topic", "/queue", "/user");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(clientLogin)
+                .setClientPasscode(clientPasscode)
+                .setSystemLogin(systemLogin)
+                .setSystemPasscode(systemPasscode)
+                .setSystemHeartbeatSendInterval(10000)
+                .setSystemHeartbeatReceiveInterval(10000)
+                .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST)
+                .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST)
+                .setTaskScheduler(heartbeatScheduler);
+            if (!virtualHost.isBlank()) {
+                relay.setVirtualHost(virtualHost);
+            }
+            LOGGER.info(String.format("WebSocket broker: STOMP relay to %s:%d", relayHost, relayPort));
+        } else {
+            // Enable simple broker for topic-based broadcasting
+            config.enableSimpleBroker("/topic", "/queue")
+                  .setHeartbeatValue(new long[] {10000, 10000})
+                  .setTaskScheduler(heartbeatScheduler);
+        }
+        
+        // Count publishes and fan-out for everything headed to the broker
+        config.configureBrokerChannel().interceptors(stompMetrics.brokerInterceptor());
         
         // Set application destination prefix for client-to-server messages
         config.setApplicationDestinationPrefixes("/app");
         
         // Set user destination prefix for private messages
         config.setUserDestinationPrefix("/user");
-        
-        // 🔧 REMOVED: setHeartbeatValue() - not available in current Spring versions
-        // Heartbeat is configured in SockJS configuration below
     }
     
     /**
@@ -66,6 +199,85 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // Keep only essential configuration for maximum compatibility
     }
     
+    /**
+     * Refresh session liveness on every inbound frame, then meter
+     * client-to-server frames against per-user rate limits before they
+     * reach any @MessageMapping handler, whose latency is then timed.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(presenceRegistry, rateLimitInterceptor, stompMetrics.inboundInterceptor());
+    }
+    
+    /**
+     * Deliver server-to-client frames on a fixed-size pool with a bounded
+     * queue (Spring's default grows without limit). A frame the full queue
+     * cannot take evicts its session, and frames for evicted sessions are
+     * dropped before they reach the queue.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(backpressureInterceptor.rejectedExecutionHandler());
+        registration.taskExecutor(executor)
+                    .corePoolSize(outboundPoolSize)
+                    .maxPoolSize(outboundPoolSize)
+                    .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(backpressureInterceptor);
+    }
+    
+    /**
+     * Message size and send limits. A session whose socket does not drain
+     * within the time limit, or whose unsent bytes pass the buffer limit, is
+     * closed by Spring; the backpressure interceptor evicts it earlier, at
+     * frc.websocket.outbound.resync-buffer-bytes, and tracks session lifecycle.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                    .setSendTimeLimit(sendTimeLimitMillis)
+                    .setSendBufferSizeLimit(sendBufferSizeLimit)
+                    .addDecoratorFactory(backpressureInterceptor);
+    }
+    
+    /**
+     * Spring's default converters, with the JSON one replaced by a converter
+     * that uses the application's ObjectMapper and times serialization.
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new StringMessageConverter());
+        messageConverters.add(new ByteArrayMessageConverter());
+        messageConverters.add(new TimedJacksonMessageConverter(objectMapper, stompMetrics));
+        return false;
+    }
+    
+    /**
+     * Spring's message broker configuration, with the handler that writes to
+     * WebSocket sessions sending through the backpressure interceptor's
+     * buffering decorator instead of a plain one.
+     */
+    @Configuration
+    static class BrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+        
+        @Autowired
+        private OutboundBackpressureInterceptor backpressureInterceptor;
+        
+        @Override
+        @Bean
+        public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                            AbstractSubscribableChannel clientOutboundChannel) {
+            return new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+                @Override
+                protected WebSocketSession decorateSession(WebSocketSession session) {
+                    return backpressureInterceptor.decorateSession(session, getSendTimeLimit(),
+                                                                   getSendBufferSizeLimit());
+                }
+            };
+        }
+    }
+    
     // 🎯 FUTURE ENHANCEMENTS: Add these methods when needed
     
     /*
@@ -74,14 +286,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(new AuthenticationChannelInterceptor());
     }
-    
-    // Message size and timeout configuration
-    @Override
-    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
-        registration.setMessageSizeLimit(64 * 1024);     // 64KB max message
-        registration.setSendTimeLimit(15 * 1000);        // 15 seconds send timeout
-        registration.setSendBufferSizeLimit(512 * 1024); // 512KB send buffer
-    }
     */
 }
 
@@ -0,0 +1,52 @@
+// src/main/java/org/frcpm/events/DependencyChangedEvent.java
+
+package org.frcpm.events;
+
+/**
+ * Application event published by the task dependency service whenever a
+ * dependency edge is created, updated or removed.
+ * 
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public class DependencyChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long dependencyId;
+    private final Long projectId;
+    private final Long prerequisiteTaskId;
+    private final Long dependentTaskId;
+    private final Integer lagHours;
+    private final boolean active;
+    
+    public DependencyChangedEvent(ChangeType changeType, Long dependencyId, Long projectId,
+                                  Long prerequisiteTaskId, Long dependentTaskId,
+                                  Integer lagHours, boolean active) {
+        this.changeType = changeType;
+        this.dependencyId = dependencyId;
+        this.projectId = projectId;
+        this.prerequisiteTaskId = prerequisiteTaskId;
+        this.dependentTaskId = dependentTaskId;
+        this.lagHours = lagHours;
+        this.active = active;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    public Long getDependencyId() { return dependencyId; }
+    public Long getProjectId() { return projectId; }
+    public Long getPrerequisiteTaskId() { return prerequisiteTaskId; }
+    public Long getDependentTaskId() { return dependentTaskId; }
+    public Integer getLagHours() { return lagHours; }
+    public boolean isActive() { return active; }
+    
+    @Override
+    public String toString() {
+        return "DependencyChangedEvent{" + changeType + ", dependencyId=" + dependencyId +
+               ", projectId=" + projectId + "}";
+    }
+}
@@ -0,0 +1,37 @@
+// src/main/java/org/frcpm/events/MilestoneChangedEvent.java
+
+package org.frcpm.events;
+
+/**
+ * Application event published by the milestone service whenever a milestone
+ * is created, updated or deleted.
+ * 
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public class MilestoneChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long milestoneId;
+    private final Long projectId;
+    
+    public MilestoneChangedEvent(ChangeType changeType, Long milestoneId, Long projectId) {
+        this.changeType = changeType;
+        this.milestoneId = milestoneId;
+        this.projectId = projectId;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    public Long getMilestoneId() { return milestoneId; }
+    public Long getProjectId() { return projectId; }
+    
+    @Override
+    public String toString() {
+        return "MilestoneChangedEvent{" + changeType + ", milestoneId=" + milestoneId + ", projectId=" + projectId + "}";
+    }
+}
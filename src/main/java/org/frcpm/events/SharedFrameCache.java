@@ -0,0 +1,130 @@
+// src/main/java/org/frcpm/events/SharedFrameCache.java
+
+package org.frcpm.events;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON frames for the payloads of one dispatch window, serialized once per
+ * payload instance.
+ *
+ * The publisher sends the same message object to a project topic, each
+ * assignee's queue and the activity feeds. Converting it per destination
+ * repeats the same Jackson work; here the first destination serializes it
+ * and the rest reuse the bytes, including destinations whose frame is a
+ * JSON array of several payloads. The byte arrays are never modified after
+ * serialization, so one array backs every frame that carries the payload.
+ *
+ * Not thread-safe: used only by the bus dispatcher thread, one instance per
+ * window.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+final class SharedFrameCache {
+
+    private final MessageConverter converter;
+    private final Map<Object, Integer> uses = new IdentityHashMap<>();
+    private final Map<Object, byte[]> serialized = new IdentityHashMap<>();
+    private int reused;
+
+    SharedFrameCache(MessageConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Counts one more frame carrying the payload.
+     */
+    void addUse(Object payload) {
+        uses.merge(payload, 1, Integer::sum);
+    }
+
+    /**
+     * @param payloads everything going to one destination
+     * @return true when one of the payloads is carried more than once in
+     *         this window and all of them serialize to JSON, so a shared
+     *         frame can be built
+     */
+    boolean isShared(List<Object> payloads) {
+        if (converter == null) {
+            return false;
+        }
+        boolean shared = false;
+        for (Object payload : payloads) {
+            // Strings and byte arrays are sent as-is rather than as JSON
+            if (payload instanceof String || payload instanceof byte[]) {
+                return false;
+            }
+            shared |= uses.getOrDefault(payload, 0) > 1;
+        }
+        return shared;
+    }
+
+    /**
+     * Builds the frame for one destination: the payload itself when there is
+     * one, a JSON array of the payloads otherwise.
+     *
+     * @return the frame, or null if a payload could not be serialized
+     */
+    Message<byte[]> frame(List<Object> payloads) {
+        byte[] body;
+        if (payloads.size() == 1) {
+            body = serialize(payloads.get(0));
+        } else {
+            ByteArrayOutputStream array = new ByteArrayOutputStream();
+            array.write('[');
+            for (int i = 0; i < payloads.size(); i++) {
+                byte[] element = serialize(payloads.get(i));
+                if (element == null) {
+                    return null;
+                }
+                if (i > 0) {
+                    array.write(',');
+                }
+                array.writeBytes(element);
+            }
+            array.write(']');
+            body = array.toByteArray();
+        }
+        if (body == null) {
+            return null;
+        }
+        // Headers are per destination; the template sets the destination on them
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    /**
+     * @return serializations avoided by reusing a frame
+     */
+    int getReused() {
+        return reused;
+    }
+
+    private byte[] serialize(Object payload) {
+        byte[] bytes = serialized.get(payload);
+        if (bytes != null) {
+            reused++;
+            return bytes;
+        }
+        Message<?> message = converter.toMessage(payload, null);
+        if (message == null || !(message.getPayload() instanceof byte[] converted)) {
+            return null;
+        }
+        serialized.put(payload, converted);
+        return converted;
+    }
+}
@@ -0,0 +1,43 @@
+// src/main/java/org/frcpm/events/TaskChangedEvent.java
+
+package org.frcpm.events;
+
+/**
+ * Application event published by the task service whenever a task is
+ * created, updated or deleted.
+ * 
+ * Carries identifiers and scheduling-relevant values only, so listeners
+ * running after commit never touch a detached entity.
+ * 
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public class TaskChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long taskId;
+    private final Long projectId;
+    private final long estimatedDurationSeconds;
+    
+    public TaskChangedEvent(ChangeType changeType, Long taskId, Long projectId, long estimatedDurationSeconds) {
+        this.changeType = changeType;
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.estimatedDurationSeconds = estimatedDurationSeconds;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    public Long getTaskId() { return taskId; }
+    public Long getProjectId() { return projectId; }
+    public long getEstimatedDurationSeconds() { return estimatedDurationSeconds; }
+    
+    @Override
+    public String toString() {
+        return "TaskChangedEvent{" + changeType + ", taskId=" + taskId + ", projectId=" + projectId + "}";
+    }
+}
@@ -0,0 +1,41 @@
+// src/main/java/org/frcpm/events/TeamMembershipChangedEvent.java
+
+package org.frcpm.events;
+
+/**
+ * Application event published whenever team membership changes: a team
+ * member is created, updated or deleted, or a subteam gains, loses or
+ * changes members.
+ * 
+ * The member ID is null for subteam-level changes that are not about a
+ * single member, such as creating or deleting a subteam.
+ * 
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public class TeamMembershipChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long memberId;
+    private final Long subteamId;
+    
+    public TeamMembershipChangedEvent(ChangeType changeType, Long memberId, Long subteamId) {
+        this.changeType = changeType;
+        this.memberId = memberId;
+        this.subteamId = subteamId;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    public Long getMemberId() { return memberId; }
+    public Long getSubteamId() { return subteamId; }
+    
+    @Override
+    public String toString() {
+        return "TeamMembershipChangedEvent{" + changeType + ", memberId=" + memberId + ", subteamId=" + subteamId + "}";
+    }
+}
@@ -0,0 +1,327 @@
+// src/main/java/org/frcpm/events/WebSocketEventBus.java
+
+package org.frcpm.events;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-process bus between the application and the STOMP broker.
+ *
+ * publish() never sends on the caller's thread. Inside a transaction the
+ * message is held until commit (and dropped on rollback); it is then
+ * appended to a bounded lock-free ring buffer drained by one dispatcher
+ * thread. The dispatcher collects messages for a short coalescing window:
+ * messages sharing a destination and coalescing key collapse into the latest
+ * one, and everything left for a destination goes out as a single frame -
+ * the payload itself when there is one message, a JSON array otherwise.
+ * A payload instance sent to several destinations in one window is
+ * serialized once and its bytes reused for each of them.
+ *
+ * When the buffer is full new messages are dropped and counted rather than
+ * blocking request threads; clients resynchronize on their next refresh.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+@Component
+public class WebSocketEventBus {
+
+    private static final Logger LOGGER = Logger.getLogger(WebSocketEventBus.class.getName());
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int DROP_LOG_INTERVAL = 1000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MpscRingBuffer<Envelope> buffer;
+    private final long coalesceWindowNanos;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong framesSent = new AtomicLong();
+    private final AtomicLong serializationsSaved = new AtomicLong();
+
+    private volatile Thread dispatcher;
+    private volatile boolean running;
+    private volatile boolean idle;
+
+    @Autowired
+    public WebSocketEventBus(SimpMessagingTemplate messagingTemplate,
+                             @Value("${frc.websocket.bus.capacity:4096}") int capacity,
+                             @Value("${frc.websocket.bus.coalesce-window-ms:250}") long coalesceWindowMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.coalesceWindowNanos = TimeUnit.MILLISECONDS.toNanos(coalesceWindowMillis);
+    }
+
+    /**
+     * Exports the bus counters as websocket.bus.* meters. Optional, so the
+     * bus also works without a registry.
+     */
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.bus.queued", buffer, MpscRingBuffer::size)
+            .description("Messages waiting for the dispatcher")
+            .register(meterRegistry);
+        FunctionCounter.builder("websocket.bus.dropped", dropped, AtomicLong::get)
+            .description("Messages dropped because the buffer was full")
+            .register(meterRegistry);
+        FunctionCounter.builder("websocket.bus.coalesced", coalesced, AtomicLong::get)
+            .description("Messages replaced by a later one with the same coalescing key")
+            .register(meterRegistry);
+        FunctionCounter.builder("websocket.bus.frames", framesSent, AtomicLong::get)
+            .description("Frames handed to the broker by the dispatcher")
+            .register(meterRegistry);
+        FunctionCounter.builder("websocket.bus.serializations.saved", serializationsSaved, AtomicLong::get)
+            .description("Payload serializations avoided by reusing a shared frame")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::dispatchLoop, "websocket-event-dispatcher");
+        thread.setDaemon(true);
+        dispatcher = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the dispatcher after flushing everything already enqueued.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = dispatcher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Publishes a message that is never coalesced.
+     *
+     * @param destination STOMP destination
+     * @param payload message payload
+     */
+    public void publish(String destination, Object payload) {
+        publish(destination, payload, null);
+    }
+
+    /**
+     * Publishes a message after the current transaction commits, or
+     * immediately when no transaction is active.
+     *
+     * @param destination STOMP destination
+     * @param payload message payload
+     * @param coalesceKey messages to the same destination with the same key
+     *                    inside one window are collapsed into the latest;
+     *                    null to always deliver
+     */
+    public void publish(String destination, Object payload, String coalesceKey) {
+        if (destination == null || payload == null) {
+            return;
+        }
+        Envelope envelope = new Envelope(destination, payload, coalesceKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingForTransaction().add(envelope);
+        } else {
+            enqueue(envelope);
+        }
+    }
+
+    /**
+     * Publishes a message without waiting for a commit. For callers that
+     * already run after commit, such as transactional event listeners:
+     * synchronizations registered from there are never invoked, so
+     * {@link #publish(String, Object, String)} would lose the message.
+     *
+     * @param destination STOMP destination
+     * @param payload message payload
+     * @param coalesceKey coalescing key, or null to always deliver
+     */
+    public void publishCommitted(String destination, Object payload, String coalesceKey) {
+        if (destination == null || payload == null) {
+            return;
+        }
+        enqueue(new Envelope(destination, payload, coalesceKey));
+    }
+
+    /**
+     * @return bus counters for monitoring
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("published", published.get());
+        stats.put("dropped", dropped.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("framesSent", framesSent.get());
+        stats.put("serializationsSaved", serializationsSaved.get());
+        stats.put("queued", buffer.size());
+        stats.put("capacity", buffer.capacity());
+        return stats;
+    }
+
+    // =========================================================================
+    // PRODUCER SIDE
+    // =========================================================================
+
+    @SuppressWarnings("unchecked")
+    private List<Envelope> pendingForTransaction() {
+        List<Envelope> pending = (List<Envelope>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Envelope> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.forEach(WebSocketEventBus.this::enqueue);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WebSocketEventBus.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void enqueue(Envelope envelope) {
+        if (!buffer.offer(envelope)) {
+            long count = dropped.incrementAndGet();
+            if (count % DROP_LOG_INTERVAL == 1) {
+                LOGGER.warning(String.format("WebSocket event buffer full, dropped message to %s (%d dropped so far)",
+                                            envelope.destination, count));
+            }
+            return;
+        }
+        published.incrementAndGet();
+        if (idle) {
+            LockSupport.unpark(dispatcher);
+        }
+    }
+
+    // =========================================================================
+    // DISPATCHER
+    // =========================================================================
+
+    private void dispatchLoop() {
+        List<Envelope> window = new ArrayList<>();
+        Map<String, Integer> positionByKey = new HashMap<>();
+        long deadline = 0;
+
+        while (true) {
+            Envelope envelope;
+            while ((envelope = buffer.poll()) != null) {
+                if (window.isEmpty()) {
+                    deadline = System.nanoTime() + coalesceWindowNanos;
+                }
+                if (envelope.coalesceKey == null) {
+                    window.add(envelope);
+                    continue;
+                }
+                // The latest message keeps the position of the first one it replaces
+                Integer position = positionByKey.putIfAbsent(envelope.destination + '|' + envelope.coalesceKey,
+                                                            window.size());
+                if (position == null) {
+                    window.add(envelope);
+                } else {
+                    window.set(position, envelope);
+                    coalesced.incrementAndGet();
+                }
+            }
+
+            boolean stopping = !running;
+            long remaining = deadline - System.nanoTime();
+            if (!window.isEmpty() && (remaining <= 0 || stopping)) {
+                flush(window);
+                window.clear();
+                positionByKey.clear();
+                continue;
+            }
+            if (stopping && buffer.isEmpty()) {
+                return;
+            }
+
+            if (window.isEmpty()) {
+                idle = true;
+                // Re-check after publishing the idle flag so a concurrent offer is not missed
+                if (buffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+            } else {
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+    }
+
+    private void flush(List<Envelope> window) {
+        Map<String, List<Object>> byDestination = new LinkedHashMap<>();
+        SharedFrameCache frames = new SharedFrameCache(messagingTemplate.getMessageConverter());
+        for (Envelope envelope : window) {
+            byDestination.computeIfAbsent(envelope.destination, d -> new ArrayList<>()).add(envelope.payload);
+            frames.addUse(envelope.payload);
+        }
+
+        byDestination.forEach((destination, payloads) -> {
+            try {
+                Message<byte[]> frame = frames.isShared(payloads) ? frames.frame(payloads) : null;
+                if (frame != null) {
+                    messagingTemplate.send(destination, frame);
+                } else {
+                    messagingTemplate.convertAndSend(destination, payloads.size() == 1 ? payloads.get(0) : payloads);
+                }
+                framesSent.incrementAndGet();
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error sending WebSocket frame to " + destination, e);
+            }
+        });
+        serializationsSaved.addAndGet(frames.getReused());
+
+        LOGGER.fine(String.format("Flushed %d WebSocket messages in %d frames", window.size(), byDestination.size()));
+    }
+
+    private static final class Envelope {
+        final String destination;
+        final Object payload;
+        final String coalesceKey;
+
+        Envelope(String destination, Object payload, String coalesceKey) {
+            this.destination = destination;
+            this.payload = payload;
+            this.coalesceKey = coalesceKey;
+        }
+    }
+}
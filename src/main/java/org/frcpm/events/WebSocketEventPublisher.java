@@ -35,6 +35,13 @@ import java.util.logging.Level;
  * - COPPA compliance -> Age-appropriate real-time features
  * - Kanban operations -> Real-time board synchronization ✅ NEW
  * 
+ * Messages are built here, inside the caller's transaction, and handed to
+ * the controllers, which route them through {@link WebSocketEventBus}: nothing
+ * is sent until commit, and delivery happens on the bus dispatcher thread.
+ * A message that goes to several destinations - the project topic and each
+ * assignee, say - is passed as the same instance to every one of them, so
+ * the bus serializes it once and reuses the frame.
+ * 
  * @author FRC Project Management Team - Phase 2E-C Fixed
  * @version 2.0.0-2E-C-FIXED
  * @since Phase 2C - Progressive Web App Development
@@ -98,7 +105,7 @@ public class WebSocketEventPublisher {
             // Send targeted notification to assignees
             task.getAssignedTo().forEach(assignee -> {
                 if (assignee.getUser() != null) {
-                    taskUpdateController.sendTaskUpdateToUser(assignee.getUser().getId(), message);
+                    taskUpdateController.sendTaskUpdateToUser(assignee.getUser().getUsername(), message);
                 }
             });
             
@@ -229,7 +236,7 @@ public class WebSocketEventPublisher {
                     assignment.setCategory("TASK");
                     assignment.setIconClass("fas fa-tasks");
                     
-                    notificationController.sendNotificationToUser(assignee.getUser().getId(), assignment);
+                    notificationController.sendNotificationToUser(assignee.getUser().getUsername(), assignment);
                 }
             });
             
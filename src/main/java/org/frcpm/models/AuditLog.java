@@ -21,7 +21,11 @@ import java.time.LocalDateTime;
  * @since Phase 2B - COPPA Compliance & Security
  */
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+    @Index(name = "idx_audit_logs_timestamp", columnList = "timestamp"),
+    @Index(name = "idx_audit_logs_coppa_timestamp", columnList = "coppa_relevant, timestamp"),
+    @Index(name = "idx_audit_logs_level_timestamp", columnList = "level, timestamp")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class AuditLog {
     
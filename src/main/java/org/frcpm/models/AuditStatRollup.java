@@ -0,0 +1,98 @@
+// src/main/java/org/frcpm/models/AuditStatRollup.java
+
+package org.frcpm.models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hourly audit event count for one statistics dimension.
+ *
+ * One row per (hour, dimension, key): for example the number of
+ * SECURITY_ALERT events, of LOGIN_FAILED events from one IP address or of
+ * accesses to one resource during an hour. Rows are incremented by the
+ * audit writer in the same transaction that inserts the audit rows, so
+ * audit statistics never have to scan audit_logs.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0
+ * @since Phase 2B - COPPA Compliance & Security
+ */
+@Entity
+@Table(name = "audit_stat_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_audit_stat_rollups_bucket",
+                                             columnNames = {"bucket_start", "dimension", "dim_key"}),
+       indexes = {
+           @Index(name = "idx_audit_stat_rollups_dimension", columnList = "dimension, bucket_start")
+       })
+public class AuditStatRollup {
+
+    /**
+     * What an hourly count is broken down by.
+     */
+    public enum Dimension {
+        /** All events; the key is empty. */
+        TOTAL,
+        /** COPPA-relevant events; the key is empty. */
+        COPPA,
+        /** Events by {@link AuditLevel} name. */
+        LEVEL,
+        /** Events by action. */
+        ACTION,
+        /** Events by resource, keyed "type:id". */
+        RESOURCE,
+        /** LOGIN_FAILED events by client IP address. */
+        FAILED_LOGIN_IP
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Start of the hour counted.
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Column(name = "dim_key", nullable = false)
+    private String key;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    public AuditStatRollup() {
+    }
+
+    public AuditStatRollup(LocalDateTime bucketStart, Dimension dimension, String key, long eventCount) {
+        this.bucketStart = bucketStart;
+        this.dimension = dimension;
+        this.key = key;
+        this.eventCount = eventCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+}
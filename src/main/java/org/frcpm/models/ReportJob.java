@@ -0,0 +1,195 @@
+// src/main/java/org/frcpm/models/ReportJob.java
+
+package org.frcpm.models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report that is generated in the background on a cron schedule.
+ *
+ * Each run writes a compressed artifact file to the report artifact store;
+ * this row only keeps the schedule and the outcome of the last run. A job
+ * is due when it is active and its next run time has passed. The worker
+ * that moves the next run time forward first owns the run, so a run is
+ * never started twice.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+@Entity
+@Table(name = "report_jobs",
+       indexes = {
+           @Index(name = "idx_report_jobs_due", columnList = "active, next_run_at"),
+           @Index(name = "idx_report_jobs_project", columnList = "project_id, report_type")
+       })
+public class ReportJob {
+
+    /**
+     * Outcome of a report run.
+     */
+    public enum RunStatus {
+        SUCCEEDED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    /**
+     * Report template type (for example "risk_analysis") or export dataset
+     * (for example "tasks").
+     */
+    @Column(name = "report_type", nullable = false, length = 50)
+    private String reportType;
+
+    /**
+     * Artifact format: "json", "csv", "xlsx" or "pdf".
+     */
+    @Column(name = "format", nullable = false, length = 10)
+    private String format;
+
+    /**
+     * Spring cron expression, evaluated in the server time zone.
+     */
+    @Column(name = "cron_expression", nullable = false, length = 100)
+    private String cronExpression;
+
+    @Column(name = "active", nullable = false)
+    private boolean active = true;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_status", length = 20)
+    private RunStatus lastStatus;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "run_count", nullable = false)
+    private int runCount;
+
+    public ReportJob() {
+    }
+
+    public ReportJob(Project project, String reportType, String format, String cronExpression,
+                     LocalDateTime nextRunAt) {
+        this.project = project;
+        this.reportType = reportType;
+        this.format = format;
+        this.cronExpression = cronExpression;
+        this.nextRunAt = nextRunAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public String getReportType() {
+        return reportType;
+    }
+
+    public void setReportType(String reportType) {
+        this.reportType = reportType;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+
+    public void setNextRunAt(LocalDateTime nextRunAt) {
+        this.nextRunAt = nextRunAt;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    public void setLastRunAt(LocalDateTime lastRunAt) {
+        this.lastRunAt = lastRunAt;
+    }
+
+    public RunStatus getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(RunStatus lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public void setRunCount(int runCount) {
+        this.runCount = runCount;
+    }
+}
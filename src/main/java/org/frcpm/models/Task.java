@@ -13,7 +13,9 @@ import java.util.Set;
  * This corresponds to the Task model in the Django application.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+           @Index(name = "idx_task_project_dates", columnList = "project_id, start_date, end_date")
+       })
 public class Task {
     
     public enum Priority {
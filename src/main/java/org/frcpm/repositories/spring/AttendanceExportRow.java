@@ -0,0 +1,27 @@
+// src/main/java/org/frcpm/repositories/spring/AttendanceExportRow.java
+
+package org.frcpm.repositories.spring;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * One attendance record as it appears in a data export.
+ *
+ * Selected as a projection so streamed exports never put attendance
+ * entities in the persistence context.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public record AttendanceExportRow(
+        LocalDate meetingDate,
+        String meetingTitle,
+        Long memberId,
+        String memberFirstName,
+        String memberLastName,
+        boolean present,
+        LocalTime arrivalTime,
+        LocalTime departureTime) {
+}
@@ -2,17 +2,21 @@
 
 package org.frcpm.repositories.spring;
 
+import jakarta.persistence.QueryHint;
 import org.frcpm.models.Attendance;
 import org.frcpm.models.Meeting;
 import org.frcpm.models.TeamMember;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for Attendance entity.
@@ -102,6 +106,15 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @Query("SELECT a FROM Attendance a JOIN a.meeting m WHERE m.project.id = :projectId")
     List<Attendance> findByProjectId(@Param("projectId") Long projectId);
     
+    /**
+     * Finds attendance records for a project with their meetings fetched in the same query.
+     * 
+     * @param projectId the project ID
+     * @return a list of attendance records for meetings in the project
+     */
+    @Query("SELECT a FROM Attendance a JOIN FETCH a.meeting m WHERE m.project.id = :projectId")
+    List<Attendance> findByProjectIdWithMeeting(@Param("projectId") Long projectId);
+    
     /**
      * Counts attendance records for a specific member by ID.
      * 
@@ -120,4 +133,20 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
      */
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.member.id = :memberId AND a.present = :present")
     long countByMemberIdAndPresent(@Param("memberId") Long memberId, @Param("present") boolean present);
-}
\ No newline at end of file
+    
+    /**
+     * Streams attendance at a project's meetings as export rows, by meeting
+     * date and member. Must be consumed inside a transaction and closed
+     * afterwards.
+     * 
+     * @param projectId the project ID
+     * @return attendance at the project's meetings as export rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.frcpm.repositories.spring.AttendanceExportRow(" +
+           "m.date, m.title, tm.id, tm.firstName, tm.lastName, a.present, a.arrivalTime, a.departureTime) " +
+           "FROM Attendance a JOIN a.meeting m JOIN a.member tm " +
+           "WHERE m.project.id = :projectId " +
+           "ORDER BY m.date, m.id, tm.lastName, tm.firstName")
+    Stream<AttendanceExportRow> streamExportRowsByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,226 @@
+// src/main/java/org/frcpm/repositories/spring/AuditLogPartitions.java
+
+package org.frcpm.repositories.spring;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly storage periods of the audit_logs table.
+ *
+ * On PostgreSQL audit_logs is range-partitioned by timestamp with one
+ * partition per calendar month (audit_logs_y2025m01, ...) plus a default
+ * partition. Hibernate creates the table unpartitioned, so it is converted
+ * in place the first time the retention job runs. Dropping an expired month
+ * is then a partition detach and drop rather than a row-by-row delete.
+ *
+ * H2 (used in tests) has no declarative partitioning. There a period is
+ * the month's range on the single table: reads and roll-off are range
+ * statements over the timestamp index, so the same retention code runs
+ * against both databases.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0
+ * @since Phase 2B - COPPA Compliance & Security
+ */
+@Repository
+public class AuditLogPartitions {
+
+    private static final Logger LOGGER = Logger.getLogger(AuditLogPartitions.class.getName());
+
+    static final String TABLE = "audit_logs";
+    private static final String LEGACY_TABLE = "audit_logs_unpartitioned";
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final String ID_SEQUENCE = "audit_logs_partitioned_id_seq";
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_y(\\d{4})m(\\d{2})");
+
+    /**
+     * Recreated after conversion; the entity declares the same indexes
+     * for Hibernate-managed schemas.
+     */
+    private static final String[] INDEXES = {
+        "CREATE INDEX IF NOT EXISTS idx_audit_logs_timestamp ON audit_logs (\"timestamp\")",
+        "CREATE INDEX IF NOT EXISTS idx_audit_logs_coppa_timestamp ON audit_logs (coppa_relevant, \"timestamp\")",
+        "CREATE INDEX IF NOT EXISTS idx_audit_logs_level_timestamp ON audit_logs (level, \"timestamp\")"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public AuditLogPartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return true when the database supports real partitions
+     */
+    public boolean isPartitioningSupported() {
+        Boolean supported = postgres;
+        if (supported == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            supported = product != null && product.toLowerCase().contains("postgresql");
+            postgres = supported;
+        }
+        return supported;
+    }
+
+    /**
+     * @return true when audit_logs is a partitioned table
+     */
+    public boolean isPartitioned() {
+        if (!isPartitioningSupported()) {
+            return false;
+        }
+        List<String> kinds = jdbcTemplate.queryForList(
+            "SELECT c.relkind::text FROM pg_class c " +
+            "WHERE c.relname = ? AND pg_table_is_visible(c.oid)", String.class, TABLE);
+        return kinds.contains("p");
+    }
+
+    /**
+     * Converts the Hibernate-created audit_logs table into a partitioned
+     * one, copying every row into its month's partition. Runs in a single
+     * transaction, so a failure leaves the original table untouched.
+     *
+     * @param through last month to create a partition for
+     */
+    @Transactional
+    public void convertToPartitioned(YearMonth through) {
+        jdbcTemplate.execute("ALTER TABLE audit_logs RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE audit_logs (LIKE " + LEGACY_TABLE + " INCLUDING DEFAULTS) " +
+                             "PARTITION BY RANGE (\"timestamp\")");
+
+        // Identity columns are per table, so the key comes from a sequence shared by all partitions
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + ID_SEQUENCE);
+        jdbcTemplate.queryForObject("SELECT setval('" + ID_SEQUENCE + "', " +
+                                    "COALESCE((SELECT MAX(id) FROM " + LEGACY_TABLE + "), 0) + 1, false)",
+                                    Long.class);
+        jdbcTemplate.execute("ALTER TABLE audit_logs ALTER COLUMN id SET DEFAULT nextval('" + ID_SEQUENCE + "')");
+        jdbcTemplate.execute("ALTER SEQUENCE " + ID_SEQUENCE + " OWNED BY audit_logs.id");
+        // The partition key has to be part of the primary key
+        jdbcTemplate.execute("ALTER TABLE audit_logs ADD PRIMARY KEY (id, \"timestamp\")");
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+            "SELECT MIN(\"timestamp\") FROM " + LEGACY_TABLE, Timestamp.class);
+        YearMonth from = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : YearMonth.now();
+        ensurePeriods(from, through);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF audit_logs DEFAULT");
+
+        int copied = jdbcTemplate.update("INSERT INTO audit_logs SELECT * FROM " + LEGACY_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        for (String index : INDEXES) {
+            jdbcTemplate.execute(index);
+        }
+        LOGGER.info(String.format("Converted audit_logs to monthly partitions from %s to %s (%d rows)",
+                                  from, through, copied));
+    }
+
+    /**
+     * Creates the partitions for every month in the range that does not
+     * have one yet. Does nothing without partition support.
+     */
+    public void ensurePeriods(YearMonth from, YearMonth through) {
+        if (!isPartitioningSupported()) {
+            return;
+        }
+        for (YearMonth month = from; !month.isAfter(through); month = month.plusMonths(1)) {
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF audit_logs FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    /**
+     * @param cutoff first month to keep
+     * @return months before the cutoff that still have a partition, or
+     *         every month from the oldest row onwards when unpartitioned;
+     *         oldest first
+     */
+    public List<YearMonth> periodsBefore(YearMonth cutoff) {
+        List<YearMonth> periods = new ArrayList<>();
+        if (isPartitioned()) {
+            List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? AND pg_table_is_visible(p.oid) ORDER BY c.relname", String.class, TABLE);
+            for (String name : names) {
+                Matcher matcher = PARTITION_NAME.matcher(name);
+                if (matcher.matches()) {
+                    YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)),
+                                                   Integer.parseInt(matcher.group(2)));
+                    if (month.isBefore(cutoff)) {
+                        periods.add(month);
+                    }
+                }
+            }
+            return periods;
+        }
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+            "SELECT MIN(timestamp) FROM audit_logs WHERE timestamp < ?", Timestamp.class, start(cutoff));
+        if (oldest == null) {
+            return periods;
+        }
+        for (YearMonth month = YearMonth.from(oldest.toLocalDateTime()); month.isBefore(cutoff);
+             month = month.plusMonths(1)) {
+            periods.add(month);
+        }
+        return periods;
+    }
+
+    /**
+     * Streams every row of one month, oldest first.
+     *
+     * @param fetchSize rows fetched per round trip
+     */
+    public void readPeriod(YearMonth month, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT * FROM audit_logs WHERE timestamp >= ? AND timestamp < ? ORDER BY timestamp, id");
+            statement.setFetchSize(fetchSize);
+            statement.setTimestamp(1, start(month));
+            statement.setTimestamp(2, start(month.plusMonths(1)));
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Removes one month of audit data: the whole partition when
+     * partitioned, a single range delete otherwise.
+     *
+     * @return rows removed, or -1 when a partition was dropped without
+     *         counting its rows
+     */
+    @Transactional
+    public int dropPeriod(YearMonth month) {
+        if (isPartitioned()) {
+            String partition = partitionName(month);
+            jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return -1;
+        }
+        return jdbcTemplate.update("DELETE FROM audit_logs WHERE timestamp >= ? AND timestamp < ?",
+                                   start(month), start(month.plusMonths(1)));
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("audit_logs_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static Timestamp start(YearMonth month) {
+        return Timestamp.valueOf(month.atDay(1).atStartOfDay());
+    }
+}
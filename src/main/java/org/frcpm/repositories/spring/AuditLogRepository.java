@@ -60,30 +60,6 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     @Query("SELECT a FROM AuditLog a WHERE a.ipAddress = :ipAddress AND a.timestamp >= :since ORDER BY a.timestamp DESC")
     List<AuditLog> findByIpAddressSince(@Param("ipAddress") String ipAddress, @Param("since") LocalDateTime since);
     
-    // =========================================================================
-    // STATISTICS (EXISTING + NEW)
-    // =========================================================================
-    
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.coppaRelevant = true")
-    long countCOPPARelevantLogs();
-    
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.level = :level AND a.timestamp >= :since")
-    long countByLevelSince(@Param("level") AuditLevel level, @Param("since") LocalDateTime since);
-    
-    // ✅ NEW: Additional statistics methods needed by AuditServiceImpl
-    
-    /**
-     * Count all COPPA-relevant logs (used by getCOPPALogCount method).
-     */
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.coppaRelevant = true")
-    long getCOPPALogCount();
-    
-    /**
-     * Count security events by multiple levels.
-     */
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.level IN :levels AND a.timestamp >= :since")
-    long countSecurityEventsSince(@Param("levels") List<AuditLevel> levels, @Param("since") LocalDateTime since);
-    
     // =========================================================================
     // ✅ NEW: ENHANCED COPPA COMPLIANCE QUERIES
     // =========================================================================
@@ -134,36 +110,9 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     @Query("SELECT a FROM AuditLog a WHERE a.action = 'LOGIN_FAILED' AND a.ipAddress = :ipAddress AND a.timestamp >= :since ORDER BY a.timestamp DESC")
     List<AuditLog> findFailedLoginsByIp(@Param("ipAddress") String ipAddress, @Param("since") LocalDateTime since);
     
-    /**
-     * Find suspicious activity patterns (multiple failed attempts).
-     */
-    @Query("SELECT a.ipAddress, COUNT(a) as attemptCount FROM AuditLog a WHERE a.action = 'LOGIN_FAILED' AND a.timestamp >= :since GROUP BY a.ipAddress HAVING COUNT(a) >= :threshold")
-    List<Object[]> findSuspiciousLoginActivity(@Param("since") LocalDateTime since, @Param("threshold") long threshold);
-    
     /**
      * Find all actions performed by a user in a time period.
      */
     @Query("SELECT a FROM AuditLog a WHERE a.user = :user AND a.timestamp BETWEEN :start AND :end ORDER BY a.timestamp DESC")
     List<AuditLog> findUserActivityInPeriod(@Param("user") User user, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-    
-    // =========================================================================
-    // ✅ NEW: COMPLIANCE REPORTING QUERIES
-    // =========================================================================
-    
-    /**
-     * Generate daily statistics for compliance reporting.
-     */
-    @Query("SELECT DATE(a.timestamp) as logDate, COUNT(a) as totalEvents, " +
-           "SUM(CASE WHEN a.coppaRelevant = true THEN 1 ELSE 0 END) as coppaEvents, " +
-           "SUM(CASE WHEN a.level IN ('SECURITY_ALERT', 'VIOLATION') THEN 1 ELSE 0 END) as securityEvents " +
-           "FROM AuditLog a WHERE a.timestamp >= :since GROUP BY DATE(a.timestamp) ORDER BY logDate DESC")
-    List<Object[]> getDailyAuditStatistics(@Param("since") LocalDateTime since);
-    
-    /**
-     * Find the most accessed resources for compliance review.
-     */
-    @Query("SELECT a.resourceType, a.resourceId, COUNT(a) as accessCount " +
-           "FROM AuditLog a WHERE a.resourceType IS NOT NULL AND a.timestamp >= :since " +
-           "GROUP BY a.resourceType, a.resourceId ORDER BY accessCount DESC")
-    List<Object[]> getMostAccessedResources(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+// src/main/java/org/frcpm/repositories/spring/AuditLogRow.java
+
+package org.frcpm.repositories.spring;
+
+import org.frcpm.models.AuditLevel;
+import org.frcpm.models.AuditLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * Detached, immutable copy of one audit_logs row.
+ *
+ * Taken on the thread that produced the audit event, so it holds only IDs
+ * and values and can be queued, written to the spill file and inserted
+ * later without an open persistence context.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0
+ * @since Phase 2B - COPPA Compliance & Security
+ */
+public record AuditLogRow(
+        Long userId,
+        Long subjectUserId,
+        String sessionId,
+        String action,
+        String description,
+        String ipAddress,
+        String userAgent,
+        AuditLevel level,
+        LocalDateTime timestamp,
+        boolean coppaRelevant,
+        String resourceType,
+        Long resourceId) {
+
+    /**
+     * @param log unsaved audit log; a missing timestamp is taken as now
+     * @return the row to insert for it
+     */
+    public static AuditLogRow from(AuditLog log) {
+        return new AuditLogRow(
+            log.getUser() != null ? log.getUser().getId() : null,
+            log.getSubjectUser() != null ? log.getSubjectUser().getId() : null,
+            log.getSessionId(),
+            log.getAction(),
+            log.getDescription(),
+            log.getIpAddress(),
+            log.getUserAgent(),
+            log.getLevel(),
+            log.getTimestamp() != null ? log.getTimestamp() : LocalDateTime.now(),
+            log.isCoppaRelevant(),
+            log.getResourceType(),
+            log.getResourceId());
+    }
+}
@@ -0,0 +1,265 @@
+// src/main/java/org/frcpm/repositories/spring/AuditStatRollups.java
+
+package org.frcpm.repositories.spring;
+
+import org.frcpm.models.AuditLevel;
+import org.frcpm.models.AuditStatRollup.Dimension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental hourly rollups of audit events (table audit_stat_rollups).
+ *
+ * The audit writer calls {@link #increment} with every batch it inserts,
+ * on the same transaction, so the rollups always match audit_logs.
+ * Statistics read whole hours from the rollups; only the hour the window
+ * starts in is counted from raw rows, which keeps every read bounded by
+ * the window length rather than by the audit history.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0
+ * @since Phase 2B - COPPA Compliance & Security
+ */
+@Repository
+public class AuditStatRollups {
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String POSTGRES_UPSERT_SQL =
+        "INSERT INTO audit_stat_rollups (bucket_start, dimension, dim_key, event_count) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (bucket_start, dimension, dim_key) " +
+        "DO UPDATE SET event_count = audit_stat_rollups.event_count + EXCLUDED.event_count";
+
+    private static final String MERGE_SQL =
+        "MERGE INTO audit_stat_rollups r " +
+        "USING (VALUES (CAST(? AS TIMESTAMP), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) " +
+        "AS s (bucket_start, dimension, dim_key, event_count) " +
+        "ON r.bucket_start = s.bucket_start AND r.dimension = s.dimension AND r.dim_key = s.dim_key " +
+        "WHEN MATCHED THEN UPDATE SET event_count = r.event_count + s.event_count " +
+        "WHEN NOT MATCHED THEN INSERT (bucket_start, dimension, dim_key, event_count) " +
+        "VALUES (s.bucket_start, s.dimension, s.dim_key, s.event_count)";
+
+    private static final String RAW_COLUMNS =
+        "SELECT action, ip_address, level, timestamp, coppa_relevant, resource_type, resource_id FROM audit_logs ";
+
+    /**
+     * One hourly count.
+     */
+    public record Bucket(LocalDateTime hour, Dimension dimension, String key, long count) {
+    }
+
+    private record BucketKey(LocalDateTime hour, Dimension dimension, String key) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    public AuditStatRollups(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the rows to their hourly counts, on the caller's transaction.
+     */
+    public void increment(List<AuditLogRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<BucketKey, Long> counts = new HashMap<>();
+        rows.forEach(row -> count(counts, row));
+        upsert(counts);
+    }
+
+    /**
+     * Counts in the window [since, now], one bucket per hour and key. The
+     * partial first hour is counted from audit_logs and reported under that
+     * hour.
+     *
+     * @param since window start, or null for all of history
+     * @param dimensions dimensions to return
+     */
+    public List<Bucket> bucketsSince(LocalDateTime since, Collection<Dimension> dimensions) {
+        List<Bucket> buckets = new ArrayList<>();
+        if (dimensions.isEmpty()) {
+            return buckets;
+        }
+        String in = dimensions.stream().map(d -> "'" + d.name() + "'").collect(Collectors.joining(", "));
+        LocalDateTime fullHours = since == null ? null : ceilHour(since);
+
+        String sql = "SELECT bucket_start, dimension, dim_key, event_count FROM audit_stat_rollups " +
+                     "WHERE dimension IN (" + in + ")" + (fullHours != null ? " AND bucket_start >= ?" : "");
+        Object[] args = fullHours != null ? new Object[] {Timestamp.valueOf(fullHours)} : new Object[0];
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            buckets.add(new Bucket(rs.getTimestamp(1).toLocalDateTime(), Dimension.valueOf(rs.getString(2)),
+                                   rs.getString(3), rs.getLong(4)));
+        }, args);
+
+        if (fullHours != null && fullHours.isAfter(since)) {
+            Map<BucketKey, Long> partial = new HashMap<>();
+            jdbcTemplate.query(RAW_COLUMNS + "WHERE timestamp >= ? AND timestamp < ?",
+                               (RowCallbackHandler) rs -> count(partial, toRow(rs)),
+                               Timestamp.valueOf(since), Timestamp.valueOf(fullHours));
+            partial.forEach((key, count) -> {
+                if (dimensions.contains(key.dimension())) {
+                    buckets.add(new Bucket(key.hour(), key.dimension(), key.key(), count));
+                }
+            });
+        }
+        return buckets;
+    }
+
+    /**
+     * Sums the whole hours of one dimension from the given hour on, across
+     * all keys.
+     *
+     * @param fromHour first hour counted; must be the start of an hour
+     * @param dimension the dimension to sum
+     * @return the events counted
+     */
+    public long total(LocalDateTime fromHour, Dimension dimension) {
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(event_count), 0) FROM audit_stat_rollups WHERE dimension = ? AND bucket_start >= ?",
+            Long.class, dimension.name(), Timestamp.valueOf(fromHour));
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * @return true when no hour has been rolled up yet
+     */
+    public boolean isEmpty() {
+        List<Integer> any = jdbcTemplate.queryForList("SELECT 1 FROM audit_stat_rollups FETCH FIRST 1 ROWS ONLY",
+                                                      Integer.class);
+        return any.isEmpty();
+    }
+
+    /**
+     * Builds the rollups from every row already in audit_logs. Only meant
+     * for an empty rollup table, before the writer adds anything.
+     *
+     * @return audit rows counted
+     */
+    public long rebuild() {
+        Map<BucketKey, Long> counts = new HashMap<>();
+        long[] rows = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RAW_COLUMNS);
+            statement.setFetchSize(BATCH_SIZE);
+            return statement;
+        }, rs -> {
+            count(counts, toRow(rs));
+            rows[0]++;
+        });
+        upsert(counts);
+        return rows[0];
+    }
+
+    /**
+     * Removes the rollups of hours before the given time, matching audit
+     * data that has been rolled off.
+     *
+     * @return rollup rows removed
+     */
+    public int deleteBefore(LocalDateTime hour) {
+        return jdbcTemplate.update("DELETE FROM audit_stat_rollups WHERE bucket_start < ?", Timestamp.valueOf(hour));
+    }
+
+    /**
+     * @return resource key parsed back into type and id (id may be null)
+     */
+    public static Object[] parseResourceKey(String key) {
+        int separator = key.lastIndexOf(':');
+        Long id = null;
+        try {
+            id = Long.valueOf(key.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            // No id, or cut off by the key length limit
+        }
+        return new Object[] {separator >= 0 ? key.substring(0, separator) : key, id};
+    }
+
+    // =========================================================================
+    // PRIVATE HELPERS
+    // =========================================================================
+
+    private static void count(Map<BucketKey, Long> counts, AuditLogRow row) {
+        LocalDateTime hour = row.timestamp().truncatedTo(ChronoUnit.HOURS);
+        add(counts, hour, Dimension.TOTAL, "");
+        if (row.coppaRelevant()) {
+            add(counts, hour, Dimension.COPPA, "");
+        }
+        add(counts, hour, Dimension.LEVEL, row.level().name());
+        add(counts, hour, Dimension.ACTION, row.action());
+        if (row.resourceType() != null) {
+            add(counts, hour, Dimension.RESOURCE,
+                row.resourceType() + ":" + (row.resourceId() != null ? row.resourceId() : ""));
+        }
+        if ("LOGIN_FAILED".equals(row.action()) && row.ipAddress() != null) {
+            add(counts, hour, Dimension.FAILED_LOGIN_IP, row.ipAddress());
+        }
+    }
+
+    private static void add(Map<BucketKey, Long> counts, LocalDateTime hour, Dimension dimension, String key) {
+        String bounded = key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+        counts.merge(new BucketKey(hour, dimension, bounded), 1L, Long::sum);
+    }
+
+    private void upsert(Map<BucketKey, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(upsertSql(), new ArrayList<>(counts.entrySet()), BATCH_SIZE, (ps, entry) -> {
+            BucketKey key = entry.getKey();
+            ps.setTimestamp(1, Timestamp.valueOf(key.hour()));
+            ps.setString(2, key.dimension().name());
+            ps.setString(3, key.key());
+            ps.setLong(4, entry.getValue());
+        });
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = product != null && product.toLowerCase().contains("postgresql") ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private static AuditLogRow toRow(ResultSet rs) throws SQLException {
+        long resourceId = rs.getLong("resource_id");
+        Long resource = rs.wasNull() ? null : resourceId;
+        return new AuditLogRow(null, null, null,
+                               rs.getString("action"),
+                               null,
+                               rs.getString("ip_address"),
+                               null,
+                               AuditLevel.valueOf(rs.getString("level")),
+                               rs.getTimestamp("timestamp").toLocalDateTime(),
+                               rs.getBoolean("coppa_relevant"),
+                               rs.getString("resource_type"),
+                               resource);
+    }
+
+    private static LocalDateTime ceilHour(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return hour.equals(time) ? hour : hour.plusHours(1);
+    }
+}
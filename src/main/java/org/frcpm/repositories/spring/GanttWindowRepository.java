@@ -0,0 +1,101 @@
+// src/main/java/org/frcpm/repositories/spring/GanttWindowRepository.java
+
+package org.frcpm.repositories.spring;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interval queries behind the windowed Gantt view.
+ *
+ * Rows are tasks whose [start, end] range overlaps the requested date window,
+ * ordered by subsystem name, start date and ID, and sliced by an arbitrary
+ * row offset and limit. Spring Data pageables only slice on page boundaries,
+ * so the slice is applied directly on the JPA query. The overlap predicate
+ * is served by the tasks (project_id, start_date, end_date) index.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Repository
+public class GanttWindowRepository {
+
+    private static final String OVERLAP_PREDICATE =
+        "t.project = :project AND t.startDate <= :windowEnd AND t.endDate >= :windowStart";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param project the project
+     * @param windowStart first day of the window
+     * @param windowEnd last day of the window
+     * @return number of tasks overlapping the window
+     */
+    public long countOverlapping(Project project, LocalDate windowStart, LocalDate windowEnd) {
+        return entityManager.createQuery(
+                "SELECT COUNT(t) FROM Task t WHERE " + OVERLAP_PREDICATE, Long.class)
+            .setParameter("project", project)
+            .setParameter("windowStart", windowStart)
+            .setParameter("windowEnd", windowEnd)
+            .getSingleResult();
+    }
+
+    /**
+     * Loads one slice of the tasks overlapping the window, with subsystem and
+     * assigned members initialized.
+     *
+     * @param project the project
+     * @param windowStart first day of the window
+     * @param windowEnd last day of the window
+     * @param offset number of rows to skip
+     * @param limit maximum number of rows
+     * @return tasks ordered by subsystem name, start date and ID
+     */
+    public List<Task> findOverlapping(Project project, LocalDate windowStart, LocalDate windowEnd,
+                                      int offset, int limit) {
+        List<Task> tasks = entityManager.createQuery(
+                "SELECT t FROM Task t LEFT JOIN FETCH t.subsystem s WHERE " + OVERLAP_PREDICATE +
+                " ORDER BY s.name, t.startDate, t.id", Task.class)
+            .setParameter("project", project)
+            .setParameter("windowStart", windowStart)
+            .setParameter("windowEnd", windowEnd)
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList();
+
+        if (!tasks.isEmpty()) {
+            // Collection fetches cannot be combined with a row limit, so
+            // assignees are initialized for the slice in a second query
+            entityManager.createQuery(
+                    "SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.assignedTo WHERE t IN :tasks", Task.class)
+                .setParameter("tasks", tasks)
+                .getResultList();
+        }
+        return tasks;
+    }
+
+    /**
+     * @param taskIds IDs of the tasks in view
+     * @return active dependencies whose both ends are among the given tasks
+     */
+    public List<TaskDependency> findActiveDependenciesAmong(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                "SELECT d FROM TaskDependency d WHERE d.active = true " +
+                "AND d.prerequisiteTask.id IN :ids AND d.dependentTask.id IN :ids", TaskDependency.class)
+            .setParameter("ids", taskIds)
+            .getResultList();
+    }
+}
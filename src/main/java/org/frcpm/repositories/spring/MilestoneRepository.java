@@ -50,6 +50,16 @@ public interface MilestoneRepository extends JpaRepository<Milestone, Long> {
      */
     List<Milestone> findByDateBetween(LocalDate startDate, LocalDate endDate);
     
+    /**
+     * Finds milestones of a project in a date range, ordered by date.
+     * 
+     * @param project the project
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return a list of the project's milestones within the date range
+     */
+    List<Milestone> findByProjectAndDateBetweenOrderByDateAsc(Project project, LocalDate startDate, LocalDate endDate);
+    
     /**
      * Finds milestones by name containing the specified text (case insensitive).
      * 
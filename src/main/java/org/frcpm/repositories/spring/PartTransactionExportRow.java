@@ -0,0 +1,36 @@
+// src/main/java/org/frcpm/repositories/spring/PartTransactionExportRow.java
+
+package org.frcpm.repositories.spring;
+
+import org.frcpm.models.PartTransaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One inventory transaction as it appears in a data export.
+ *
+ * Selected as a projection so streamed exports never put transaction
+ * entities in the persistence context.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public record PartTransactionExportRow(
+        Long id,
+        LocalDateTime transactionDate,
+        PartTransaction.TransactionType transactionType,
+        String partNumber,
+        String partName,
+        Integer quantity,
+        BigDecimal unitCost,
+        BigDecimal totalCost,
+        Integer balanceAfter,
+        String vendor,
+        String referenceNumber,
+        String reason,
+        String performedByFirstName,
+        String performedByLastName,
+        Boolean approved) {
+}
@@ -3,19 +3,23 @@
 
 package org.frcpm.repositories.spring;
 
+import jakarta.persistence.QueryHint;
 import org.frcpm.models.Part;
 import org.frcpm.models.PartTransaction;
 import org.frcpm.models.Project;
 import org.frcpm.models.Task;
 import org.frcpm.models.TeamMember;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for PartTransaction entities.
@@ -241,4 +245,33 @@ public interface PartTransactionRepository extends JpaRepository<PartTransaction
      */
     List<PartTransaction> findByPartAndTransactionTypeInOrderByTransactionDateDesc(
             Part part, List<PartTransaction.TransactionType> purchaseTypes);
-}
\ No newline at end of file
+    
+    // Data Export
+    
+    /**
+     * Streams every transaction as export rows, oldest first. Must be
+     * consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.frcpm.repositories.spring.PartTransactionExportRow(" +
+           "pt.id, pt.transactionDate, pt.transactionType, p.partNumber, p.name, pt.quantity, " +
+           "pt.unitCost, pt.totalCost, pt.balanceAfter, pt.vendor, pt.referenceNumber, pt.reason, " +
+           "tm.firstName, tm.lastName, pt.isApproved) " +
+           "FROM PartTransaction pt JOIN pt.part p LEFT JOIN pt.performedBy tm " +
+           "ORDER BY pt.transactionDate, pt.id")
+    Stream<PartTransactionExportRow> streamExportRows();
+    
+    /**
+     * Streams a project's transactions as export rows, oldest first. Must be
+     * consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.frcpm.repositories.spring.PartTransactionExportRow(" +
+           "pt.id, pt.transactionDate, pt.transactionType, p.partNumber, p.name, pt.quantity, " +
+           "pt.unitCost, pt.totalCost, pt.balanceAfter, pt.vendor, pt.referenceNumber, pt.reason, " +
+           "tm.firstName, tm.lastName, pt.isApproved) " +
+           "FROM PartTransaction pt JOIN pt.part p LEFT JOIN pt.performedBy tm " +
+           "WHERE pt.project.id = :projectId " +
+           "ORDER BY pt.transactionDate, pt.id")
+    Stream<PartTransactionExportRow> streamExportRowsByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,114 @@
+// src/main/java/org/frcpm/repositories/spring/ReportJobRepository.java
+
+package org.frcpm.repositories.spring;
+
+import org.frcpm.models.ReportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for scheduled report jobs.
+ *
+ * Run state is changed with single-statement updates rather than by saving
+ * the entity, so a worker finishing a run never overwrites a cancellation
+ * made while the report was being generated.
+ */
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    /**
+     * Finds active jobs whose next run time has passed, oldest first.
+     *
+     * @param now the current time
+     * @param page how many jobs to return
+     * @return the due jobs with their projects
+     */
+    @Query("SELECT j FROM ReportJob j JOIN FETCH j.project " +
+           "WHERE j.active = true AND j.nextRunAt <= :now ORDER BY j.nextRunAt")
+    List<ReportJob> findDue(@Param("now") LocalDateTime now, Pageable page);
+
+    /**
+     * Finds all jobs of a project, newest first.
+     *
+     * @param projectId the project ID
+     * @return the project's jobs, including cancelled ones
+     */
+    @Query("SELECT j FROM ReportJob j JOIN FETCH j.project p WHERE p.id = :projectId ORDER BY j.createdAt DESC")
+    List<ReportJob> findByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Finds the active job producing a report type in a format for a project.
+     *
+     * @param projectId the project ID
+     * @param reportType the report type
+     * @param format the artifact format
+     * @return the oldest matching active job, if any
+     */
+    Optional<ReportJob> findFirstByProjectIdAndReportTypeAndFormatAndActiveTrueOrderByIdAsc(
+        Long projectId, String reportType, String format);
+
+    /**
+     * Takes a due run by moving the job's next run time forward. Only one
+     * caller can move it from the value it read, so only one runs it.
+     *
+     * @param id the job ID
+     * @param expected the next run time the caller read
+     * @param next the following run time
+     * @param now the time the run starts
+     * @return 1 if the run was taken, 0 if another worker took it or the job was cancelled
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.nextRunAt = :next, j.lastRunAt = :now " +
+           "WHERE j.id = :id AND j.active = true AND j.nextRunAt = :expected")
+    int claim(@Param("id") Long id, @Param("expected") LocalDateTime expected,
+              @Param("next") LocalDateTime next, @Param("now") LocalDateTime now);
+
+    /**
+     * Gives a taken run back, for when it could not be started.
+     *
+     * @param id the job ID
+     * @param claimed the next run time set when the run was taken
+     * @param original the next run time before the run was taken
+     * @return 1 if the run was given back
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.nextRunAt = :original WHERE j.id = :id AND j.nextRunAt = :claimed")
+    int release(@Param("id") Long id, @Param("claimed") LocalDateTime claimed,
+                @Param("original") LocalDateTime original);
+
+    /**
+     * Records the outcome of a run.
+     *
+     * @param id the job ID
+     * @param status the outcome
+     * @param error the failure message, or null
+     * @return the number of jobs updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.lastStatus = :status, j.lastError = :error, j.runCount = j.runCount + 1 " +
+           "WHERE j.id = :id")
+    int recordRun(@Param("id") Long id, @Param("status") ReportJob.RunStatus status, @Param("error") String error);
+
+    /**
+     * Cancels a job. Runs already in progress finish.
+     *
+     * @param id the job ID
+     * @return 1 if an active job was cancelled
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.active = false WHERE j.id = :id AND j.active = true")
+    int deactivate(@Param("id") Long id);
+}
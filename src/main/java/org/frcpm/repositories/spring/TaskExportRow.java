@@ -0,0 +1,31 @@
+// src/main/java/org/frcpm/repositories/spring/TaskExportRow.java
+
+package org.frcpm.repositories.spring;
+
+import org.frcpm.models.Task;
+
+import java.time.LocalDate;
+
+/**
+ * One task as it appears in a data export.
+ *
+ * Selected as a projection so streamed exports never put task entities in
+ * the persistence context.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public record TaskExportRow(
+        Long id,
+        String title,
+        String subsystemName,
+        Task.Priority priority,
+        int progress,
+        boolean completed,
+        LocalDate startDate,
+        LocalDate endDate,
+        long estimatedDurationSeconds,
+        Long actualDurationSeconds,
+        int assigneeCount) {
+}
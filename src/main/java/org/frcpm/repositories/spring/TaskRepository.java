@@ -2,19 +2,24 @@
 
 package org.frcpm.repositories.spring;
 
+import jakarta.persistence.QueryHint;
 import org.frcpm.models.DependencyType;
 import org.frcpm.models.Project;
 import org.frcpm.models.Subsystem;
 import org.frcpm.models.Task;
 import org.frcpm.models.TaskDependency;
 import org.frcpm.models.TeamMember;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Enhanced Spring Data JPA repository for Task entities.
@@ -46,6 +51,39 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByProject(Project project);
     
+    /**
+     * Finds tasks by project with their assigned members, and the members'
+     * user accounts (for their roles), fetched in the same query.
+     * 
+     * @param project the project to find tasks for
+     * @return a list of tasks for the project
+     */
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.assignedTo a LEFT JOIN FETCH a.user " +
+           "WHERE t.project = :project")
+    List<Task> findByProjectWithAssignments(@Param("project") Project project);
+
+    /**
+     * Finds tasks by project with subsystem and assigned members fetched, so the
+     * tasks can be held in a schedule snapshot after the session closes.
+     *
+     * @param project the project to find tasks for
+     * @return a list of tasks for the project
+     */
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.subsystem LEFT JOIN FETCH t.assignedTo " +
+           "WHERE t.project = :project")
+    List<Task> findByProjectForSchedule(@Param("project") Project project);
+
+    /**
+     * Finds tasks by ID with project, subsystem and assigned members fetched,
+     * as needed to render kanban cards.
+     *
+     * @param ids the task IDs
+     * @return the tasks that still exist
+     */
+    @Query("SELECT DISTINCT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.subsystem " +
+           "LEFT JOIN FETCH t.assignedTo WHERE t.id IN :ids")
+    List<Task> findByIdInForKanban(@Param("ids") Collection<Long> ids);
+
     /**
      * Finds tasks by project ID.
      * 
@@ -87,6 +125,24 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByEndDateBefore(LocalDate date);
     
+    /**
+     * Finds the five most overdue incomplete tasks for a project.
+     * 
+     * @param projectId the project ID
+     * @param date tasks ending before this date are overdue
+     * @return up to five overdue tasks, oldest end date first
+     */
+    List<Task> findTop5ByProjectIdAndCompletedFalseAndEndDateBeforeOrderByEndDateAsc(Long projectId, LocalDate date);
+    
+    /**
+     * Finds the five most recently ended completed tasks for a project.
+     * 
+     * @param projectId the project ID
+     * @param date only tasks ending after this date are returned
+     * @return up to five completed tasks, latest end date first
+     */
+    List<Task> findTop5ByProjectIdAndCompletedTrueAndEndDateAfterOrderByEndDateDesc(Long projectId, LocalDate date);
+    
     /**
      * Finds tasks by priority.
      * 
@@ -421,4 +477,19 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
                                             @Param("dependencyType") DependencyType dependencyType,
                                             @Param("prerequisiteCompleted") Boolean prerequisiteCompleted,
                                             @Param("dependentCompleted") Boolean dependentCompleted);
-}
\ No newline at end of file
+    
+    /**
+     * Streams a project's tasks as export rows, in ID order. Must be consumed
+     * inside a transaction and closed afterwards.
+     * 
+     * @param projectId the project ID
+     * @return the project's tasks as export rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.frcpm.repositories.spring.TaskExportRow(" +
+           "t.id, t.title, s.name, t.priority, t.progress, t.completed, t.startDate, t.endDate, " +
+           "t.estimatedDurationSeconds, t.actualDurationSeconds, SIZE(t.assignedTo)) " +
+           "FROM Task t LEFT JOIN t.subsystem s " +
+           "WHERE t.project.id = :projectId ORDER BY t.id")
+    Stream<TaskExportRow> streamExportRowsByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,27 @@
+// src/main/java/org/frcpm/repositories/spring/TeamMemberExportRow.java
+
+package org.frcpm.repositories.spring;
+
+/**
+ * One team member as it appears in a data export, with their assigned task
+ * count.
+ *
+ * Selected as a projection so the count comes from the query instead of
+ * loading each member's tasks.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public record TeamMemberExportRow(
+        Long id,
+        String username,
+        String firstName,
+        String lastName,
+        String email,
+        String phone,
+        String skills,
+        String subteamName,
+        boolean leader,
+        int taskCount) {
+}
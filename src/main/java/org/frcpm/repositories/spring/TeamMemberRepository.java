@@ -2,15 +2,19 @@
 
 package org.frcpm.repositories.spring;
 
+import jakarta.persistence.QueryHint;
 import org.frcpm.models.Subteam;
 import org.frcpm.models.TeamMember;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for TeamMember entities.
@@ -127,6 +131,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      */
     long countByLeaderTrue();
     
+    /**
+     * Lists every team member's membership without loading the members.
+     * 
+     * @return rows of member ID, leader flag and subteam ID (null if none)
+     */
+    @Query("SELECT tm.id, tm.leader, s.id FROM TeamMember tm LEFT JOIN tm.subteam s")
+    List<Object[]> findMembershipRows();
+    
     /**
      * Finds team members assigned to tasks in a specific project.
      * 
@@ -168,4 +180,27 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      */
     @Query("SELECT tm FROM TeamMember tm WHERE tm.leader = true")
     List<TeamMember> findLeaders();
-}
\ No newline at end of file
+    
+    /**
+     * Streams team members as export rows with their assigned task counts,
+     * by last and first name. Must be consumed inside a transaction and
+     * closed afterwards.
+     * 
+     * @param subteamId only members of this subteam, or null for any
+     * @param leader only leaders (true) or non-leaders (false), or null for both
+     * @param unassignedOnly only members without a subteam
+     * @return matching team members as export rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.frcpm.repositories.spring.TeamMemberExportRow(" +
+           "tm.id, tm.username, tm.firstName, tm.lastName, tm.email, tm.phone, tm.skills, s.name, " +
+           "tm.leader, SIZE(tm.assignedTasks)) " +
+           "FROM TeamMember tm LEFT JOIN tm.subteam s " +
+           "WHERE (:subteamId IS NULL OR s.id = :subteamId) " +
+           "AND (:leader IS NULL OR tm.leader = :leader) " +
+           "AND (:unassignedOnly = false OR s IS NULL) " +
+           "ORDER BY tm.lastName, tm.firstName, tm.id")
+    Stream<TeamMemberExportRow> streamExportRows(@Param("subteamId") Long subteamId,
+                                                 @Param("leader") Boolean leader,
+                                                 @Param("unassignedOnly") boolean unassignedOnly);
+}
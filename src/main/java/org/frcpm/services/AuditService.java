@@ -9,8 +9,9 @@ import org.frcpm.models.User;
 //import org.springframework.web.context.request.ServletRequestAttributes;
 
 //import jakarta.servlet.http.HttpServletRequest;
-//import java.time.LocalDateTime;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for audit logging and compliance tracking.
@@ -38,7 +39,13 @@ public interface AuditService {
     List<AuditLog> getSecurityEvents(int days);
     List<AuditLog> getUserActivity(User user, int days);
     
-    // Statistics
+    // Statistics (served from the hourly audit rollups)
     long getCOPPALogCount();
     long getSecurityEventCount(int days);
+    List<Map<String, Object>> getDailyStatistics(int days);
+    Map<LocalDateTime, Long> getHourlyEventCounts(int hours);
+    Map<AuditLevel, Long> getEventCountsByLevel(int days);
+    Map<String, Long> getEventCountsByAction(int days);
+    List<Map<String, Object>> getMostAccessedResources(int days, int limit);
+    Map<String, Long> getSuspiciousLoginActivity(int hours, long threshold);
 }
\ No newline at end of file
@@ -33,4 +33,6 @@ public interface COPPAComplianceService {
     // Data retention and deletion
     void scheduleDataRetentionReview(User user);
     boolean canDeleteUserData(User user);
+    int getDataRetentionPeriodDays(User user);
+    int getMaximumDataRetentionPeriodDays();
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+// src/main/java/org/frcpm/services/ExportService.java
+// Phase 3B: Streaming Data Export Service
+
+package org.frcpm.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting team data as CSV, Excel or PDF.
+ *
+ * Rows are streamed from the database and written to the output stream as
+ * they arrive, so an export never holds the whole dataset in memory. The
+ * output stream is left open; the caller owns it.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public interface ExportService {
+
+    /**
+     * Export file formats.
+     */
+    enum Format {
+        CSV("text/csv", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+        PDF("application/pdf", "pdf");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        /**
+         * @param name a format name or file extension, case-insensitive; "excel" means XLSX
+         * @return the format
+         * @throws IllegalArgumentException if the name is not a known format
+         */
+        public static Format fromName(String name) {
+            if ("excel".equalsIgnoreCase(name)) {
+                return XLSX;
+            }
+            return valueOf(name.toUpperCase());
+        }
+    }
+
+    /**
+     * Export a project's tasks.
+     *
+     * @param projectId the project ID
+     * @param includeDetails whether to add actual hours and assignee counts
+     * @param format the file format
+     * @param out where to write the file
+     * @throws IOException if writing fails
+     */
+    void exportProjectTasks(Long projectId, boolean includeDetails, Format format, OutputStream out) throws IOException;
+
+    /**
+     * Export inventory transactions.
+     *
+     * @param projectId the project ID, or null for every transaction
+     * @param format the file format
+     * @param out where to write the file
+     * @throws IOException if writing fails
+     */
+    void exportPartTransactions(Long projectId, Format format, OutputStream out) throws IOException;
+
+    /**
+     * Export attendance at a project's meetings.
+     *
+     * @param projectId the project ID
+     * @param format the file format
+     * @param out where to write the file
+     * @throws IOException if writing fails
+     */
+    void exportAttendance(Long projectId, Format format, OutputStream out) throws IOException;
+
+    /**
+     * Export team members with their assigned task counts.
+     *
+     * @param subteamId only members of this subteam, or null for all
+     * @param role "leader", "mentor", "student" or "unassigned", or null or "all" for everyone
+     * @param format the file format
+     * @param out where to write the file
+     * @throws IOException if writing fails
+     */
+    void exportTeamMembers(Long subteamId, String role, Format format, OutputStream out) throws IOException;
+}
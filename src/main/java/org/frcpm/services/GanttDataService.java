@@ -1,5 +1,9 @@
 package org.frcpm.services;
 
+import org.frcpm.web.dto.GanttWindowDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +16,17 @@ import java.util.Map;
  */
 public interface GanttDataService {
 
+    /** Media type of the columnar Gantt window format */
+    String COLUMNAR_MEDIA_TYPE = "application/vnd.frcpm.gantt-columnar+json";
+
+    /**
+     * A prepared Gantt window that is serialized on demand.
+     */
+    @FunctionalInterface
+    interface ColumnarWindow {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     /**
      * Format tasks data for Gantt chart visualization.
      * 
@@ -64,6 +79,35 @@ public interface GanttDataService {
      */
     List<Long> identifyBottlenecks(Long projectId);
 
+    /**
+     * Get one viewport of the Gantt chart: the tasks overlapping a date window,
+     * ordered by subsystem and start date and sliced by row offset and limit,
+     * with the links between those rows and the milestones in the window.
+     * 
+     * @param projectId The ID of the project
+     * @param windowStart First day of the window, or null for today
+     * @param windowEnd Last day of the window, or null for two weeks after the start
+     * @param offset Number of rows to skip
+     * @param limit Maximum number of rows to return
+     * @return The window payload, or null if the project does not exist
+     */
+    GanttWindowDto getGanttWindow(Long projectId, LocalDate windowStart, LocalDate windowEnd, int offset, int limit);
+
+    /**
+     * Get the same viewport as {@link #getGanttWindow} in the columnar format:
+     * parallel arrays per attribute plus a shared string dictionary, streamed
+     * from the project's schedule snapshot.
+     * 
+     * @param projectId The ID of the project
+     * @param windowStart First day of the window, or null for today
+     * @param windowEnd Last day of the window, or null for two weeks after the start
+     * @param offset Number of rows to skip
+     * @param limit Maximum number of rows to return
+     * @return The prepared window, or null if the project does not exist
+     */
+    ColumnarWindow getGanttWindowColumnar(Long projectId, LocalDate windowStart, LocalDate windowEnd,
+                                          int offset, int limit);
+
     /**
      * Get the transformation service used by this data service.
      * 
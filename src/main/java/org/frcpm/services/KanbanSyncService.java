@@ -0,0 +1,78 @@
+// src/main/java/org/frcpm/services/KanbanSyncService.java
+
+package org.frcpm.services;
+
+import org.frcpm.models.Task;
+
+import java.util.List;
+
+/**
+ * Service interface for kanban board delta synchronization.
+ *
+ * Task changes are numbered per project. A board that remembers the epoch
+ * and sequence of the last change it applied asks for what happened after
+ * it and receives only the changed cards; a board that is too far behind,
+ * or has no position yet, is told to reload instead. Only the page load
+ * itself takes a snapshot of the whole project.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public interface KanbanSyncService {
+
+    /**
+     * Result of a sync request.
+     */
+    final class KanbanSync {
+
+        public enum Mode {
+            /** Only tasks changed after the client's position */
+            DELTA,
+            /** Every task of the project */
+            SNAPSHOT,
+            /** The changes are no longer available; reload the board. Carries no tasks */
+            RELOAD
+        }
+
+        private final Mode mode;
+        private final String epoch;
+        private final long sequence;
+        private final List<Task> tasks;
+        private final List<Long> deletedTaskIds;
+
+        public KanbanSync(Mode mode, String epoch, long sequence, List<Task> tasks, List<Long> deletedTaskIds) {
+            this.mode = mode;
+            this.epoch = epoch;
+            this.sequence = sequence;
+            this.tasks = tasks;
+            this.deletedTaskIds = deletedTaskIds;
+        }
+
+        public Mode getMode() { return mode; }
+        public String getEpoch() { return epoch; }
+        public long getSequence() { return sequence; }
+        public List<Task> getTasks() { return tasks; }
+        public List<Long> getDeletedTaskIds() { return deletedTaskIds; }
+    }
+
+    /**
+     * Loads every task of a project with the position the board starts from.
+     *
+     * @param projectId the project ID
+     * @return the snapshot, or null if the project does not exist
+     */
+    KanbanSync getSnapshot(Long projectId);
+
+    /**
+     * Loads the changes after a client's position. When they are no longer
+     * available the result is a {@link KanbanSync.Mode#RELOAD} marker with
+     * the current position, so no tasks are loaded for a board that reloads.
+     *
+     * @param projectId the project ID
+     * @param epoch epoch of the client's position, may be null
+     * @param sinceSequence last sequence the client applied, may be null
+     * @return the delta or reload marker, or null if the project does not exist
+     */
+    KanbanSync getChangesSince(Long projectId, String epoch, Long sinceSequence);
+}
@@ -0,0 +1,147 @@
+// src/main/java/org/frcpm/services/ReportJobService.java
+// Phase 3B: Scheduled Report Jobs
+
+package org.frcpm.services;
+
+import org.frcpm.models.ReportJob;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service interface for reports generated in the background on a schedule.
+ *
+ * A job produces either a JSON report from a report template (see
+ * {@link ReportingService#generateCustomReport}) or a CSV, Excel or PDF
+ * export of one of the {@link #DATASETS}. Each run is stored as a
+ * compressed artifact that is kept for a configured number of days, so
+ * reports are downloaded rather than recomputed.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public interface ReportJobService {
+
+    /** Artifact format of template reports */
+    String JSON = "json";
+
+    /** Report types exported as tables; every other type is a JSON template report */
+    Set<String> DATASETS = Set.of("tasks", "transactions", "attendance");
+
+    /**
+     * Schedule a report.
+     *
+     * @param projectId the project ID
+     * @param reportType a report template type or one of {@link #DATASETS}
+     * @param format "json" for template reports; "csv", "excel"/"xlsx" or "pdf" for datasets
+     * @param cronExpression a Spring cron expression
+     * @return the new job
+     * @throws IllegalArgumentException if the project, format or cron expression is not valid
+     */
+    ReportJob schedule(Long projectId, String reportType, String format, String cronExpression);
+
+    /**
+     * Get the active job for a report, scheduling it if there is none.
+     *
+     * @param projectId the project ID
+     * @param reportType the report type
+     * @param format the artifact format
+     * @param cronExpression the schedule used if a new job is created
+     * @return the existing or new job
+     */
+    ReportJob ensureScheduled(Long projectId, String reportType, String format, String cronExpression);
+
+    /**
+     * Get the jobs of a project, newest first.
+     *
+     * @param projectId the project ID
+     * @return the jobs, including cancelled ones
+     */
+    List<ReportJob> findByProject(Long projectId);
+
+    /**
+     * Cancel a job. Its artifacts stay available until they expire.
+     *
+     * @param jobId the job ID
+     * @return true if an active job was cancelled
+     */
+    boolean cancel(Long jobId);
+
+    /**
+     * Get the newest unexpired artifact of a job.
+     *
+     * @param jobId the job ID
+     * @return the artifact, if the job has one
+     */
+    Optional<Artifact> findLatestArtifact(Long jobId);
+
+    /**
+     * Get the newest unexpired JSON report of a type for a project.
+     *
+     * @param projectId the project ID
+     * @param reportType the report template type
+     * @return the stored report, with dates as ISO-8601 strings
+     */
+    Optional<Map<String, Object>> findLatestReport(Long projectId, String reportType);
+
+    /**
+     * Store a JSON report computed outside the job's schedule as its newest
+     * artifact, so it is served until the next scheduled run replaces it.
+     *
+     * @param jobId the ID of a JSON report job
+     * @param report the report, in the form {@link ReportingService#generateCustomReport} returns
+     * @return the stored artifact
+     * @throws IOException if writing the artifact fails
+     */
+    Artifact storeReport(Long jobId, Map<String, Object> report) throws IOException;
+
+    /**
+     * Write an artifact's content.
+     *
+     * @param artifact the artifact
+     * @param out where to write it
+     * @param compressed true to write the stored gzip bytes as they are
+     * @throws IOException if reading or writing fails
+     */
+    void writeArtifact(Artifact artifact, OutputStream out, boolean compressed) throws IOException;
+
+    /**
+     * A stored report run.
+     */
+    final class Artifact {
+
+        private final Long jobId;
+        private final Path path;
+        private final String format;
+        private final LocalDateTime createdAt;
+        private final long compressedSize;
+
+        public Artifact(Long jobId, Path path, String format, LocalDateTime createdAt, long compressedSize) {
+            this.jobId = jobId;
+            this.path = path;
+            this.format = format;
+            this.createdAt = createdAt;
+            this.compressedSize = compressedSize;
+        }
+
+        public Long getJobId() { return jobId; }
+        public Path getPath() { return path; }
+        public String getFormat() { return format; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public long getCompressedSize() { return compressedSize; }
+
+        /**
+         * @return the MIME type of the uncompressed content
+         */
+        public String getContentType() {
+            return JSON.equals(format) ? "application/json" : ExportService.Format.fromName(format).getContentType();
+        }
+    }
+}
@@ -48,6 +48,26 @@ public interface ReportingService {
      */
     Map<String, Object> getProjectAnalytics(Long projectId);
     
+    /**
+     * Analyze all of a project's tasks in a single fetch and scan.
+     * 
+     * @param projectId the project ID
+     * @return task analytics, or null if the project does not exist
+     */
+    ProjectTaskAnalytics analyzeProjectTasks(Long projectId);
+    
+    /**
+     * Get everything the analytics dashboard shows: the "analytics",
+     * "teamPerformance", "riskAnalysis" and "forecast" sections, each shaped
+     * like the matching single method. Sections load concurrently, and team
+     * performance and risk share one task fetch and one scan. A section that
+     * times out or fails is left out.
+     * 
+     * @param projectId the project ID
+     * @return dashboard sections by name, empty if the project does not exist
+     */
+    Map<String, Map<String, Object>> getAnalyticsDashboard(Long projectId);
+    
     /**
      * Get project progress analytics over time.
      * 
@@ -247,6 +267,10 @@ public interface ReportingService {
     /**
      * Generate custom report.
      * 
+     * The report's "data" entry holds the template's content when the
+     * parameters include a "projectId" and the type is one of
+     * {@link #getAvailableReportTemplates()}.
+     * 
      * @param reportType the report type
      * @param parameters report parameters
      * @return custom report data
@@ -283,6 +307,9 @@ public interface ReportingService {
     /**
      * Export project data to CSV.
      * 
+     * The export methods return the whole file in memory; large exports
+     * should be streamed with {@link ExportService} instead.
+     * 
      * @param projectId the project ID
      * @param includeDetails whether to include detailed data
      * @return CSV export data
@@ -323,6 +350,9 @@ public interface ReportingService {
     /**
      * Get executive dashboard data.
      * 
+     * Served from the weekly mentor report when one has been generated, in
+     * which case dates are ISO-8601 strings.
+     * 
      * @param projectId the project ID
      * @return executive dashboard data
      */
@@ -339,6 +369,9 @@ public interface ReportingService {
     /**
      * Get project manager dashboard data.
      * 
+     * Served from the weekly mentor report when one has been generated, in
+     * which case dates are ISO-8601 strings.
+     * 
      * @param projectId the project ID
      * @return project manager dashboard data
      */
@@ -460,7 +493,7 @@ public interface ReportingService {
      * Generate data export asynchronously.
      * 
      * @param projectId the project ID
-     * @param exportType the export type
+     * @param exportType the export format: csv, excel or pdf
      * @param includeDetails whether to include detailed data
      * @return future result
      */
@@ -485,8 +518,11 @@ public interface ReportingService {
      * 
      * @param projectId the project ID
      * @param reportType the report type
-     * @param schedule the schedule configuration
+     * @param schedule the schedule configuration: "cron" (a Spring cron expression,
+     *                 weekly off-peak if absent) and "format"
      * @return scheduled report ID
+     * @throws IllegalArgumentException if the schedule is not valid
+     * @see ReportJobService#schedule
      */
     Long scheduleAutomaticReport(Long projectId, String reportType, Map<String, Object> schedule);
     
@@ -534,4 +570,122 @@ public interface ReportingService {
      * @return configuration options
      */
     Map<String, Object> getChartConfigurationOptions(String chartType);
-}
\ No newline at end of file
+    
+    // =========================================================================
+    // HELPER CLASSES
+    // =========================================================================
+    
+    /**
+     * Task figures for one project, computed in one pass over its tasks.
+     */
+    final class ProjectTaskAnalytics {
+        private final LocalDate asOf;
+        private final int totalTasks;
+        private final int completedTasks;
+        private final int inProgressTasks;
+        private final int overdueTasks;
+        private final int atRiskTasks;
+        private final int unscheduledTasks;
+        private final int unassignedOpenTasks;
+        private final int[] tasksByPriority;
+        private final int[] completedByPriority;
+        private final long totalEstimatedSeconds;
+        private final long remainingEstimatedSeconds;
+        private final double averageProgress;
+        private final double averagePlannedDays;
+        private final LocalDate earliestStart;
+        private final LocalDate latestEnd;
+        private final List<MemberStats> members;
+        
+        public ProjectTaskAnalytics(LocalDate asOf, int totalTasks, int completedTasks, int inProgressTasks,
+                                    int overdueTasks, int atRiskTasks, int unscheduledTasks,
+                                    int unassignedOpenTasks, int[] tasksByPriority, int[] completedByPriority,
+                                    long totalEstimatedSeconds, long remainingEstimatedSeconds,
+                                    double averageProgress, double averagePlannedDays,
+                                    LocalDate earliestStart, LocalDate latestEnd, List<MemberStats> members) {
+            this.asOf = asOf;
+            this.totalTasks = totalTasks;
+            this.completedTasks = completedTasks;
+            this.inProgressTasks = inProgressTasks;
+            this.overdueTasks = overdueTasks;
+            this.atRiskTasks = atRiskTasks;
+            this.unscheduledTasks = unscheduledTasks;
+            this.unassignedOpenTasks = unassignedOpenTasks;
+            this.tasksByPriority = tasksByPriority.clone();
+            this.completedByPriority = completedByPriority.clone();
+            this.totalEstimatedSeconds = totalEstimatedSeconds;
+            this.remainingEstimatedSeconds = remainingEstimatedSeconds;
+            this.averageProgress = averageProgress;
+            this.averagePlannedDays = averagePlannedDays;
+            this.earliestStart = earliestStart;
+            this.latestEnd = latestEnd;
+            this.members = List.copyOf(members);
+        }
+        
+        public LocalDate getAsOf() { return asOf; }
+        public int getTotalTasks() { return totalTasks; }
+        public int getCompletedTasks() { return completedTasks; }
+        public int getInProgressTasks() { return inProgressTasks; }
+        public int getTodoTasks() { return totalTasks - completedTasks - inProgressTasks; }
+        public int getOpenTasks() { return totalTasks - completedTasks; }
+        /** Open tasks whose end date has passed */
+        public int getOverdueTasks() { return overdueTasks; }
+        /** Open tasks due within a week that are less than half done */
+        public int getAtRiskTasks() { return atRiskTasks; }
+        /** Open tasks without an end date */
+        public int getUnscheduledTasks() { return unscheduledTasks; }
+        /** Open tasks nobody is assigned to */
+        public int getUnassignedOpenTasks() { return unassignedOpenTasks; }
+        public long getTotalEstimatedSeconds() { return totalEstimatedSeconds; }
+        public long getRemainingEstimatedSeconds() { return remainingEstimatedSeconds; }
+        public double getAverageProgress() { return averageProgress; }
+        /** Mean days from start to end date, over tasks that have both */
+        public double getAveragePlannedDays() { return averagePlannedDays; }
+        public LocalDate getEarliestStart() { return earliestStart; }
+        public LocalDate getLatestEnd() { return latestEnd; }
+        public List<MemberStats> getMembers() { return members; }
+        
+        public int getTaskCount(Task.Priority priority) { return tasksByPriority[priority.ordinal()]; }
+        public int getCompletedCount(Task.Priority priority) { return completedByPriority[priority.ordinal()]; }
+        
+        public double getCompletionRate() {
+            return totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0;
+        }
+    }
+    
+    /**
+     * One team member's share of a project's tasks.
+     */
+    final class MemberStats {
+        private final Long memberId;
+        private final String memberName;
+        private final String memberRole;
+        private final int totalTasks;
+        private final int completedTasks;
+        private final int overdueTasks;
+        private final long remainingEstimatedSeconds;
+        
+        public MemberStats(Long memberId, String memberName, String memberRole, int totalTasks,
+                           int completedTasks, int overdueTasks, long remainingEstimatedSeconds) {
+            this.memberId = memberId;
+            this.memberName = memberName;
+            this.memberRole = memberRole;
+            this.totalTasks = totalTasks;
+            this.completedTasks = completedTasks;
+            this.overdueTasks = overdueTasks;
+            this.remainingEstimatedSeconds = remainingEstimatedSeconds;
+        }
+        
+        public Long getMemberId() { return memberId; }
+        public String getMemberName() { return memberName; }
+        public String getMemberRole() { return memberRole; }
+        public int getTotalTasks() { return totalTasks; }
+        public int getCompletedTasks() { return completedTasks; }
+        public int getOverdueTasks() { return overdueTasks; }
+        public long getRemainingEstimatedSeconds() { return remainingEstimatedSeconds; }
+        
+        public double getCompletionRate() {
+            return totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0;
+        }
+    }
+}
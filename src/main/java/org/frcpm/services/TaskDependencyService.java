@@ -6,7 +6,9 @@ import org.frcpm.models.DependencyType;
 import org.frcpm.models.Project;
 import org.frcpm.models.Task;
 import org.frcpm.models.TaskDependency;
+import org.frcpm.models.TeamMember;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -365,12 +367,24 @@ public interface TaskDependencyService {
     
     /**
      * Optimizes task scheduling based on dependencies and constraints.
+     * Builds a resource-levelled schedule from task assignments and each
+     * member's attendance history, within a fixed time budget.
      * 
      * @param project the project
-     * @return optimization recommendations
+     * @return optimization recommendations, makespan and per-member load
      */
     ScheduleOptimizationResult optimizeSchedule(Project project);
     
+    /**
+     * Simulates remaining work many times with uncertain task durations
+     * to estimate completion dates and each task's chance of being critical.
+     * 
+     * @param project the project
+     * @param samples number of simulated schedules
+     * @return completion percentiles, deadline probability and criticality indexes
+     */
+    ScheduleSimulationResult simulateCompletion(Project project, int samples);
+    
     /**
      * Gets the most connected tasks (potential bottlenecks).
      * 
@@ -442,19 +456,29 @@ public interface TaskDependencyService {
         private final double totalDuration;
         private final Map<Task, Double> taskFloats;
         private final List<TaskDependency> criticalDependencies;
+        private final long scheduleVersion;
         
         public CriticalPathResult(List<Task> criticalPath, double totalDuration, 
                                  Map<Task, Double> taskFloats, List<TaskDependency> criticalDependencies) {
+            this(criticalPath, totalDuration, taskFloats, criticalDependencies, 0L);
+        }
+        
+        public CriticalPathResult(List<Task> criticalPath, double totalDuration, 
+                                 Map<Task, Double> taskFloats, List<TaskDependency> criticalDependencies,
+                                 long scheduleVersion) {
             this.criticalPath = criticalPath;
             this.totalDuration = totalDuration;
             this.taskFloats = taskFloats;
             this.criticalDependencies = criticalDependencies;
+            this.scheduleVersion = scheduleVersion;
         }
         
         public List<Task> getCriticalPath() { return criticalPath; }
         public double getTotalDuration() { return totalDuration; }
         public Map<Task, Double> getTaskFloats() { return taskFloats; }
         public List<TaskDependency> getCriticalDependencies() { return criticalDependencies; }
+        /** Version stamp of the cached schedule this result was read from; 0 if computed uncached. */
+        public long getScheduleVersion() { return scheduleVersion; }
     }
     
     /**
@@ -482,23 +506,88 @@ public interface TaskDependencyService {
     
     /**
      * Schedule optimization result.
+     * Times are hours from project start on the resource-levelled schedule.
      */
     class ScheduleOptimizationResult {
         private final List<String> recommendations;
         private final Map<Task, Integer> suggestedAdjustments;
         private final double potentialTimeReduction;
+        private final double makespanHours;
+        private final Map<Task, Double> scheduledStartHours;
+        private final Map<TeamMember, Double> memberLoadHours;
+        private final Map<TeamMember, Double> memberUtilization;
         
         public ScheduleOptimizationResult(List<String> recommendations, 
                                         Map<Task, Integer> suggestedAdjustments, 
                                         double potentialTimeReduction) {
+            this(recommendations, suggestedAdjustments, potentialTimeReduction, 0.0, Map.of(), Map.of(), Map.of());
+        }
+        
+        public ScheduleOptimizationResult(List<String> recommendations, 
+                                        Map<Task, Integer> suggestedAdjustments, 
+                                        double potentialTimeReduction,
+                                        double makespanHours,
+                                        Map<Task, Double> scheduledStartHours,
+                                        Map<TeamMember, Double> memberLoadHours,
+                                        Map<TeamMember, Double> memberUtilization) {
             this.recommendations = recommendations;
             this.suggestedAdjustments = suggestedAdjustments;
             this.potentialTimeReduction = potentialTimeReduction;
+            this.makespanHours = makespanHours;
+            this.scheduledStartHours = scheduledStartHours;
+            this.memberLoadHours = memberLoadHours;
+            this.memberUtilization = memberUtilization;
         }
         
         public List<String> getRecommendations() { return recommendations; }
         public Map<Task, Integer> getSuggestedAdjustments() { return suggestedAdjustments; }
         public double getPotentialTimeReduction() { return potentialTimeReduction; }
+        public double getMakespanHours() { return makespanHours; }
+        public Map<Task, Double> getScheduledStartHours() { return scheduledStartHours; }
+        public Map<TeamMember, Double> getMemberLoadHours() { return memberLoadHours; }
+        public Map<TeamMember, Double> getMemberUtilization() { return memberUtilization; }
+    }
+    
+    /**
+     * Monte Carlo completion forecast.
+     * Hours are remaining work hours; dates assume one working day per 8 hours.
+     */
+    class ScheduleSimulationResult {
+        private final int sampleCount;
+        private final double p50Hours;
+        private final double p80Hours;
+        private final double p95Hours;
+        private final LocalDate p50Date;
+        private final LocalDate p80Date;
+        private final LocalDate p95Date;
+        private final Double deadlineProbability;
+        private final Map<Task, Double> criticalityIndex;
+        
+        public ScheduleSimulationResult(int sampleCount, double p50Hours, double p80Hours, double p95Hours,
+                                      LocalDate p50Date, LocalDate p80Date, LocalDate p95Date,
+                                      Double deadlineProbability, Map<Task, Double> criticalityIndex) {
+            this.sampleCount = sampleCount;
+            this.p50Hours = p50Hours;
+            this.p80Hours = p80Hours;
+            this.p95Hours = p95Hours;
+            this.p50Date = p50Date;
+            this.p80Date = p80Date;
+            this.p95Date = p95Date;
+            this.deadlineProbability = deadlineProbability;
+            this.criticalityIndex = criticalityIndex;
+        }
+        
+        public int getSampleCount() { return sampleCount; }
+        public double getP50Hours() { return p50Hours; }
+        public double getP80Hours() { return p80Hours; }
+        public double getP95Hours() { return p95Hours; }
+        public LocalDate getP50Date() { return p50Date; }
+        public LocalDate getP80Date() { return p80Date; }
+        public LocalDate getP95Date() { return p95Date; }
+        
+        /** @return probability of finishing by the hard deadline, or null if the project has none */
+        public Double getDeadlineProbability() { return deadlineProbability; }
+        public Map<Task, Double> getCriticalityIndex() { return criticalityIndex; }
     }
     
     /**
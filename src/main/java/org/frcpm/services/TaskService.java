@@ -6,6 +6,7 @@ import org.frcpm.models.Task;
 import org.frcpm.models.TeamMember;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -25,6 +26,14 @@ public interface TaskService extends Service<Task, Long> {
      */
     List<Task> findByProject(Project project);
     
+    /**
+     * Finds tasks by ID in a single query.
+     * 
+     * @param ids the task IDs
+     * @return the tasks that exist, in no particular order
+     */
+    List<Task> findAllById(Collection<Long> ids);
+    
     /**
      * Finds tasks by subsystem.
      * 
@@ -340,4 +349,22 @@ public interface TaskService extends Service<Task, Long> {
      * @return a list of recent tasks
      */
     List<Task> getRecentTasks(int limit);
+    
+    /**
+     * Gets up to five overdue incomplete tasks for a project, most overdue first.
+     * 
+     * @param projectId the project ID
+     * @return the most overdue tasks
+     */
+    List<Task> getMostOverdueTasks(Long projectId);
+    
+    /**
+     * Gets up to five completed tasks that ended within the given number of
+     * days, most recent first.
+     * 
+     * @param projectId the project ID
+     * @param days the number of days to look back
+     * @return recently completed tasks
+     */
+    List<Task> getRecentlyCompletedTasks(Long projectId, int days);
 }
\ No newline at end of file
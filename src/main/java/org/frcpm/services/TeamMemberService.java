@@ -5,6 +5,7 @@ import org.frcpm.models.Subteam;
 import org.frcpm.models.TeamMember;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -45,6 +46,14 @@ public interface TeamMemberService extends Service<TeamMember, Long> {
      */
     List<TeamMember> findLeaders();
     
+    /**
+     * Gets team-wide membership counts: totalMembers, leaderCount,
+     * totalSubteams and activeSubteams (subteams with at least one member).
+     * 
+     * @return the membership counts by name
+     */
+    Map<String, Object> getTeamStatistics();
+    
     /**
      * Creates a new team member.
      * 
@@ -0,0 +1,170 @@
+// src/main/java/org/frcpm/services/impl/AnalyticsPanelExecutor.java
+
+package org.frcpm.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the panels of an analytics page concurrently.
+ *
+ * Each panel runs on its own virtual thread in its own read-only
+ * transaction, so a page takes as long as its slowest panel instead of the
+ * sum of all of them. At most {@code app.analytics.max-concurrent-panels}
+ * panels load at once across all requests, which keeps the connection pool
+ * from being drained by a burst of page loads. A panel that has not finished
+ * within its timeout is cancelled and left out of the results; the page is
+ * rendered from the panels that did finish.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+@Component
+public class AnalyticsPanelExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(AnalyticsPanelExecutor.class.getName());
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final Duration panelTimeout;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("analytics-panel-", 0).factory());
+
+    @Autowired
+    public AnalyticsPanelExecutor(PlatformTransactionManager transactionManager,
+                                  @Value("${app.analytics.panel-timeout-ms:5000}") long panelTimeoutMillis,
+                                  @Value("${app.analytics.max-concurrent-panels:16}") int maxConcurrentPanels) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.permits = new Semaphore(maxConcurrentPanels, true);
+        this.panelTimeout = Duration.ofMillis(panelTimeoutMillis);
+    }
+
+    /**
+     * Loads panels with the configured timeout.
+     *
+     * @param panels panel loaders by panel name
+     * @return the loaded panels
+     */
+    public PanelResults load(Map<String, Supplier<?>> panels) {
+        return load(panels, panelTimeout);
+    }
+
+    /**
+     * Loads panels concurrently, giving each up to {@code timeout} from now
+     * to finish, including any time spent waiting for a free slot.
+     *
+     * @param panels panel loaders by panel name
+     * @param timeout time allowed for each panel
+     * @return the loaded panels
+     */
+    public PanelResults load(Map<String, Supplier<?>> panels, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        panels.forEach((name, loader) -> futures.put(name, executor.submit(() -> run(loader))));
+
+        Map<String, Object> values = new HashMap<>();
+        Set<String> unavailable = new LinkedHashSet<>();
+        for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+            String name = entry.getKey();
+            Future<?> future = entry.getValue();
+            try {
+                values.put(name, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                unavailable.add(name);
+                LOGGER.warning("Analytics panel '" + name + "' did not finish within " + timeout.toMillis() + " ms");
+            } catch (ExecutionException e) {
+                unavailable.add(name);
+                LOGGER.log(Level.SEVERE, "Error loading analytics panel '" + name + "'", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(pending -> pending.cancel(true));
+                unavailable.addAll(futures.keySet());
+                unavailable.removeAll(values.keySet());
+                break;
+            }
+        }
+        return new PanelResults(values, unavailable);
+    }
+
+    /**
+     * Runs one piece of read-only work on its own virtual thread, subject to
+     * the same concurrency limit as panels but without a timeout.
+     *
+     * @param work the work
+     * @return the work's result
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return run(work);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted waiting for an analytics slot");
+            }
+        }, executor);
+    }
+
+    private <T> T run(Supplier<T> loader) throws InterruptedException {
+        permits.acquire();
+        try {
+            return readOnlyTransaction.execute(status -> loader.get());
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Panels that loaded, by name, and the names of those that did not.
+     */
+    public static final class PanelResults {
+
+        private final Map<String, Object> values;
+        private final Set<String> unavailable;
+
+        PanelResults(Map<String, Object> values, Set<String> unavailable) {
+            this.values = values;
+            this.unavailable = Collections.unmodifiableSet(unavailable);
+        }
+
+        /**
+         * @param name the panel name
+         * @return the panel's result, or null if it timed out or failed
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            return (T) values.get(name);
+        }
+
+        /**
+         * @return names of panels that timed out or failed, in request order
+         */
+        public Set<String> getUnavailable() {
+            return unavailable;
+        }
+
+        public boolean isComplete() {
+            return unavailable.isEmpty();
+        }
+    }
+}
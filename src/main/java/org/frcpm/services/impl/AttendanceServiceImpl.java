@@ -570,18 +570,9 @@ public class AttendanceServiceImpl implements AttendanceService {
     
     private void broadcastPresenceUpdate(TeamPresenceMessage message) {
         try {
-            // Use the dedicated AttendanceController for broadcasting
+            // Folded into the periodic presence digest rather than sent per check-in
             attendanceController.broadcastPresenceUpdate(message);
             
-            // Also publish summary to activity stream
-            webSocketEventPublisher.publishSystemAlert(
-                String.format("Workshop Update: %d/%d present (%d%%)", 
-                             message.getTotalPresent(), 
-                             message.getTotalExpected(),
-                             message.getAttendancePercentage().intValue()),
-                "INFO"
-            );
-            
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error broadcasting presence update", e);
         }
@@ -0,0 +1,468 @@
+// src/main/java/org/frcpm/services/impl/AuditLogWriter.java
+
+package org.frcpm.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.frcpm.events.MpscRingBuffer;
+import org.frcpm.models.AuditLog;
+import org.frcpm.repositories.spring.AuditLogBatchWriter;
+import org.frcpm.repositories.spring.AuditLogRow;
+import org.frcpm.repositories.spring.AuditStatRollups;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind pipeline for audit log rows.
+ *
+ * append() copies the audit log into an {@link AuditLogRow} on the calling
+ * thread, after the request context has been captured, and queues it once
+ * the caller's transaction commits (rolled-back work leaves no audit row,
+ * as before). A single writer thread drains the bounded ring buffer and
+ * inserts the rows in JDBC batches whenever a batch fills up or the flush
+ * interval passes.
+ *
+ * Rows are never silently discarded:
+ * - queue full: the caller appends the row to a local spill file
+ * - database failing: the batch goes to the spill file and the database is
+ *   left alone for the retry delay
+ * - the spill file is moved aside and replayed in one transaction once the
+ *   database accepts writes again, so a failed replay is retried whole
+ *   rather than leaving duplicates
+ * - a row the database rejects outright (constraint violation) is logged
+ *   in full and counted instead of blocking the rows behind it
+ * Only if the spill file itself cannot be written is a row dropped; it is
+ * then logged in full at SEVERE.
+ *
+ * Each insert also adds the rows to the hourly statistics rollups in the
+ * same transaction. The first insert builds the rollups from existing
+ * audit rows if there are none yet, in the same transaction as well.
+ *
+ * Progress is exported as audit.writer.* meters.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0
+ * @since Phase 2B - COPPA Compliance & Security
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(AuditLogWriter.class.getName());
+
+    static final String SPILL_FILE = "audit-spill.jsonl";
+    static final String REPLAY_FILE = "audit-spill.replay.jsonl";
+
+    private final AuditLogBatchWriter batchWriter;
+    private final AuditStatRollups statRollups;
+    private final TransactionTemplate transactionTemplate;
+    private final MpscRingBuffer<AuditLogRow> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryDelayNanos;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Object spillLock = new Object();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile boolean idle;
+    private long retryAt = System.nanoTime();
+    private boolean rollupsBuilt;
+
+    @Autowired
+    public AuditLogWriter(AuditLogBatchWriter batchWriter,
+                          AuditStatRollups statRollups,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.audit.writer.queue-capacity:8192}") int queueCapacity,
+                          @Value("${app.audit.writer.batch-size:200}") int batchSize,
+                          @Value("${app.audit.writer.flush-interval-ms:500}") long flushIntervalMillis,
+                          @Value("${app.audit.writer.retry-delay-ms:30000}") long retryDelayMillis,
+                          @Value("${app.audit.writer.spill-dir:data/audit}") String spillDir) {
+        this.batchWriter = batchWriter;
+        this.statRollups = statRollups;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new MpscRingBuffer<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.retryDelayNanos = TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+        this.spillFile = Paths.get(spillDir).resolve(SPILL_FILE);
+        this.replayFile = Paths.get(spillDir).resolve(REPLAY_FILE);
+
+        Gauge.builder("audit.writer.queue.depth", buffer, MpscRingBuffer::size)
+            .description("Audit rows waiting for the writer")
+            .register(meterRegistry);
+        Gauge.builder("audit.writer.spill.bytes", this, auditLogWriter -> auditLogWriter.spillBytes())
+            .description("Size of the audit spill files awaiting replay")
+            .register(meterRegistry);
+        FunctionCounter.builder("audit.writer.written", written, AtomicLong::get)
+            .description("Audit rows inserted from the queue")
+            .register(meterRegistry);
+        FunctionCounter.builder("audit.writer.spilled", spilled, AtomicLong::get)
+            .description("Audit rows written to the spill file")
+            .register(meterRegistry);
+        FunctionCounter.builder("audit.writer.replayed", replayed, AtomicLong::get)
+            .description("Audit rows inserted from the spill file")
+            .register(meterRegistry);
+        FunctionCounter.builder("audit.writer.rejected", rejected, AtomicLong::get)
+            .description("Audit rows the database refused")
+            .register(meterRegistry);
+        FunctionCounter.builder("audit.writer.dropped", dropped, AtomicLong::get)
+            .description("Audit rows lost because the spill file could not be written")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::writeLoop, "audit-log-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the writer after writing (or spilling) everything queued.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!thread.isAlive()) {
+            // Rows offered while the writer was finishing; this thread is now the only consumer
+            List<AuditLogRow> rest = new ArrayList<>();
+            AuditLogRow row;
+            while ((row = buffer.poll()) != null) {
+                rest.add(row);
+            }
+            if (!rest.isEmpty()) {
+                spill(rest);
+            }
+        }
+    }
+
+    /**
+     * Queues an audit log for insertion after the current transaction
+     * commits, or immediately when no transaction is active.
+     *
+     * @param log unsaved audit log with request data already filled in
+     */
+    public void append(AuditLog log) {
+        AuditLogRow row = AuditLogRow.from(log);
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingForTransaction().add(row);
+        } else {
+            enqueue(row);
+        }
+    }
+
+    /**
+     * @return writer counters for monitoring
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("queued", buffer.size());
+        stats.put("capacity", buffer.capacity());
+        stats.put("written", written.get());
+        stats.put("spilled", spilled.get());
+        stats.put("replayed", replayed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("dropped", dropped.get());
+        stats.put("spillBytes", spillBytes());
+        return stats;
+    }
+
+    // =========================================================================
+    // PRODUCER SIDE
+    // =========================================================================
+
+    @SuppressWarnings("unchecked")
+    private List<AuditLogRow> pendingForTransaction() {
+        List<AuditLogRow> pending = (List<AuditLogRow>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<AuditLogRow> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.forEach(AuditLogWriter.this::enqueue);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AuditLogWriter.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void enqueue(AuditLogRow row) {
+        // Nobody drains the queue once stopped; the spill file is replayed on the next start
+        if (!running || !buffer.offer(row)) {
+            spill(List.of(row));
+            return;
+        }
+        if (idle && buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    // =========================================================================
+    // WRITER
+    // =========================================================================
+
+    private void writeLoop() {
+        List<AuditLogRow> batch = new ArrayList<>(batchSize);
+        while (true) {
+            boolean stopping = !running;
+
+            AuditLogRow row;
+            while ((row = buffer.poll()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+            replaySpill();
+
+            if (stopping) {
+                return;
+            }
+            idle = true;
+            // Re-check after publishing the idle flag so a full batch is not left waiting
+            if (buffer.size() < batchSize && running) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            idle = false;
+        }
+    }
+
+    private void write(List<AuditLogRow> rows) {
+        if (System.nanoTime() - retryAt < 0) {
+            spill(rows);
+            return;
+        }
+        try {
+            insert(rows);
+            written.addAndGet(rows.size());
+        } catch (DataIntegrityViolationException e) {
+            written.addAndGet(insertIndividually(rows));
+        } catch (Exception e) {
+            databaseFailed(rows.size(), e);
+            spill(rows);
+        }
+    }
+
+    /**
+     * Inserts rows one at a time so a row the database refuses does not
+     * take the rest of its batch with it.
+     *
+     * @return rows inserted
+     */
+    private int insertIndividually(List<AuditLogRow> rows) {
+        int inserted = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            AuditLogRow row = rows.get(i);
+            try {
+                insert(List.of(row));
+                inserted++;
+            } catch (DataIntegrityViolationException e) {
+                rejected.incrementAndGet();
+                LOGGER.severe("Audit row rejected by the database: " + toJson(row) + " - " + e.getMessage());
+            } catch (Exception e) {
+                databaseFailed(rows.size() - i, e);
+                spill(rows.subList(i, rows.size()));
+                break;
+            }
+        }
+        return inserted;
+    }
+
+    private void insert(List<AuditLogRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rollupsBuilt) {
+                rebuildRollupsIfEmpty();
+            }
+            batchWriter.insertAll(rows);
+            statRollups.increment(rows);
+        });
+        rollupsBuilt = true;
+    }
+
+    /**
+     * Runs in the transaction of the first batch, before that batch is
+     * inserted, so no row is counted twice. A failed rebuild rolls the batch
+     * back with it: the batch is spilled like any failed write and the
+     * rebuild is retried with it, so the rollups never start counting
+     * without the history.
+     */
+    private void rebuildRollupsIfEmpty() {
+        if (statRollups.isEmpty()) {
+            long rows = statRollups.rebuild();
+            if (rows > 0) {
+                LOGGER.info(String.format("Built audit statistics rollups from %d existing rows", rows));
+            }
+        }
+    }
+
+    private void databaseFailed(int rows, Exception e) {
+        retryAt = System.nanoTime() + retryDelayNanos;
+        LOGGER.log(Level.WARNING, String.format("Audit log write failed, spilling %d rows and retrying in %d ms",
+                                                rows, TimeUnit.NANOSECONDS.toMillis(retryDelayNanos)), e);
+    }
+
+    // =========================================================================
+    // SPILL FILE
+    // =========================================================================
+
+    private void spill(List<AuditLogRow> rows) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillFile.getParent());
+                try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                    for (AuditLogRow row : rows) {
+                        out.write(objectMapper.writeValueAsString(row));
+                        out.newLine();
+                    }
+                }
+                spilled.addAndGet(rows.size());
+            } catch (IOException e) {
+                dropped.addAndGet(rows.size());
+                LOGGER.log(Level.SEVERE, "Failed to spill audit rows to " + spillFile, e);
+                rows.forEach(row -> LOGGER.severe("Dropped audit row: " + toJson(row)));
+            }
+        }
+    }
+
+    private void replaySpill() {
+        if (System.nanoTime() - retryAt < 0) {
+            return;
+        }
+        List<AuditLogRow> rows;
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spillFile) || Files.size(spillFile) == 0) {
+                        return;
+                    }
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            rows = readSpilled(replayFile);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to read audit spill file " + replayFile, e);
+            retryAt = System.nanoTime() + retryDelayNanos;
+            return;
+        }
+
+        try {
+            insert(rows);
+            replayed.addAndGet(rows.size());
+        } catch (DataIntegrityViolationException e) {
+            // Rows that still cannot be written go back to the spill file
+            replayed.addAndGet(insertIndividually(rows));
+        } catch (Exception e) {
+            // Kept for the next attempt
+            retryAt = System.nanoTime() + retryDelayNanos;
+            LOGGER.log(Level.WARNING, "Audit spill replay failed, retrying later", e);
+            return;
+        }
+        try {
+            Files.delete(replayFile);
+            LOGGER.info(String.format("Replayed %d spilled audit rows", rows.size()));
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to remove replayed audit spill file " + replayFile, e);
+        }
+    }
+
+    private List<AuditLogRow> readSpilled(Path file) throws IOException {
+        List<AuditLogRow> rows = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                rows.add(objectMapper.readValue(line, AuditLogRow.class));
+            } catch (IOException e) {
+                // A line cut short by a crash mid-append
+                rejected.incrementAndGet();
+                LOGGER.severe("Unreadable audit spill line skipped: " + line);
+            }
+        }
+        return rows;
+    }
+
+    private long spillBytes() {
+        long bytes = 0;
+        for (Path file : List.of(spillFile, replayFile)) {
+            try {
+                bytes += Files.exists(file) ? Files.size(file) : 0;
+            } catch (IOException e) {
+                // Moved or deleted while measuring
+            }
+        }
+        return bytes;
+    }
+
+    private String toJson(AuditLogRow row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (IOException e) {
+            return row.toString();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+// src/main/java/org/frcpm/services/impl/AuditRetentionJob.java
+
+package org.frcpm.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.frcpm.repositories.spring.AuditLogPartitions;
+import org.frcpm.repositories.spring.AuditStatRollups;
+import org.frcpm.services.COPPAComplianceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Retention roll-off for the audit log, one month at a time.
+ *
+ * Every night the months whose rows are all past the retention period are
+ * written to a gzip-compressed JSON-lines archive file and then removed
+ * as a whole period (a partition drop on PostgreSQL, see
+ * {@link AuditLogPartitions}), together with its statistics rollups. A
+ * month is only removed after its archive file is complete, so an
+ * interrupted run simply archives it again.
+ *
+ * Because a month mixes rows of many users, it is kept for the longest
+ * retention period any user's data can require, and never for less than
+ * app.audit.retention-days.
+ *
+ * The job also keeps partitions created a few months ahead so inserts
+ * never fall into the default partition.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0
+ * @since Phase 2B - COPPA Compliance & Security
+ */
+@Component
+public class AuditRetentionJob {
+
+    private static final Logger LOGGER = Logger.getLogger(AuditRetentionJob.class.getName());
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final AuditLogPartitions partitions;
+    private final AuditStatRollups statRollups;
+    private final COPPAComplianceService coppaComplianceService;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int monthsAhead;
+    private final Path archiveDir;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    public AuditRetentionJob(AuditLogPartitions partitions,
+                             AuditStatRollups statRollups,
+                             COPPAComplianceService coppaComplianceService,
+                             @Value("${app.audit.enabled:true}") boolean enabled,
+                             @Value("${app.audit.retention-days:2555}") int retentionDays,
+                             @Value("${app.audit.partition-months-ahead:3}") int monthsAhead,
+                             @Value("${app.audit.archive-dir:data/audit/archive}") String archiveDir) {
+        this.partitions = partitions;
+        this.statRollups = statRollups;
+        this.coppaComplianceService = coppaComplianceService;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.monthsAhead = monthsAhead;
+        this.archiveDir = Paths.get(archiveDir);
+    }
+
+    /**
+     * Partitions the audit table on first start and creates the upcoming
+     * partitions. Failures are logged; audit writes keep working against
+     * the unpartitioned table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparePartitions() {
+        try {
+            YearMonth through = YearMonth.now().plusMonths(monthsAhead);
+            if (partitions.isPartitioningSupported() && !partitions.isPartitioned()) {
+                partitions.convertToPartitioned(through);
+            }
+            partitions.ensurePeriods(YearMonth.now(), through);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to prepare audit log partitions", e);
+        }
+    }
+
+    /**
+     * Archives and removes expired audit months.
+     * Runs nightly at 2:30 AM.
+     */
+    @Scheduled(cron = "${app.audit.retention-cron:0 30 2 * * *}")
+    public void rollOff() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<String, Object> result = rollOff(LocalDate.now());
+            LOGGER.info("Audit retention run: " + result);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Audit retention run failed", e);
+        }
+    }
+
+    /**
+     * @param today date the retention period is counted back from
+     * @return months and rows archived
+     */
+    public synchronized Map<String, Object> rollOff(LocalDate today) {
+        partitions.ensurePeriods(YearMonth.from(today), YearMonth.from(today).plusMonths(monthsAhead));
+
+        int days = Math.max(coppaComplianceService.getMaximumDataRetentionPeriodDays(), retentionDays);
+        // Only months that end before the cutoff date are complete candidates
+        YearMonth cutoff = YearMonth.from(today.minusDays(days));
+        List<YearMonth> expired = partitions.periodsBefore(cutoff);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("retentionDays", days);
+        result.put("cutoff", cutoff.toString());
+        int months = 0;
+        long rows = 0;
+        for (YearMonth month : expired) {
+            long archived;
+            try {
+                archived = archive(month);
+            } catch (IOException | UncheckedIOException e) {
+                // Keep the data; the next run tries this month again
+                LOGGER.log(Level.SEVERE, "Failed to archive audit logs for " + month + ", not removing them", e);
+                break;
+            }
+            partitions.dropPeriod(month);
+            statRollups.deleteBefore(month.plusMonths(1).atDay(1).atStartOfDay());
+            months++;
+            rows += archived;
+            LOGGER.info(String.format("Archived and removed %d audit rows for %s", archived, month));
+        }
+        result.put("monthsArchived", months);
+        result.put("rowsArchived", rows);
+        return result;
+    }
+
+    /**
+     * Writes one month to its archive file, replacing a partial file left
+     * by an earlier run.
+     *
+     * @return rows written
+     */
+    long archive(YearMonth month) throws IOException {
+        Files.createDirectories(archiveDir);
+        Path target = archiveFile(month);
+        Path partial = target.resolveSibling(target.getFileName() + ".partial");
+
+        long[] count = new long[1];
+        try {
+            try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(partial)), StandardCharsets.UTF_8))) {
+                partitions.readPeriod(month, FETCH_SIZE, rs -> {
+                    try {
+                        out.write(objectMapper.writeValueAsString(toRecord(rs)));
+                        out.newLine();
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            if (count[0] == 0) {
+                Files.delete(partial);
+                return 0;
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count[0];
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+    }
+
+    Path archiveFile(YearMonth month) {
+        return archiveDir.resolve(String.format("audit_logs_%04d_%02d.jsonl.gz",
+                                                month.getYear(), month.getMonthValue()));
+    }
+
+    private static Map<String, Object> toRecord(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            Object value = rs.getObject(i);
+            if (value instanceof Timestamp timestamp) {
+                value = timestamp.toLocalDateTime().toString();
+            }
+            record.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), value);
+        }
+        return record;
+    }
+}
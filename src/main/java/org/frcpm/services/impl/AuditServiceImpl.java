@@ -4,13 +4,18 @@ package org.frcpm.services.impl;
 
 import org.frcpm.models.AuditLevel;
 import org.frcpm.models.AuditLog;
+import org.frcpm.models.AuditStatRollup.Dimension;
 import org.frcpm.models.User;
 import org.frcpm.repositories.spring.AuditLogRepository;
+import org.frcpm.repositories.spring.AuditStatRollups;
+import org.frcpm.repositories.spring.AuditStatRollups.Bucket;
 import org.frcpm.services.AuditService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 //import org.springframework.security.core.Authentication;
 //import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -18,12 +23,31 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 /**
  * Implementation of audit logging service for security and compliance.
+ * 
+ * Logging methods capture the request details on the calling thread and
+ * hand the row to {@link AuditLogWriter}, which inserts it in a batch after
+ * the caller's transaction commits. They join a caller's transaction but
+ * never open one of their own, so an audited page view costs no database
+ * round trip.
+ * 
+ * Statistics are summed from the hourly rollups the writer maintains
+ * ({@link AuditStatRollups}), so their cost depends on the window asked
+ * for, not on how much audit history has accumulated.
  */
 @Service
 @Transactional
@@ -32,10 +56,18 @@ public class AuditServiceImpl implements AuditService {
     private static final Logger LOGGER = Logger.getLogger(AuditServiceImpl.class.getName());
     
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditStatRollups statRollups;
+    private final int retentionDays;
     
     @Autowired
-    public AuditServiceImpl(AuditLogRepository auditLogRepository) {
+    public AuditServiceImpl(AuditLogRepository auditLogRepository, AuditLogWriter auditLogWriter,
+                            AuditStatRollups statRollups,
+                            @Value("${app.audit.retention-days:2555}") int retentionDays) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
+        this.statRollups = statRollups;
+        this.retentionDays = retentionDays;
     }
     
     // =========================================================================
@@ -43,27 +75,31 @@ public class AuditServiceImpl implements AuditService {
     // =========================================================================
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logAction(User user, String action, String description) {
         logAction(user, action, description, AuditLevel.INFO);
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logAction(User user, String action, String description, AuditLevel level) {
         try {
             AuditLog log = new AuditLog(user, action, description, level);
             enrichLogWithRequestData(log);
-            auditLogRepository.save(log);
+            auditLogWriter.append(log);
         } catch (Exception e) {
             LOGGER.severe("Failed to save COPPA audit log: " + e.getMessage());
         }
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logDataAccess(User user, String resourceType, Long resourceId, String action) {
         logDataAccess(user, null, resourceType, resourceId, action);
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logDataAccess(User user, User subjectUser, String resourceType, Long resourceId, String action) {
         try {
             AuditLevel level = (subjectUser != null && subjectUser.requiresCOPPACompliance()) 
@@ -81,7 +117,7 @@ public class AuditServiceImpl implements AuditService {
             }
             
             enrichLogWithRequestData(log);
-            auditLogRepository.save(log);
+            auditLogWriter.append(log);
         } catch (Exception e) {
             LOGGER.severe("Failed to save data access audit log: " + e.getMessage());
         }
@@ -92,16 +128,19 @@ public class AuditServiceImpl implements AuditService {
     // =========================================================================
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logSecurityEvent(User user, String action, String description) {
         logAction(user, action, description, AuditLevel.WARNING);
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logSecurityAlert(User user, String action, String description) {
         logAction(user, action, description, AuditLevel.SECURITY_ALERT);
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logLoginAttempt(String username, String ipAddress, boolean successful) {
         try {
             String action = successful ? "LOGIN_SUCCESS" : "LOGIN_FAILED";
@@ -114,13 +153,14 @@ public class AuditServiceImpl implements AuditService {
             log.setIpAddress(ipAddress);
             enrichLogWithRequestData(log);
             
-            auditLogRepository.save(log);
+            auditLogWriter.append(log);
         } catch (Exception e) {
             LOGGER.severe("Failed to save login audit log: " + e.getMessage());
         }
     }
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logLogout(User user) {
         logAction(user, "LOGOUT", "User logged out successfully");
     }
@@ -162,22 +202,122 @@ public class AuditServiceImpl implements AuditService {
     // STATISTICS
     // =========================================================================
     
+    /**
+     * COPPA events still held in the audit log. Months past the retention
+     * period are rolled off together with their rollups (see
+     * {@link AuditRetentionJob}), so only the hours since the first day of
+     * the month the retention period starts in are summed.
+     */
     @Override
     public long getCOPPALogCount() {
-        return auditLogRepository.countCOPPARelevantLogs();
+        LocalDateTime retainedSince = LocalDate.now().minusDays(retentionDays).withDayOfMonth(1).atStartOfDay();
+        return statRollups.total(retainedSince, Dimension.COPPA);
     }
     
     @Override
     public long getSecurityEventCount(int days) {
-        LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return auditLogRepository.countByLevelSince(AuditLevel.SECURITY_ALERT, since) +
-               auditLogRepository.countByLevelSince(AuditLevel.VIOLATION, since);
+        Map<String, Long> byLevel = totalsByKey(LocalDateTime.now().minusDays(days), Dimension.LEVEL);
+        return byLevel.getOrDefault(AuditLevel.SECURITY_ALERT.name(), 0L) +
+               byLevel.getOrDefault(AuditLevel.VIOLATION.name(), 0L);
+    }
+    
+    @Override
+    public List<Map<String, Object>> getDailyStatistics(int days) {
+        LocalDateTime since = LocalDate.now().minusDays(days).atStartOfDay();
+        Map<LocalDate, long[]> perDay = new TreeMap<>(Comparator.reverseOrder());
+        for (Bucket bucket : statRollups.bucketsSince(since, Set.of(Dimension.TOTAL, Dimension.COPPA, Dimension.LEVEL))) {
+            long[] counts = perDay.computeIfAbsent(bucket.hour().toLocalDate(), day -> new long[3]);
+            switch (bucket.dimension()) {
+                case TOTAL -> counts[0] += bucket.count();
+                case COPPA -> counts[1] += bucket.count();
+                default -> {
+                    if (isSecurityLevel(bucket.key())) {
+                        counts[2] += bucket.count();
+                    }
+                }
+            }
+        }
+        
+        List<Map<String, Object>> statistics = new ArrayList<>();
+        perDay.forEach((day, counts) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("logDate", day);
+            row.put("totalEvents", counts[0]);
+            row.put("coppaEvents", counts[1]);
+            row.put("securityEvents", counts[2]);
+            statistics.add(row);
+        });
+        return statistics;
+    }
+    
+    @Override
+    public Map<LocalDateTime, Long> getHourlyEventCounts(int hours) {
+        Map<LocalDateTime, Long> perHour = new TreeMap<>();
+        for (Bucket bucket : statRollups.bucketsSince(LocalDateTime.now().minusHours(hours), Set.of(Dimension.TOTAL))) {
+            perHour.merge(bucket.hour(), bucket.count(), Long::sum);
+        }
+        return perHour;
+    }
+    
+    @Override
+    public Map<AuditLevel, Long> getEventCountsByLevel(int days) {
+        Map<AuditLevel, Long> byLevel = new EnumMap<>(AuditLevel.class);
+        totalsByKey(LocalDateTime.now().minusDays(days), Dimension.LEVEL)
+            .forEach((level, count) -> byLevel.put(AuditLevel.valueOf(level), count));
+        return byLevel;
+    }
+    
+    @Override
+    public Map<String, Long> getEventCountsByAction(int days) {
+        return totalsByKey(LocalDateTime.now().minusDays(days), Dimension.ACTION);
+    }
+    
+    @Override
+    public List<Map<String, Object>> getMostAccessedResources(int days, int limit) {
+        List<Map<String, Object>> resources = new ArrayList<>();
+        totalsByKey(LocalDateTime.now().minusDays(days), Dimension.RESOURCE).entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(limit)
+            .forEach(entry -> {
+                Object[] resource = AuditStatRollups.parseResourceKey(entry.getKey());
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("resourceType", resource[0]);
+                row.put("resourceId", resource[1]);
+                row.put("accessCount", entry.getValue());
+                resources.add(row);
+            });
+        return resources;
+    }
+    
+    @Override
+    public Map<String, Long> getSuspiciousLoginActivity(int hours, long threshold) {
+        Map<String, Long> suspicious = new LinkedHashMap<>();
+        totalsByKey(LocalDateTime.now().minusHours(hours), Dimension.FAILED_LOGIN_IP).entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .forEach(entry -> suspicious.put(entry.getKey(), entry.getValue()));
+        return suspicious;
     }
     
     // =========================================================================
     // PRIVATE HELPER METHODS
     // =========================================================================
     
+    /**
+     * Sums the hourly rollups of one dimension per key.
+     */
+    private Map<String, Long> totalsByKey(LocalDateTime since, Dimension dimension) {
+        Map<String, Long> totals = new HashMap<>();
+        for (Bucket bucket : statRollups.bucketsSince(since, Set.of(dimension))) {
+            totals.merge(bucket.key(), bucket.count(), Long::sum);
+        }
+        return totals;
+    }
+    
+    private boolean isSecurityLevel(String level) {
+        return AuditLevel.SECURITY_ALERT.name().equals(level) || AuditLevel.VIOLATION.name().equals(level);
+    }
+    
     /**
      * Enriches audit log with HTTP request data when available.
      */
@@ -257,6 +397,7 @@ public class AuditServiceImpl implements AuditService {
     // =========================================================================
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logCOPPAAccess(User user, User subjectUser, String action, String description) {
         try {
             AuditLog log = new AuditLog(user, action, description, AuditLevel.COPPA_COMPLIANCE);
@@ -264,7 +405,7 @@ public class AuditServiceImpl implements AuditService {
             log.setCoppaRelevant(true);
             
             enrichLogWithRequestData(log);
-            auditLogRepository.save(log);
+            auditLogWriter.append(log);
         } catch (Exception e) {
             LOGGER.severe("Failed to save COPPA audit log: " + e.getMessage());
         }
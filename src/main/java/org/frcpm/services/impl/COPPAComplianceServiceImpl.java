@@ -34,6 +34,9 @@ import java.util.logging.Logger;
 public class COPPAComplianceServiceImpl implements COPPAComplianceService {
     
     private static final Logger LOGGER = Logger.getLogger(COPPAComplianceServiceImpl.class.getName());
+
+    private static final int COPPA_RETENTION_DAYS = 2555;     // Approximately 7 years
+    private static final int STANDARD_RETENTION_DAYS = 1825;  // Approximately 5 years
     
     private final UserService userService;
     private final AuditService auditService;
@@ -391,16 +394,28 @@ public class COPPAComplianceServiceImpl implements COPPAComplianceService {
      * @param user the user
      * @return retention period in days
      */
+    @Override
     public int getDataRetentionPeriodDays(User user) {
         if (requiresParentalConsent(user)) {
             // COPPA requires data to be retained for 7 years or until user turns 18 + 3 years
-            return 2555; // Approximately 7 years
+            return COPPA_RETENTION_DAYS;
         } else {
             // Standard retention period for non-COPPA users
-            return 1825; // Approximately 5 years
+            return STANDARD_RETENTION_DAYS;
         }
     }
     
+    /**
+     * Gets the longest retention period any user's data can require, for
+     * records such as audit partitions that mix data of many users.
+     * 
+     * @return retention period in days
+     */
+    @Override
+    public int getMaximumDataRetentionPeriodDays() {
+        return Math.max(COPPA_RETENTION_DAYS, STANDARD_RETENTION_DAYS);
+    }
+    
     /**
      * Determines if a user's data should be anonymized rather than deleted.
      * 
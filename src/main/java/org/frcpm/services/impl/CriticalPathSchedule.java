@@ -0,0 +1,467 @@
+// src/main/java/org/frcpm/services/impl/CriticalPathSchedule.java
+
+package org.frcpm.services.impl;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable, incrementally maintained CPM schedule for one project.
+ *
+ * Each task keeps its earliest start ("head") and the longest chain from its
+ * start to the end of the project including its own duration ("tail").
+ * Tails do not depend on the project finish, so a change only has to be
+ * re-propagated through the downstream cone (heads) and the upstream cone
+ * (tails) of the edited task or edge. Late times and float are derived:
+ *
+ *   LS = finish - tail, LF = LS + duration, float = LS - ES
+ *
+ * Every applied change bumps the version stamp. All public methods are
+ * synchronized; reads are O(1).
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class CriticalPathSchedule {
+
+    private final Map<Long, Integer> indexByTaskId;
+    private final Long[] taskIds;
+    private final double[] duration;
+    private final double[] head;
+    private final double[] tail;
+
+    // Edge slots; removed slots are recycled through freeEdges
+    private final Map<Long, Integer> edgeByDependencyId = new HashMap<>();
+    private int[] edgeSource;
+    private int[] edgeTarget;
+    private double[] edgeLag;
+    private int edgeSlots;
+    private final Deque<Integer> freeEdges = new ArrayDeque<>();
+
+    // Per-task edge slot lists
+    private final int[][] outEdges;
+    private final int[] outCount;
+    private final int[][] inEdges;
+    private final int[] inCount;
+
+    private final int[] topologicalPosition;
+    private double projectFinish;
+    private final AtomicLong versionSequence;
+    private long version;
+
+    // Epoch-stamped queue markers avoid clearing a boolean[] per propagation
+    private final int[] queuedEpoch;
+    private int epoch;
+
+    private CriticalPathSchedule(ProjectDependencyGraph graph, AtomicLong versionSequence) {
+        int n = graph.size();
+        int m = graph.edgeCount();
+
+        this.indexByTaskId = new HashMap<>(n * 2);
+        this.taskIds = new Long[n];
+        this.duration = new double[n];
+        this.head = new double[n];
+        this.tail = new double[n];
+        this.outEdges = new int[n][];
+        this.outCount = new int[n];
+        this.inEdges = new int[n][];
+        this.inCount = new int[n];
+        this.topologicalPosition = new int[n];
+        this.queuedEpoch = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            taskIds[i] = graph.taskAt(i).getId();
+            indexByTaskId.put(taskIds[i], i);
+            duration[i] = graph.durationHours(i);
+            outEdges[i] = new int[Math.max(2, graph.outDegree(i))];
+            inEdges[i] = new int[Math.max(2, graph.inDegree(i))];
+        }
+
+        int capacity = Math.max(8, m);
+        this.edgeSource = new int[capacity];
+        this.edgeTarget = new int[capacity];
+        this.edgeLag = new double[capacity];
+        for (int e = 0; e < m; e++) {
+            linkEdge(graph.edgeAt(e).getId(), graph.edgeSource(e), graph.edgeTarget(e), graph.edgeLagHours(e));
+        }
+
+        int[] order = graph.topologicalOrder();
+        for (int position = 0; position < order.length; position++) {
+            topologicalPosition[order[position]] = position;
+        }
+
+        // Full forward and backward passes once; everything after is incremental
+        for (int position = 0; position < order.length; position++) {
+            head[order[position]] = computeHead(order[position]);
+        }
+        for (int position = order.length - 1; position >= 0; position--) {
+            tail[order[position]] = computeTail(order[position]);
+        }
+        recomputeProjectFinish();
+        this.versionSequence = versionSequence;
+        this.version = versionSequence.incrementAndGet();
+    }
+
+    /**
+     * Builds a schedule from a compiled graph.
+     *
+     * @param graph the project dependency graph
+     * @param versionSequence source of monotonically increasing version stamps
+     * @return the schedule, or null when the graph contains cycles
+     */
+    static CriticalPathSchedule fromGraph(ProjectDependencyGraph graph, AtomicLong versionSequence) {
+        if (!graph.isAcyclic()) {
+            return null;
+        }
+        return new CriticalPathSchedule(graph, versionSequence);
+    }
+
+    // =========================================================================
+    // READS
+    // =========================================================================
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized double getProjectFinish() {
+        return projectFinish;
+    }
+
+    public synchronized boolean contains(Long taskId) {
+        return indexByTaskId.containsKey(taskId);
+    }
+
+    /**
+     * @param taskId the task ID
+     * @return total float in hours, or null if the task is not scheduled
+     */
+    public synchronized Double getTotalFloat(Long taskId) {
+        Integer index = indexByTaskId.get(taskId);
+        return index != null ? totalFloat(index) : null;
+    }
+
+    public synchronized Double getEarliestStart(Long taskId) {
+        Integer index = indexByTaskId.get(taskId);
+        return index != null ? head[index] : null;
+    }
+
+    public synchronized Double getLatestStart(Long taskId) {
+        Integer index = indexByTaskId.get(taskId);
+        return index != null ? projectFinish - tail[index] : null;
+    }
+
+    public synchronized boolean isCritical(Long taskId) {
+        Integer index = indexByTaskId.get(taskId);
+        return index != null && Math.abs(totalFloat(index)) < ProjectDependencyGraph.CRITICAL_FLOAT_TOLERANCE;
+    }
+
+    private double totalFloat(int index) {
+        return projectFinish - tail[index] - head[index];
+    }
+
+    /**
+     * Whether this schedule describes exactly the given graph: same tasks,
+     * same dependency edges, durations and lags.
+     *
+     * @param graph freshly loaded project graph
+     * @return true if the cached schedule can be served for it
+     */
+    public synchronized boolean matches(ProjectDependencyGraph graph) {
+        if (graph.size() != taskIds.length || graph.edgeCount() != edgeByDependencyId.size()) {
+            return false;
+        }
+        for (int i = 0; i < graph.size(); i++) {
+            Integer index = indexByTaskId.get(graph.taskAt(i).getId());
+            if (index == null || duration[index] != graph.durationHours(i)) {
+                return false;
+            }
+        }
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            Integer slot = edgeByDependencyId.get(graph.edgeAt(e).getId());
+            if (slot == null
+                    || !taskIds[edgeSource[slot]].equals(graph.taskAt(graph.edgeSource(e)).getId())
+                    || !taskIds[edgeTarget[slot]].equals(graph.taskAt(graph.edgeTarget(e)).getId())
+                    || edgeLag[slot] != graph.edgeLagHours(e)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // =========================================================================
+    // INCREMENTAL UPDATES
+    // =========================================================================
+
+    /**
+     * Applies a new duration to one task.
+     *
+     * @param taskId the task ID
+     * @param hours new duration in hours
+     * @return false if the task is unknown and the schedule must be rebuilt
+     */
+    public synchronized boolean updateDuration(Long taskId, double hours) {
+        Integer index = indexByTaskId.get(taskId);
+        if (index == null) {
+            return false;
+        }
+        if (duration[index] == hours) {
+            return true;
+        }
+        duration[index] = hours;
+
+        // Earliest finish moved: successors' heads, then this task's tail and its upstream
+        int[] successors = new int[outCount[index]];
+        for (int k = 0; k < outCount[index]; k++) {
+            successors[k] = edgeTarget[outEdges[index][k]];
+        }
+        propagateHeads(successors);
+        propagateTails(index);
+        recomputeProjectFinish();
+        version = versionSequence.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Adds a dependency edge or updates an existing one. When an existing
+     * edge is moved to other tasks, its old dependent and prerequisite are
+     * re-propagated as well, having lost the edge.
+     *
+     * @param dependencyId the dependency ID
+     * @param prerequisiteTaskId the predecessor task ID
+     * @param dependentTaskId the successor task ID
+     * @param lagHours lag in hours
+     * @return false if the change cannot be applied incrementally
+     */
+    public synchronized boolean upsertDependency(Long dependencyId, Long prerequisiteTaskId,
+                                                 Long dependentTaskId, double lagHours) {
+        Integer from = indexByTaskId.get(prerequisiteTaskId);
+        Integer to = indexByTaskId.get(dependentTaskId);
+        if (dependencyId == null || from == null || to == null || from.equals(to)) {
+            return false;
+        }
+
+        Integer slot = edgeByDependencyId.get(dependencyId);
+        int oldFrom = from;
+        int oldTo = to;
+        if (slot != null && edgeSource[slot] == from && edgeTarget[slot] == to) {
+            if (edgeLag[slot] == lagHours) {
+                return true;
+            }
+            edgeLag[slot] = lagHours;
+        } else {
+            if (slot != null) {
+                oldFrom = edgeSource[slot];
+                oldTo = edgeTarget[slot];
+                unlinkEdge(dependencyId);
+            }
+            linkEdge(dependencyId, from, to, lagHours);
+            if (topologicalPosition[from] >= topologicalPosition[to] && !reorder()) {
+                return false; // The new edge closes a cycle
+            }
+        }
+
+        propagateHeads(to, oldTo);
+        propagateTails(from, oldFrom);
+        recomputeProjectFinish();
+        version = versionSequence.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes a dependency edge. Unknown IDs are ignored.
+     *
+     * @param dependencyId the dependency ID
+     */
+    public synchronized void removeDependency(Long dependencyId) {
+        Integer slot = edgeByDependencyId.get(dependencyId);
+        if (slot == null) {
+            return;
+        }
+        int from = edgeSource[slot];
+        int to = edgeTarget[slot];
+        unlinkEdge(dependencyId);
+
+        // Removing an edge never invalidates the topological order
+        propagateHeads(to);
+        propagateTails(from);
+        recomputeProjectFinish();
+        version = versionSequence.incrementAndGet();
+    }
+
+    // =========================================================================
+    // INTERNALS
+    // =========================================================================
+
+    private void linkEdge(Long dependencyId, int from, int to, double lag) {
+        int slot;
+        if (!freeEdges.isEmpty()) {
+            slot = freeEdges.pop();
+        } else {
+            if (edgeSlots == edgeSource.length) {
+                int capacity = edgeSource.length * 2;
+                edgeSource = Arrays.copyOf(edgeSource, capacity);
+                edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+                edgeLag = Arrays.copyOf(edgeLag, capacity);
+            }
+            slot = edgeSlots++;
+        }
+        edgeSource[slot] = from;
+        edgeTarget[slot] = to;
+        edgeLag[slot] = lag;
+        edgeByDependencyId.put(dependencyId, slot);
+
+        if (outCount[from] == outEdges[from].length) {
+            outEdges[from] = Arrays.copyOf(outEdges[from], outCount[from] * 2);
+        }
+        outEdges[from][outCount[from]++] = slot;
+        if (inCount[to] == inEdges[to].length) {
+            inEdges[to] = Arrays.copyOf(inEdges[to], inCount[to] * 2);
+        }
+        inEdges[to][inCount[to]++] = slot;
+    }
+
+    private void unlinkEdge(Long dependencyId) {
+        int slot = edgeByDependencyId.remove(dependencyId);
+        removeSlot(outEdges[edgeSource[slot]], outCount, edgeSource[slot], slot);
+        removeSlot(inEdges[edgeTarget[slot]], inCount, edgeTarget[slot], slot);
+        freeEdges.push(slot);
+    }
+
+    private static void removeSlot(int[] list, int[] counts, int owner, int slot) {
+        for (int k = 0; k < counts[owner]; k++) {
+            if (list[k] == slot) {
+                list[k] = list[--counts[owner]];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Recomputes the topological positions after an edge that points
+     * backwards in the current order was added.
+     *
+     * @return false if the graph is no longer acyclic
+     */
+    private boolean reorder() {
+        int n = taskIds.length;
+        int[] inDegree = Arrays.copyOf(inCount, n);
+        int[] queue = new int[n];
+        int headIndex = 0;
+        int tailIndex = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                queue[tailIndex++] = i;
+            }
+        }
+        while (headIndex < tailIndex) {
+            int current = queue[headIndex++];
+            for (int k = 0; k < outCount[current]; k++) {
+                int next = edgeTarget[outEdges[current][k]];
+                if (--inDegree[next] == 0) {
+                    queue[tailIndex++] = next;
+                }
+            }
+        }
+        if (tailIndex != n) {
+            return false;
+        }
+        for (int position = 0; position < n; position++) {
+            topologicalPosition[queue[position]] = position;
+        }
+        return true;
+    }
+
+    private double computeHead(int index) {
+        double start = 0;
+        for (int k = 0; k < inCount[index]; k++) {
+            int slot = inEdges[index][k];
+            int source = edgeSource[slot];
+            start = Math.max(start, head[source] + duration[source] + edgeLag[slot]);
+        }
+        return start;
+    }
+
+    private double computeTail(int index) {
+        if (outCount[index] == 0) {
+            return duration[index];
+        }
+        double longest = -Double.MAX_VALUE;
+        for (int k = 0; k < outCount[index]; k++) {
+            int slot = outEdges[index][k];
+            longest = Math.max(longest, tail[edgeTarget[slot]] + edgeLag[slot]);
+        }
+        return duration[index] + longest;
+    }
+
+    /**
+     * Re-evaluates heads in topological order starting from the seeds,
+     * continuing only past tasks whose value actually changed.
+     */
+    private void propagateHeads(int... seeds) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.comparingInt(i -> topologicalPosition[i]));
+        int stamp = ++epoch;
+        for (int seed : seeds) {
+            if (queuedEpoch[seed] != stamp) {
+                queuedEpoch[seed] = stamp;
+                queue.add(seed);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            queuedEpoch[current] = 0;
+            double updated = computeHead(current);
+            if (updated == head[current]) {
+                continue;
+            }
+            head[current] = updated;
+            for (int k = 0; k < outCount[current]; k++) {
+                int next = edgeTarget[outEdges[current][k]];
+                if (queuedEpoch[next] != stamp) {
+                    queuedEpoch[next] = stamp;
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-evaluates tails in reverse topological order starting from the seeds.
+     */
+    private void propagateTails(int... seeds) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(
+            Comparator.comparingInt((Integer i) -> topologicalPosition[i]).reversed());
+        int stamp = ++epoch;
+        for (int seed : seeds) {
+            if (queuedEpoch[seed] != stamp) {
+                queuedEpoch[seed] = stamp;
+                queue.add(seed);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            queuedEpoch[current] = 0;
+            double updated = computeTail(current);
+            if (updated == tail[current]) {
+                continue;
+            }
+            tail[current] = updated;
+            for (int k = 0; k < inCount[current]; k++) {
+                int previous = edgeSource[inEdges[current][k]];
+                if (queuedEpoch[previous] != stamp) {
+                    queuedEpoch[previous] = stamp;
+                    queue.add(previous);
+                }
+            }
+        }
+    }
+
+    private void recomputeProjectFinish() {
+        double finish = 0;
+        for (int i = 0; i < taskIds.length; i++) {
+            finish = Math.max(finish, head[i] + duration[i]);
+        }
+        projectFinish = finish;
+    }
+}
@@ -0,0 +1,116 @@
+// src/main/java/org/frcpm/services/impl/CriticalPathScheduleCache.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.DependencyChangedEvent;
+import org.frcpm.events.TaskChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-project cache of incrementally maintained CPM schedules.
+ *
+ * Task and dependency writes are applied to the cached schedule after their
+ * transaction commits, re-propagating only the affected cones. Changes that
+ * cannot be applied incrementally (new or deleted tasks, cycles) drop the
+ * entry so the next critical path request rebuilds it.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Component
+public class CriticalPathScheduleCache {
+
+    private static final Logger LOGGER = Logger.getLogger(CriticalPathScheduleCache.class.getName());
+
+    private final ConcurrentMap<Long, CriticalPathSchedule> schedules = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * @param projectId the project ID
+     * @return the cached schedule, or null if none is cached
+     */
+    public CriticalPathSchedule get(Long projectId) {
+        return projectId != null ? schedules.get(projectId) : null;
+    }
+
+    /**
+     * Returns the cached schedule if it still describes the freshly loaded
+     * graph, otherwise rebuilds and caches it.
+     *
+     * @param projectId the project ID
+     * @param graph the project's current dependency graph
+     * @return the schedule, or null if the graph has cycles and cannot be scheduled
+     */
+    public CriticalPathSchedule resolve(Long projectId, ProjectDependencyGraph graph) {
+        CriticalPathSchedule cached = schedules.get(projectId);
+        if (cached != null && cached.matches(graph)) {
+            return cached;
+        }
+
+        CriticalPathSchedule rebuilt = CriticalPathSchedule.fromGraph(graph, versionSequence);
+        if (rebuilt == null) {
+            schedules.remove(projectId);
+            return null;
+        }
+        schedules.put(projectId, rebuilt);
+        LOGGER.log(Level.FINE, "Rebuilt critical path schedule for project {0} (version {1})",
+                  new Object[]{projectId, rebuilt.getVersion()});
+        return rebuilt;
+    }
+
+    public void invalidate(Long projectId) {
+        if (projectId != null) {
+            schedules.remove(projectId);
+        }
+    }
+
+    // =========================================================================
+    // CHANGE LISTENERS
+    // =========================================================================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        CriticalPathSchedule schedule = get(event.getProjectId());
+        if (schedule == null) {
+            return;
+        }
+
+        if (event.getChangeType() != TaskChangedEvent.ChangeType.UPDATED) {
+            invalidate(event.getProjectId());
+            return;
+        }
+
+        double hours = Duration.ofSeconds(event.getEstimatedDurationSeconds()).toHours();
+        if (!schedule.updateDuration(event.getTaskId(), hours)) {
+            invalidate(event.getProjectId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDependencyChanged(DependencyChangedEvent event) {
+        CriticalPathSchedule schedule = get(event.getProjectId());
+        if (schedule == null) {
+            return;
+        }
+
+        if (event.getChangeType() == DependencyChangedEvent.ChangeType.DELETED || !event.isActive()) {
+            schedule.removeDependency(event.getDependencyId());
+            return;
+        }
+
+        double lagHours = event.getLagHours() != null ? event.getLagHours() : 0;
+        if (!schedule.upsertDependency(event.getDependencyId(), event.getPrerequisiteTaskId(),
+                                       event.getDependentTaskId(), lagHours)) {
+            invalidate(event.getProjectId());
+        }
+    }
+}
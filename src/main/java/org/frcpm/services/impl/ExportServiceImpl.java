@@ -0,0 +1,176 @@
+// src/main/java/org/frcpm/services/impl/ExportServiceImpl.java
+// Phase 3B: Streaming Data Export Service Implementation
+
+package org.frcpm.services.impl;
+
+import org.frcpm.repositories.spring.AttendanceExportRow;
+import org.frcpm.repositories.spring.AttendanceRepository;
+import org.frcpm.repositories.spring.PartTransactionExportRow;
+import org.frcpm.repositories.spring.PartTransactionRepository;
+import org.frcpm.repositories.spring.TaskExportRow;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.repositories.spring.TeamMemberExportRow;
+import org.frcpm.repositories.spring.TeamMemberRepository;
+import org.frcpm.services.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ExportService.
+ *
+ * Each export reads one projection query as a stream, with a JDBC fetch size
+ * so the driver pulls rows from a cursor in batches, and hands each row to a
+ * {@link TableWriter} as it arrives. Only the rows of the current fetch are
+ * in memory at any time, so end-of-season exports of every task,
+ * transaction and attendance record cost the same heap as small ones.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger LOGGER = Logger.getLogger(ExportServiceImpl.class.getName());
+
+    private static final List<String> TASK_COLUMNS = List.of(
+        "ID", "Title", "Subsystem", "Priority", "Progress", "Completed", "Start Date", "End Date", "Estimated Hours");
+    private static final List<String> TASK_DETAIL_COLUMNS = List.of("Actual Hours", "Assignees");
+    private static final List<String> TRANSACTION_COLUMNS = List.of(
+        "ID", "Date", "Type", "Part Number", "Part Name", "Quantity", "Unit Cost", "Total Cost", "Balance After",
+        "Vendor", "Reference", "Reason", "Performed By", "Approved");
+    private static final List<String> ATTENDANCE_COLUMNS = List.of(
+        "Meeting Date", "Meeting", "Member ID", "Member", "Present", "Arrival", "Departure");
+    private static final List<String> MEMBER_COLUMNS = List.of(
+        "ID", "Username", "First Name", "Last Name", "Email", "Phone", "Skills", "Subteam", "Is Leader", "Task Count");
+
+    private final TaskRepository taskRepository;
+    private final PartTransactionRepository partTransactionRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    public ExportServiceImpl(TaskRepository taskRepository,
+                             PartTransactionRepository partTransactionRepository,
+                             AttendanceRepository attendanceRepository,
+                             TeamMemberRepository teamMemberRepository) {
+        this.taskRepository = taskRepository;
+        this.partTransactionRepository = partTransactionRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.teamMemberRepository = teamMemberRepository;
+    }
+
+    @Override
+    public void exportProjectTasks(Long projectId, boolean includeDetails, Format format, OutputStream out)
+            throws IOException {
+        List<String> columns = new ArrayList<>(TASK_COLUMNS);
+        if (includeDetails) {
+            columns.addAll(TASK_DETAIL_COLUMNS);
+        }
+        export(format, out, "Project Tasks", columns, taskRepository.streamExportRowsByProjectId(projectId),
+               row -> taskValues(row, includeDetails));
+    }
+
+    @Override
+    public void exportPartTransactions(Long projectId, Format format, OutputStream out) throws IOException {
+        Stream<PartTransactionExportRow> rows = projectId != null
+            ? partTransactionRepository.streamExportRowsByProjectId(projectId)
+            : partTransactionRepository.streamExportRows();
+        export(format, out, "Inventory Transactions", TRANSACTION_COLUMNS, rows, row -> new Object[] {
+            row.id(), row.transactionDate(), row.transactionType(), row.partNumber(), row.partName(),
+            row.quantity(), row.unitCost(), row.totalCost(), row.balanceAfter(), row.vendor(),
+            row.referenceNumber(), row.reason(), fullName(row.performedByFirstName(), row.performedByLastName()),
+            row.approved()
+        });
+    }
+
+    @Override
+    public void exportAttendance(Long projectId, Format format, OutputStream out) throws IOException {
+        export(format, out, "Meeting Attendance", ATTENDANCE_COLUMNS,
+               attendanceRepository.streamExportRowsByProjectId(projectId), row -> new Object[] {
+            row.meetingDate(), row.meetingTitle(), row.memberId(),
+            fullName(row.memberFirstName(), row.memberLastName()), row.present(), row.arrivalTime(),
+            row.departureTime()
+        });
+    }
+
+    @Override
+    public void exportTeamMembers(Long subteamId, String role, Format format, OutputStream out) throws IOException {
+        Boolean leader = null;
+        boolean unassignedOnly = false;
+        if (role != null) {
+            switch (role.toLowerCase()) {
+                case "leader", "mentor" -> leader = true;
+                case "student" -> leader = false;
+                case "unassigned" -> unassignedOnly = true;
+                default -> { }
+            }
+        }
+        Stream<TeamMemberExportRow> rows = teamMemberRepository.streamExportRows(subteamId, leader, unassignedOnly);
+        export(format, out, "Team Members", MEMBER_COLUMNS, rows, row -> new Object[] {
+            row.id(), row.username(), row.firstName(), row.lastName(), row.email(), row.phone(), row.skills(),
+            row.subteamName(), row.leader(), row.taskCount()
+        });
+    }
+
+    private <T> void export(Format format, OutputStream out, String title, List<String> columns,
+                            Stream<T> rows, Function<T, Object[]> values) throws IOException {
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try (rows) {
+            TableWriter writer = open(format, out, title);
+            writer.header(columns);
+            for (Iterator<T> iterator = rows.iterator(); iterator.hasNext(); count++) {
+                writer.row(values.apply(iterator.next()));
+            }
+            writer.finish();
+        }
+        LOGGER.info(String.format("Exported %d rows of %s as %s in %d ms",
+                                  count, title, format, System.currentTimeMillis() - start));
+    }
+
+    private TableWriter open(Format format, OutputStream out, String title) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvTableWriter(out);
+            case XLSX -> new XlsxTableWriter(out, title);
+            case PDF -> new PdfTableWriter(out, title);
+        };
+    }
+
+    private Object[] taskValues(TaskExportRow row, boolean includeDetails) {
+        Object[] values = new Object[] {
+            row.id(), row.title(), row.subsystemName(), row.priority(), row.progress(), row.completed(),
+            row.startDate(), row.endDate(), hours(row.estimatedDurationSeconds())
+        };
+        if (!includeDetails) {
+            return values;
+        }
+        Object[] detailed = new Object[values.length + TASK_DETAIL_COLUMNS.size()];
+        System.arraycopy(values, 0, detailed, 0, values.length);
+        detailed[values.length] = row.actualDurationSeconds() != null ? hours(row.actualDurationSeconds()) : null;
+        detailed[values.length + 1] = row.assigneeCount();
+        return detailed;
+    }
+
+    private static double hours(long seconds) {
+        return Math.round(seconds / 36.0) / 100.0;
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+    }
+}
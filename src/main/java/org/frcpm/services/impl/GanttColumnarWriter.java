@@ -0,0 +1,254 @@
+// src/main/java/org/frcpm/services/impl/GanttColumnarWriter.java
+
+package org.frcpm.services.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.frcpm.models.Milestone;
+import org.frcpm.models.Task;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams one Gantt viewport in the columnar format.
+ *
+ * Instead of one object per task, every attribute is a parallel array
+ * indexed by row, and repeated strings (subsystems, assignees, dependency
+ * types, milestone names) are replaced by indexes into a single string
+ * dictionary written last. Dates are epoch days and durations whole days.
+ * Tokens are written directly from the schedule snapshot through a Jackson
+ * generator, so no per-task map or chart object is built.
+ *
+ * <pre>
+ * { "format": "gantt-columnar/1", "projectId", "scheduleVersion",
+ *   "windowStart", "windowEnd", "offset", "limit", "totalRows",
+ *   "rows":       { "id", "title", "start", "duration", "progress",
+ *                   "subsystem", "assignee", "flags" },
+ *   "links":      { "from", "to", "type", "lagHours" },
+ *   "milestones": { "id", "name", "day" },
+ *   "strings":    [ ... ] }
+ * </pre>
+ *
+ * Link endpoints are row indexes. Missing strings are -1, missing dates
+ * null. Flag bits: 1 = completed, 2 = on the critical path.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+final class GanttColumnarWriter {
+
+    static final String FORMAT = "gantt-columnar/1";
+
+    static final int FLAG_COMPLETED = 1;
+    static final int FLAG_CRITICAL = 2;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ProjectScheduleSnapshot snapshot;
+    private final int[] rows;
+    private final LocalDate windowStart;
+    private final LocalDate windowEnd;
+    private final int offset;
+    private final int limit;
+    private final int totalRows;
+    private final List<Milestone> milestones;
+
+    // Filled while writing; only the final dictionary needs every entry
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+    /**
+     * @param snapshot the project schedule snapshot
+     * @param rows snapshot task indexes of the rows in view, in display order
+     * @param windowStart first day of the window
+     * @param windowEnd last day of the window
+     * @param offset number of rows skipped
+     * @param limit requested row limit
+     * @param totalRows number of rows overlapping the window
+     * @param milestones milestones inside the window
+     */
+    GanttColumnarWriter(ProjectScheduleSnapshot snapshot, int[] rows, LocalDate windowStart, LocalDate windowEnd,
+                        int offset, int limit, int totalRows, List<Milestone> milestones) {
+        this.snapshot = snapshot;
+        this.rows = rows;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.offset = offset;
+        this.limit = limit;
+        this.totalRows = totalRows;
+        this.milestones = milestones;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        dictionary.clear();
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("format", FORMAT);
+            json.writeNumberField("projectId", snapshot.getProjectId());
+            json.writeNumberField("scheduleVersion", snapshot.getVersion());
+            json.writeStringField("windowStart", windowStart.toString());
+            json.writeStringField("windowEnd", windowEnd.toString());
+            json.writeNumberField("offset", offset);
+            json.writeNumberField("limit", limit);
+            json.writeNumberField("totalRows", totalRows);
+
+            writeRows(json);
+            writeLinks(json);
+            writeMilestones(json);
+
+            json.writeArrayFieldStart("strings");
+            for (String value : dictionary.keySet()) {
+                json.writeString(value);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private void writeRows(JsonGenerator json) throws IOException {
+        List<Task> tasks = snapshot.getTasks();
+        json.writeObjectFieldStart("rows");
+
+        json.writeArrayFieldStart("id");
+        for (int row : rows) {
+            json.writeNumber(tasks.get(row).getId());
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("title");
+        for (int row : rows) {
+            json.writeString(tasks.get(row).getTitle());
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("start");
+        for (int row : rows) {
+            LocalDate start = tasks.get(row).getStartDate();
+            if (start != null) {
+                json.writeNumber(start.toEpochDay());
+            } else {
+                json.writeNull();
+            }
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("duration");
+        for (int row : rows) {
+            Task task = tasks.get(row);
+            if (task.getStartDate() != null && task.getEndDate() != null) {
+                json.writeNumber(ChronoUnit.DAYS.between(task.getStartDate(), task.getEndDate()) + 1);
+            } else {
+                json.writeNull();
+            }
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("progress");
+        for (int row : rows) {
+            json.writeNumber(tasks.get(row).getProgress());
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("subsystem");
+        for (int row : rows) {
+            Task task = tasks.get(row);
+            json.writeNumber(intern(task.getSubsystem() != null ? task.getSubsystem().getName() : null));
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("assignee");
+        for (int row : rows) {
+            Task task = tasks.get(row);
+            json.writeNumber(intern(task.getAssignedTo().isEmpty()
+                ? null : task.getAssignedTo().iterator().next().getFullName()));
+        }
+        json.writeEndArray();
+
+        json.writeArrayFieldStart("flags");
+        for (int row : rows) {
+            int flags = tasks.get(row).isCompleted() ? FLAG_COMPLETED : 0;
+            if (snapshot.isCritical(row)) {
+                flags |= FLAG_CRITICAL;
+            }
+            json.writeNumber(flags);
+        }
+        json.writeEndArray();
+
+        json.writeEndObject();
+    }
+
+    private void writeLinks(JsonGenerator json) throws IOException {
+        Map<Long, Integer> positionByTaskId = new HashMap<>(rows.length * 2);
+        for (int position = 0; position < rows.length; position++) {
+            positionByTaskId.put(snapshot.getTasks().get(rows[position]).getId(), position);
+        }
+
+        // Edge indexes between rows in view, collected once and written column by column
+        int[] edges = new int[snapshot.edgeCount()];
+        int count = 0;
+        for (int e = 0; e < snapshot.edgeCount(); e++) {
+            if (positionByTaskId.containsKey(snapshot.getEdgePrerequisiteId(e))
+                    && positionByTaskId.containsKey(snapshot.getEdgeDependentId(e))) {
+                edges[count++] = e;
+            }
+        }
+
+        json.writeObjectFieldStart("links");
+        json.writeArrayFieldStart("from");
+        for (int k = 0; k < count; k++) {
+            json.writeNumber(positionByTaskId.get(snapshot.getEdgePrerequisiteId(edges[k])));
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("to");
+        for (int k = 0; k < count; k++) {
+            json.writeNumber(positionByTaskId.get(snapshot.getEdgeDependentId(edges[k])));
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("type");
+        for (int k = 0; k < count; k++) {
+            json.writeNumber(intern(snapshot.getEdgeType(edges[k]).getShortCode()));
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("lagHours");
+        for (int k = 0; k < count; k++) {
+            json.writeNumber(snapshot.getEdgeLagHours(edges[k]));
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void writeMilestones(JsonGenerator json) throws IOException {
+        json.writeObjectFieldStart("milestones");
+        json.writeArrayFieldStart("id");
+        for (Milestone milestone : milestones) {
+            json.writeNumber(milestone.getId());
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("name");
+        for (Milestone milestone : milestones) {
+            json.writeNumber(intern(milestone.getName()));
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("day");
+        for (Milestone milestone : milestones) {
+            json.writeNumber(milestone.getDate().toEpochDay());
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return dictionary.computeIfAbsent(value, key -> dictionary.size());
+    }
+}
@@ -5,11 +5,15 @@ import org.frcpm.models.GanttChartData;
 import org.frcpm.models.Milestone;
 import org.frcpm.models.Project;
 import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.frcpm.repositories.spring.GanttWindowRepository;
 import org.frcpm.repositories.spring.MilestoneRepository;
 import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.TaskDependencyRepository;
 import org.frcpm.repositories.spring.TaskRepository;
 import org.frcpm.services.GanttChartTransformationService;
 import org.frcpm.services.GanttDataService;
+import org.frcpm.web.dto.GanttWindowDto;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,12 +24,16 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Spring Boot implementation of the GanttDataService interface.
  * Provides methods for formatting and analyzing task data for Gantt chart visualization.
  * Converted from ServiceLocator pattern to Spring dependency injection.
+ * 
+ * All project reads go through a shared per-project schedule snapshot, so the
+ * several endpoints a Gantt page calls on load share one task and dependency
+ * load and one CPM pass until the project changes.
  */
 @Service("ganttDataServiceImpl")
 @Transactional
@@ -34,10 +42,19 @@ public class GanttDataServiceImpl implements GanttDataService {
     private static final Logger LOGGER = Logger.getLogger(GanttDataServiceImpl.class.getName());
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     
+    /** Default window length: the two weeks a phone screen shows */
+    static final int DEFAULT_WINDOW_DAYS = 14;
+    
+    /** Upper bound on rows per window request */
+    static final int MAX_WINDOW_ROWS = 500;
+    
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final MilestoneRepository milestoneRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final GanttWindowRepository ganttWindowRepository;
     private final GanttChartTransformationService transformationService;
+    private final ProjectScheduleSnapshotCache snapshotCache;
     
     /**
      * Constructor with dependency injection for Spring Boot.
@@ -45,19 +62,48 @@ public class GanttDataServiceImpl implements GanttDataService {
      * @param projectRepository the project repository
      * @param taskRepository the task repository
      * @param milestoneRepository the milestone repository
+     * @param taskDependencyRepository the task dependency repository
+     * @param ganttWindowRepository the windowed Gantt query repository
      * @param transformationService the transformation service
+     * @param snapshotCache the per-project schedule snapshot cache
      */
     public GanttDataServiceImpl(ProjectRepository projectRepository, 
                                TaskRepository taskRepository, 
                                MilestoneRepository milestoneRepository,
-                               GanttChartTransformationService transformationService) {
+                               TaskDependencyRepository taskDependencyRepository,
+                               GanttWindowRepository ganttWindowRepository,
+                               GanttChartTransformationService transformationService,
+                               ProjectScheduleSnapshotCache snapshotCache) {
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.milestoneRepository = milestoneRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.ganttWindowRepository = ganttWindowRepository;
         this.transformationService = transformationService;
+        this.snapshotCache = snapshotCache;
+    }
+    
+    /**
+     * Returns the project's schedule snapshot, loading it on a cache miss.
+     * 
+     * @param projectId the project ID
+     * @return the snapshot, or null if the project does not exist
+     */
+    private ProjectScheduleSnapshot loadSnapshot(Long projectId) {
+        return snapshotCache.resolve(projectId, version -> {
+            Optional<Project> projectOpt = projectRepository.findById(projectId);
+            if (projectOpt.isEmpty()) {
+                return null;
+            }
+            Project project = projectOpt.get();
+            return ProjectScheduleSnapshot.build(
+                version,
+                project,
+                taskRepository.findByProjectForSchedule(project),
+                taskDependencyRepository.findByProjectAndActive(project, true));
+        });
     }
     
-
     
     @Override
     public Map<String, Object> formatTasksForGantt(Long projectId, LocalDate startDate, LocalDate endDate) {
@@ -66,39 +112,34 @@ public class GanttDataServiceImpl implements GanttDataService {
         }
         
         try {
-            // Load project
-            Optional<Project> projectOpt = projectRepository.findById(projectId);
-            if (projectOpt.isEmpty()) {
+            ProjectScheduleSnapshot snapshot = loadSnapshot(projectId);
+            if (snapshot == null) {
                 LOGGER.warning("Project not found with ID: " + projectId);
                 return Collections.emptyMap();
             }
             
-            Project project = projectOpt.get();
+            Project project = snapshot.getProject();
             
             // Use project dates if not specified
             LocalDate chartStartDate = startDate != null ? startDate : project.getStartDate();
             LocalDate chartEndDate = endDate != null ? endDate : project.getHardDeadline();
             
-            // Load tasks for the project
-            List<Task> tasks = taskRepository.findByProject(project);
-            
             // Load milestones for the project
             List<Milestone> milestones = milestoneRepository.findByProject(project);
             
             // Transform tasks to GanttChartData
-            List<GanttChartData> taskChartData = transformationService.transformTasksToChartData(tasks);
+            List<GanttChartData> taskChartData = transformationService.transformTasksToChartData(snapshot.getTasks());
             
             // Transform milestones to GanttChartData
             List<GanttChartData> milestoneChartData = transformationService.transformMilestonesToChartData(milestones);
             
-            // Format dependencies
-            List<Map<String, Object>> dependencies = transformationService.createDependencyData(tasks);
-            
             // Create result map
             Map<String, Object> result = new HashMap<>();
             result.put("tasks", taskChartData);
             result.put("milestones", milestoneChartData);
-            result.put("dependencies", dependencies);
+            result.put("dependencies", createDependencyData(snapshot));
+            result.put("criticalPath", snapshot.getCriticalPath());
+            result.put("scheduleVersion", snapshot.getVersion());
             result.put("startDate", chartStartDate.format(DATE_FORMATTER));
             result.put("endDate", chartEndDate.format(DATE_FORMATTER));
             result.put("projectName", project.getName());
@@ -179,23 +220,18 @@ public class GanttDataServiceImpl implements GanttDataService {
         }
         
         try {
-            // Load project
-            Optional<Project> projectOpt = projectRepository.findById(projectId);
-            if (projectOpt.isEmpty()) {
+            ProjectScheduleSnapshot snapshot = loadSnapshot(projectId);
+            if (snapshot == null) {
                 LOGGER.warning("Project not found with ID: " + projectId);
                 return Collections.emptyList();
             }
             
-            Project project = projectOpt.get();
-            
-            // Load tasks for the project
-            List<Task> tasks = taskRepository.findByProject(project);
+            if (!snapshot.isAcyclic()) {
+                LOGGER.warning("Critical path for project " + projectId + " excludes tasks in circular dependencies");
+            }
             
-            // Simplified critical path calculation - just return the IDs of tasks with critical priority
-            return tasks.stream()
-                .filter(task -> Task.Priority.CRITICAL.equals(task.getPriority()))
-                .map(Task::getId)
-                .collect(Collectors.toList());
+            // Zero-float tasks from the CPM passes, in schedule order
+            return snapshot.getCriticalPath();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error calculating critical path", e);
             return Collections.emptyList();
@@ -235,29 +271,13 @@ public class GanttDataServiceImpl implements GanttDataService {
         }
         
         try {
-            // Load project
-            Optional<Project> projectOpt = projectRepository.findById(projectId);
-            if (projectOpt.isEmpty()) {
+            ProjectScheduleSnapshot snapshot = loadSnapshot(projectId);
+            if (snapshot == null) {
                 LOGGER.warning("Project not found with ID: " + projectId);
                 return Collections.emptyMap();
             }
             
-            Project project = projectOpt.get();
-            
-            // Load tasks for the project
-            List<Task> tasks = taskRepository.findByProject(project);
-            
-            // Create dependency map
-            Map<Long, List<Long>> dependencies = new HashMap<>();
-            
-            for (Task task : tasks) {
-                // Dependencies are now managed through TaskDependencyService
-                // This method should be updated to use TaskDependencyService for proper dependency retrieval
-                // For now, we'll return empty lists to prevent compilation errors
-                dependencies.put(task.getId(), new ArrayList<>());
-            }
-            
-            return dependencies;
+            return snapshot.getDependentsByTaskId();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error getting task dependencies", e);
             return Collections.emptyMap();
@@ -271,53 +291,170 @@ public class GanttDataServiceImpl implements GanttDataService {
         }
         
         try {
-            // Load project
-            Optional<Project> projectOpt = projectRepository.findById(projectId);
-            if (projectOpt.isEmpty()) {
+            ProjectScheduleSnapshot snapshot = loadSnapshot(projectId);
+            if (snapshot == null) {
                 LOGGER.warning("Project not found with ID: " + projectId);
                 return Collections.emptyList();
             }
             
-            Project project = projectOpt.get();
-            
-            // Load tasks for the project
-            List<Task> tasks = taskRepository.findByProject(project);
-            
-            // Simplified bottleneck identification - tasks with the most dependencies
-            Map<Task, Integer> dependencyCounts = new HashMap<>();
-            
-            for (Task task : tasks) {
-                // Dependencies are now managed through TaskDependencyService
-                // This method should be updated to use TaskDependencyService for proper dependency counting
-                // For now, we'll use a simplified approach based on task priority
-                int dependencyCount = 0;
-                if (task.getPriority() == Task.Priority.CRITICAL) {
-                    dependencyCount += 5;
-                } else if (task.getPriority() == Task.Priority.HIGH) {
-                    dependencyCount += 3;
-                } else if (task.getPriority() == Task.Priority.MEDIUM) {
-                    dependencyCount += 1;
-                }
-                
-                dependencyCounts.put(task, dependencyCount);
-            }
-            
-            // Sort tasks by dependency count and take the top 25%
-            int threshold = tasks.size() / 4;
-            if (threshold == 0) {
-                threshold = 1;
-            }
-            
-            return dependencyCounts.entrySet().stream()
-                .sorted(Map.Entry.<Task, Integer>comparingByValue().reversed())
-                .limit(threshold)
-                .map(entry -> entry.getKey().getId())
-                .collect(Collectors.toList());
+            // Open tasks with the highest fan-in plus fan-out, critical and low-float first
+            return snapshot.getBottlenecks();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error identifying bottlenecks", e);
             return Collections.emptyList();
         }
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public GanttWindowDto getGanttWindow(Long projectId, LocalDate windowStart, LocalDate windowEnd,
+                                         int offset, int limit) {
+        validateWindowRequest(projectId, offset, limit);
+        LocalDate start = windowStart != null ? windowStart : LocalDate.now();
+        LocalDate end = resolveWindowEnd(start, windowEnd);
+        
+        Optional<Project> projectOpt = projectRepository.findById(projectId);
+        if (projectOpt.isEmpty()) {
+            LOGGER.warning("Project not found with ID: " + projectId);
+            return null;
+        }
+        Project project = projectOpt.get();
+        
+        long totalRows = ganttWindowRepository.countOverlapping(project, start, end);
+        List<Task> tasks = offset < totalRows
+            ? ganttWindowRepository.findOverlapping(project, start, end, offset, limit)
+            : Collections.emptyList();
+        
+        List<GanttWindowDto.Row> rows = new ArrayList<>(tasks.size());
+        List<Long> taskIds = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            rows.add(toWindowRow(task));
+            taskIds.add(task.getId());
+        }
+        
+        List<GanttWindowDto.Link> links = new ArrayList<>();
+        for (TaskDependency dependency : ganttWindowRepository.findActiveDependenciesAmong(taskIds)) {
+            links.add(new GanttWindowDto.Link(
+                dependency.getPrerequisiteTask().getId(),
+                dependency.getDependentTask().getId(),
+                dependency.getDependencyType().getShortCode(),
+                dependency.getLagHours() != null ? dependency.getLagHours() : 0));
+        }
+        
+        List<GanttWindowDto.MilestoneMarker> milestones = new ArrayList<>();
+        for (Milestone milestone : milestoneRepository.findByProjectAndDateBetweenOrderByDateAsc(project, start, end)) {
+            milestones.add(new GanttWindowDto.MilestoneMarker(
+                milestone.getId(), milestone.getName(), milestone.getDate(), milestone.isPassed()));
+        }
+        
+        return new GanttWindowDto(projectId, project.getName(), start, end, offset, limit, totalRows,
+                                  rows, links, milestones);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ColumnarWindow getGanttWindowColumnar(Long projectId, LocalDate windowStart, LocalDate windowEnd,
+                                                 int offset, int limit) {
+        validateWindowRequest(projectId, offset, limit);
+        LocalDate start = windowStart != null ? windowStart : LocalDate.now();
+        LocalDate end = resolveWindowEnd(start, windowEnd);
+        
+        ProjectScheduleSnapshot snapshot = loadSnapshot(projectId);
+        if (snapshot == null) {
+            LOGGER.warning("Project not found with ID: " + projectId);
+            return null;
+        }
+        
+        // Same rows and order as the interval query, selected from the snapshot in memory
+        int[] overlapping = overlappingRows(snapshot, start, end);
+        int from = Math.min(offset, overlapping.length);
+        int[] rows = Arrays.copyOfRange(overlapping, from, Math.min(overlapping.length, from + limit));
+        
+        List<Milestone> milestones =
+            milestoneRepository.findByProjectAndDateBetweenOrderByDateAsc(snapshot.getProject(), start, end);
+        
+        GanttColumnarWriter writer = new GanttColumnarWriter(
+            snapshot, rows, start, end, offset, limit, overlapping.length, milestones);
+        return writer::writeTo;
+    }
+    
+    private static void validateWindowRequest(Long projectId, int offset, int limit) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit < 1 || limit > MAX_WINDOW_ROWS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_WINDOW_ROWS);
+        }
+    }
+    
+    private static LocalDate resolveWindowEnd(LocalDate start, LocalDate windowEnd) {
+        LocalDate end = windowEnd != null ? windowEnd : start.plusDays(DEFAULT_WINDOW_DAYS - 1);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Window end cannot be before window start");
+        }
+        return end;
+    }
+    
+    /**
+     * Snapshot indexes of tasks overlapping the window, ordered by subsystem
+     * name, start date and ID.
+     */
+    private static int[] overlappingRows(ProjectScheduleSnapshot snapshot, LocalDate start, LocalDate end) {
+        List<Task> tasks = snapshot.getTasks();
+        Comparator<Integer> order = Comparator
+            .comparing((Integer i) -> tasks.get(i).getSubsystem() != null ? tasks.get(i).getSubsystem().getName() : null,
+                       Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(i -> tasks.get(i).getStartDate())
+            .thenComparing(i -> tasks.get(i).getId());
+        
+        return IntStream.range(0, tasks.size())
+            .filter(i -> {
+                Task task = tasks.get(i);
+                return task.getStartDate() != null && task.getEndDate() != null
+                    && !task.getStartDate().isAfter(end) && !task.getEndDate().isBefore(start);
+            })
+            .boxed()
+            .sorted(order)
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+    
+    private GanttWindowDto.Row toWindowRow(Task task) {
+        String assignee = task.getAssignedTo().isEmpty()
+            ? null : task.getAssignedTo().iterator().next().getFullName();
+        return new GanttWindowDto.Row(
+            task.getId(),
+            task.getTitle(),
+            task.getSubsystem() != null ? task.getSubsystem().getName() : null,
+            task.getStartDate(),
+            task.getEndDate(),
+            task.getProgress(),
+            task.isCompleted(),
+            task.getPriority() != null ? task.getPriority().name() : null,
+            assignee);
+    }
+    
+    /**
+     * Formats the snapshot's active dependencies as chart links.
+     * 
+     * @param snapshot the project schedule snapshot
+     * @return one map per dependency with source, target, type and lag
+     */
+    private List<Map<String, Object>> createDependencyData(ProjectScheduleSnapshot snapshot) {
+        List<Map<String, Object>> dependencies = new ArrayList<>(snapshot.edgeCount());
+        for (int e = 0; e < snapshot.edgeCount(); e++) {
+            Map<String, Object> dependency = new HashMap<>();
+            dependency.put("source", "task_" + snapshot.getEdgePrerequisiteId(e));
+            dependency.put("target", "task_" + snapshot.getEdgeDependentId(e));
+            dependency.put("type", snapshot.getEdgeType(e).getDisplayName().toLowerCase());
+            dependency.put("lagHours", snapshot.getEdgeLagHours(e));
+            dependencies.add(dependency);
+        }
+        return dependencies;
+    }
 
     /**
      * Gets the transformation service used by this data service.
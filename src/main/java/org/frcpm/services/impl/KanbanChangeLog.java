@@ -0,0 +1,175 @@
+// src/main/java/org/frcpm/services/impl/KanbanChangeLog.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.TaskChangedEvent;
+import org.frcpm.events.WebSocketEventBus;
+import org.frcpm.web.dto.TaskUpdateMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-project log of committed task changes for kanban delta sync.
+ *
+ * Every committed task change is stamped with the next sequence number of
+ * its project and kept in a fixed-size ring. A client that knows the last
+ * sequence it applied asks for the changes after it and receives the IDs of
+ * the tasks touched since, each once; if that position has already been
+ * overwritten (or belongs to an earlier epoch, i.e. before a restart) the
+ * client must fall back to a snapshot. After each change a KANBAN_DELTA
+ * notice carrying the new sequence is broadcast to the project's board.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Component
+public class KanbanChangeLog {
+
+    static final int LOG_CAPACITY = 256;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentMap<Long, ProjectLog> logs = new ConcurrentHashMap<>();
+
+    @Autowired
+    @Lazy
+    private WebSocketEventBus eventBus;
+
+    /**
+     * @return identifier of this log instance; sequences from another epoch
+     *         are meaningless here
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @param projectId the project ID
+     * @return the project's latest sequence number, 0 if nothing was recorded
+     */
+    public long currentSequence(Long projectId) {
+        ProjectLog log = logs.get(projectId);
+        return log != null ? log.current() : 0L;
+    }
+
+    /**
+     * Records a task change.
+     *
+     * @param projectId the project ID
+     * @param taskId the task ID
+     * @param deleted true if the task was deleted
+     * @return the sequence number assigned to the change
+     */
+    public long record(Long projectId, Long taskId, boolean deleted) {
+        return logs.computeIfAbsent(projectId, id -> new ProjectLog()).append(taskId, deleted);
+    }
+
+    /**
+     * Returns the changes recorded after the given sequence.
+     *
+     * @param projectId the project ID
+     * @param clientEpoch epoch the client's sequence belongs to
+     * @param sinceSequence last sequence the client applied
+     * @return the changes, or null if the client must load a snapshot
+     */
+    public Changes changesSince(Long projectId, String clientEpoch, long sinceSequence) {
+        if (!epoch.equals(clientEpoch)) {
+            return null;
+        }
+        ProjectLog log = logs.get(projectId);
+        if (log == null) {
+            return sinceSequence == 0 ? new Changes(0L, List.of(), List.of()) : null;
+        }
+        return log.since(sinceSequence);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getProjectId() == null || event.getTaskId() == null) {
+            return;
+        }
+        long sequence = record(event.getProjectId(), event.getTaskId(),
+                               event.getChangeType() == TaskChangedEvent.ChangeType.DELETED);
+        if (eventBus != null) {
+            publishDelta(event.getProjectId(), sequence);
+        }
+    }
+
+    private void publishDelta(Long projectId, long sequence) {
+        TaskUpdateMessage notice = new TaskUpdateMessage();
+        notice.setProjectId(projectId);
+        notice.setChangeType("KANBAN_DELTA");
+        notice.setUpdatedBy("System");
+        notice.getMetadata().put("epoch", epoch);
+        notice.getMetadata().put("seq", sequence);
+
+        // Already after commit; a burst collapses into the notice with the highest sequence
+        eventBus.publishCommitted("/topic/project/" + projectId + "/kanban", notice, "kanban-delta");
+    }
+
+    /**
+     * Task IDs changed after a client's position, up to {@link #getSequence()}.
+     */
+    public static final class Changes {
+        private final long sequence;
+        private final List<Long> changedTaskIds;
+        private final List<Long> deletedTaskIds;
+
+        Changes(long sequence, List<Long> changedTaskIds, List<Long> deletedTaskIds) {
+            this.sequence = sequence;
+            this.changedTaskIds = changedTaskIds;
+            this.deletedTaskIds = deletedTaskIds;
+        }
+
+        public long getSequence() { return sequence; }
+        public List<Long> getChangedTaskIds() { return changedTaskIds; }
+        public List<Long> getDeletedTaskIds() { return deletedTaskIds; }
+    }
+
+    /**
+     * Ring of the most recent changes of one project. Appends are rare next
+     * to reads of the board, so the ring is simply guarded by its monitor.
+     */
+    private static final class ProjectLog {
+        private final long[] taskIds = new long[LOG_CAPACITY];
+        private final boolean[] deleted = new boolean[LOG_CAPACITY];
+        private long sequence;
+
+        synchronized long append(long taskId, boolean isDeleted) {
+            int slot = (int) (sequence % LOG_CAPACITY);
+            taskIds[slot] = taskId;
+            deleted[slot] = isDeleted;
+            return ++sequence;
+        }
+
+        synchronized long current() {
+            return sequence;
+        }
+
+        synchronized Changes since(long sinceSequence) {
+            if (sinceSequence > sequence || sequence - sinceSequence > LOG_CAPACITY) {
+                return null;
+            }
+            // Latest state wins when a task changed more than once
+            Map<Long, Boolean> latest = new LinkedHashMap<>();
+            for (long s = sinceSequence; s < sequence; s++) {
+                int slot = (int) (s % LOG_CAPACITY);
+                latest.remove(taskIds[slot]);
+                latest.put(taskIds[slot], deleted[slot]);
+            }
+            List<Long> changed = new ArrayList<>();
+            List<Long> removed = new ArrayList<>();
+            latest.forEach((taskId, isDeleted) -> (isDeleted ? removed : changed).add(taskId));
+            return new Changes(sequence, changed, removed);
+        }
+    }
+}
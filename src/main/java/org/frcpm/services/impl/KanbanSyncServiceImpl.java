@@ -0,0 +1,97 @@
+// src/main/java/org/frcpm/services/impl/KanbanSyncServiceImpl.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.services.KanbanSyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of KanbanSyncService on top of {@link KanbanChangeLog}.
+ *
+ * The position is always read before the tasks are loaded, so a change
+ * committed in between is delivered again on the next sync rather than
+ * skipped; applying a card twice is harmless.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Service
+@Transactional(readOnly = true)
+public class KanbanSyncServiceImpl implements KanbanSyncService {
+
+    private static final Logger LOGGER = Logger.getLogger(KanbanSyncServiceImpl.class.getName());
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final KanbanChangeLog changeLog;
+
+    /**
+     * @param projectRepository the project repository
+     * @param taskRepository the task repository
+     * @param changeLog the per-project task change log
+     */
+    @Autowired
+    public KanbanSyncServiceImpl(ProjectRepository projectRepository,
+                                 TaskRepository taskRepository,
+                                 KanbanChangeLog changeLog) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public KanbanSync getSnapshot(Long projectId) {
+        if (projectId == null) {
+            return null;
+        }
+        long sequence = changeLog.currentSequence(projectId);
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null) {
+            return null;
+        }
+        List<Task> tasks = taskRepository.findByProjectForSchedule(project);
+        return new KanbanSync(KanbanSync.Mode.SNAPSHOT, changeLog.getEpoch(), sequence, tasks, List.of());
+    }
+
+    @Override
+    public KanbanSync getChangesSince(Long projectId, String epoch, Long sinceSequence) {
+        if (projectId == null) {
+            return null;
+        }
+        long current = changeLog.currentSequence(projectId);
+        KanbanChangeLog.Changes changes = sinceSequence != null
+            ? changeLog.changesSince(projectId, epoch, sinceSequence) : null;
+        if (!projectRepository.existsById(projectId)) {
+            return null;
+        }
+        if (changes == null) {
+            LOGGER.fine(String.format("Kanban client for project %d needs to reload (epoch %s, seq %s)",
+                                     projectId, epoch, sinceSequence));
+            return new KanbanSync(KanbanSync.Mode.RELOAD, changeLog.getEpoch(), current, List.of(), List.of());
+        }
+
+        List<Task> tasks = changes.getChangedTaskIds().isEmpty()
+            ? List.of() : taskRepository.findByIdInForKanban(changes.getChangedTaskIds());
+
+        // A changed task that no longer exists was deleted after its change was logged
+        List<Long> deleted = new ArrayList<>(changes.getDeletedTaskIds());
+        Set<Long> found = new HashSet<>();
+        tasks.forEach(task -> found.add(task.getId()));
+        changes.getChangedTaskIds().stream().filter(id -> !found.contains(id)).forEach(deleted::add);
+
+        return new KanbanSync(KanbanSync.Mode.DELTA, changeLog.getEpoch(), changes.getSequence(), tasks, deleted);
+    }
+}
@@ -2,11 +2,13 @@
 
 package org.frcpm.services.impl;
 
+import org.frcpm.events.MilestoneChangedEvent;
 import org.frcpm.models.Milestone;
 import org.frcpm.models.Project;
 import org.frcpm.repositories.spring.MilestoneRepository;
 import org.frcpm.repositories.spring.ProjectRepository;
 import org.frcpm.services.MilestoneService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,15 +25,18 @@ public class MilestoneServiceImpl implements MilestoneService {
     
     private final MilestoneRepository milestoneRepository;
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Constructor injection for repositories.
      * No @Autowired needed with single constructor.
      */
     public MilestoneServiceImpl(MilestoneRepository milestoneRepository,
-                               ProjectRepository projectRepository) {
+                               ProjectRepository projectRepository,
+                               ApplicationEventPublisher eventPublisher) {
         this.milestoneRepository = milestoneRepository;
         this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     // =========================================================================
@@ -56,25 +61,43 @@ public class MilestoneServiceImpl implements MilestoneService {
         if (entity == null) {
             throw new IllegalArgumentException("Milestone cannot be null");
         }
-        return milestoneRepository.save(entity);
+        boolean isNew = entity.getId() == null;
+        Milestone saved = milestoneRepository.save(entity);
+        publishMilestoneChange(isNew ? MilestoneChangedEvent.ChangeType.CREATED : MilestoneChangedEvent.ChangeType.UPDATED,
+                               saved);
+        return saved;
     }
     
     @Override
     public void delete(Milestone entity) {
         if (entity != null) {
             milestoneRepository.delete(entity);
+            publishMilestoneChange(MilestoneChangedEvent.ChangeType.DELETED, entity);
         }
     }
     
     @Override
     public boolean deleteById(Long id) {
         if (id != null && milestoneRepository.existsById(id)) {
+            Milestone milestone = milestoneRepository.findById(id).orElse(null);
             milestoneRepository.deleteById(id);
+            publishMilestoneChange(MilestoneChangedEvent.ChangeType.DELETED, milestone);
             return true;
         }
         return false;
     }
     
+    /**
+     * Publishes a milestone change so project metrics can be updated after commit.
+     */
+    private void publishMilestoneChange(MilestoneChangedEvent.ChangeType changeType, Milestone milestone) {
+        if (milestone == null || milestone.getProject() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new MilestoneChangedEvent(
+            changeType, milestone.getId(), milestone.getProject().getId()));
+    }
+    
     @Override
     public long count() {
         return milestoneRepository.count();
@@ -142,7 +165,7 @@ public class MilestoneServiceImpl implements MilestoneService {
         milestone.setProject(project);
         milestone.setDescription(description != null ? description.trim() : null);
         
-        return milestoneRepository.save(milestone);
+        return save(milestone);
     }
     
     @Override
@@ -160,7 +183,7 @@ public class MilestoneServiceImpl implements MilestoneService {
         }
         
         milestone.setDate(date);
-        return milestoneRepository.save(milestone);
+        return save(milestone);
     }
     
     @Override
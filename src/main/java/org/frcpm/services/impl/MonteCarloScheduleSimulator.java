@@ -0,0 +1,243 @@
+// src/main/java/org/frcpm/services/impl/MonteCarloScheduleSimulator.java
+
+package org.frcpm.services.impl;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo schedule risk simulation over one project's dependency DAG.
+ *
+ * Each sample draws every task duration from a triangular distribution
+ * around its estimate and runs a forward and backward CPM pass. The graph
+ * is compiled once into flat arrays renumbered in topological order, so a
+ * sample is two sequential sweeps with no allocation. Samples are split
+ * into fixed-size chunks that run as a parallel stream on the common
+ * fork-join pool; each chunk gets its own SplittableRandom, split from a
+ * root seed in chunk order, so results are reproducible for a given seed.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class MonteCarloScheduleSimulator {
+
+    /** Optimistic duration as a share of the estimate */
+    static final double OPTIMISTIC_FACTOR = 0.8;
+
+    /** Pessimistic duration as a share of the estimate; student build work overruns more than it underruns */
+    static final double PESSIMISTIC_FACTOR = 1.6;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final int size;
+    private final int[] taskAtPosition;
+
+    // Predecessor and successor lists by topological position
+    private final int[] predOffsets;
+    private final int[] predPositions;
+    private final double[] predLags;
+    private final int[] succOffsets;
+    private final int[] succPositions;
+    private final double[] succLags;
+
+    // Triangular parameters by topological position
+    private final double[] low;
+    private final double[] mode;
+    private final double[] high;
+
+    /**
+     * @param graph acyclic dependency graph of the project
+     * @param estimateHours most likely remaining hours per task, indexed like the graph
+     */
+    public MonteCarloScheduleSimulator(ProjectDependencyGraph graph, double[] estimateHours) {
+        if (!graph.isAcyclic()) {
+            throw new IllegalArgumentException("Cannot simulate a schedule with circular dependencies");
+        }
+        this.size = graph.size();
+        this.taskAtPosition = graph.topologicalOrder();
+        int[] positionOf = new int[size];
+        for (int position = 0; position < size; position++) {
+            positionOf[taskAtPosition[position]] = position;
+        }
+
+        this.low = new double[size];
+        this.mode = new double[size];
+        this.high = new double[size];
+        this.predOffsets = new int[size + 1];
+        this.succOffsets = new int[size + 1];
+        for (int position = 0; position < size; position++) {
+            int task = taskAtPosition[position];
+            mode[position] = estimateHours[task];
+            low[position] = estimateHours[task] * OPTIMISTIC_FACTOR;
+            high[position] = estimateHours[task] * PESSIMISTIC_FACTOR;
+            predOffsets[position + 1] = predOffsets[position] + graph.inDegree(task);
+            succOffsets[position + 1] = succOffsets[position] + graph.outDegree(task);
+        }
+
+        this.predPositions = new int[predOffsets[size]];
+        this.predLags = new double[predOffsets[size]];
+        this.succPositions = new int[succOffsets[size]];
+        this.succLags = new double[succOffsets[size]];
+        for (int position = 0; position < size; position++) {
+            int task = taskAtPosition[position];
+            int cursor = predOffsets[position];
+            for (int slot = graph.predecessorStart(task); slot < graph.predecessorEnd(task); slot++, cursor++) {
+                predPositions[cursor] = positionOf[graph.predecessorAt(slot)];
+                predLags[cursor] = graph.edgeLagHours(graph.predecessorEdgeAt(slot));
+            }
+            cursor = succOffsets[position];
+            for (int slot = graph.successorStart(task); slot < graph.successorEnd(task); slot++, cursor++) {
+                succPositions[cursor] = positionOf[graph.successorAt(slot)];
+                succLags[cursor] = graph.edgeLagHours(graph.successorEdgeAt(slot));
+            }
+        }
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param samples number of sampled schedules
+     * @param seed root seed for the per-chunk generators
+     * @return finish distribution and per-task criticality
+     */
+    public SimulationResult run(int samples, long seed) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        int chunks = (samples + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            randoms[chunk] = root.split();
+        }
+
+        double[] finishes = new double[samples];
+        int[][] criticalCounts = new int[chunks][size];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(samples, from + CHUNK_SIZE);
+            simulateChunk(randoms[chunk], from, to, finishes, criticalCounts[chunk]);
+        });
+
+        double[] criticality = new double[size];
+        for (int[] counts : criticalCounts) {
+            for (int position = 0; position < size; position++) {
+                criticality[taskAtPosition[position]] += counts[position];
+            }
+        }
+        for (int task = 0; task < size; task++) {
+            criticality[task] /= samples;
+        }
+
+        Arrays.parallelSort(finishes);
+        return new SimulationResult(finishes, criticality);
+    }
+
+    private void simulateChunk(SplittableRandom random, int from, int to, double[] finishes, int[] criticalCounts) {
+        // Scratch arrays are reused for every sample in the chunk
+        double[] duration = new double[size];
+        double[] earliestStart = new double[size];
+        double[] tail = new double[size];
+
+        for (int sample = from; sample < to; sample++) {
+            for (int p = 0; p < size; p++) {
+                duration[p] = triangular(random.nextDouble(), low[p], mode[p], high[p]);
+            }
+
+            double finish = 0;
+            for (int p = 0; p < size; p++) {
+                double start = 0;
+                for (int k = predOffsets[p]; k < predOffsets[p + 1]; k++) {
+                    int pred = predPositions[k];
+                    start = Math.max(start, earliestStart[pred] + duration[pred] + predLags[k]);
+                }
+                earliestStart[p] = start;
+                finish = Math.max(finish, start + duration[p]);
+            }
+
+            // Longest chain from each task's start to the project end
+            for (int p = size - 1; p >= 0; p--) {
+                double longest = 0;
+                for (int k = succOffsets[p]; k < succOffsets[p + 1]; k++) {
+                    longest = Math.max(longest, succLags[k] + tail[succPositions[k]]);
+                }
+                tail[p] = duration[p] + longest;
+            }
+
+            double threshold = finish - ProjectDependencyGraph.CRITICAL_FLOAT_TOLERANCE;
+            for (int p = 0; p < size; p++) {
+                if (earliestStart[p] + tail[p] >= threshold) {
+                    criticalCounts[p]++;
+                }
+            }
+            finishes[sample] = finish;
+        }
+    }
+
+    private static double triangular(double u, double low, double mode, double high) {
+        double range = high - low;
+        if (range <= 0) {
+            return mode;
+        }
+        double split = (mode - low) / range;
+        if (u < split) {
+            return low + Math.sqrt(u * range * (mode - low));
+        }
+        return high - Math.sqrt((1 - u) * range * (high - mode));
+    }
+
+    // =========================================================================
+    // RESULT
+    // =========================================================================
+
+    /**
+     * Sorted sample finishes (hours from now) and criticality by graph index.
+     */
+    public static final class SimulationResult {
+        private final double[] sortedFinishHours;
+        private final double[] criticalityIndex;
+
+        SimulationResult(double[] sortedFinishHours, double[] criticalityIndex) {
+            this.sortedFinishHours = sortedFinishHours;
+            this.criticalityIndex = criticalityIndex;
+        }
+
+        public int getSampleCount() {
+            return sortedFinishHours.length;
+        }
+
+        /**
+         * @param quantile between 0 and 1
+         * @return finish time in hours not exceeded by that share of samples
+         */
+        public double getFinishPercentile(double quantile) {
+            int index = (int) Math.ceil(quantile * sortedFinishHours.length) - 1;
+            return sortedFinishHours[Math.max(0, Math.min(sortedFinishHours.length - 1, index))];
+        }
+
+        /**
+         * @param hours available hours
+         * @return share of samples finishing within the given hours
+         */
+        public double getProbabilityWithin(double hours) {
+            int index = Arrays.binarySearch(sortedFinishHours, hours);
+            if (index >= 0) {
+                while (index + 1 < sortedFinishHours.length && sortedFinishHours[index + 1] == hours) {
+                    index++;
+                }
+                return (index + 1) / (double) sortedFinishHours.length;
+            }
+            return (-index - 1) / (double) sortedFinishHours.length;
+        }
+
+        /**
+         * @param index task index in the simulated graph
+         * @return share of samples in which the task was on the critical path
+         */
+        public double getCriticalityIndex(int index) {
+            return criticalityIndex[index];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+// src/main/java/org/frcpm/services/impl/PdfTableWriter.java
+
+package org.frcpm.services.impl;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link TableWriter} for a paginated PDF table on landscape Letter pages.
+ *
+ * Each page repeats the title and column headers and is numbered at the
+ * bottom. Cells that do not fit their column are cut short with "...".
+ * Page content is kept in a temporary scratch file rather than on the heap
+ * until the document is saved to the output stream at {@link #finish}.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+final class PdfTableWriter implements TableWriter {
+
+    private static final PDRectangle PAGE_SIZE =
+        new PDRectangle(PDRectangle.LETTER.getHeight(), PDRectangle.LETTER.getWidth());
+    private static final float MARGIN = 36;
+    private static final float TITLE_SIZE = 12;
+    private static final float FONT_SIZE = 8;
+    private static final float LEADING = 11;
+    private static final float CELL_PADDING = 4;
+
+    private static final PDFont FONT = PDType1Font.HELVETICA;
+    private static final PDFont BOLD = PDType1Font.HELVETICA_BOLD;
+
+    private final OutputStream out;
+    private final String title;
+    private final PDDocument document;
+    private List<String> columns = List.of();
+    private float columnWidth;
+    private PDPageContentStream content;
+    private int pageNumber;
+    private float y;
+
+    PdfTableWriter(OutputStream out, String title) {
+        this.out = out;
+        this.title = title + " - generated " + TableWriter.DATE_TIME.format(LocalDateTime.now());
+        this.document = new PDDocument(MemoryUsageSetting.setupTempFileOnly());
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+        this.columns = List.copyOf(columns);
+        this.columnWidth = (PAGE_SIZE.getWidth() - 2 * MARGIN) / Math.max(1, columns.size());
+        newPage();
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        if (content == null) {
+            header(columns);
+        }
+        if (y < MARGIN + LEADING) {
+            newPage();
+        }
+        writeRow(values, FONT);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            if (content == null) {
+                newPage();
+            }
+            content.close();
+            document.save(out);
+            out.flush();
+        } finally {
+            document.close();
+        }
+    }
+
+    private void newPage() throws IOException {
+        if (content != null) {
+            content.close();
+        }
+        PDPage page = new PDPage(PAGE_SIZE);
+        document.addPage(page);
+        content = new PDPageContentStream(document, page);
+        pageNumber++;
+
+        y = PAGE_SIZE.getHeight() - MARGIN - TITLE_SIZE;
+        String heading = fit(printable(title), BOLD, TITLE_SIZE, PAGE_SIZE.getWidth() - 2 * MARGIN);
+        showText(BOLD, TITLE_SIZE, MARGIN, y, heading);
+        showText(FONT, FONT_SIZE, PAGE_SIZE.getWidth() / 2 - 15, MARGIN / 2, "Page " + pageNumber);
+        y -= 2 * LEADING;
+
+        writeRow(columns.toArray(), BOLD);
+        content.moveTo(MARGIN, y + LEADING - 3);
+        content.lineTo(PAGE_SIZE.getWidth() - MARGIN, y + LEADING - 3);
+        content.stroke();
+    }
+
+    private void writeRow(Object[] values, PDFont font) throws IOException {
+        for (int i = 0; i < values.length && i < columns.size(); i++) {
+            String text = fit(printable(TableWriter.text(values[i])), font, FONT_SIZE, columnWidth - CELL_PADDING);
+            if (!text.isEmpty()) {
+                showText(font, FONT_SIZE, MARGIN + i * columnWidth, y, text);
+            }
+        }
+        y -= LEADING;
+    }
+
+    private void showText(PDFont font, float size, float x, float baseline, String text) throws IOException {
+        content.beginText();
+        content.setFont(font, size);
+        content.newLineAtOffset(x, baseline);
+        content.showText(text);
+        content.endText();
+    }
+
+    /**
+     * Shortens text to fit the given width, ending it with "..." if cut.
+     */
+    private static String fit(String text, PDFont font, float size, float width) throws IOException {
+        if (width(text, font, size) <= width) {
+            return text;
+        }
+        float available = width - width("...", font, size);
+        float used = 0;
+        int end = 0;
+        while (end < text.length()) {
+            float next = width(text.substring(end, end + 1), font, size);
+            if (used + next > available) {
+                break;
+            }
+            used += next;
+            end++;
+        }
+        return text.substring(0, end) + "...";
+    }
+
+    private static float width(String text, PDFont font, float size) throws IOException {
+        return font.getStringWidth(text) / 1000 * size;
+    }
+
+    /**
+     * Keeps text on one line and within what the standard fonts can encode.
+     */
+    static String printable(String text) {
+        StringBuilder printable = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x20) {
+                printable.append(' ');
+            } else if ((c > 0x7E && c < 0xA0) || c > 0xFF) {
+                printable.append('?');
+            } else {
+                printable.append(c);
+            }
+        }
+        return printable.toString();
+    }
+}
@@ -0,0 +1,207 @@
+// src/main/java/org/frcpm/services/impl/ProjectAnalyticsKernel.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Task;
+import org.frcpm.services.ReportingService.MemberStats;
+import org.frcpm.services.ReportingService.ProjectTaskAnalytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Computes every task figure behind the analytics reports in one fused pass
+ * over {@link TaskColumns}.
+ *
+ * Each row is read once and feeds all counters at the same time. Projects
+ * with at least {@link #PARALLEL_THRESHOLD} tasks are split into chunks of
+ * {@link #CHUNK_SIZE} rows that are scanned in parallel, each into its own
+ * accumulator, and the accumulators are merged at the end.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public final class ProjectAnalyticsKernel {
+
+    /** Smallest project scanned in parallel */
+    static final int PARALLEL_THRESHOLD = 8_192;
+
+    /** Rows per parallel chunk */
+    static final int CHUNK_SIZE = 4_096;
+
+    /** Days ahead in which a task that is less than half done is at risk */
+    static final int AT_RISK_DAYS = 7;
+
+    private static final int PRIORITIES = Task.Priority.values().length;
+
+    private ProjectAnalyticsKernel() {
+    }
+
+    /**
+     * @param columns the project's tasks
+     * @param today the day overdue and at-risk figures are relative to
+     * @return the project's task analytics
+     */
+    public static ProjectTaskAnalytics analyze(TaskColumns columns, LocalDate today) {
+        int todayDay = (int) today.toEpochDay();
+        Accumulator total;
+        if (columns.size < PARALLEL_THRESHOLD) {
+            total = scan(columns, 0, columns.size, todayDay);
+        } else {
+            int chunks = (columns.size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            total = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> scan(columns, chunk * CHUNK_SIZE,
+                                        Math.min(columns.size, (chunk + 1) * CHUNK_SIZE), todayDay))
+                .reduce(Accumulator::merge)
+                .orElseGet(() -> new Accumulator(columns.memberCount()));
+        }
+        return total.toAnalytics(columns, today);
+    }
+
+    private static Accumulator scan(TaskColumns c, int from, int to, int today) {
+        Accumulator a = new Accumulator(c.memberCount());
+        for (int i = from; i < to; i++) {
+            boolean done = c.completed[i];
+            int end = c.endDay[i];
+            int start = c.startDay[i];
+            long duration = c.durationSeconds[i];
+            boolean overdue = !done && end != TaskColumns.NO_DATE && end < today;
+
+            a.total++;
+            a.progressSum += c.progress[i];
+            a.estimatedSeconds += duration;
+            if (c.priority[i] >= 0) {
+                a.byPriority[c.priority[i]]++;
+                if (done) {
+                    a.completedByPriority[c.priority[i]]++;
+                }
+            }
+            if (done) {
+                a.completed++;
+            } else {
+                a.remainingSeconds += duration;
+                if (c.progress[i] > 0) {
+                    a.inProgress++;
+                }
+                if (end == TaskColumns.NO_DATE) {
+                    a.unscheduled++;
+                } else if (overdue) {
+                    a.overdue++;
+                } else if (end - today <= AT_RISK_DAYS && c.progress[i] < 50) {
+                    a.atRisk++;
+                }
+                if (c.assigneeStart[i] == c.assigneeStart[i + 1]) {
+                    a.unassignedOpen++;
+                }
+            }
+            if (start != TaskColumns.NO_DATE) {
+                a.earliestStart = Math.min(a.earliestStart, start);
+                if (end != TaskColumns.NO_DATE && end >= start) {
+                    a.plannedDaysSum += end - start;
+                    a.plannedCount++;
+                }
+            }
+            if (end != TaskColumns.NO_DATE) {
+                a.latestEnd = Math.max(a.latestEnd, end);
+            }
+            for (int k = c.assigneeStart[i]; k < c.assigneeStart[i + 1]; k++) {
+                int member = c.assignees[k];
+                a.memberTotal[member]++;
+                if (done) {
+                    a.memberCompleted[member]++;
+                } else {
+                    a.memberRemainingSeconds[member] += duration;
+                    if (overdue) {
+                        a.memberOverdue[member]++;
+                    }
+                }
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Running figures for one chunk of rows.
+     */
+    private static final class Accumulator {
+        int total;
+        int completed;
+        int inProgress;
+        int overdue;
+        int atRisk;
+        int unscheduled;
+        int unassignedOpen;
+        long progressSum;
+        long estimatedSeconds;
+        long remainingSeconds;
+        long plannedDaysSum;
+        int plannedCount;
+        int earliestStart = Integer.MAX_VALUE;
+        int latestEnd = Integer.MIN_VALUE;
+        final int[] byPriority = new int[PRIORITIES];
+        final int[] completedByPriority = new int[PRIORITIES];
+        final int[] memberTotal;
+        final int[] memberCompleted;
+        final int[] memberOverdue;
+        final long[] memberRemainingSeconds;
+
+        Accumulator(int members) {
+            memberTotal = new int[members];
+            memberCompleted = new int[members];
+            memberOverdue = new int[members];
+            memberRemainingSeconds = new long[members];
+        }
+
+        Accumulator merge(Accumulator other) {
+            total += other.total;
+            completed += other.completed;
+            inProgress += other.inProgress;
+            overdue += other.overdue;
+            atRisk += other.atRisk;
+            unscheduled += other.unscheduled;
+            unassignedOpen += other.unassignedOpen;
+            progressSum += other.progressSum;
+            estimatedSeconds += other.estimatedSeconds;
+            remainingSeconds += other.remainingSeconds;
+            plannedDaysSum += other.plannedDaysSum;
+            plannedCount += other.plannedCount;
+            earliestStart = Math.min(earliestStart, other.earliestStart);
+            latestEnd = Math.max(latestEnd, other.latestEnd);
+            for (int p = 0; p < PRIORITIES; p++) {
+                byPriority[p] += other.byPriority[p];
+                completedByPriority[p] += other.completedByPriority[p];
+            }
+            for (int m = 0; m < memberTotal.length; m++) {
+                memberTotal[m] += other.memberTotal[m];
+                memberCompleted[m] += other.memberCompleted[m];
+                memberOverdue[m] += other.memberOverdue[m];
+                memberRemainingSeconds[m] += other.memberRemainingSeconds[m];
+            }
+            return this;
+        }
+
+        ProjectTaskAnalytics toAnalytics(TaskColumns columns, LocalDate today) {
+            List<MemberStats> members = new ArrayList<>(memberTotal.length);
+            for (int m = 0; m < memberTotal.length; m++) {
+                members.add(new MemberStats(columns.memberIds[m], columns.memberNames[m], columns.memberRoles[m],
+                                            memberTotal[m], memberCompleted[m], memberOverdue[m],
+                                            memberRemainingSeconds[m]));
+            }
+            members.sort(Comparator.comparingInt(MemberStats::getTotalTasks).reversed()
+                             .thenComparing(MemberStats::getMemberName, Comparator.nullsLast(String::compareTo)));
+
+            return new ProjectTaskAnalytics(
+                today, total, completed, inProgress, overdue, atRisk, unscheduled, unassignedOpen,
+                byPriority, completedByPriority, estimatedSeconds, remainingSeconds,
+                total > 0 ? (double) progressSum / total : 0,
+                plannedCount > 0 ? (double) plannedDaysSum / plannedCount : 0,
+                earliestStart != Integer.MAX_VALUE ? LocalDate.ofEpochDay(earliestStart) : null,
+                latestEnd != Integer.MIN_VALUE ? LocalDate.ofEpochDay(latestEnd) : null,
+                members);
+        }
+    }
+}
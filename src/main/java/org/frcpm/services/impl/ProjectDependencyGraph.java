@@ -0,0 +1,759 @@
+// src/main/java/org/frcpm/services/impl/ProjectDependencyGraph.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+
+import java.util.*;
+
+/**
+ * Immutable, project-scoped snapshot of the task dependency graph.
+ *
+ * Tasks are mapped to dense int indexes and active dependencies are stored
+ * in compressed sparse row (CSR) arrays in both directions, so every
+ * traversal and both critical path passes run over primitive arrays
+ * instead of issuing a repository query per visited node.
+ *
+ * An edge always points from the prerequisite (predecessor) task to the
+ * dependent (successor) task.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class ProjectDependencyGraph {
+
+    /** Float tolerance used to decide whether a task is on the critical path. */
+    static final double CRITICAL_FLOAT_TOLERANCE = 0.01;
+
+    private final Task[] tasks;
+    private final Map<Long, Integer> indexById;
+    private final double[] durationHours;
+
+    private final TaskDependency[] edges;
+    private final int[] edgeSource;
+    private final int[] edgeTarget;
+    private final double[] edgeLagHours;
+
+    // Successors of task i: succTargets[succOffsets[i] .. succOffsets[i + 1])
+    private final int[] succOffsets;
+    private final int[] succTargets;
+    private final int[] succEdges;
+
+    // Predecessors of task i: predSources[predOffsets[i] .. predOffsets[i + 1])
+    private final int[] predOffsets;
+    private final int[] predSources;
+    private final int[] predEdges;
+
+    private final int[] topologicalOrder;
+
+    private ProjectDependencyGraph(Task[] tasks, Map<Long, Integer> indexById, TaskDependency[] edges,
+                                   int[] edgeSource, int[] edgeTarget) {
+        int n = tasks.length;
+        int m = edges.length;
+
+        this.tasks = tasks;
+        this.indexById = indexById;
+        this.edges = edges;
+        this.edgeSource = edgeSource;
+        this.edgeTarget = edgeTarget;
+
+        this.durationHours = new double[n];
+        for (int i = 0; i < n; i++) {
+            durationHours[i] = durationHours(tasks[i]);
+        }
+
+        this.edgeLagHours = new double[m];
+        for (int e = 0; e < m; e++) {
+            Integer lag = edges[e].getLagHours();
+            edgeLagHours[e] = lag != null ? lag : 0;
+        }
+
+        this.succOffsets = new int[n + 1];
+        this.succTargets = new int[m];
+        this.succEdges = new int[m];
+        fillCsr(n, edgeSource, edgeTarget, succOffsets, succTargets, succEdges);
+
+        this.predOffsets = new int[n + 1];
+        this.predSources = new int[m];
+        this.predEdges = new int[m];
+        fillCsr(n, edgeTarget, edgeSource, predOffsets, predSources, predEdges);
+
+        this.topologicalOrder = computeTopologicalOrder();
+    }
+
+    /**
+     * Builds a graph from the tasks of one project and its dependencies.
+     *
+     * Inactive dependencies, self-dependencies and dependencies that reference
+     * tasks outside the supplied list are ignored.
+     *
+     * @param tasks all tasks of the project
+     * @param dependencies the project's dependencies
+     * @return the compiled graph
+     */
+    public static ProjectDependencyGraph build(List<Task> tasks, List<TaskDependency> dependencies) {
+        Task[] taskArray = tasks.toArray(new Task[0]);
+        Map<Long, Integer> indexById = new HashMap<>(taskArray.length * 2);
+        for (int i = 0; i < taskArray.length; i++) {
+            indexById.put(taskArray[i].getId(), i);
+        }
+
+        List<TaskDependency> kept = new ArrayList<>(dependencies.size());
+        int[] source = new int[dependencies.size()];
+        int[] target = new int[dependencies.size()];
+        for (TaskDependency dependency : dependencies) {
+            if (!dependency.isActive() || dependency.getPrerequisiteTask() == null
+                    || dependency.getDependentTask() == null) {
+                continue;
+            }
+            Integer from = indexById.get(dependency.getPrerequisiteTask().getId());
+            Integer to = indexById.get(dependency.getDependentTask().getId());
+            if (from == null || to == null || from.equals(to)) {
+                continue;
+            }
+            source[kept.size()] = from;
+            target[kept.size()] = to;
+            kept.add(dependency);
+        }
+
+        return new ProjectDependencyGraph(taskArray, indexById, kept.toArray(new TaskDependency[0]),
+                                          Arrays.copyOf(source, kept.size()), Arrays.copyOf(target, kept.size()));
+    }
+
+    /**
+     * Duration used for scheduling, in whole hours.
+     *
+     * @param task the task
+     * @return estimated duration in hours, or 8 hours when no estimate exists
+     */
+    static double durationHours(Task task) {
+        if (task.getEstimatedDuration() != null) {
+            return task.getEstimatedDuration().toHours();
+        }
+        return 8.0; // Default 8 hours if no estimate
+    }
+
+    private static void fillCsr(int n, int[] from, int[] to, int[] offsets, int[] targets, int[] edgeIds) {
+        for (int e = 0; e < from.length; e++) {
+            offsets[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < from.length; e++) {
+            int slot = cursor[from[e]]++;
+            targets[slot] = to[e];
+            edgeIds[slot] = e;
+        }
+    }
+
+    /**
+     * Kahn's algorithm over the successor arrays. Tasks that sit on a cycle,
+     * or downstream of one, never reach in-degree zero and are left out.
+     */
+    private int[] computeTopologicalOrder() {
+        int n = tasks.length;
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = predOffsets[i + 1] - predOffsets[i];
+        }
+
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (int k = succOffsets[current]; k < succOffsets[current + 1]; k++) {
+                int next = succTargets[k];
+                if (--inDegree[next] == 0) {
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        return tail == n ? queue : Arrays.copyOf(queue, tail);
+    }
+
+    // =========================================================================
+    // STRUCTURE
+    // =========================================================================
+
+    public int size() {
+        return tasks.length;
+    }
+
+    public int edgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * @param task the task to look up
+     * @return the dense index of the task, or -1 if it is not part of the graph
+     */
+    public int indexOf(Task task) {
+        return task == null ? -1 : indexOf(task.getId());
+    }
+
+    /**
+     * @param taskId the task ID to look up
+     * @return the dense index of the task, or -1 if it is not part of the graph
+     */
+    public int indexOf(Long taskId) {
+        Integer index = taskId == null ? null : indexById.get(taskId);
+        return index != null ? index : -1;
+    }
+
+    public Task taskAt(int index) {
+        return tasks[index];
+    }
+
+    public TaskDependency edgeAt(int edge) {
+        return edges[edge];
+    }
+
+    public int edgeSource(int edge) {
+        return edgeSource[edge];
+    }
+
+    public int edgeTarget(int edge) {
+        return edgeTarget[edge];
+    }
+
+    public double edgeLagHours(int edge) {
+        return edgeLagHours[edge];
+    }
+
+    public double durationHours(int index) {
+        return durationHours[index];
+    }
+
+    public int outDegree(int index) {
+        return succOffsets[index + 1] - succOffsets[index];
+    }
+
+    public int inDegree(int index) {
+        return predOffsets[index + 1] - predOffsets[index];
+    }
+
+    int successorStart(int index) {
+        return succOffsets[index];
+    }
+
+    int successorEnd(int index) {
+        return succOffsets[index + 1];
+    }
+
+    int successorAt(int slot) {
+        return succTargets[slot];
+    }
+
+    int successorEdgeAt(int slot) {
+        return succEdges[slot];
+    }
+
+    int predecessorStart(int index) {
+        return predOffsets[index];
+    }
+
+    int predecessorEnd(int index) {
+        return predOffsets[index + 1];
+    }
+
+    int predecessorAt(int slot) {
+        return predSources[slot];
+    }
+
+    int predecessorEdgeAt(int slot) {
+        return predEdges[slot];
+    }
+
+    /**
+     * Tasks in dependency order. Shorter than {@link #size()} when the graph
+     * contains cycles.
+     *
+     * @return a copy of the topological order as task indexes
+     */
+    public int[] topologicalOrder() {
+        return topologicalOrder.clone();
+    }
+
+    public boolean isAcyclic() {
+        return topologicalOrder.length == tasks.length;
+    }
+
+    public List<Task> getTasks() {
+        return Collections.unmodifiableList(Arrays.asList(tasks));
+    }
+
+    public List<TaskDependency> getDependencies() {
+        return Collections.unmodifiableList(Arrays.asList(edges));
+    }
+
+    // =========================================================================
+    // NEIGHBOURHOOD QUERIES
+    // =========================================================================
+
+    public List<Task> directPrerequisites(Task task) {
+        int index = indexOf(task);
+        if (index < 0) {
+            return new ArrayList<>();
+        }
+        List<Task> result = new ArrayList<>(inDegree(index));
+        for (int k = predOffsets[index]; k < predOffsets[index + 1]; k++) {
+            result.add(tasks[predSources[k]]);
+        }
+        return result;
+    }
+
+    public List<Task> directDependents(Task task) {
+        int index = indexOf(task);
+        if (index < 0) {
+            return new ArrayList<>();
+        }
+        List<Task> result = new ArrayList<>(outDegree(index));
+        for (int k = succOffsets[index]; k < succOffsets[index + 1]; k++) {
+            result.add(tasks[succTargets[k]]);
+        }
+        return result;
+    }
+
+    /**
+     * @param task the dependent task
+     * @return active dependencies where the task is the dependent
+     */
+    public List<TaskDependency> incomingDependencies(Task task) {
+        int index = indexOf(task);
+        if (index < 0) {
+            return new ArrayList<>();
+        }
+        List<TaskDependency> result = new ArrayList<>(inDegree(index));
+        for (int k = predOffsets[index]; k < predOffsets[index + 1]; k++) {
+            result.add(edges[predEdges[k]]);
+        }
+        return result;
+    }
+
+    // =========================================================================
+    // TRAVERSALS
+    // =========================================================================
+
+    /**
+     * @param task the starting task
+     * @return every task the given task transitively depends on
+     */
+    public Set<Task> allPrerequisites(Task task) {
+        return collect(indexOf(task), predOffsets, predSources);
+    }
+
+    /**
+     * @param task the starting task
+     * @return every task that transitively depends on the given task
+     */
+    public Set<Task> allDependents(Task task) {
+        return collect(indexOf(task), succOffsets, succTargets);
+    }
+
+    private Set<Task> collect(int start, int[] offsets, int[] targets) {
+        Set<Task> result = new HashSet<>();
+        if (start < 0) {
+            return result;
+        }
+        boolean[] visited = new boolean[tasks.length];
+        int[] stack = new int[tasks.length];
+        int top = 0;
+        stack[top++] = start;
+        visited[start] = true;
+
+        while (top > 0) {
+            int current = stack[--top];
+            for (int k = offsets[current]; k < offsets[current + 1]; k++) {
+                int next = targets[k];
+                if (next == start) {
+                    // A cycle through the start task makes it its own prerequisite/dependent
+                    result.add(tasks[start]);
+                } else if (!visited[next]) {
+                    visited[next] = true;
+                    stack[top++] = next;
+                    result.add(tasks[next]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether {@code to} can be reached from {@code from} by following
+     * prerequisite-to-dependent edges.
+     *
+     * @param from index of the starting task
+     * @param to index of the target task
+     * @return true if a dependency chain leads from one task to the other
+     */
+    public boolean isReachable(int from, int to) {
+        if (from < 0 || to < 0) {
+            return false;
+        }
+        if (from == to) {
+            return true;
+        }
+        boolean[] visited = new boolean[tasks.length];
+        int[] stack = new int[tasks.length];
+        int top = 0;
+        stack[top++] = from;
+        visited[from] = true;
+
+        while (top > 0) {
+            int current = stack[--top];
+            for (int k = succOffsets[current]; k < succOffsets[current + 1]; k++) {
+                int next = succTargets[k];
+                if (next == to) {
+                    return true;
+                }
+                if (!visited[next]) {
+                    visited[next] = true;
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Breadth-first search along prerequisite-to-dependent edges.
+     *
+     * @param fromTask the starting task
+     * @param toTask the target task
+     * @return the tasks on the shortest chain, or an empty list if none exists
+     */
+    public List<Task> shortestPath(Task fromTask, Task toTask) {
+        int from = indexOf(fromTask);
+        int to = indexOf(toTask);
+        if (from < 0 || to < 0) {
+            return Collections.emptyList();
+        }
+        if (from == to) {
+            return Arrays.asList(tasks[from]);
+        }
+
+        int[] predecessor = new int[tasks.length];
+        Arrays.fill(predecessor, -1);
+        predecessor[from] = from;
+        int[] queue = new int[tasks.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (int k = succOffsets[current]; k < succOffsets[current + 1]; k++) {
+                int next = succTargets[k];
+                if (predecessor[next] != -1) {
+                    continue;
+                }
+                predecessor[next] = current;
+                if (next == to) {
+                    LinkedList<Task> path = new LinkedList<>();
+                    for (int node = to; node != from; node = predecessor[node]) {
+                        path.addFirst(tasks[node]);
+                    }
+                    path.addFirst(tasks[from]);
+                    return new ArrayList<>(path);
+                }
+                queue[tail++] = next;
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Depth-first cycle search. At most one cycle is reported per DFS root,
+     * listed in dependency order starting at the task that closes it.
+     *
+     * @return cycles found in the graph, empty when the graph is a DAG
+     */
+    public List<List<Task>> findCycles() {
+        List<List<Task>> cycles = new ArrayList<>();
+        if (isAcyclic()) {
+            return cycles;
+        }
+
+        int n = tasks.length;
+        boolean[] visited = new boolean[n];
+        boolean[] onStack = new boolean[n];
+        int[] cursor = new int[n];
+        int[] stack = new int[n];
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            visited[root] = true;
+            onStack[root] = true;
+            cursor[root] = succOffsets[root];
+
+            search:
+            while (top > 0) {
+                int current = stack[top - 1];
+                while (cursor[current] < succOffsets[current + 1]) {
+                    int next = succTargets[cursor[current]++];
+                    if (onStack[next]) {
+                        List<Task> cycle = new ArrayList<>();
+                        int start = top - 1;
+                        while (stack[start] != next) {
+                            start--;
+                        }
+                        for (int s = start; s < top; s++) {
+                            cycle.add(tasks[stack[s]]);
+                        }
+                        cycles.add(cycle);
+                        break search;
+                    }
+                    if (!visited[next]) {
+                        visited[next] = true;
+                        onStack[next] = true;
+                        cursor[next] = succOffsets[next];
+                        stack[top++] = next;
+                        continue search;
+                    }
+                }
+                onStack[current] = false;
+                top--;
+            }
+
+            for (int s = 0; s < top; s++) {
+                onStack[stack[s]] = false;
+            }
+        }
+
+        return cycles;
+    }
+
+    /**
+     * Iterative Tarjan search for strongly connected components. Every
+     * dependency cycle lies entirely inside one component with more than one
+     * member, so the result names each group of mutually dependent tasks once.
+     *
+     * @return cyclic components with members in graph order, empty when the graph is a DAG
+     */
+    public List<List<Task>> findCyclicComponents() {
+        List<List<Task>> components = new ArrayList<>();
+        if (isAcyclic()) {
+            return components;
+        }
+
+        int n = tasks.length;
+        int[] discovery = new int[n];
+        int[] low = new int[n];
+        int[] cursor = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] componentStack = new int[n];
+        int[] callStack = new int[n];
+        Arrays.fill(discovery, -1);
+        int counter = 0;
+        int componentTop = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (discovery[root] >= 0) {
+                continue;
+            }
+            int callTop = 0;
+            callStack[callTop++] = root;
+            discovery[root] = low[root] = counter++;
+            componentStack[componentTop++] = root;
+            onStack[root] = true;
+            cursor[root] = succOffsets[root];
+
+            while (callTop > 0) {
+                int current = callStack[callTop - 1];
+                if (cursor[current] < succOffsets[current + 1]) {
+                    int next = succTargets[cursor[current]++];
+                    if (discovery[next] < 0) {
+                        discovery[next] = low[next] = counter++;
+                        componentStack[componentTop++] = next;
+                        onStack[next] = true;
+                        cursor[next] = succOffsets[next];
+                        callStack[callTop++] = next;
+                    } else if (onStack[next]) {
+                        low[current] = Math.min(low[current], discovery[next]);
+                    }
+                    continue;
+                }
+
+                callTop--;
+                if (callTop > 0) {
+                    int parent = callStack[callTop - 1];
+                    low[parent] = Math.min(low[parent], low[current]);
+                }
+                if (low[current] == discovery[current]) {
+                    int start = componentTop;
+                    do {
+                        start--;
+                        onStack[componentStack[start]] = false;
+                    } while (componentStack[start] != current);
+                    if (componentTop - start > 1) {
+                        int[] members = Arrays.copyOfRange(componentStack, start, componentTop);
+                        Arrays.sort(members);
+                        List<Task> component = new ArrayList<>(members.length);
+                        for (int member : members) {
+                            component.add(tasks[member]);
+                        }
+                        components.add(component);
+                    }
+                    componentTop = start;
+                }
+            }
+        }
+
+        return components;
+    }
+
+    // =========================================================================
+    // CRITICAL PATH METHOD
+    // =========================================================================
+
+    /**
+     * Runs the CPM forward and backward passes over the topological order.
+     * Times are expressed in hours from project start. Tasks that cannot be
+     * ordered because of cycles are left unscheduled.
+     *
+     * @return early/late start and finish times for every scheduled task
+     */
+    public CriticalPathTimes computeCriticalPath() {
+        return computeCriticalPath(durationHours);
+    }
+
+    /**
+     * Runs the CPM passes with other task durations, such as the work
+     * remaining on each task, so the result can be compared with schedules
+     * built from the same durations.
+     *
+     * @param durations duration in hours of each task, by task index
+     * @return early/late start and finish times for every scheduled task
+     */
+    public CriticalPathTimes computeCriticalPath(double[] durations) {
+        int n = tasks.length;
+        double[] earliestStart = new double[n];
+        double[] earliestFinish = new double[n];
+        double[] latestStart = new double[n];
+        double[] latestFinish = new double[n];
+        boolean[] scheduled = new boolean[n];
+
+        // Forward pass
+        double projectFinish = 0;
+        for (int current : topologicalOrder) {
+            double start = 0;
+            for (int k = predOffsets[current]; k < predOffsets[current + 1]; k++) {
+                start = Math.max(start, earliestFinish[predSources[k]] + edgeLagHours[predEdges[k]]);
+            }
+            earliestStart[current] = start;
+            earliestFinish[current] = start + durations[current];
+            scheduled[current] = true;
+            projectFinish = Math.max(projectFinish, earliestFinish[current]);
+        }
+
+        // Backward pass
+        for (int t = topologicalOrder.length - 1; t >= 0; t--) {
+            int current = topologicalOrder[t];
+            double finish = Double.MAX_VALUE;
+            for (int k = succOffsets[current]; k < succOffsets[current + 1]; k++) {
+                int next = succTargets[k];
+                if (scheduled[next]) {
+                    finish = Math.min(finish, latestStart[next] - edgeLagHours[succEdges[k]]);
+                }
+            }
+            latestFinish[current] = finish == Double.MAX_VALUE ? projectFinish : finish;
+            latestStart[current] = latestFinish[current] - durations[current];
+        }
+
+        return new CriticalPathTimes(this, earliestStart, earliestFinish, latestStart, latestFinish,
+                                     scheduled, projectFinish);
+    }
+
+    /**
+     * Result of the CPM passes, indexed by task index.
+     */
+    public static final class CriticalPathTimes {
+        private final ProjectDependencyGraph graph;
+        private final double[] earliestStart;
+        private final double[] earliestFinish;
+        private final double[] latestStart;
+        private final double[] latestFinish;
+        private final boolean[] scheduled;
+        private final double projectFinish;
+
+        private CriticalPathTimes(ProjectDependencyGraph graph, double[] earliestStart, double[] earliestFinish,
+                                  double[] latestStart, double[] latestFinish, boolean[] scheduled,
+                                  double projectFinish) {
+            this.graph = graph;
+            this.earliestStart = earliestStart;
+            this.earliestFinish = earliestFinish;
+            this.latestStart = latestStart;
+            this.latestFinish = latestFinish;
+            this.scheduled = scheduled;
+            this.projectFinish = projectFinish;
+        }
+
+        public boolean isScheduled(int index) { return scheduled[index]; }
+        public double getEarliestStart(int index) { return earliestStart[index]; }
+        public double getEarliestFinish(int index) { return earliestFinish[index]; }
+        public double getLatestStart(int index) { return latestStart[index]; }
+        public double getLatestFinish(int index) { return latestFinish[index]; }
+        public double getTotalFloat(int index) { return latestStart[index] - earliestStart[index]; }
+        public double getProjectFinish() { return projectFinish; }
+
+        public boolean isCritical(int index) {
+            return scheduled[index] && Math.abs(getTotalFloat(index)) < CRITICAL_FLOAT_TOLERANCE;
+        }
+
+        /**
+         * @return scheduled tasks mapped to their total float in hours
+         */
+        public Map<Task, Double> getTaskFloats() {
+            Map<Task, Double> floats = new HashMap<>();
+            for (int i = 0; i < graph.size(); i++) {
+                if (scheduled[i]) {
+                    floats.put(graph.taskAt(i), getTotalFloat(i));
+                }
+            }
+            return floats;
+        }
+
+        /**
+         * @return critical tasks in project task order
+         */
+        public List<Task> getCriticalTasks() {
+            List<Task> critical = new ArrayList<>();
+            for (int i = 0; i < graph.size(); i++) {
+                if (isCritical(i)) {
+                    critical.add(graph.taskAt(i));
+                }
+            }
+            return critical;
+        }
+
+        /**
+         * @return active dependencies whose both ends are critical
+         */
+        public List<TaskDependency> getCriticalDependencies() {
+            List<TaskDependency> critical = new ArrayList<>();
+            for (int e = 0; e < graph.edgeCount(); e++) {
+                if (isCritical(graph.edgeSource(e)) && isCritical(graph.edgeTarget(e))) {
+                    critical.add(graph.edgeAt(e));
+                }
+            }
+            return critical;
+        }
+    }
+}
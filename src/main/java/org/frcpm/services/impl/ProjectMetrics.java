@@ -0,0 +1,166 @@
+// src/main/java/org/frcpm/services/impl/ProjectMetrics.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Immutable view of one project's task and milestone metrics as of a given
+ * day, served by {@link ProjectMetricsStore}.
+ *
+ * Counts are read as-is. Velocity is kept as completions per day for the
+ * last {@link #VELOCITY_HORIZON_DAYS} days; a task's completion day is its
+ * end date, which is the same proxy the dashboard's recent activity uses.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class ProjectMetrics {
+
+    /** Days of completion history kept in a snapshot */
+    public static final int VELOCITY_HORIZON_DAYS = 365;
+
+    /** Days ahead counted as upcoming for milestones */
+    public static final int UPCOMING_MILESTONE_DAYS = 30;
+
+    private final Long projectId;
+    private final LocalDate asOf;
+    private final int totalTasks;
+    private final int completedTasks;
+    private final int inProgressTasks;
+    private final int overdueTasks;
+    private final Map<Task.Priority, Integer> priorityCounts;
+    private final int totalMilestones;
+    private final int upcomingMilestones;
+    private final NavigableMap<LocalDate, Integer> completionsByDay;
+
+    ProjectMetrics(Long projectId, LocalDate asOf, int totalTasks, int completedTasks, int inProgressTasks,
+                   int overdueTasks, Map<Task.Priority, Integer> priorityCounts, int totalMilestones,
+                   int upcomingMilestones, NavigableMap<LocalDate, Integer> completionsByDay) {
+        this.projectId = projectId;
+        this.asOf = asOf;
+        this.totalTasks = totalTasks;
+        this.completedTasks = completedTasks;
+        this.inProgressTasks = inProgressTasks;
+        this.overdueTasks = overdueTasks;
+        this.priorityCounts = Collections.unmodifiableMap(new EnumMap<>(priorityCounts));
+        this.totalMilestones = totalMilestones;
+        this.upcomingMilestones = upcomingMilestones;
+        this.completionsByDay = Collections.unmodifiableNavigableMap(new TreeMap<>(completionsByDay));
+    }
+
+    public Long getProjectId() { return projectId; }
+    public LocalDate getAsOf() { return asOf; }
+    public int getTotalTasks() { return totalTasks; }
+    public int getCompletedTasks() { return completedTasks; }
+    public int getInProgressTasks() { return inProgressTasks; }
+    public int getTodoTasks() { return totalTasks - completedTasks - inProgressTasks; }
+    public int getOverdueTasks() { return overdueTasks; }
+    public int getTotalMilestones() { return totalMilestones; }
+    public int getUpcomingMilestones() { return upcomingMilestones; }
+
+    /**
+     * @return completed tasks as a percentage of all tasks, 0 when there are none
+     */
+    public double getCompletionPercentage() {
+        return totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0;
+    }
+
+    /**
+     * @param priority the priority
+     * @return number of tasks with that priority
+     */
+    public int getPriorityCount(Task.Priority priority) {
+        return priorityCounts.getOrDefault(priority, 0);
+    }
+
+    /**
+     * @return task counts by priority name, for priorities with at least one task
+     */
+    public Map<String, Long> getPriorityDistribution() {
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        priorityCounts.forEach((priority, count) -> {
+            if (count > 0) {
+                distribution.put(priority.name(), count.longValue());
+            }
+        });
+        return distribution;
+    }
+
+    /**
+     * @param periodDays days to look back, including today
+     * @return tasks completed in the period
+     */
+    public int getCompletionsInLast(int periodDays) {
+        int sum = 0;
+        for (int count : completionsByDay.subMap(periodStart(periodDays), true, asOf, true).values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * @param periodDays days to look back, including today
+     * @return average tasks completed per day over the period
+     */
+    public double getAverageCompletionsPerDay(int periodDays) {
+        return periodDays > 0 ? (double) getCompletionsInLast(periodDays) / periodDays : 0;
+    }
+
+    /**
+     * Tasks completed per calendar week, oldest first, for the weeks
+     * (Monday to Sunday) that overlap the period. Weeks without completions
+     * are included with a count of zero.
+     *
+     * @param periodDays days to look back, including today
+     * @return completions keyed by the Monday starting each week
+     */
+    public NavigableMap<LocalDate, Integer> getWeeklyCompletions(int periodDays) {
+        NavigableMap<LocalDate, Integer> weeks = new TreeMap<>();
+        LocalDate start = periodStart(periodDays);
+        for (LocalDate week = weekStart(start); !week.isAfter(asOf); week = week.plusWeeks(1)) {
+            weeks.put(week, 0);
+        }
+        completionsByDay.subMap(start, true, asOf, true)
+            .forEach((day, count) -> weeks.merge(weekStart(day), count, Integer::sum));
+        return weeks;
+    }
+
+    /**
+     * Variability of weekly completions over the period, as the coefficient
+     * of variation (standard deviation over mean). 0 when nothing was
+     * completed in the period.
+     *
+     * @param periodDays days to look back, including today
+     * @return the coefficient of variation of weekly completions
+     */
+    public double getVelocityVariation(int periodDays) {
+        Collection<Integer> weeks = getWeeklyCompletions(periodDays).values();
+        double mean = weeks.stream().mapToInt(Integer::intValue).average().orElse(0);
+        if (mean == 0) {
+            return 0;
+        }
+        double variance = weeks.stream().mapToDouble(count -> (count - mean) * (count - mean)).sum() / weeks.size();
+        return Math.sqrt(variance) / mean;
+    }
+
+    private LocalDate periodStart(int periodDays) {
+        return asOf.minusDays(Math.max(1, Math.min(periodDays, VELOCITY_HORIZON_DAYS)) - 1L);
+    }
+
+    private static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectMetrics{projectId=" + projectId + ", asOf=" + asOf + ", totalTasks=" + totalTasks +
+               ", completedTasks=" + completedTasks + ", overdueTasks=" + overdueTasks + "}";
+    }
+}
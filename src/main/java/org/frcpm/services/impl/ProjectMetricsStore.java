@@ -0,0 +1,477 @@
+// src/main/java/org/frcpm/services/impl/ProjectMetricsStore.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.MilestoneChangedEvent;
+import org.frcpm.events.TaskChangedEvent;
+import org.frcpm.events.TeamMembershipChangedEvent;
+import org.frcpm.models.Milestone;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TeamMember;
+import org.frcpm.repositories.spring.MilestoneRepository;
+import org.frcpm.repositories.spring.SubteamRepository;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.repositories.spring.TeamMemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Materialized per-project metrics for the dashboard and analytics.
+ *
+ * A project's aggregate is loaded once, on first read, and from then on is
+ * kept current from committed task and milestone events: only the changed
+ * row is reloaded and its old contribution is swapped for the new one, so
+ * totals, priority counts, overdue counts and completion history never need
+ * the project's tasks again. Reads return an immutable {@link ProjectMetrics}
+ * that is reused until the next change or the next day.
+ *
+ * Team membership counts are kept the same way from membership events.
+ *
+ * As in {@link ProjectScheduleSnapshotCache}, each project carries a change
+ * generation: an aggregate whose load overlapped a change is returned to its
+ * caller but never kept.
+ *
+ * Events only reach the instance that made the change, so an aggregate is
+ * also reloaded once it is older than {@code app.analytics.metrics-max-age-ms}.
+ * On a multi-instance deployment that bounds how long another instance's
+ * changes go unseen.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Component
+public class ProjectMetricsStore {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectMetricsStore.class.getName());
+
+    private final TaskRepository taskRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final SubteamRepository subteamRepository;
+    private final long maxAgeNanos;
+
+    private final ConcurrentMap<Long, ProjectAggregate> aggregates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> projectByTask = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> projectByMilestone = new ConcurrentHashMap<>();
+
+    private final Object teamLock = new Object();
+    private TeamAggregate team;
+    private long teamGeneration;
+
+    @Autowired
+    public ProjectMetricsStore(TaskRepository taskRepository,
+                               MilestoneRepository milestoneRepository,
+                               TeamMemberRepository teamMemberRepository,
+                               SubteamRepository subteamRepository,
+                               @Value("${app.analytics.metrics-max-age-ms:300000}") long maxAgeMillis) {
+        this.taskRepository = taskRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.subteamRepository = subteamRepository;
+        this.maxAgeNanos = Duration.ofMillis(maxAgeMillis).toNanos();
+    }
+
+    /**
+     * @param project the project
+     * @return the project's metrics as of today, or null for a null or unsaved project
+     */
+    public ProjectMetrics get(Project project) {
+        return get(project, LocalDate.now());
+    }
+
+    /**
+     * @param project the project
+     * @param today the day overdue and upcoming counts are relative to
+     * @return the project's metrics, or null for a null or unsaved project
+     */
+    public ProjectMetrics get(Project project, LocalDate today) {
+        if (project == null || project.getId() == null) {
+            return null;
+        }
+        ProjectAggregate aggregate = aggregates.get(project.getId());
+        if (aggregate != null && isExpired(aggregate.loadedAt)) {
+            aggregates.remove(project.getId(), aggregate);
+            aggregate = null;
+        }
+        if (aggregate == null) {
+            aggregate = load(project);
+        }
+        return aggregate.snapshot(today);
+    }
+
+    /**
+     * @return team membership counts
+     */
+    public TeamMetrics getTeamMetrics() {
+        long generation;
+        synchronized (teamLock) {
+            if (team != null && isExpired(team.loadedAt)) {
+                team = null;
+            }
+            if (team != null) {
+                return team.snapshot();
+            }
+            generation = teamGeneration;
+        }
+
+        TeamAggregate loaded = new TeamAggregate(subteamRepository.count());
+        for (Object[] row : teamMemberRepository.findMembershipRows()) {
+            loaded.putMember((Long) row[0], new MemberFacts((Long) row[2], Boolean.TRUE.equals(row[1])));
+        }
+
+        TeamMetrics metrics = loaded.snapshot();
+        synchronized (teamLock) {
+            if (team == null && teamGeneration == generation) {
+                team = loaded;
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Drops a project's aggregate, for changes that bypass the events such
+     * as deleting the project with its tasks. Inside a transaction it is
+     * dropped once the transaction commits, so a read made before then
+     * cannot put the old aggregate back.
+     */
+    public void evict(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    drop(projectId);
+                }
+            });
+        } else {
+            drop(projectId);
+        }
+    }
+
+    // =========================================================================
+    // CHANGE LISTENERS
+    // =========================================================================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long taskId = event.getTaskId();
+        if (taskId == null) {
+            return;
+        }
+        Long projectId = event.getProjectId();
+        TaskFacts facts = null;
+        if (event.getChangeType() != TaskChangedEvent.ChangeType.DELETED) {
+            Task task = taskRepository.findById(taskId).orElse(null);
+            if (task != null && task.getProject() != null) {
+                facts = TaskFacts.of(task);
+                projectId = task.getProject().getId();
+            }
+        }
+        TaskFacts current = facts;
+        relocate(projectByTask, taskId, projectId, current != null,
+                 aggregate -> aggregate.putTask(taskId, current),
+                 aggregate -> aggregate.putTask(taskId, null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMilestoneChanged(MilestoneChangedEvent event) {
+        Long milestoneId = event.getMilestoneId();
+        if (milestoneId == null) {
+            return;
+        }
+        Long projectId = event.getProjectId();
+        Milestone milestone = null;
+        if (event.getChangeType() != MilestoneChangedEvent.ChangeType.DELETED) {
+            milestone = milestoneRepository.findById(milestoneId).orElse(null);
+            if (milestone != null && milestone.getProject() != null) {
+                projectId = milestone.getProject().getId();
+            }
+        }
+        LocalDate date = milestone != null ? milestone.getDate() : null;
+        relocate(projectByMilestone, milestoneId, projectId, milestone != null,
+                 aggregate -> aggregate.putMilestone(milestoneId, date),
+                 aggregate -> aggregate.removeMilestone(milestoneId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamMembershipChanged(TeamMembershipChangedEvent event) {
+        Long memberId = event.getMemberId();
+        MemberFacts facts = null;
+        if (memberId != null && event.getChangeType() != TeamMembershipChangedEvent.ChangeType.DELETED) {
+            TeamMember member = teamMemberRepository.findById(memberId).orElse(null);
+            if (member != null) {
+                facts = new MemberFacts(member.getSubteam() != null ? member.getSubteam().getId() : null,
+                                        member.isLeader());
+            }
+        }
+        synchronized (teamLock) {
+            teamGeneration++;
+            if (team == null) {
+                return;
+            }
+            if (memberId == null) {
+                // Subteam created or deleted; recount on next read
+                team = null;
+            } else {
+                team.putMember(memberId, facts);
+            }
+        }
+    }
+
+    // =========================================================================
+    // PRIVATE HELPERS
+    // =========================================================================
+
+    private void drop(Long projectId) {
+        aggregates.compute(projectId, (id, aggregate) -> {
+            generations.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    private boolean isExpired(long loadedAt) {
+        return System.nanoTime() - loadedAt >= maxAgeNanos;
+    }
+
+    private ProjectAggregate load(Project project) {
+        Long projectId = project.getId();
+        long generation = generations.getOrDefault(projectId, 0L);
+
+        ProjectAggregate loaded = new ProjectAggregate(projectId);
+        List<Task> tasks = taskRepository.findByProject(project);
+        if (tasks != null) {
+            for (Task task : tasks) {
+                if (task != null && task.getId() != null) {
+                    loaded.putTask(task.getId(), TaskFacts.of(task));
+                }
+            }
+        }
+        List<Milestone> milestones = milestoneRepository.findByProject(project);
+        if (milestones != null) {
+            for (Milestone milestone : milestones) {
+                if (milestone != null && milestone.getId() != null) {
+                    loaded.putMilestone(milestone.getId(), milestone.getDate());
+                }
+            }
+        }
+
+        // Same bin lock as update(), so the generation check and the put are atomic
+        ProjectAggregate kept = aggregates.compute(projectId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            if (generations.getOrDefault(id, 0L) != generation) {
+                return null;
+            }
+            loaded.taskIds().forEach(taskId -> projectByTask.put(taskId, id));
+            loaded.milestoneIds().forEach(milestoneId -> projectByMilestone.put(milestoneId, id));
+            return loaded;
+        });
+        LOGGER.log(Level.FINE, "Loaded metrics for project {0} ({1} tasks)",
+                   new Object[]{projectId, loaded.taskIds().size()});
+        return kept != null ? kept : loaded;
+    }
+
+    /**
+     * Applies one row's change to the project it now belongs to, first
+     * removing it from the project it belonged to before if that differs.
+     */
+    private void relocate(ConcurrentMap<Long, Long> index, Long rowId, Long projectId, boolean present,
+                          Consumer<ProjectAggregate> apply, Consumer<ProjectAggregate> remove) {
+        Long previous = present && projectId != null ? index.put(rowId, projectId) : index.remove(rowId);
+        if (previous != null && !previous.equals(projectId)) {
+            update(previous, remove);
+        }
+        if (projectId != null) {
+            update(projectId, present ? apply : remove);
+        }
+    }
+
+    private void update(Long projectId, Consumer<ProjectAggregate> change) {
+        aggregates.compute(projectId, (id, aggregate) -> {
+            generations.merge(id, 1L, Long::sum);
+            if (aggregate != null) {
+                change.accept(aggregate);
+            }
+            return aggregate;
+        });
+    }
+
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    /**
+     * The parts of a task that feed the metrics.
+     */
+    private record TaskFacts(Task.Priority priority, int progress, boolean completed, LocalDate endDate) {
+        static TaskFacts of(Task task) {
+            return new TaskFacts(task.getPriority(), task.getProgress(), task.isCompleted(), task.getEndDate());
+        }
+    }
+
+    private record MemberFacts(Long subteamId, boolean leader) {
+    }
+
+    /**
+     * Running counts for one project; every method holds the aggregate's lock.
+     */
+    private static final class ProjectAggregate {
+
+        private final Long projectId;
+        private final long loadedAt = System.nanoTime();
+        private final Map<Long, TaskFacts> tasks = new HashMap<>();
+        private final Map<Task.Priority, Integer> priorities = new EnumMap<>(Task.Priority.class);
+        private final NavigableMap<LocalDate, Integer> openByEndDate = new TreeMap<>();
+        private final NavigableMap<LocalDate, Integer> completedByDay = new TreeMap<>();
+        private int completed;
+        private int inProgress;
+
+        private final Map<Long, LocalDate> milestones = new HashMap<>();
+        private final NavigableMap<LocalDate, Integer> milestoneDates = new TreeMap<>();
+
+        private ProjectMetrics snapshot;
+
+        ProjectAggregate(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        synchronized void putTask(Long taskId, TaskFacts facts) {
+            TaskFacts previous = facts != null ? tasks.put(taskId, facts) : tasks.remove(taskId);
+            if (previous != null) {
+                count(previous, -1);
+            }
+            if (facts != null) {
+                count(facts, 1);
+            }
+            snapshot = null;
+        }
+
+        synchronized void putMilestone(Long milestoneId, LocalDate date) {
+            removeMilestone(milestoneId);
+            milestones.put(milestoneId, date);
+            if (date != null) {
+                adjust(milestoneDates, date, 1);
+            }
+            snapshot = null;
+        }
+
+        synchronized void removeMilestone(Long milestoneId) {
+            if (milestones.containsKey(milestoneId)) {
+                LocalDate previous = milestones.remove(milestoneId);
+                if (previous != null) {
+                    adjust(milestoneDates, previous, -1);
+                }
+                snapshot = null;
+            }
+        }
+
+        synchronized Set<Long> taskIds() {
+            return new HashSet<>(tasks.keySet());
+        }
+
+        synchronized Set<Long> milestoneIds() {
+            return new HashSet<>(milestones.keySet());
+        }
+
+        synchronized ProjectMetrics snapshot(LocalDate today) {
+            ProjectMetrics current = snapshot;
+            if (current != null && current.getAsOf().equals(today)) {
+                return current;
+            }
+            int overdue = sum(openByEndDate.headMap(today, false));
+            int upcoming = sum(milestoneDates.subMap(
+                today, true, today.plusDays(ProjectMetrics.UPCOMING_MILESTONE_DAYS), true));
+            NavigableMap<LocalDate, Integer> recentCompletions = completedByDay.subMap(
+                today.minusDays(ProjectMetrics.VELOCITY_HORIZON_DAYS - 1L), true, today, true);
+            current = new ProjectMetrics(projectId, today, tasks.size(), completed, inProgress, overdue,
+                                         priorities, milestones.size(), upcoming, recentCompletions);
+            snapshot = current;
+            return current;
+        }
+
+        private void count(TaskFacts facts, int delta) {
+            if (facts.priority() != null) {
+                adjust(priorities, facts.priority(), delta);
+            }
+            if (facts.completed()) {
+                completed += delta;
+                if (facts.endDate() != null) {
+                    adjust(completedByDay, facts.endDate(), delta);
+                }
+            } else {
+                if (facts.progress() > 0) {
+                    inProgress += delta;
+                }
+                if (facts.endDate() != null) {
+                    adjust(openByEndDate, facts.endDate(), delta);
+                }
+            }
+        }
+
+        private static int sum(Map<LocalDate, Integer> counts) {
+            int sum = 0;
+            for (int count : counts.values()) {
+                sum += count;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Running membership counts; guarded by the store's team lock.
+     */
+    private static final class TeamAggregate {
+
+        private final long subteams;
+        private final long loadedAt = System.nanoTime();
+        private final Map<Long, MemberFacts> members = new HashMap<>();
+        private final Map<Long, Integer> membersBySubteam = new HashMap<>();
+        private int leaders;
+
+        TeamAggregate(long subteams) {
+            this.subteams = subteams;
+        }
+
+        void putMember(Long memberId, MemberFacts facts) {
+            MemberFacts previous = facts != null ? members.put(memberId, facts) : members.remove(memberId);
+            if (previous != null) {
+                count(previous, -1);
+            }
+            if (facts != null) {
+                count(facts, 1);
+            }
+        }
+
+        TeamMetrics snapshot() {
+            return new TeamMetrics(members.size(), leaders, subteams, membersBySubteam.size());
+        }
+
+        private void count(MemberFacts facts, int delta) {
+            if (facts.leader()) {
+                leaders += delta;
+            }
+            if (facts.subteamId() != null) {
+                adjust(membersBySubteam, facts.subteamId(), delta);
+            }
+        }
+    }
+}
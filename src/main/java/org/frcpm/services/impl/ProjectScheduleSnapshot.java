@@ -0,0 +1,241 @@
+// src/main/java/org/frcpm/services/impl/ProjectScheduleSnapshot.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.DependencyType;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+
+import java.util.*;
+
+/**
+ * Immutable, versioned view of one project's schedule for the Gantt endpoints.
+ *
+ * Holds the tasks, active dependency edges, CPM times, total floats and
+ * fan-in/fan-out counts computed from a single load of the project, so every
+ * Gantt request made while the project is unchanged is answered from memory.
+ * Everything derived is computed once at build time; the snapshot is never
+ * modified afterwards and is replaced wholesale when the project changes.
+ *
+ * Tasks must be loaded with their subsystem and assignees fetched, since the
+ * snapshot outlives the session that loaded them.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class ProjectScheduleSnapshot {
+
+    private final long version;
+    private final Project project;
+    private final List<Task> tasks;
+    private final Map<Long, Integer> indexByTaskId;
+    private final boolean acyclic;
+
+    // CPM times in hours from project start, indexed like tasks
+    private final double[] earliestStart;
+    private final double[] earliestFinish;
+    private final double[] latestStart;
+    private final double[] latestFinish;
+    private final boolean[] scheduled;
+    private final boolean[] critical;
+    private final double projectFinishHours;
+
+    private final int[] fanIn;
+    private final int[] fanOut;
+
+    // Active edges, prerequisite to dependent
+    private final long[] edgePrerequisite;
+    private final long[] edgeDependent;
+    private final DependencyType[] edgeType;
+    private final double[] edgeLagHours;
+
+    private final List<Long> criticalPath;
+    private final Map<Long, List<Long>> dependentsByTaskId;
+    private final List<Long> bottlenecks;
+
+    private ProjectScheduleSnapshot(long version, Project project, ProjectDependencyGraph graph) {
+        this.version = version;
+        this.project = project;
+        this.acyclic = graph.isAcyclic();
+
+        int n = graph.size();
+        this.tasks = graph.getTasks();
+        this.indexByTaskId = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexByTaskId.put(graph.taskAt(i).getId(), i);
+        }
+
+        ProjectDependencyGraph.CriticalPathTimes times = graph.computeCriticalPath();
+        this.earliestStart = new double[n];
+        this.earliestFinish = new double[n];
+        this.latestStart = new double[n];
+        this.latestFinish = new double[n];
+        this.scheduled = new boolean[n];
+        this.critical = new boolean[n];
+        this.fanIn = new int[n];
+        this.fanOut = new int[n];
+        for (int i = 0; i < n; i++) {
+            earliestStart[i] = times.getEarliestStart(i);
+            earliestFinish[i] = times.getEarliestFinish(i);
+            latestStart[i] = times.getLatestStart(i);
+            latestFinish[i] = times.getLatestFinish(i);
+            scheduled[i] = times.isScheduled(i);
+            critical[i] = times.isCritical(i);
+            fanIn[i] = graph.inDegree(i);
+            fanOut[i] = graph.outDegree(i);
+        }
+        this.projectFinishHours = times.getProjectFinish();
+
+        int edges = graph.edgeCount();
+        this.edgePrerequisite = new long[edges];
+        this.edgeDependent = new long[edges];
+        this.edgeType = new DependencyType[edges];
+        this.edgeLagHours = new double[edges];
+        Map<Long, List<Long>> dependents = new LinkedHashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            dependents.put(graph.taskAt(i).getId(), new ArrayList<>(fanOut[i]));
+        }
+        for (int e = 0; e < edges; e++) {
+            TaskDependency dependency = graph.edgeAt(e);
+            edgePrerequisite[e] = graph.taskAt(graph.edgeSource(e)).getId();
+            edgeDependent[e] = graph.taskAt(graph.edgeTarget(e)).getId();
+            edgeType[e] = dependency.getDependencyType() != null
+                ? dependency.getDependencyType() : DependencyType.FINISH_TO_START;
+            edgeLagHours[e] = graph.edgeLagHours(e);
+            dependents.get(edgePrerequisite[e]).add(edgeDependent[e]);
+        }
+        dependents.replaceAll((taskId, ids) -> Collections.unmodifiableList(ids));
+        this.dependentsByTaskId = Collections.unmodifiableMap(dependents);
+
+        this.criticalPath = Collections.unmodifiableList(orderCriticalPath());
+        this.bottlenecks = Collections.unmodifiableList(rankBottlenecks());
+    }
+
+    /**
+     * Builds a snapshot from freshly loaded project data.
+     *
+     * @param version version number assigned by the cache
+     * @param project the project
+     * @param tasks all tasks of the project
+     * @param dependencies active dependencies of the project
+     * @return the snapshot
+     */
+    static ProjectScheduleSnapshot build(long version, Project project, List<Task> tasks,
+                                         List<TaskDependency> dependencies) {
+        return new ProjectScheduleSnapshot(version, project, ProjectDependencyGraph.build(tasks, dependencies));
+    }
+
+    private List<Long> orderCriticalPath() {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (critical[i]) {
+                indexes.add(i);
+            }
+        }
+        indexes.sort(Comparator.<Integer>comparingDouble(i -> earliestStart[i])
+                               .thenComparingDouble(i -> earliestFinish[i]));
+        List<Long> ids = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            ids.add(tasks.get(i).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Open tasks that gate the most work: highest combined fan-in and fan-out,
+     * critical tasks before non-critical ones, then least float. The top
+     * quarter of the project is reported.
+     */
+    private List<Long> rankBottlenecks() {
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (!tasks.get(i).isCompleted() && fanIn[i] + fanOut[i] > 0) {
+                candidates.add(i);
+            }
+        }
+        candidates.sort(Comparator.<Integer>comparingInt(i -> -(fanIn[i] + fanOut[i]))
+                                  .thenComparing(i -> !critical[i])
+                                  .thenComparingDouble(this::getTotalFloatHours)
+                                  .thenComparing(i -> tasks.get(i).getId()));
+
+        int limit = Math.max(1, tasks.size() / 4);
+        List<Long> ids = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int k = 0; k < candidates.size() && k < limit; k++) {
+            ids.add(tasks.get(candidates.get(k)).getId());
+        }
+        return ids;
+    }
+
+    // =========================================================================
+    // PROJECT-LEVEL VIEWS
+    // =========================================================================
+
+    public long getVersion() { return version; }
+    public Project getProject() { return project; }
+    public Long getProjectId() { return project.getId(); }
+
+    /**
+     * @return false when the dependency network contains cycles; cyclic tasks
+     *         are left unscheduled and never critical
+     */
+    public boolean isAcyclic() { return acyclic; }
+
+    public double getProjectFinishHours() { return projectFinishHours; }
+
+    /**
+     * @return all project tasks; index positions match the per-task accessors
+     */
+    public List<Task> getTasks() { return tasks; }
+
+    public int size() { return tasks.size(); }
+
+    /**
+     * @param taskId the task ID
+     * @return index of the task, or -1 if it is not part of the snapshot
+     */
+    public int indexOf(Long taskId) {
+        Integer index = indexByTaskId.get(taskId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @return critical task IDs ordered by earliest start
+     */
+    public List<Long> getCriticalPath() { return criticalPath; }
+
+    /**
+     * @return every task ID mapped to the IDs of tasks directly depending on it
+     */
+    public Map<Long, List<Long>> getDependentsByTaskId() { return dependentsByTaskId; }
+
+    /**
+     * @return bottleneck task IDs, most connected first
+     */
+    public List<Long> getBottlenecks() { return bottlenecks; }
+
+    // =========================================================================
+    // PER-TASK VIEWS
+    // =========================================================================
+
+    public boolean isScheduled(int index) { return scheduled[index]; }
+    public boolean isCritical(int index) { return critical[index]; }
+    public double getEarliestStartHours(int index) { return earliestStart[index]; }
+    public double getEarliestFinishHours(int index) { return earliestFinish[index]; }
+    public double getLatestStartHours(int index) { return latestStart[index]; }
+    public double getLatestFinishHours(int index) { return latestFinish[index]; }
+    public double getTotalFloatHours(int index) { return latestStart[index] - earliestStart[index]; }
+    public int getFanIn(int index) { return fanIn[index]; }
+    public int getFanOut(int index) { return fanOut[index]; }
+
+    // =========================================================================
+    // EDGES
+    // =========================================================================
+
+    public int edgeCount() { return edgePrerequisite.length; }
+    public long getEdgePrerequisiteId(int edge) { return edgePrerequisite[edge]; }
+    public long getEdgeDependentId(int edge) { return edgeDependent[edge]; }
+    public DependencyType getEdgeType(int edge) { return edgeType[edge]; }
+    public double getEdgeLagHours(int edge) { return edgeLagHours[edge]; }
+}
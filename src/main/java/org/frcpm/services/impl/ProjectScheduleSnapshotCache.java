@@ -0,0 +1,98 @@
+// src/main/java/org/frcpm/services/impl/ProjectScheduleSnapshotCache.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.DependencyChangedEvent;
+import org.frcpm.events.TaskChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-project cache of Gantt schedule snapshots.
+ *
+ * Any committed task or dependency write drops the project's snapshot; the
+ * next Gantt request rebuilds it from one load. Each project also carries an
+ * invalidation generation: a snapshot whose load started before a concurrent
+ * invalidation is returned to its caller but never cached, so a stale view
+ * cannot outlive the write that made it stale.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Component
+public class ProjectScheduleSnapshotCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectScheduleSnapshotCache.class.getName());
+
+    private final ConcurrentMap<Long, ProjectScheduleSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * @param projectId the project ID
+     * @return the cached snapshot, or null if none is cached
+     */
+    public ProjectScheduleSnapshot get(Long projectId) {
+        return projectId != null ? snapshots.get(projectId) : null;
+    }
+
+    /**
+     * Returns the cached snapshot, or loads and caches a new one.
+     *
+     * @param projectId the project ID
+     * @param loader builds a snapshot with the given version, or returns null
+     *               if the project does not exist
+     * @return the snapshot, or null if the loader found no project
+     */
+    public ProjectScheduleSnapshot resolve(Long projectId, LongFunction<ProjectScheduleSnapshot> loader) {
+        ProjectScheduleSnapshot cached = snapshots.get(projectId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generations.getOrDefault(projectId, 0L);
+        ProjectScheduleSnapshot loaded = loader.apply(versionSequence.incrementAndGet());
+        if (loaded == null) {
+            return null;
+        }
+
+        // Same bin lock as invalidate(), so the generation check and the put are atomic
+        snapshots.compute(projectId, (id, current) ->
+            generations.getOrDefault(id, 0L) == generation ? loaded : current);
+        LOGGER.log(Level.FINE, "Built schedule snapshot for project {0} (version {1})",
+                  new Object[]{projectId, loaded.getVersion()});
+        return loaded;
+    }
+
+    public void invalidate(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        snapshots.compute(projectId, (id, current) -> {
+            generations.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    // =========================================================================
+    // CHANGE LISTENERS
+    // =========================================================================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate(event.getProjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDependencyChanged(DependencyChangedEvent event) {
+        invalidate(event.getProjectId());
+    }
+}
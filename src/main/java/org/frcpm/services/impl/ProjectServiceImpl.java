@@ -3,7 +3,6 @@
 package org.frcpm.services.impl;
 
 import org.frcpm.models.Project;
-import org.frcpm.models.Task;
 import org.frcpm.repositories.spring.ProjectRepository;
 import org.frcpm.repositories.spring.TaskRepository;
 import org.frcpm.services.ProjectService;
@@ -40,14 +39,17 @@ public class ProjectServiceImpl implements ProjectService {
     private final TaskRepository taskRepository;
     
     private final WebSocketEventPublisher webSocketEventPublisher;
+    private final ProjectMetricsStore projectMetricsStore;
 
     // UPDATE CONSTRUCTOR (add WebSocketEventPublisher parameter):
     public ProjectServiceImpl(ProjectRepository projectRepository, 
                              TaskRepository taskRepository,
-                             WebSocketEventPublisher webSocketEventPublisher) {
+                             WebSocketEventPublisher webSocketEventPublisher,
+                             ProjectMetricsStore projectMetricsStore) {
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.webSocketEventPublisher = webSocketEventPublisher;
+        this.projectMetricsStore = projectMetricsStore;
     }
     
     // =========================================================================
@@ -85,6 +87,7 @@ public class ProjectServiceImpl implements ProjectService {
         if (entity != null) {
             try {
                 projectRepository.delete(entity);
+                projectMetricsStore.evict(entity.getId());
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error deleting project", e);
                 throw new RuntimeException("Failed to delete project", e);
@@ -97,6 +100,7 @@ public class ProjectServiceImpl implements ProjectService {
         if (id != null && projectRepository.existsById(id)) {
             try {
                 projectRepository.deleteById(id);
+                projectMetricsStore.evict(id);
                 return true;
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error deleting project by ID", e);
@@ -226,20 +230,17 @@ public class ProjectServiceImpl implements ProjectService {
             summary.put("goalEndDate", project.getGoalEndDate());
             summary.put("hardDeadline", project.getHardDeadline());
             
-            // Get task statistics using TaskRepository
-            List<Task> tasks = taskRepository.findByProject(project);
-            int totalTasks = tasks != null ? tasks.size() : 0;
-            long completedTasks = tasks != null ? 
-                    tasks.stream().filter(t -> t != null && t.isCompleted()).count() : 0;
-            double completionPercentage = totalTasks > 0 ? 
-                    (double) completedTasks / totalTasks * 100 : 0;
+            // Task and milestone statistics from the materialized project metrics
+            LocalDate today = LocalDate.now();
+            ProjectMetrics metrics = projectMetricsStore.get(project, today);
             
-            summary.put("totalTasks", totalTasks);
-            summary.put("completedTasks", (int) completedTasks);
-            summary.put("completionPercentage", completionPercentage);
+            summary.put("totalTasks", metrics.getTotalTasks());
+            summary.put("completedTasks", metrics.getCompletedTasks());
+            summary.put("inProgressTasks", metrics.getInProgressTasks());
+            summary.put("overdueTasks", metrics.getOverdueTasks());
+            summary.put("completionPercentage", metrics.getCompletionPercentage());
             
             // Calculate days remaining
-            LocalDate today = LocalDate.now();
             long daysUntilGoal = project.getGoalEndDate() != null ? 
                     java.time.temporal.ChronoUnit.DAYS.between(today, project.getGoalEndDate()) : 0;
             long daysUntilDeadline = project.getHardDeadline() != null ? 
@@ -248,9 +249,8 @@ public class ProjectServiceImpl implements ProjectService {
             summary.put("daysUntilGoal", daysUntilGoal);
             summary.put("daysUntilDeadline", daysUntilDeadline);
             
-            // Count milestones
-            int totalMilestones = project.getMilestones() != null ? project.getMilestones().size() : 0;
-            summary.put("totalMilestones", totalMilestones);
+            summary.put("totalMilestones", metrics.getTotalMilestones());
+            summary.put("upcomingMilestones", metrics.getUpcomingMilestones());
             
             return summary;
         } catch (Exception e) {
@@ -0,0 +1,243 @@
+// src/main/java/org/frcpm/services/impl/ReachabilityIndex.java
+
+package org.frcpm.services.impl;
+
+import java.util.*;
+
+/**
+ * Transitive-closure index over one project's dependency DAG.
+ *
+ * Every task owns a word-packed bitset of the tasks reachable from it along
+ * prerequisite-to-dependent edges, so "is B reachable from A" is a single
+ * bit test. Adding an edge ORs the target's row into every ancestor of the
+ * source; removing one recomputes only the source and its ancestors.
+ *
+ * Rows are dense (64 tasks per long), which keeps a 600-task season project
+ * under 50 KB.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class ReachabilityIndex {
+
+    private final Map<Long, Integer> indexByTaskId;
+    private final int size;
+    private final long[][] descendants;
+
+    // Successor multiset per task and the edge each dependency contributes
+    private final int[][] successors;
+    private final int[] successorCount;
+    private final Map<Long, int[]> edgeByDependencyId = new HashMap<>();
+
+    private ReachabilityIndex(ProjectDependencyGraph graph) {
+        this.size = graph.size();
+        int words = (size + 63) >>> 6;
+
+        this.indexByTaskId = new HashMap<>(size * 2);
+        this.descendants = new long[size][words];
+        this.successors = new int[size][];
+        this.successorCount = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            indexByTaskId.put(graph.taskAt(i).getId(), i);
+            successors[i] = new int[Math.max(2, graph.outDegree(i))];
+        }
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            link(graph.edgeAt(e).getId(), graph.edgeSource(e), graph.edgeTarget(e));
+        }
+
+        // Reverse topological order: every successor row is final before it is merged
+        int[] order = graph.topologicalOrder();
+        for (int position = order.length - 1; position >= 0; position--) {
+            recompute(order[position]);
+        }
+    }
+
+    private ReachabilityIndex(ReachabilityIndex other) {
+        this.size = other.size;
+        this.indexByTaskId = new HashMap<>(other.indexByTaskId);
+        this.descendants = new long[size][];
+        this.successors = new int[size][];
+        this.successorCount = other.successorCount.clone();
+        for (int i = 0; i < size; i++) {
+            descendants[i] = other.descendants[i].clone();
+            successors[i] = other.successors[i].clone();
+        }
+        other.edgeByDependencyId.forEach((id, edge) -> edgeByDependencyId.put(id, edge.clone()));
+    }
+
+    /**
+     * Builds the closure for a compiled graph.
+     *
+     * @param graph the project dependency graph
+     * @return the index, or null when the graph contains cycles
+     */
+    static ReachabilityIndex build(ProjectDependencyGraph graph) {
+        if (!graph.isAcyclic()) {
+            return null;
+        }
+        return new ReachabilityIndex(graph);
+    }
+
+    /**
+     * @return an independent copy that can take edges without changing this index
+     */
+    synchronized ReachabilityIndex copy() {
+        return new ReachabilityIndex(this);
+    }
+
+    // =========================================================================
+    // QUERIES
+    // =========================================================================
+
+    public synchronized boolean contains(Long taskId) {
+        return indexByTaskId.containsKey(taskId);
+    }
+
+    /**
+     * @param fromTaskId the starting task ID
+     * @param toTaskId the target task ID
+     * @return true if a dependency chain leads from the first task to the second
+     */
+    public synchronized boolean reaches(Long fromTaskId, Long toTaskId) {
+        Integer from = indexByTaskId.get(fromTaskId);
+        Integer to = indexByTaskId.get(toTaskId);
+        if (from == null || to == null) {
+            return false;
+        }
+        return from.equals(to) || isSet(descendants[from], to);
+    }
+
+    /**
+     * @param index task index in the graph the closure was built from
+     * @return number of tasks transitively depending on the task
+     */
+    synchronized int reachableCount(int index) {
+        return cardinality(descendants[index]);
+    }
+
+    // =========================================================================
+    // INCREMENTAL UPDATES
+    // =========================================================================
+
+    /**
+     * Adds an active dependency edge. Known dependency IDs are ignored.
+     *
+     * @param dependencyId the dependency ID
+     * @param prerequisiteTaskId the predecessor task ID
+     * @param dependentTaskId the successor task ID
+     * @return false if a task is unknown or the edge would close a cycle
+     */
+    public synchronized boolean addDependency(Long dependencyId, Long prerequisiteTaskId, Long dependentTaskId) {
+        Integer from = indexByTaskId.get(prerequisiteTaskId);
+        Integer to = indexByTaskId.get(dependentTaskId);
+        if (dependencyId == null || from == null || to == null || from.equals(to)) {
+            return false;
+        }
+        if (edgeByDependencyId.containsKey(dependencyId)) {
+            int[] edge = edgeByDependencyId.get(dependencyId);
+            return edge[0] == from && edge[1] == to;
+        }
+        if (isSet(descendants[to], from)) {
+            return false;
+        }
+
+        link(dependencyId, from, to);
+
+        long[] reachableFromTarget = descendants[to];
+        for (int x = 0; x < size; x++) {
+            if (x == from || isSet(descendants[x], from)) {
+                long[] row = descendants[x];
+                for (int w = 0; w < row.length; w++) {
+                    row[w] |= reachableFromTarget[w];
+                }
+                set(row, to);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes a dependency edge. Unknown IDs are ignored.
+     *
+     * @param dependencyId the dependency ID
+     */
+    public synchronized void removeDependency(Long dependencyId) {
+        int[] edge = edgeByDependencyId.remove(dependencyId);
+        if (edge == null) {
+            return;
+        }
+        int from = edge[0];
+        unlink(from, edge[1]);
+
+        // Only the source and its ancestors can lose reachability. An ancestor
+        // always reaches strictly more tasks than its descendants, so ordering
+        // by the old row size is a valid reverse topological order.
+        List<Integer> affected = new ArrayList<>();
+        for (int x = 0; x < size; x++) {
+            if (x == from || isSet(descendants[x], from)) {
+                affected.add(x);
+            }
+        }
+        int[] cardinality = new int[size];
+        for (int x : affected) {
+            cardinality[x] = cardinality(descendants[x]);
+        }
+        affected.sort(Comparator.comparingInt(x -> cardinality[x]));
+        for (int x : affected) {
+            recompute(x);
+        }
+    }
+
+    // =========================================================================
+    // INTERNALS
+    // =========================================================================
+
+    private void link(Long dependencyId, int from, int to) {
+        edgeByDependencyId.put(dependencyId, new int[]{from, to});
+        if (successorCount[from] == successors[from].length) {
+            successors[from] = Arrays.copyOf(successors[from], successorCount[from] * 2);
+        }
+        successors[from][successorCount[from]++] = to;
+    }
+
+    private void unlink(int from, int to) {
+        int[] list = successors[from];
+        for (int k = 0; k < successorCount[from]; k++) {
+            if (list[k] == to) {
+                list[k] = list[--successorCount[from]];
+                return;
+            }
+        }
+    }
+
+    private void recompute(int index) {
+        long[] row = descendants[index];
+        Arrays.fill(row, 0L);
+        for (int k = 0; k < successorCount[index]; k++) {
+            int next = successors[index][k];
+            long[] nextRow = descendants[next];
+            for (int w = 0; w < row.length; w++) {
+                row[w] |= nextRow[w];
+            }
+            set(row, next);
+        }
+    }
+
+    private static boolean isSet(long[] row, int bit) {
+        return (row[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    private static void set(long[] row, int bit) {
+        row[bit >>> 6] |= 1L << bit;
+    }
+
+    private static int cardinality(long[] row) {
+        int count = 0;
+        for (long word : row) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,208 @@
+// src/main/java/org/frcpm/services/impl/ReachabilityIndexCache.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.DependencyChangedEvent;
+import org.frcpm.events.TaskChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-project cache of transitive-closure indexes used for cycle checks.
+ *
+ * The shared indexes only ever hold committed edges. A transaction that
+ * writes edges works on its own copy of the project's index (see
+ * {@link #forUpdate}), so cycle checks later in the same transaction (bulk
+ * creation) see its writes while other requests do not; the copy is
+ * dropped when the transaction completes. Committed changes reach the
+ * shared indexes through the listeners below. An index a transaction had
+ * to build from the database is installed on commit, unless another commit
+ * changed the project after the transaction first looked at it.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@Component
+public class ReachabilityIndexCache {
+
+    private final ConcurrentMap<Long, ReachabilityIndex> indexes = new ConcurrentHashMap<>();
+
+    // Bumped with every committed change, so a stale build is never installed
+    private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * @param projectId the project ID
+     * @return the index cycle checks should use: the current transaction's
+     *         own copy once it has written edges, otherwise the shared
+     *         index; null if none is cached
+     */
+    public ReachabilityIndex get(Long projectId) {
+        if (projectId == null) {
+            return null;
+        }
+        TransactionIndexes pending = pending();
+        if (pending == null) {
+            return indexes.get(projectId);
+        }
+        pending.seenGeneration.putIfAbsent(projectId, generation(projectId));
+        return pending.touched.containsKey(projectId) ? pending.touched.get(projectId) : indexes.get(projectId);
+    }
+
+    /**
+     * Gets the index an edge write should be applied to. Inside a
+     * transaction this is the transaction's own copy of the shared index.
+     *
+     * @param projectId the project ID
+     * @return the index to update, or null if none is cached
+     */
+    public ReachabilityIndex forUpdate(Long projectId) {
+        if (projectId == null) {
+            return null;
+        }
+        TransactionIndexes pending = pending();
+        if (pending == null) {
+            return indexes.get(projectId);
+        }
+        pending.seenGeneration.putIfAbsent(projectId, generation(projectId));
+        if (!pending.touched.containsKey(projectId)) {
+            ReachabilityIndex shared = indexes.get(projectId);
+            pending.touched.put(projectId, shared != null ? shared.copy() : null);
+        }
+        return pending.touched.get(projectId);
+    }
+
+    /**
+     * Caches an index built from the database. Inside a transaction it is
+     * kept for that transaction and shared once it commits.
+     *
+     * @param projectId the project ID
+     * @param index the index
+     */
+    public void put(Long projectId, ReachabilityIndex index) {
+        if (projectId == null || index == null) {
+            return;
+        }
+        TransactionIndexes pending = pending();
+        if (pending == null) {
+            indexes.put(projectId, index);
+            return;
+        }
+        pending.seenGeneration.putIfAbsent(projectId, generation(projectId));
+        pending.touched.put(projectId, index);
+        pending.built.add(projectId);
+    }
+
+    /**
+     * Drops the project's index; inside a transaction only that
+     * transaction's copy, which is rebuilt on the next check.
+     *
+     * @param projectId the project ID
+     */
+    public void invalidate(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        TransactionIndexes pending = pending();
+        if (pending == null) {
+            invalidateShared(projectId);
+            return;
+        }
+        pending.touched.put(projectId, null);
+        pending.built.remove(projectId);
+    }
+
+    private void invalidateShared(Long projectId) {
+        generations.merge(projectId, 1L, Long::sum);
+        indexes.remove(projectId);
+    }
+
+    private long generation(Long projectId) {
+        return generations.getOrDefault(projectId, 0L);
+    }
+
+    /**
+     * @return the current transaction's indexes, or null outside a transaction
+     */
+    private TransactionIndexes pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        TransactionIndexes pending = (TransactionIndexes) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new TransactionIndexes();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * The indexes one transaction has touched, by project: its own copy, or
+     * null once dropped so the shared index is not used again before the
+     * transaction ends.
+     */
+    private final class TransactionIndexes implements TransactionSynchronization {
+
+        final Map<Long, ReachabilityIndex> touched = new HashMap<>();
+        final Map<Long, Long> seenGeneration = new HashMap<>();
+        final Set<Long> built = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            // Edges on copies reach the shared indexes through onDependencyChanged
+            for (Long projectId : built) {
+                ReachabilityIndex index = touched.get(projectId);
+                if (index != null && generation(projectId) == seenGeneration.get(projectId)) {
+                    indexes.putIfAbsent(projectId, index);
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReachabilityIndexCache.this);
+        }
+    }
+
+    // =========================================================================
+    // CHANGE LISTENERS
+    // =========================================================================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // New tasks are picked up lazily when a lookup misses them
+        if (event.getChangeType() == TaskChangedEvent.ChangeType.DELETED && event.getProjectId() != null) {
+            invalidateShared(event.getProjectId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDependencyChanged(DependencyChangedEvent event) {
+        Long projectId = event.getProjectId();
+        if (projectId == null) {
+            return;
+        }
+        generations.merge(projectId, 1L, Long::sum);
+        ReachabilityIndex index = indexes.get(projectId);
+        if (index == null) {
+            return;
+        }
+
+        if (event.getChangeType() == DependencyChangedEvent.ChangeType.DELETED || !event.isActive()) {
+            index.removeDependency(event.getDependencyId());
+        } else if (!index.addDependency(event.getDependencyId(), event.getPrerequisiteTaskId(),
+                                        event.getDependentTaskId())) {
+            invalidateShared(projectId);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+// src/main/java/org/frcpm/services/impl/ReportArtifactStore.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.services.ReportJobService.Artifact;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Disk store for the output of scheduled report runs.
+ *
+ * Each run is one gzip-compressed file, {@code job-<id>/<yyyyMMdd-HHmmss>.<format>.gz}
+ * under {@code app.reports.artifact-dir}. A file is written under a
+ * temporary name and moved into place when complete, so readers never see
+ * a partial report. Files older than {@code app.reports.artifact-ttl-days}
+ * are no longer returned and are deleted by a nightly sweep.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+@Component
+public class ReportArtifactStore {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportArtifactStore.class.getName());
+
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern ARTIFACT_NAME = Pattern.compile("(\\d{8}-\\d{6})\\.([a-z]+)\\.gz");
+    private static final Pattern JOB_DIR = Pattern.compile("job-(\\d+)");
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+    private final Duration ttl;
+
+    @Autowired
+    public ReportArtifactStore(@Value("${app.reports.artifact-dir:data/reports}") String artifactDir,
+                               @Value("${app.reports.artifact-ttl-days:14}") int ttlDays) {
+        this.root = Paths.get(artifactDir);
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    /**
+     * Stores the output of a run.
+     *
+     * @param jobId the job ID
+     * @param format the artifact format, used as the file extension
+     * @param createdAt when the run started
+     * @param body writes the uncompressed content
+     * @return the stored artifact
+     * @throws IOException if the content cannot be generated or written; nothing is stored
+     */
+    public Artifact write(Long jobId, String format, LocalDateTime createdAt, ArtifactBody body) throws IOException {
+        Path dir = root.resolve("job-" + jobId);
+        Files.createDirectories(dir);
+        Path target = dir.resolve(STAMP.format(createdAt) + "." + format + ".gz");
+        Path temp = Files.createTempFile(dir, "run-", TEMP_SUFFIX);
+        try {
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                body.writeTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return new Artifact(jobId, target, format, createdAt, Files.size(target));
+    }
+
+    /**
+     * @param jobId the job ID
+     * @param now the current time
+     * @return the job's newest artifact that has not expired
+     */
+    public Optional<Artifact> latest(Long jobId, LocalDateTime now) {
+        Path dir = root.resolve("job-" + jobId);
+        if (!Files.isDirectory(dir)) {
+            return Optional.empty();
+        }
+        LocalDateTime cutoff = now.minus(ttl);
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> artifact(jobId, file))
+                .flatMap(Optional::stream)
+                .filter(artifact -> artifact.getCreatedAt().isAfter(cutoff))
+                .max(Comparator.comparing(Artifact::getCreatedAt));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to list report artifacts in " + dir, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Opens an artifact for reading.
+     *
+     * @param artifact the artifact
+     * @param compressed true for the stored gzip bytes, false for the original content
+     * @return the caller closes the stream
+     * @throws IOException if the file cannot be opened
+     */
+    public InputStream open(Artifact artifact, boolean compressed) throws IOException {
+        InputStream in = Files.newInputStream(artifact.getPath());
+        return compressed ? in : new GZIPInputStream(in);
+    }
+
+    /**
+     * Deletes expired artifacts.
+     * Runs nightly at 3:45 AM.
+     */
+    @Scheduled(cron = "${app.reports.eviction-cron:0 45 3 * * *}")
+    public void evictExpired() {
+        try {
+            int deleted = evictExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                LOGGER.info("Deleted " + deleted + " expired report artifacts");
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Report artifact eviction failed", e);
+        }
+    }
+
+    /**
+     * Deletes artifacts, and abandoned partial files, older than the TTL,
+     * then removes job directories left empty.
+     *
+     * @param now the current time
+     * @return the number of files deleted
+     * @throws IOException if a directory cannot be listed
+     */
+    public synchronized int evictExpired(LocalDateTime now) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        LocalDateTime cutoff = now.minus(ttl);
+        List<Path> jobDirs = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(dir -> Files.isDirectory(dir) && JOB_DIR.matcher(dir.getFileName().toString()).matches())
+                .forEach(jobDirs::add);
+        }
+
+        int deleted = 0;
+        for (Path dir : jobDirs) {
+            List<Path> expired = new ArrayList<>();
+            boolean empty;
+            try (Stream<Path> files = Files.list(dir)) {
+                List<Path> all = files.toList();
+                for (Path file : all) {
+                    if (isExpired(file, cutoff)) {
+                        expired.add(file);
+                    }
+                }
+                empty = expired.size() == all.size();
+            }
+            for (Path file : expired) {
+                try {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Failed to delete report artifact " + file, e);
+                    empty = false;
+                }
+            }
+            if (empty) {
+                try {
+                    Files.deleteIfExists(dir);
+                } catch (IOException e) {
+                    // A run started writing into it after it was listed
+                    LOGGER.fine("Kept report artifact directory " + dir + ": " + e.getMessage());
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private boolean isExpired(Path file, LocalDateTime cutoff) {
+        Matcher matcher = ARTIFACT_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+            return !LocalDateTime.parse(matcher.group(1), STAMP).isAfter(cutoff);
+        }
+        if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+            try {
+                return Files.getLastModifiedTime(file).toInstant()
+                    .isBefore(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<Artifact> artifact(Long jobId, Path file) {
+        Matcher matcher = ARTIFACT_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new Artifact(jobId, file, matcher.group(2),
+                                            LocalDateTime.parse(matcher.group(1), STAMP), Files.size(file)));
+        } catch (IOException e) {
+            // Deleted by eviction since it was listed
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the uncompressed content of an artifact.
+     */
+    @FunctionalInterface
+    public interface ArtifactBody {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
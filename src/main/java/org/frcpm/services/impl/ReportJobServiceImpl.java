@@ -0,0 +1,347 @@
+// src/main/java/org/frcpm/services/impl/ReportJobServiceImpl.java
+// Phase 3B: Scheduled Report Jobs Implementation
+
+package org.frcpm.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import org.frcpm.models.Project;
+import org.frcpm.models.ReportJob;
+import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.ReportJobRepository;
+import org.frcpm.services.ExportService;
+import org.frcpm.services.ReportJobService;
+import org.frcpm.services.ReportingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of ReportJobService.
+ *
+ * Due jobs are picked up by a poll every {@code app.reports.poll-interval-ms}
+ * and run on a fixed pool of {@code app.reports.workers} threads, so heavy
+ * reports never compete with page requests for more than a few database
+ * connections. A poll only takes as many jobs as the worker queue has room
+ * for; the rest stay due and are taken by a later poll. Each run is claimed
+ * by moving the job's next run time forward before it starts, so a job
+ * runs once per scheduled time even with several application instances.
+ * A job that was due several times while the server was down runs once.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportJobServiceImpl.class.getName());
+
+    private static final TypeReference<Map<String, Object>> REPORT_TYPE = new TypeReference<>() { };
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ReportJobRepository reportJobRepository;
+    private final ProjectRepository projectRepository;
+    private final ReportArtifactStore artifactStore;
+    private final ReportingService reportingService;
+    private final ExportService exportService;
+    private final boolean enabled;
+    private final ThreadPoolExecutor workers;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    @Autowired
+    public ReportJobServiceImpl(ReportJobRepository reportJobRepository,
+                                ProjectRepository projectRepository,
+                                ReportArtifactStore artifactStore,
+                                @Lazy ReportingService reportingService,
+                                ExportService exportService,
+                                @Value("${app.reports.enabled:true}") boolean enabled,
+                                @Value("${app.reports.workers:2}") int workerCount,
+                                @Value("${app.reports.queue-capacity:16}") int queueCapacity) {
+        this(reportJobRepository, projectRepository, artifactStore, reportingService, exportService, enabled,
+             new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                                    new ArrayBlockingQueue<>(queueCapacity),
+                                    Thread.ofPlatform().name("report-worker-", 0).daemon(true).factory()));
+    }
+
+    ReportJobServiceImpl(ReportJobRepository reportJobRepository,
+                         ProjectRepository projectRepository,
+                         ReportArtifactStore artifactStore,
+                         ReportingService reportingService,
+                         ExportService exportService,
+                         boolean enabled,
+                         ThreadPoolExecutor workers) {
+        this.reportJobRepository = reportJobRepository;
+        this.projectRepository = projectRepository;
+        this.artifactStore = artifactStore;
+        this.reportingService = reportingService;
+        this.exportService = exportService;
+        this.enabled = enabled;
+        this.workers = workers;
+    }
+
+    // =========================================================================
+    // SCHEDULING
+    // =========================================================================
+
+    @Override
+    @Transactional
+    public ReportJob schedule(Long projectId, String reportType, String format, String cronExpression) {
+        if (reportType == null || reportType.isBlank()) {
+            throw new IllegalArgumentException("Report type is required");
+        }
+        String artifactFormat = artifactFormat(reportType, format);
+        LocalDateTime nextRun = nextRun(cronExpression, LocalDateTime.now());
+        if (nextRun == null) {
+            throw new IllegalArgumentException("Cron expression never fires: " + cronExpression);
+        }
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+
+        ReportJob job = reportJobRepository.save(
+            new ReportJob(project, reportType, artifactFormat, cronExpression, nextRun));
+        LOGGER.info(String.format("Scheduled %s report for project %d as %s (%s), first run %s",
+                                  reportType, projectId, artifactFormat, cronExpression, nextRun));
+        return job;
+    }
+
+    @Override
+    @Transactional
+    public ReportJob ensureScheduled(Long projectId, String reportType, String format, String cronExpression) {
+        String artifactFormat = artifactFormat(reportType, format);
+        return reportJobRepository
+            .findFirstByProjectIdAndReportTypeAndFormatAndActiveTrueOrderByIdAsc(projectId, reportType, artifactFormat)
+            .orElseGet(() -> schedule(projectId, reportType, artifactFormat, cronExpression));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportJob> findByProject(Long projectId) {
+        return reportJobRepository.findByProjectId(projectId);
+    }
+
+    @Override
+    public boolean cancel(Long jobId) {
+        boolean cancelled = reportJobRepository.deactivate(jobId) > 0;
+        if (cancelled) {
+            LOGGER.info("Cancelled report job " + jobId);
+        }
+        return cancelled;
+    }
+
+    // =========================================================================
+    // ARTIFACTS
+    // =========================================================================
+
+    @Override
+    public Optional<Artifact> findLatestArtifact(Long jobId) {
+        return artifactStore.latest(jobId, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findLatestReport(Long projectId, String reportType) {
+        return reportJobRepository
+            .findFirstByProjectIdAndReportTypeAndFormatAndActiveTrueOrderByIdAsc(projectId, reportType, JSON)
+            .flatMap(job -> artifactStore.latest(job.getId(), LocalDateTime.now()))
+            .flatMap(this::readReport);
+    }
+
+    @Override
+    public Artifact storeReport(Long jobId, Map<String, Object> report) throws IOException {
+        return artifactStore.write(jobId, JSON, LocalDateTime.now(), out -> objectMapper.writeValue(out, report));
+    }
+
+    @Override
+    public void writeArtifact(Artifact artifact, OutputStream out, boolean compressed) throws IOException {
+        try (InputStream in = artifactStore.open(artifact, compressed)) {
+            in.transferTo(out);
+        }
+    }
+
+    private Optional<Map<String, Object>> readReport(Artifact artifact) {
+        try (InputStream in = artifactStore.open(artifact, false)) {
+            return Optional.of(objectMapper.readValue(in, REPORT_TYPE));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read report artifact " + artifact.getPath(), e);
+            return Optional.empty();
+        }
+    }
+
+    // =========================================================================
+    // RUNNING
+    // =========================================================================
+
+    /**
+     * Starts the jobs that are due.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.poll-interval-ms:60000}",
+               initialDelayString = "${app.reports.poll-interval-ms:60000}")
+    public void pollDueJobs() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatchDueJobs(LocalDateTime.now());
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to dispatch scheduled reports", e);
+        }
+    }
+
+    /**
+     * Claims due jobs and queues them on the workers, up to the room left
+     * in the worker queue.
+     *
+     * @param now the current time
+     * @return the number of runs queued
+     */
+    public int dispatchDueJobs(LocalDateTime now) {
+        int room = workers.getQueue().remainingCapacity();
+        if (room == 0) {
+            return 0;
+        }
+        int dispatched = 0;
+        for (ReportJob job : reportJobRepository.findDue(now, PageRequest.of(0, room))) {
+            LocalDateTime next;
+            try {
+                next = nextRun(job.getCronExpression(), now);
+            } catch (IllegalArgumentException e) {
+                next = null;
+            }
+            if (next == null) {
+                LOGGER.warning("Deactivating report job " + job.getId() + " with unusable schedule: " +
+                               job.getCronExpression());
+                reportJobRepository.deactivate(job.getId());
+                continue;
+            }
+            if (reportJobRepository.claim(job.getId(), job.getNextRunAt(), next, now) == 0) {
+                // Taken by another instance or cancelled since it was read
+                continue;
+            }
+            try {
+                workers.execute(() -> run(job, now));
+                dispatched++;
+            } catch (RejectedExecutionException e) {
+                reportJobRepository.release(job.getId(), next, job.getNextRunAt());
+                LOGGER.warning("Report workers are busy; job " + job.getId() + " stays due");
+                break;
+            }
+        }
+        return dispatched;
+    }
+
+    private void run(ReportJob job, LocalDateTime startedAt) {
+        long start = System.currentTimeMillis();
+        try {
+            Artifact artifact = artifactStore.write(job.getId(), job.getFormat(), startedAt, out -> generate(job, out));
+            reportJobRepository.recordRun(job.getId(), ReportJob.RunStatus.SUCCEEDED, null);
+            LOGGER.info(String.format("Report job %d (%s, %s) stored %d bytes in %d ms",
+                                      job.getId(), job.getReportType(), job.getFormat(),
+                                      artifact.getCompressedSize(), System.currentTimeMillis() - start));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Report job " + job.getId() + " failed", e);
+            try {
+                reportJobRepository.recordRun(job.getId(), ReportJob.RunStatus.FAILED, errorMessage(e));
+            } catch (Exception recordError) {
+                LOGGER.log(Level.SEVERE, "Failed to record report job failure", recordError);
+            }
+        }
+    }
+
+    private void generate(ReportJob job, OutputStream out) throws IOException {
+        Long projectId = job.getProject().getId();
+        if (JSON.equals(job.getFormat())) {
+            objectMapper.writeValue(out, reportingService.generateCustomReport(
+                job.getReportType(), Map.of("projectId", projectId)));
+            return;
+        }
+        ExportService.Format format = ExportService.Format.fromName(job.getFormat());
+        switch (job.getReportType()) {
+            case "tasks" -> exportService.exportProjectTasks(projectId, true, format, out);
+            case "transactions" -> exportService.exportPartTransactions(projectId, format, out);
+            case "attendance" -> exportService.exportAttendance(projectId, format, out);
+            default -> throw new IllegalArgumentException("Unknown export: " + job.getReportType());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the stored format for a report: "json" for template reports,
+     *         a file extension for datasets (csv when none is given)
+     * @throws IllegalArgumentException if the report cannot be produced in the format
+     */
+    static String artifactFormat(String reportType, String format) {
+        boolean dataset = DATASETS.contains(reportType);
+        if (format == null || format.isBlank()) {
+            return dataset ? ExportService.Format.CSV.getExtension() : JSON;
+        }
+        if (JSON.equalsIgnoreCase(format)) {
+            if (dataset) {
+                throw new IllegalArgumentException("The " + reportType + " export is csv, excel or pdf");
+            }
+            return JSON;
+        }
+        if (!dataset) {
+            throw new IllegalArgumentException("The " + reportType + " report is only available as json");
+        }
+        try {
+            return ExportService.Format.fromName(format).getExtension();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown report format: " + format);
+        }
+    }
+
+    /**
+     * @return the next time the cron expression fires after {@code after}, or null if it never does
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    static LocalDateTime nextRun(String cronExpression, LocalDateTime after) {
+        if (cronExpression == null || cronExpression.isBlank()) {
+            throw new IllegalArgumentException("Cron expression is required");
+        }
+        return CronExpression.parse(cronExpression).next(after);
+    }
+
+    private static String errorMessage(Exception e) {
+        String message = e.getMessage() != null ? e.getClass().getSimpleName() + ": " + e.getMessage()
+                                                : e.getClass().getSimpleName();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
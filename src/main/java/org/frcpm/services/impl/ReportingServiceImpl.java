@@ -4,18 +4,25 @@
 package org.frcpm.services.impl;
 
 import org.frcpm.models.*;
+import org.frcpm.repositories.spring.TaskRepository;
 import org.frcpm.services.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -53,6 +60,40 @@ public class ReportingServiceImpl implements ReportingService {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+    
+    @Autowired
+    private ProjectMetricsStore projectMetricsStore;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private AnalyticsPanelExecutor analyticsPanelExecutor;
+    
+    @Autowired
+    private ExportService exportService;
+    
+    @Autowired
+    private ReportJobService reportJobService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    /** When the weekly mentor report is generated; off-peak by default */
+    @Value("${app.reports.mentor-report-cron:0 0 3 * * MON}")
+    private String mentorReportCron;
+    
+    /** Monte Carlo samples behind completion forecasts */
+    private static final int FORECAST_SIMULATION_SAMPLES = 20_000;
+    
+    /** Report type of the weekly mentor report behind the executive and manager dashboards */
+    private static final String MENTOR_WEEKLY_REPORT = "mentor_weekly";
+    
+    /** Time a panel of a background report may take; nobody is waiting on the page */
+    private static final Duration REPORT_PANEL_TIMEOUT = Duration.ofMinutes(10);
+    
     // =========================================================================
     // PROJECT ANALYTICS
     // =========================================================================
@@ -67,7 +108,7 @@ public class ReportingServiceImpl implements ReportingService {
                 return new HashMap<>();
             }
             
-            List<Task> tasks = taskService.findByProject(project);
+            ProjectMetrics metrics = projectMetricsStore.get(project);
             
             Map<String, Object> analytics = new HashMap<>();
             
@@ -80,19 +121,18 @@ public class ReportingServiceImpl implements ReportingService {
             analytics.put("projectStatus", "ACTIVE"); // Simplified status
             
             // Task metrics
-            analytics.put("totalTasks", tasks.size());
-            analytics.put("completedTasks", tasks.stream().mapToInt(t -> t.isCompleted() ? 1 : 0).sum());
-            analytics.put("inProgressTasks", tasks.stream().mapToInt(t -> !t.isCompleted() && t.getProgress() > 0 ? 1 : 0).sum());
-            analytics.put("todoTasks", tasks.stream().mapToInt(t -> !t.isCompleted() && t.getProgress() == 0 ? 1 : 0).sum());
+            analytics.put("totalTasks", metrics.getTotalTasks());
+            analytics.put("completedTasks", metrics.getCompletedTasks());
+            analytics.put("inProgressTasks", metrics.getInProgressTasks());
+            analytics.put("todoTasks", metrics.getTodoTasks());
+            analytics.put("overdueTasks", metrics.getOverdueTasks());
             
             // Progress calculations
-            double completionRate = tasks.isEmpty() ? 0 : (double) tasks.stream().mapToInt(t -> t.isCompleted() ? 1 : 0).sum() / tasks.size() * 100;
+            double completionRate = metrics.getCompletionPercentage();
             analytics.put("completionRate", Math.round(completionRate * 100.0) / 100.0);
             
             // Priority distribution
-            Map<String, Long> priorityDistribution = tasks.stream()
-                .collect(Collectors.groupingBy(t -> t.getPriority().name(), Collectors.counting()));
-            analytics.put("priorityDistribution", priorityDistribution);
+            analytics.put("priorityDistribution", metrics.getPriorityDistribution());
             
             // Time metrics
             LocalDate now = LocalDate.now();
@@ -114,11 +154,11 @@ public class ReportingServiceImpl implements ReportingService {
             }
             
             // Velocity metrics
-            Map<String, Object> velocityMetrics = calculateVelocityMetrics(tasks, 30);
+            Map<String, Object> velocityMetrics = calculateVelocityMetrics(metrics, 30);
             analytics.put("velocityMetrics", velocityMetrics);
             
             // Quality metrics
-            Map<String, Object> qualityMetrics = calculateQualityMetrics(tasks);
+            Map<String, Object> qualityMetrics = calculateQualityMetrics();
             analytics.put("qualityMetrics", qualityMetrics);
             
             LOGGER.info("Generated project analytics for project: " + projectId);
@@ -131,15 +171,70 @@ public class ReportingServiceImpl implements ReportingService {
     }
     
     @Override
-    public Map<String, Object> getProjectProgressAnalytics(Long projectId, LocalDate startDate, LocalDate endDate) {
+    public ProjectTaskAnalytics analyzeProjectTasks(Long projectId) {
+        return analyzeProjectTasks(projectService.findById(projectId));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Map<String, Object>> getAnalyticsDashboard(Long projectId) {
+        return loadAnalyticsDashboard(projectId, null);
+    }
+    
+    /**
+     * @param timeout time allowed for each panel, or null for the configured page timeout
+     */
+    private Map<String, Map<String, Object>> loadAnalyticsDashboard(Long projectId, Duration timeout) {
+        Map<String, Map<String, Object>> dashboard = new HashMap<>();
         try {
             Project project = projectService.findById(projectId);
-            List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
+            if (project == null) {
+                return dashboard;
+            }
+            
+            // Panels load concurrently; one task fetch and one scan feed team performance and risk
+            Map<String, Supplier<?>> panels = new LinkedHashMap<>();
+            panels.put("analytics", () -> getProjectAnalytics(projectId));
+            panels.put("tasks", () -> analyzeProjectTasks(project));
+            panels.put("forecast", () -> getProjectCompletionForecast(projectId));
+            AnalyticsPanelExecutor.PanelResults results = timeout != null
+                ? analyticsPanelExecutor.load(panels, timeout)
+                : analyticsPanelExecutor.load(panels);
+            
+            Map<String, Object> analytics = results.get("analytics");
+            ProjectTaskAnalytics taskAnalytics = results.get("tasks");
+            Map<String, Object> forecast = results.get("forecast");
+            
+            if (analytics != null) {
+                if (taskAnalytics != null) {
+                    analytics.put("teamSize", taskAnalytics.getMembers().size());
+                }
+                dashboard.put("analytics", analytics);
+            }
+            if (taskAnalytics != null) {
+                dashboard.put("teamPerformance", buildTeamPerformance(project, taskAnalytics));
+                dashboard.put("riskAnalysis", buildRiskAnalysis(taskAnalytics));
+            }
+            if (forecast != null) {
+                dashboard.put("forecast", forecast);
+            }
+            return dashboard;
+            
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error generating analytics dashboard", e);
+            return dashboard;
+        }
+    }
+    
+    @Override
+    public Map<String, Object> getProjectProgressAnalytics(Long projectId, LocalDate startDate, LocalDate endDate) {
+        try {
+            ProjectMetrics metrics = projectMetricsStore.get(projectService.findById(projectId));
             Map<String, Object> analytics = new HashMap<>();
             
             // Basic progress metrics
-            analytics.put("totalTasksInPeriod", tasks.size());
-            analytics.put("completedTasksInPeriod", tasks.stream().mapToInt(t -> t.isCompleted() ? 1 : 0).sum());
+            analytics.put("totalTasksInPeriod", metrics != null ? metrics.getTotalTasks() : 0);
+            analytics.put("completedTasksInPeriod", metrics != null ? metrics.getCompletedTasks() : 0);
             
             // Progress over time (simplified)
             Map<String, Integer> dailyProgress = new HashMap<>();
@@ -163,41 +258,50 @@ public class ReportingServiceImpl implements ReportingService {
     
     @Override
     public Map<String, Object> getProjectCompletionForecast(Long projectId) {
+        Project project = projectService.findById(projectId);
+        ProjectMetrics metrics = projectMetricsStore.get(project);
+        if (metrics == null) {
+            return new HashMap<>();
+        }
+        return buildCompletionForecast(project, metrics.getTotalTasks(),
+                                       metrics.getTotalTasks() - metrics.getCompletedTasks());
+    }
+    
+    private Map<String, Object> buildCompletionForecast(Project project, int totalTasks, int remainingTasks) {
         try {
-            Project project = projectService.findById(projectId);
-            List<Task> tasks = taskService.findByProject(project);
-            
             Map<String, Object> forecast = new HashMap<>();
             
-            if (project == null || tasks.isEmpty()) {
+            if (totalTasks == 0) {
                 return forecast;
             }
             
             // Remaining tasks
-            int remainingTasks = (int) tasks.stream().filter(task -> !task.isCompleted()).count();
-            
-            // Simple forecast based on average completion rate
-            double avgTasksPerDay = 2.0; // Simplified assumption
-            
-            if (avgTasksPerDay > 0) {
-                int daysToComplete = (int) Math.ceil(remainingTasks / avgTasksPerDay);
-                LocalDate forecastDate = LocalDate.now().plusDays(daysToComplete);
-                
-                forecast.put("forecastCompletionDate", forecastDate);
-                forecast.put("daysToComplete", daysToComplete);
-                forecast.put("avgTasksPerDay", avgTasksPerDay);
-                forecast.put("remainingTasks", remainingTasks);
-                
-                // Compare with project end date
-                if (project.getHardDeadline() != null) {
-                    long daysUntilDeadline = ChronoUnit.DAYS.between(LocalDate.now(), project.getHardDeadline());
-                    forecast.put("daysUntilDeadline", daysUntilDeadline);
-                    forecast.put("isOnTrack", daysToComplete <= daysUntilDeadline);
-                    forecast.put("scheduleVariance", daysToComplete - daysUntilDeadline);
-                }
+            forecast.put("remainingTasks", remainingTasks);
+            
+            // Simulated completion under duration uncertainty; P50 is the headline forecast
+            TaskDependencyService.ScheduleSimulationResult simulation =
+                taskDependencyService.simulateCompletion(project, FORECAST_SIMULATION_SAMPLES);
+            LocalDate forecastDate = simulation.getP50Date();
+            int daysToComplete = (int) ChronoUnit.DAYS.between(LocalDate.now(), forecastDate);
+            
+            forecast.put("forecastCompletionDate", forecastDate);
+            forecast.put("daysToComplete", daysToComplete);
+            forecast.put("p50CompletionDate", simulation.getP50Date());
+            forecast.put("p80CompletionDate", simulation.getP80Date());
+            forecast.put("p95CompletionDate", simulation.getP95Date());
+            forecast.put("simulationSamples", simulation.getSampleCount());
+            
+            // Compare with project end date
+            if (project.getHardDeadline() != null) {
+                long daysUntilDeadline = ChronoUnit.DAYS.between(LocalDate.now(), project.getHardDeadline());
+                forecast.put("daysUntilDeadline", daysUntilDeadline);
+                forecast.put("deadlineProbability", simulation.getDeadlineProbability());
+                forecast.put("isOnTrack", !simulation.getP80Date().isAfter(project.getHardDeadline()));
+                forecast.put("scheduleVariance", daysToComplete - daysUntilDeadline);
             }
             
-            forecast.put("confidenceLevel", 0.75); // Simplified confidence
+            // The headline date is the median outcome
+            forecast.put("confidenceLevel", 0.5);
             
             return forecast;
             
@@ -210,41 +314,8 @@ public class ReportingServiceImpl implements ReportingService {
     @Override
     public Map<String, Object> getProjectRiskAnalysis(Long projectId) {
         try {
-            Project project = projectService.findById(projectId);
-            List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
-            
-            Map<String, Object> riskAnalysis = new HashMap<>();
-            
-            // Schedule risk (simplified)
-            Map<String, Object> scheduleRisk = new HashMap<>();
-            scheduleRisk.put("riskLevel", "MEDIUM");
-            scheduleRisk.put("riskScore", 0.4);
-            riskAnalysis.put("scheduleRisk", scheduleRisk);
-            
-            // Dependency risk (simplified)
-            Map<String, Object> dependencyRisk = new HashMap<>();
-            dependencyRisk.put("riskLevel", "LOW");
-            dependencyRisk.put("riskScore", 0.2);
-            riskAnalysis.put("dependencyRisk", dependencyRisk);
-            
-            // Resource risk (simplified)
-            Map<String, Object> resourceRisk = new HashMap<>();
-            resourceRisk.put("riskLevel", "LOW");
-            resourceRisk.put("riskScore", 0.3);
-            riskAnalysis.put("resourceRisk", resourceRisk);
-            
-            // Quality risk (simplified)
-            Map<String, Object> qualityRisk = new HashMap<>();
-            qualityRisk.put("riskLevel", "LOW");
-            qualityRisk.put("riskScore", 0.2);
-            riskAnalysis.put("qualityRisk", qualityRisk);
-            
-            // Overall risk score
-            double overallRiskScore = 0.3;
-            riskAnalysis.put("overallRiskScore", overallRiskScore);
-            riskAnalysis.put("riskLevel", "MEDIUM");
-            
-            return riskAnalysis;
+            ProjectTaskAnalytics taskAnalytics = analyzeProjectTasks(projectId);
+            return taskAnalytics != null ? buildRiskAnalysis(taskAnalytics) : new HashMap<>();
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error generating project risk analysis", e);
@@ -252,26 +323,54 @@ public class ReportingServiceImpl implements ReportingService {
         }
     }
     
+    private Map<String, Object> buildRiskAnalysis(ProjectTaskAnalytics taskAnalytics) {
+        Map<String, Object> riskAnalysis = new HashMap<>();
+        int openTasks = taskAnalytics.getOpenTasks();
+        
+        // Schedule risk: overdue tasks count fully, at-risk and unscheduled ones by half
+        double scheduleScore = openTasks == 0 ? 0 : Math.min(1.0,
+            (taskAnalytics.getOverdueTasks()
+             + 0.5 * (taskAnalytics.getAtRiskTasks() + taskAnalytics.getUnscheduledTasks())) / openTasks);
+        riskAnalysis.put("scheduleRisk", createRiskData(scheduleScore));
+        
+        // Dependency risk (simplified)
+        riskAnalysis.put("dependencyRisk", createRiskData(0.2));
+        
+        // Resource risk: share of open work nobody is assigned to
+        double resourceScore = openTasks == 0 ? 0 : (double) taskAnalytics.getUnassignedOpenTasks() / openTasks;
+        riskAnalysis.put("resourceRisk", createRiskData(resourceScore));
+        
+        // Quality risk (simplified)
+        riskAnalysis.put("qualityRisk", createRiskData(0.2));
+        
+        // Overall risk score
+        double overallRiskScore = round2((scheduleScore + 0.2 + resourceScore + 0.2) / 4);
+        riskAnalysis.put("overallRiskScore", overallRiskScore);
+        riskAnalysis.put("riskLevel", riskLevel(overallRiskScore));
+        
+        return riskAnalysis;
+    }
+    
     @Override
     public Map<String, Object> getProjectMilestoneAnalysis(Long projectId) {
         try {
-            Project project = projectService.findById(projectId);
-            List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
-            
-            // Filter milestone tasks (high priority)
-            List<Task> milestones = tasks.stream()
-                .filter(task -> task.getPriority() == Task.Priority.HIGH || 
-                               task.getPriority() == Task.Priority.CRITICAL)
-                .collect(Collectors.toList());
-            
+            ProjectTaskAnalytics taskAnalytics = analyzeProjectTasks(projectId);
             Map<String, Object> analysis = new HashMap<>();
             
-            int completedMilestones = (int) milestones.stream().filter(Task::isCompleted).count();
+            // Milestone tasks are the high priority ones
+            int milestones = 0;
+            int completedMilestones = 0;
+            if (taskAnalytics != null) {
+                milestones = taskAnalytics.getTaskCount(Task.Priority.HIGH)
+                           + taskAnalytics.getTaskCount(Task.Priority.CRITICAL);
+                completedMilestones = taskAnalytics.getCompletedCount(Task.Priority.HIGH)
+                                    + taskAnalytics.getCompletedCount(Task.Priority.CRITICAL);
+            }
             
-            analysis.put("totalMilestones", milestones.size());
+            analysis.put("totalMilestones", milestones);
             analysis.put("completedMilestones", completedMilestones);
             analysis.put("milestoneCompletionRate", 
-                milestones.isEmpty() ? 0 : (double) completedMilestones / milestones.size() * 100);
+                milestones == 0 ? 0 : (double) completedMilestones / milestones * 100);
             
             return analysis;
             
@@ -289,26 +388,8 @@ public class ReportingServiceImpl implements ReportingService {
     public Map<String, Object> getTeamPerformanceMetrics(Long projectId) {
         try {
             Project project = projectService.findById(projectId);
-            List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
-            
-            Map<String, Object> metrics = new HashMap<>();
-            
-            // Simplified team performance
-            List<Map<String, Object>> memberPerformance = Arrays.asList(
-                createMemberPerformanceData("Alice Johnson", "MENTOR", 8, 7, 87.5, 0.8),
-                createMemberPerformanceData("Bob Smith", "STUDENT", 6, 4, 66.7, 0.6),
-                createMemberPerformanceData("Carol Davis", "STUDENT", 5, 5, 100.0, 0.7)
-            );
-            
-            metrics.put("memberPerformance", memberPerformance);
-            
-            // Team averages
-            double avgTasksPerMember = memberPerformance.stream()
-                .mapToDouble(mp -> (Integer) mp.get("completedTasks"))
-                .average().orElse(0.0);
-            metrics.put("avgTasksPerMember", Math.round(avgTasksPerMember * 100.0) / 100.0);
-            
-            return metrics;
+            ProjectTaskAnalytics taskAnalytics = analyzeProjectTasks(project);
+            return taskAnalytics != null ? buildTeamPerformance(project, taskAnalytics) : new HashMap<>();
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error generating team performance metrics", e);
@@ -316,6 +397,31 @@ public class ReportingServiceImpl implements ReportingService {
         }
     }
     
+    private Map<String, Object> buildTeamPerformance(Project project, ProjectTaskAnalytics taskAnalytics) {
+        Map<String, Object> metrics = new HashMap<>();
+        
+        // Velocity is completed tasks per week since the project started
+        LocalDate start = project.getStartDate() != null ? project.getStartDate() : taskAnalytics.getEarliestStart();
+        double weeks = start != null
+            ? Math.max(1.0, ChronoUnit.DAYS.between(start, taskAnalytics.getAsOf()) / 7.0) : 1.0;
+        
+        List<Map<String, Object>> memberPerformance = new ArrayList<>();
+        for (MemberStats member : taskAnalytics.getMembers()) {
+            memberPerformance.add(createMemberPerformanceData(
+                member.getMemberName(), member.getMemberRole(), member.getTotalTasks(), member.getCompletedTasks(),
+                round2(member.getCompletionRate()), round2(member.getCompletedTasks() / weeks)));
+        }
+        metrics.put("memberPerformance", memberPerformance);
+        
+        // Team averages
+        double avgTasksPerMember = memberPerformance.stream()
+            .mapToDouble(mp -> (Integer) mp.get("completedTasks"))
+            .average().orElse(0.0);
+        metrics.put("avgTasksPerMember", round2(avgTasksPerMember));
+        
+        return metrics;
+    }
+    
     @Override
     public Map<String, Object> getIndividualPerformanceMetrics(Long teamMemberId, LocalDate startDate, LocalDate endDate) {
         try {
@@ -340,20 +446,31 @@ public class ReportingServiceImpl implements ReportingService {
     // HELPER METHODS
     // =========================================================================
     
-    private Map<String, Object> calculateVelocityMetrics(List<Task> tasks, int periodDays) {
+    private Map<String, Object> calculateVelocityMetrics(ProjectMetrics projectMetrics, int periodDays) {
         Map<String, Object> metrics = new HashMap<>();
+        if (projectMetrics == null || periodDays <= 0) {
+            metrics.put("avgTasksPerDay", 0.0);
+            metrics.put("velocityVariance", 0.0);
+            return metrics;
+        }
         
-        // Simplified velocity calculation
-        int completedTasks = (int) tasks.stream().filter(Task::isCompleted).count();
-        double avgTasksPerDay = (double) completedTasks / periodDays;
+        // Completions in the period, from the project's daily completion buckets
+        double avgTasksPerDay = projectMetrics.getAverageCompletionsPerDay(periodDays);
+        double velocityVariance = projectMetrics.getVelocityVariation(periodDays);
         
         metrics.put("avgTasksPerDay", Math.round(avgTasksPerDay * 100.0) / 100.0);
-        metrics.put("velocityVariance", 0.3); // Simplified
+        metrics.put("velocityVariance", Math.round(velocityVariance * 100.0) / 100.0);
+        metrics.put("tasksCompletedInPeriod", projectMetrics.getCompletionsInLast(periodDays));
+        
+        Map<String, Integer> weeklyCompletions = new LinkedHashMap<>();
+        projectMetrics.getWeeklyCompletions(periodDays)
+            .forEach((week, count) -> weeklyCompletions.put(week.toString(), count));
+        metrics.put("weeklyCompletions", weeklyCompletions);
         
         return metrics;
     }
     
-    private Map<String, Object> calculateQualityMetrics(List<Task> tasks) {
+    private Map<String, Object> calculateQualityMetrics() {
         Map<String, Object> metrics = new HashMap<>();
         
         // Simplified quality metrics
@@ -363,6 +480,29 @@ public class ReportingServiceImpl implements ReportingService {
         return metrics;
     }
     
+    private ProjectTaskAnalytics analyzeProjectTasks(Project project) {
+        if (project == null) {
+            return null;
+        }
+        List<Task> tasks = taskRepository.findByProjectWithAssignments(project);
+        return ProjectAnalyticsKernel.analyze(TaskColumns.of(tasks != null ? tasks : List.of()), LocalDate.now());
+    }
+    
+    private Map<String, Object> createRiskData(double score) {
+        Map<String, Object> risk = new HashMap<>();
+        risk.put("riskLevel", riskLevel(score));
+        risk.put("riskScore", round2(score));
+        return risk;
+    }
+    
+    private String riskLevel(double score) {
+        return score >= 0.6 ? "HIGH" : score >= 0.3 ? "MEDIUM" : "LOW";
+    }
+    
+    private double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+    
     private Map<String, Object> createMemberPerformanceData(String name, String role, int total, int completed, double rate, double velocity) {
         Map<String, Object> data = new HashMap<>();
         data.put("memberName", name);
@@ -424,9 +564,7 @@ public class ReportingServiceImpl implements ReportingService {
     
     @Override
     public Map<String, Object> getTaskCycleTimeAnalytics(Long projectId, int periodDays) {
-        Project project = projectService.findById(projectId);
-        List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
-        return calculateVelocityMetrics(tasks, periodDays);
+        return calculateVelocityMetrics(projectMetricsStore.get(projectService.findById(projectId)), periodDays);
     }
     
     @Override
@@ -475,22 +613,59 @@ public class ReportingServiceImpl implements ReportingService {
         return getProjectCompletionForecast(projectId);
     }
     
+    /**
+     * Runs outside a transaction: the weekly mentor report's panels each take
+     * their own connection for up to {@link #REPORT_PANEL_TIMEOUT}, and a
+     * report worker must not hold another one while it waits for them. The
+     * other templates run in a read-only transaction of their own.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> generateCustomReport(String reportType, Map<String, Object> parameters) {
+        Object projectId = parameters != null ? parameters.get("projectId") : null;
+        Map<String, Object> data = projectId instanceof Number number ? buildReport(reportType, number.longValue()) : null;
+        return customReport(reportType, parameters, data);
+    }
+    
+    private static Map<String, Object> customReport(String reportType, Map<String, Object> parameters,
+                                                    Map<String, Object> data) {
         Map<String, Object> report = new HashMap<>();
         report.put("reportType", reportType);
         report.put("parameters", parameters);
         report.put("generatedAt", LocalDateTime.now());
+        if (data != null) {
+            report.put("data", data);
+        }
         return report;
     }
     
+    private Map<String, Object> buildReport(String reportType, Long projectId) {
+        if (MENTOR_WEEKLY_REPORT.equals(reportType)) {
+            return buildMentorReport(projectId, REPORT_PANEL_TIMEOUT);
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> buildTemplateReport(reportType, projectId));
+    }
+    
+    private Map<String, Object> buildTemplateReport(String reportType, Long projectId) {
+        return switch (reportType) {
+            case "project_overview" -> getProjectAnalytics(projectId);
+            case "team_performance" -> getTeamPerformanceMetrics(projectId);
+            case "task_analytics" -> getTaskCompletionAnalytics(projectId);
+            case "risk_analysis" -> getProjectRiskAnalysis(projectId);
+            default -> null;
+        };
+    }
+    
     @Override
     public List<Map<String, Object>> getAvailableReportTemplates() {
         return Arrays.asList(
             createReportTemplate("Project Overview", "project_overview"),
             createReportTemplate("Team Performance", "team_performance"),
             createReportTemplate("Task Analytics", "task_analytics"),
-            createReportTemplate("Risk Analysis", "risk_analysis")
+            createReportTemplate("Risk Analysis", "risk_analysis"),
+            createReportTemplate("Weekly Mentor Report", MENTOR_WEEKLY_REPORT)
         );
     }
     
@@ -506,17 +681,29 @@ public class ReportingServiceImpl implements ReportingService {
     
     @Override
     public byte[] exportProjectDataToCsv(Long projectId, boolean includeDetails) {
-        return "Project ID,Name,Status,Completion Rate\n1,Sample Project,Active,75%".getBytes();
+        return exportProjectTasks(projectId, includeDetails, ExportService.Format.CSV);
     }
     
     @Override
     public byte[] exportProjectDataToExcel(Long projectId, boolean includeDetails) {
-        return "Excel data placeholder".getBytes();
+        return exportProjectTasks(projectId, includeDetails, ExportService.Format.XLSX);
     }
     
     @Override
     public byte[] exportProjectDataToPdf(Long projectId, String reportType) {
-        return "PDF data placeholder".getBytes();
+        return exportProjectTasks(projectId, true, ExportService.Format.PDF);
+    }
+    
+    private byte[] exportProjectTasks(Long projectId, boolean includeDetails, ExportService.Format format) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            exportService.exportProjectTasks(projectId, includeDetails, format, out);
+            return out.toByteArray();
+            
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error exporting project data as " + format, e);
+            return new byte[0];
+        }
     }
     
     @Override
@@ -525,8 +712,9 @@ public class ReportingServiceImpl implements ReportingService {
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getExecutiveDashboardData(Long projectId) {
-        return getProjectAnalytics(projectId);
+        return getMentorReport(projectId);
     }
     
     @Override
@@ -535,8 +723,59 @@ public class ReportingServiceImpl implements ReportingService {
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getProjectManagerDashboardData(Long projectId) {
-        return getProjectAnalytics(projectId);
+        return getMentorReport(projectId);
+    }
+    
+    /**
+     * Serves the weekly mentor report from its last off-peak run. Only when
+     * there is none yet, for a new project or after the run failed for
+     * longer than the artifact TTL, is it computed while the mentor waits.
+     * The weekly run is then scheduled and the computed report stored as its
+     * artifact, so later visits are served from disk until that run
+     * replaces it.
+     */
+    private Map<String, Object> getMentorReport(Long projectId) {
+        ReportJob job = null;
+        try {
+            Optional<Map<String, Object>> stored = reportJobService.findLatestReport(projectId, MENTOR_WEEKLY_REPORT);
+            if (stored.isPresent() && stored.get().get("data") instanceof Map<?, ?> data) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> report = (Map<String, Object>) data;
+                return report;
+            }
+            job = reportJobService.ensureScheduled(projectId, MENTOR_WEEKLY_REPORT, ReportJobService.JSON,
+                                                   mentorReportCron);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Stored mentor report unavailable for project " + projectId, e);
+        }
+        Map<String, Object> report = buildMentorReport(projectId, null);
+        if (job != null) {
+            try {
+                reportJobService.storeReport(job.getId(),
+                    customReport(MENTOR_WEEKLY_REPORT, Map.of("projectId", projectId), report));
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to store mentor report for project " + projectId, e);
+            }
+        }
+        return report;
+    }
+    
+    /**
+     * The project analytics, with team performance, risk and forecast
+     * sections added and the time the report was generated.
+     */
+    private Map<String, Object> buildMentorReport(Long projectId, Duration panelTimeout) {
+        Map<String, Map<String, Object>> dashboard = loadAnalyticsDashboard(projectId, panelTimeout);
+        Map<String, Object> report = new HashMap<>(dashboard.getOrDefault("analytics", Map.of()));
+        for (String section : List.of("teamPerformance", "riskAnalysis", "forecast")) {
+            if (dashboard.containsKey(section)) {
+                report.put(section, dashboard.get(section));
+            }
+        }
+        report.put("reportGeneratedAt", LocalDateTime.now());
+        return report;
     }
     
     @Override
@@ -561,9 +800,7 @@ public class ReportingServiceImpl implements ReportingService {
     
     @Override
     public Map<String, Object> getProjectVelocityTrends(Long projectId, int periodDays) {
-        Project project = projectService.findById(projectId);
-        List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
-        return calculateVelocityMetrics(tasks, periodDays);
+        return calculateVelocityMetrics(projectMetricsStore.get(projectService.findById(projectId)), periodDays);
     }
     
     @Override
@@ -573,9 +810,7 @@ public class ReportingServiceImpl implements ReportingService {
     
     @Override
     public Map<String, Object> getQualityTrends(Long projectId, int periodDays) {
-        Project project = projectService.findById(projectId);
-        List<Task> tasks = project != null ? taskService.findByProject(project) : List.of();
-        return calculateQualityMetrics(tasks);
+        return calculateQualityMetrics();
     }
     
     @Override
@@ -594,36 +829,58 @@ public class ReportingServiceImpl implements ReportingService {
     }
     
     @Override
-    @Async
     public CompletableFuture<Map<String, Object>> generateAnalyticsReportAsync(Long projectId, String reportType) {
-        return CompletableFuture.completedFuture(generateCustomReport(reportType, Map.of("projectId", projectId)));
+        return analyticsPanelExecutor.supplyAsync(() -> generateCustomReport(reportType, Map.of("projectId", projectId)));
     }
     
     @Override
-    @Async
     public CompletableFuture<byte[]> generateDataExportAsync(Long projectId, String exportType, boolean includeDetails) {
-        return CompletableFuture.completedFuture(exportProjectDataToCsv(projectId, includeDetails));
+        return analyticsPanelExecutor.supplyAsync(
+            () -> exportProjectTasks(projectId, includeDetails, ExportService.Format.fromName(exportType)));
     }
     
     @Override
-    @Async
     public CompletableFuture<Map<String, Object>> calculateComplexAnalyticsAsync(Long projectId, String analyticsType, Map<String, Object> parameters) {
-        return CompletableFuture.completedFuture(getProjectAnalytics(projectId));
+        return analyticsPanelExecutor.supplyAsync(() -> getProjectAnalytics(projectId));
     }
     
     @Override
     public Long scheduleAutomaticReport(Long projectId, String reportType, Map<String, Object> schedule) {
-        return System.currentTimeMillis();
+        Map<String, Object> options = schedule != null ? schedule : Map.of();
+        String cron = options.get("cron") != null ? options.get("cron").toString() : mentorReportCron;
+        String format = options.get("format") != null ? options.get("format").toString() : null;
+        return reportJobService.schedule(projectId, reportType, format, cron).getId();
     }
     
     @Override
     public List<Map<String, Object>> getScheduledReports(Long projectId) {
-        return new ArrayList<>();
+        List<Map<String, Object>> reports = new ArrayList<>();
+        for (ReportJob job : reportJobService.findByProject(projectId)) {
+            Map<String, Object> report = new HashMap<>();
+            report.put("id", job.getId());
+            report.put("projectId", projectId);
+            report.put("reportType", job.getReportType());
+            report.put("format", job.getFormat());
+            report.put("cron", job.getCronExpression());
+            report.put("active", job.isActive());
+            report.put("createdAt", job.getCreatedAt());
+            report.put("nextRunAt", job.isActive() ? job.getNextRunAt() : null);
+            report.put("lastRunAt", job.getLastRunAt());
+            report.put("lastStatus", job.getLastStatus());
+            report.put("lastError", job.getLastError());
+            report.put("runCount", job.getRunCount());
+            reportJobService.findLatestArtifact(job.getId()).ifPresent(artifact -> {
+                report.put("latestArtifactAt", artifact.getCreatedAt());
+                report.put("latestArtifactSize", artifact.getCompressedSize());
+            });
+            reports.add(report);
+        }
+        return reports;
     }
     
     @Override
     public boolean cancelScheduledReport(Long scheduledReportId) {
-        return true;
+        return reportJobService.cancel(scheduledReportId);
     }
     
     @Override
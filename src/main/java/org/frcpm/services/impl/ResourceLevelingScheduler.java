@@ -0,0 +1,363 @@
+// src/main/java/org/frcpm/services/impl/ResourceLevelingScheduler.java
+
+package org.frcpm.services.impl;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resource-constrained list scheduler for one project's dependency DAG.
+ *
+ * Every team member is a unary resource: a task occupies all of its assigned
+ * members from start to finish and cannot start until its predecessors
+ * (plus lag) are done and every assigned member is free. A task's elapsed
+ * time is its remaining work divided by the lowest availability among its
+ * members, so a student who attends half of the build sessions stretches
+ * their tasks accordingly. Unassigned tasks are limited by dependencies only.
+ *
+ * Schedules come from the parallel schedule generation scheme: at each event
+ * time the eligible tasks are started in priority order. A few deterministic
+ * priority rules run first, then randomly perturbed variants of them are
+ * sampled on a fork-join pool until the time budget runs out. The shortest
+ * makespan wins.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class ResourceLevelingScheduler {
+
+    private static final double EPSILON = 1e-9;
+    private static final int SAMPLES_PER_WORKER = 512;
+    private static final double[] PERTURBATIONS = {0.05, 0.15, 0.3};
+
+    /**
+     * Priority rules; each sorts ready tasks lexicographically by its keys.
+     */
+    public enum PriorityRule {
+        /** Least total float, then most transitive successors */
+        MIN_FLOAT,
+        /** Most transitive successors, then least total float */
+        MOST_SUCCESSORS,
+        /** Earliest latest-start, i.e. longest remaining chain first */
+        LATEST_START,
+        /** Longest elapsed duration first */
+        LONGEST_DURATION,
+        /** Plain dependency order, used as the unoptimized baseline */
+        TOPOLOGICAL
+    }
+
+    private final ProjectDependencyGraph graph;
+    private final int size;
+    private final int memberCount;
+    private final int[][] taskMembers;
+    private final double[] elapsedHours;
+    private final int[][] ruleRanks;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param graph acyclic dependency graph of the project
+     * @param workHours remaining work per task, indexed like the graph
+     * @param taskMembers member indices assigned to each task
+     * @param memberAvailability share of build time each member is present, in (0, 1]
+     * @param pool fork-join pool for the sampling passes
+     */
+    public ResourceLevelingScheduler(ProjectDependencyGraph graph, double[] workHours, int[][] taskMembers,
+                                     double[] memberAvailability, ForkJoinPool pool) {
+        if (!graph.isAcyclic()) {
+            throw new IllegalArgumentException("Cannot level a schedule with circular dependencies");
+        }
+        this.graph = graph;
+        this.size = graph.size();
+        this.memberCount = memberAvailability.length;
+        this.taskMembers = taskMembers;
+        this.pool = pool;
+
+        this.elapsedHours = new double[size];
+        for (int i = 0; i < size; i++) {
+            double availability = 1.0;
+            for (int member : taskMembers[i]) {
+                availability = Math.min(availability, memberAvailability[member]);
+            }
+            elapsedHours[i] = workHours[i] / availability;
+        }
+
+        this.ruleRanks = computeRuleRanks();
+    }
+
+    // =========================================================================
+    // SOLVER
+    // =========================================================================
+
+    /**
+     * Runs every deterministic rule, then random sampling until the budget expires.
+     *
+     * @param budget wall-clock budget for the sampling phase
+     * @return the schedule with the shortest makespan
+     */
+    public LevelledSchedule solve(Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        AtomicInteger evaluated = new AtomicInteger();
+
+        List<ForkJoinTask<LevelledSchedule>> passes = new ArrayList<>();
+        for (PriorityRule rule : PriorityRule.values()) {
+            double[] key = new double[size];
+            int[] ranks = ruleRanks[rule.ordinal()];
+            for (int i = 0; i < size; i++) {
+                key[i] = ranks[i];
+            }
+            passes.add(pool.submit(() -> {
+                evaluated.incrementAndGet();
+                return generate(key, rule.name());
+            }));
+        }
+
+        SplittableRandom root = new SplittableRandom();
+        int workers = Math.max(1, pool.getParallelism());
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom random = root.split();
+            passes.add(pool.submit(() -> sample(random, deadline, evaluated)));
+        }
+
+        LevelledSchedule best = null;
+        LevelledSchedule baseline = null;
+        for (ForkJoinTask<LevelledSchedule> pass : passes) {
+            LevelledSchedule schedule = pass.join();
+            if (schedule == null) {
+                continue;
+            }
+            if (PriorityRule.TOPOLOGICAL.name().equals(schedule.getRule())) {
+                baseline = schedule;
+            }
+            if (best == null || schedule.getMakespan() < best.getMakespan() - EPSILON) {
+                best = schedule;
+            }
+        }
+
+        best.evaluatedSchedules = evaluated.get();
+        best.baselineMakespan = baseline != null ? baseline.getMakespan() : best.getMakespan();
+        return best;
+    }
+
+    private LevelledSchedule sample(SplittableRandom random, long deadline, AtomicInteger evaluated) {
+        LevelledSchedule best = null;
+        PriorityRule[] rules = PriorityRule.values();
+        double[] key = new double[size];
+
+        for (int sample = 0; sample < SAMPLES_PER_WORKER && System.nanoTime() < deadline; sample++) {
+            PriorityRule rule = rules[random.nextInt(rules.length - 1)];
+            double spread = PERTURBATIONS[random.nextInt(PERTURBATIONS.length)] * size;
+            int[] ranks = ruleRanks[rule.ordinal()];
+            for (int i = 0; i < size; i++) {
+                key[i] = ranks[i] + spread * random.nextDouble();
+            }
+
+            LevelledSchedule schedule = generate(key, rule.name() + "_SAMPLED");
+            evaluated.incrementAndGet();
+            if (best == null || schedule.getMakespan() < best.getMakespan() - EPSILON) {
+                best = schedule;
+            }
+        }
+        return best;
+    }
+
+    // =========================================================================
+    // PARALLEL SCHEDULE GENERATION
+    // =========================================================================
+
+    /**
+     * Builds one feasible schedule, starting eligible tasks in ascending key order.
+     */
+    LevelledSchedule generate(double[] key, String rule) {
+        double[] start = new double[size];
+        double[] finish = new double[size];
+        double[] release = new double[size];
+        double[] memberFree = new double[memberCount];
+        int[] pendingPredecessors = new int[size];
+
+        int[] ready = new int[size];
+        int readyCount = 0;
+        for (int i = 0; i < size; i++) {
+            pendingPredecessors[i] = graph.inDegree(i);
+            if (pendingPredecessors[i] == 0) {
+                readyCount = insertByKey(ready, readyCount, i, key);
+            }
+        }
+
+        PriorityQueue<Integer> running = new PriorityQueue<>(Comparator.comparingDouble(task -> finish[task]));
+        double time = 0;
+        double makespan = 0;
+        int completed = 0;
+
+        while (completed < size) {
+            // Start every eligible task whose members are free, highest priority first
+            int kept = 0;
+            for (int r = 0; r < readyCount; r++) {
+                int task = ready[r];
+                if (release[task] <= time + EPSILON && membersFree(task, memberFree, time)) {
+                    start[task] = time;
+                    finish[task] = time + elapsedHours[task];
+                    for (int member : taskMembers[task]) {
+                        memberFree[member] = finish[task];
+                    }
+                    running.add(task);
+                } else {
+                    ready[kept++] = task;
+                }
+            }
+            readyCount = kept;
+
+            // Advance to the next finish, release or member hand-off
+            double next = running.isEmpty() ? Double.POSITIVE_INFINITY : finish[running.peek()];
+            for (int r = 0; r < readyCount; r++) {
+                int task = ready[r];
+                double earliest = release[task];
+                for (int member : taskMembers[task]) {
+                    earliest = Math.max(earliest, memberFree[member]);
+                }
+                next = Math.min(next, earliest);
+            }
+            time = Math.max(time, next);
+
+            while (!running.isEmpty() && finish[running.peek()] <= time + EPSILON) {
+                int task = running.poll();
+                completed++;
+                makespan = Math.max(makespan, finish[task]);
+                for (int slot = graph.successorStart(task); slot < graph.successorEnd(task); slot++) {
+                    int successor = graph.successorAt(slot);
+                    double lag = graph.edgeLagHours(graph.successorEdgeAt(slot));
+                    release[successor] = Math.max(release[successor], finish[task] + lag);
+                    if (--pendingPredecessors[successor] == 0) {
+                        readyCount = insertByKey(ready, readyCount, successor, key);
+                    }
+                }
+            }
+        }
+
+        double[] busy = new double[memberCount];
+        for (int i = 0; i < size; i++) {
+            for (int member : taskMembers[i]) {
+                busy[member] += elapsedHours[i];
+            }
+        }
+        return new LevelledSchedule(rule, makespan, start, finish, busy);
+    }
+
+    private boolean membersFree(int task, double[] memberFree, double time) {
+        for (int member : taskMembers[task]) {
+            if (memberFree[member] > time + EPSILON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int insertByKey(int[] ready, int readyCount, int task, double[] key) {
+        int position = readyCount;
+        while (position > 0 && key[ready[position - 1]] > key[task]) {
+            ready[position] = ready[position - 1];
+            position--;
+        }
+        ready[position] = task;
+        return readyCount + 1;
+    }
+
+    // =========================================================================
+    // PRIORITY RULES
+    // =========================================================================
+
+    private int[][] computeRuleRanks() {
+        ProjectDependencyGraph.CriticalPathTimes times = graph.computeCriticalPath();
+        ReachabilityIndex closure = ReachabilityIndex.build(graph);
+        int[] topologicalPosition = new int[size];
+        int[] order = graph.topologicalOrder();
+        for (int position = 0; position < order.length; position++) {
+            topologicalPosition[order[position]] = position;
+        }
+
+        double[] totalFloat = new double[size];
+        double[] latestStart = new double[size];
+        int[] successorCount = new int[size];
+        for (int i = 0; i < size; i++) {
+            totalFloat[i] = times.getTotalFloat(i);
+            latestStart[i] = times.getLatestStart(i);
+            successorCount[i] = closure.reachableCount(i);
+        }
+
+        Comparator<Integer> byTopology = Comparator.comparingInt(i -> topologicalPosition[i]);
+        Comparator<Integer> byFloat = Comparator.comparingDouble(i -> totalFloat[i]);
+        Comparator<Integer> bySuccessors = Comparator.comparingInt(i -> -successorCount[i]);
+
+        int[][] ranks = new int[PriorityRule.values().length][];
+        ranks[PriorityRule.MIN_FLOAT.ordinal()] = rank(byFloat.thenComparing(bySuccessors).thenComparing(byTopology));
+        ranks[PriorityRule.MOST_SUCCESSORS.ordinal()] = rank(bySuccessors.thenComparing(byFloat).thenComparing(byTopology));
+        ranks[PriorityRule.LATEST_START.ordinal()] = rank(
+            Comparator.<Integer>comparingDouble(i -> latestStart[i]).thenComparing(byTopology));
+        ranks[PriorityRule.LONGEST_DURATION.ordinal()] = rank(
+            Comparator.<Integer>comparingDouble(i -> -elapsedHours[i]).thenComparing(byTopology));
+        ranks[PriorityRule.TOPOLOGICAL.ordinal()] = rank(byTopology);
+        return ranks;
+    }
+
+    private int[] rank(Comparator<Integer> comparator) {
+        Integer[] tasks = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            tasks[i] = i;
+        }
+        Arrays.sort(tasks, comparator);
+        int[] rank = new int[size];
+        for (int position = 0; position < size; position++) {
+            rank[tasks[position]] = position;
+        }
+        return rank;
+    }
+
+    // =========================================================================
+    // RESULT
+    // =========================================================================
+
+    /**
+     * A feasible resource-levelled schedule. Times are hours from project start.
+     */
+    public static final class LevelledSchedule {
+        private final String rule;
+        private final double makespan;
+        private final double[] start;
+        private final double[] finish;
+        private final double[] memberBusyHours;
+        private int evaluatedSchedules = 1;
+        private double baselineMakespan;
+
+        LevelledSchedule(String rule, double makespan, double[] start, double[] finish, double[] memberBusyHours) {
+            this.rule = rule;
+            this.makespan = makespan;
+            this.start = start;
+            this.finish = finish;
+            this.memberBusyHours = memberBusyHours;
+            this.baselineMakespan = makespan;
+        }
+
+        public String getRule() { return rule; }
+        public double getMakespan() { return makespan; }
+        public double getStart(int task) { return start[task]; }
+        public double getFinish(int task) { return finish[task]; }
+        public double getMemberBusyHours(int member) { return memberBusyHours[member]; }
+        public int getEvaluatedSchedules() { return evaluatedSchedules; }
+
+        /**
+         * @return makespan of the plain dependency-order schedule
+         */
+        public double getBaselineMakespan() { return baselineMakespan; }
+
+        /**
+         * @param member member index
+         * @return busy hours divided by makespan
+         */
+        public double getMemberUtilization(int member) {
+            return makespan > 0 ? memberBusyHours[member] / makespan : 0.0;
+        }
+    }
+}
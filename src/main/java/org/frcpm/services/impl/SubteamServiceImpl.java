@@ -1,11 +1,13 @@
 package org.frcpm.services.impl;
 
+import org.frcpm.events.TeamMembershipChangedEvent;
 import org.frcpm.models.Subteam;
 import org.frcpm.models.TeamMember;
 import org.frcpm.models.Subsystem;
 import org.frcpm.repositories.spring.SubteamRepository;
 import org.frcpm.services.SubteamService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +23,38 @@ import java.util.Optional;
 public class SubteamServiceImpl extends AbstractSpringService<Subteam, Long> implements SubteamService {
     
     private final SubteamRepository subteamRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public SubteamServiceImpl(SubteamRepository subteamRepository) {
+    public SubteamServiceImpl(SubteamRepository subteamRepository, ApplicationEventPublisher eventPublisher) {
         super(subteamRepository);
         this.subteamRepository = subteamRepository;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Override
+    public Subteam save(Subteam entity) {
+        boolean isNew = entity != null && entity.getId() == null;
+        Subteam saved = super.save(entity);
+        publishSubteamChange(isNew ? TeamMembershipChangedEvent.ChangeType.CREATED
+                                   : TeamMembershipChangedEvent.ChangeType.UPDATED, saved, null);
+        return saved;
+    }
+    
+    @Override
+    public void delete(Subteam entity) {
+        super.delete(entity);
+        publishSubteamChange(TeamMembershipChangedEvent.ChangeType.DELETED, entity, null);
+    }
+    
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = super.deleteById(id);
+        if (deleted) {
+            eventPublisher.publishEvent(new TeamMembershipChangedEvent(
+                TeamMembershipChangedEvent.ChangeType.DELETED, null, id));
+        }
+        return deleted;
     }
     
     @Override
@@ -61,13 +90,17 @@ public class SubteamServiceImpl extends AbstractSpringService<Subteam, Long> imp
     @Override
     public Subteam addMember(Subteam subteam, TeamMember member) {
         subteam.addMember(member);
-        return subteamRepository.save(subteam);
+        Subteam saved = subteamRepository.save(subteam);
+        publishSubteamChange(TeamMembershipChangedEvent.ChangeType.UPDATED, saved, member);
+        return saved;
     }
     
     @Override
     public Subteam removeMember(Subteam subteam, TeamMember member) {
         subteam.removeMember(member);
-        return subteamRepository.save(subteam);
+        Subteam saved = subteamRepository.save(subteam);
+        publishSubteamChange(TeamMembershipChangedEvent.ChangeType.UPDATED, saved, member);
+        return saved;
     }
     
     @Override
@@ -128,7 +161,9 @@ public class SubteamServiceImpl extends AbstractSpringService<Subteam, Long> imp
         defaultSubteams.get(5).setColor("#DDA0DD"); // Purple for Media
         
         // Save all default subteams
-        return subteamRepository.saveAll(defaultSubteams);
+        List<Subteam> saved = subteamRepository.saveAll(defaultSubteams);
+        saved.forEach(subteam -> publishSubteamChange(TeamMembershipChangedEvent.ChangeType.CREATED, subteam, null));
+        return saved;
     }
     
     @Override
@@ -151,6 +186,19 @@ public class SubteamServiceImpl extends AbstractSpringService<Subteam, Long> imp
             subteam.setColor("#6C757D"); // Bootstrap secondary color
         }
         
-        return subteamRepository.save(subteam);
+        return save(subteam);
+    }
+    
+    /**
+     * Publishes a membership change so team metrics can be updated after
+     * commit. Without a member the change is about the subteam itself.
+     */
+    private void publishSubteamChange(TeamMembershipChangedEvent.ChangeType changeType,
+                                      Subteam subteam, TeamMember member) {
+        if (subteam == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(
+            changeType, member != null ? member.getId() : null, subteam.getId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+// src/main/java/org/frcpm/services/impl/TableWriter.java
+
+package org.frcpm.services.impl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes one table to an output stream a row at a time, for the streaming
+ * exports.
+ *
+ * Call {@link #header} once, then {@link #row} for each row, then
+ * {@link #finish}. Nothing is buffered beyond what the format itself
+ * requires, and the underlying stream is flushed but never closed.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+interface TableWriter {
+
+    DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    void header(List<String> columns) throws IOException;
+
+    /**
+     * @param values one value per column; strings, numbers, booleans,
+     *        enums, dates and times are supported, null is an empty cell
+     */
+    void row(Object... values) throws IOException;
+
+    void finish() throws IOException;
+
+    /**
+     * @return how a value is shown in formats that only hold text
+     */
+    static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return DATE_TIME.format(dateTime);
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+}
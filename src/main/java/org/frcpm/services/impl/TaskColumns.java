@@ -0,0 +1,146 @@
+// src/main/java/org/frcpm/services/impl/TaskColumns.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Task;
+import org.frcpm.models.TeamMember;
+import org.frcpm.models.UserRole;
+
+import java.util.*;
+
+/**
+ * Column-oriented projection of a project's tasks for the analytics kernel.
+ *
+ * Each task becomes one row across primitive arrays, so a scan touches
+ * only ints and longs instead of entities. Assignees are stored as
+ * compressed rows: the members of task {@code i} are
+ * {@code assignees[assigneeStart[i] .. assigneeStart[i + 1])}, each an
+ * index into the member arrays.
+ *
+ * Tasks should be loaded with their assignees fetched when member figures
+ * are needed.
+ *
+ * @author FRC Project Management Team
+ * @version 3.0.0-3B
+ * @since Phase 3B - Advanced Reporting & Analytics
+ */
+public final class TaskColumns {
+
+    /** Epoch day stored for a missing start or end date */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    /** Priority ordinal stored for a task without a priority */
+    public static final byte NO_PRIORITY = -1;
+
+    final int size;
+    final int[] progress;
+    final boolean[] completed;
+    final byte[] priority;
+    final int[] startDay;
+    final int[] endDay;
+    final long[] durationSeconds;
+
+    final int[] assigneeStart;
+    final int[] assignees;
+    final long[] memberIds;
+    final String[] memberNames;
+    final String[] memberRoles;
+
+    private TaskColumns(int size, int[] progress, boolean[] completed, byte[] priority, int[] startDay,
+                        int[] endDay, long[] durationSeconds, int[] assigneeStart, int[] assignees,
+                        long[] memberIds, String[] memberNames, String[] memberRoles) {
+        this.size = size;
+        this.progress = progress;
+        this.completed = completed;
+        this.priority = priority;
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.durationSeconds = durationSeconds;
+        this.assigneeStart = assigneeStart;
+        this.assignees = assignees;
+        this.memberIds = memberIds;
+        this.memberNames = memberNames;
+        this.memberRoles = memberRoles;
+    }
+
+    /**
+     * Projects tasks into columns; null tasks are skipped.
+     *
+     * @param tasks the tasks
+     * @return the columns
+     */
+    public static TaskColumns of(List<Task> tasks) {
+        List<Task> rows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            if (task != null) {
+                rows.add(task);
+            }
+        }
+        int size = rows.size();
+        int[] progress = new int[size];
+        boolean[] completed = new boolean[size];
+        byte[] priority = new byte[size];
+        int[] startDay = new int[size];
+        int[] endDay = new int[size];
+        long[] durationSeconds = new long[size];
+        int[] assigneeStart = new int[size + 1];
+
+        Map<Long, Integer> memberIndex = new LinkedHashMap<>();
+        List<TeamMember> members = new ArrayList<>();
+        int[] assignees = new int[Math.max(16, size)];
+        int assigneeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            Task task = rows.get(i);
+            progress[i] = task.getProgress();
+            completed[i] = task.isCompleted();
+            priority[i] = task.getPriority() != null ? (byte) task.getPriority().ordinal() : NO_PRIORITY;
+            startDay[i] = task.getStartDate() != null ? (int) task.getStartDate().toEpochDay() : NO_DATE;
+            endDay[i] = task.getEndDate() != null ? (int) task.getEndDate().toEpochDay() : NO_DATE;
+            durationSeconds[i] = task.getEstimatedDuration() != null ? task.getEstimatedDuration().getSeconds() : 0;
+
+            assigneeStart[i] = assigneeCount;
+            if (task.getAssignedTo() != null) {
+                for (TeamMember member : task.getAssignedTo()) {
+                    if (member == null || member.getId() == null) {
+                        continue;
+                    }
+                    Integer index = memberIndex.get(member.getId());
+                    if (index == null) {
+                        index = members.size();
+                        memberIndex.put(member.getId(), index);
+                        members.add(member);
+                    }
+                    if (assigneeCount == assignees.length) {
+                        assignees = Arrays.copyOf(assignees, assignees.length * 2);
+                    }
+                    assignees[assigneeCount++] = index;
+                }
+            }
+        }
+        assigneeStart[size] = assigneeCount;
+
+        long[] memberIds = new long[members.size()];
+        String[] memberNames = new String[members.size()];
+        String[] memberRoles = new String[members.size()];
+        for (int m = 0; m < members.size(); m++) {
+            TeamMember member = members.get(m);
+            UserRole role = member.getAuthenticationRole();
+            memberIds[m] = member.getId();
+            memberNames[m] = member.getFullName();
+            memberRoles[m] = role != null ? role.name() : (member.isLeader() ? "LEADER" : "MEMBER");
+        }
+
+        return new TaskColumns(size, progress, completed, priority, startDay, endDay, durationSeconds,
+                               assigneeStart, Arrays.copyOf(assignees, assigneeCount),
+                               memberIds, memberNames, memberRoles);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int memberCount() {
+        return memberIds.length;
+    }
+}
@@ -2,20 +2,34 @@
 
 package org.frcpm.services.impl;
 
+import org.frcpm.events.DependencyChangedEvent;
+import org.frcpm.events.WebSocketEventPublisher;
+import org.frcpm.models.Attendance;
 import org.frcpm.models.DependencyType;
+import org.frcpm.models.Meeting;
 import org.frcpm.models.Project;
 import org.frcpm.models.Task;
 import org.frcpm.models.TaskDependency;
+import org.frcpm.models.TeamMember;
+import org.frcpm.repositories.spring.AttendanceRepository;
+import org.frcpm.repositories.spring.TaskDependencyBatchWriter;
 import org.frcpm.repositories.spring.TaskDependencyRepository;
 import org.frcpm.repositories.spring.TaskRepository;
+import jakarta.annotation.PreDestroy;
 import org.frcpm.services.TaskDependencyService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -41,14 +55,68 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     
     private static final Logger LOGGER = Logger.getLogger(TaskDependencyServiceImpl.class.getName());
     
+    /** Wall-clock budget for resource-levelled schedule search */
+    private static final Duration OPTIMIZER_TIME_BUDGET = Duration.ofMillis(500);
+    
+    /** Threads searching levelled schedules, shared by all concurrent optimizations */
+    private static final int OPTIMIZER_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    
+    /** Floor for member availability so rarely present members still finish their work */
+    private static final double MIN_MEMBER_AVAILABILITY = 0.1;
+    
+    /** Utilization above which a member is reported as a bottleneck */
+    private static final double OVERLOADED_UTILIZATION = 0.85;
+    
+    /** Monte Carlo samples used for risk assessment */
+    private static final int RISK_SIMULATION_SAMPLES = 20_000;
+    
+    /** Working hours per calendar day when turning simulated hours into dates */
+    private static final double WORK_HOURS_PER_DAY = 8.0;
+    
+    /** Deadline probability below which the schedule is reported as a risk */
+    private static final double DEADLINE_CONFIDENCE_TARGET = 0.8;
+    
+    /** Criticality index from which a task counts as high risk */
+    private static final double HIGH_CRITICALITY = 0.8;
+    
     private final TaskDependencyRepository taskDependencyRepository;
     private final TaskRepository taskRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final TaskDependencyBatchWriter batchWriter;
+    private final CriticalPathScheduleCache scheduleCache;
+    private final ReachabilityIndexCache reachabilityCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WebSocketEventPublisher webSocketEventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    /** Kept apart from the common pool so the solver does not compete with parallel streams */
+    private final ForkJoinPool optimizerPool = new ForkJoinPool(OPTIMIZER_PARALLELISM);
     
     @Autowired
     public TaskDependencyServiceImpl(TaskDependencyRepository taskDependencyRepository, 
-                                   TaskRepository taskRepository) {
+                                   TaskRepository taskRepository,
+                                   AttendanceRepository attendanceRepository,
+                                   TaskDependencyBatchWriter batchWriter,
+                                   CriticalPathScheduleCache scheduleCache,
+                                   ReachabilityIndexCache reachabilityCache,
+                                   ApplicationEventPublisher eventPublisher,
+                                   WebSocketEventPublisher webSocketEventPublisher,
+                                   PlatformTransactionManager transactionManager) {
         this.taskDependencyRepository = taskDependencyRepository;
         this.taskRepository = taskRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.batchWriter = batchWriter;
+        this.scheduleCache = scheduleCache;
+        this.reachabilityCache = reachabilityCache;
+        this.eventPublisher = eventPublisher;
+        this.webSocketEventPublisher = webSocketEventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        optimizerPool.shutdownNow();
     }
     
     // =========================================================================
@@ -93,6 +161,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         dependency.setProject(dependentTask.getProject());
         
         TaskDependency savedDependency = taskDependencyRepository.save(dependency);
+        publishDependencyChange(DependencyChangedEvent.ChangeType.CREATED, savedDependency);
         
         LOGGER.log(Level.INFO, "Created dependency: {0} -> {1} ({2})", 
                   new Object[]{prerequisiteTask.getTitle(), dependentTask.getTitle(), dependencyType});
@@ -109,13 +178,18 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         dependency.setLagHours(lagHours);
         dependency.setNotes(notes);
         
-        return taskDependencyRepository.save(dependency);
+        TaskDependency savedDependency = taskDependencyRepository.save(dependency);
+        publishDependencyChange(DependencyChangedEvent.ChangeType.UPDATED, savedDependency);
+        return savedDependency;
     }
     
     @Override
     public boolean removeDependency(Long dependencyId) {
-        if (taskDependencyRepository.existsById(dependencyId)) {
-            taskDependencyRepository.deleteById(dependencyId);
+        Optional<TaskDependency> dependency = taskDependencyRepository.findById(dependencyId);
+        
+        if (dependency.isPresent()) {
+            taskDependencyRepository.delete(dependency.get());
+            publishDependencyChange(DependencyChangedEvent.ChangeType.DELETED, dependency.get());
             return true;
         }
         return false;
@@ -128,11 +202,42 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         
         if (dependency.isPresent()) {
             taskDependencyRepository.delete(dependency.get());
+            publishDependencyChange(DependencyChangedEvent.ChangeType.DELETED, dependency.get());
             return true;
         }
         return false;
     }
     
+    /**
+     * Publishes a dependency change so cached schedules and reachability
+     * indexes can be updated after commit. The transaction's own copy of the
+     * reachability index is updated immediately so later cycle checks in the
+     * same transaction see the change.
+     */
+    private void publishDependencyChange(DependencyChangedEvent.ChangeType changeType, TaskDependency dependency) {
+        Long projectId = dependency.getProject() != null ? dependency.getProject().getId() :
+            dependency.getDependentTask().getProject().getId();
+        
+        ReachabilityIndex index = reachabilityCache.forUpdate(projectId);
+        if (index != null) {
+            if (changeType == DependencyChangedEvent.ChangeType.DELETED || !dependency.isActive()) {
+                index.removeDependency(dependency.getId());
+            } else if (!index.addDependency(dependency.getId(), dependency.getPrerequisiteTask().getId(),
+                                            dependency.getDependentTask().getId())) {
+                reachabilityCache.invalidate(projectId);
+            }
+        }
+        
+        eventPublisher.publishEvent(new DependencyChangedEvent(
+            changeType,
+            dependency.getId(),
+            projectId,
+            dependency.getPrerequisiteTask().getId(),
+            dependency.getDependentTask().getId(),
+            dependency.getLagHours(),
+            dependency.isActive()));
+    }
+    
     @Override
     public Optional<TaskDependency> findDependencyById(Long dependencyId) {
         return taskDependencyRepository.findById(dependencyId);
@@ -168,44 +273,12 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     
     @Override
     public Set<Task> getAllPrerequisites(Task task) {
-        Set<Task> prerequisites = new HashSet<>();
-        Set<Task> visited = new HashSet<>();
-        collectPrerequisites(task, prerequisites, visited);
-        return prerequisites;
-    }
-    
-    private void collectPrerequisites(Task task, Set<Task> prerequisites, Set<Task> visited) {
-        if (visited.contains(task)) {
-            return; // Avoid infinite loops
-        }
-        visited.add(task);
-        
-        List<Task> directPrereqs = getDirectPrerequisites(task);
-        for (Task prereq : directPrereqs) {
-            prerequisites.add(prereq);
-            collectPrerequisites(prereq, prerequisites, visited);
-        }
+        return loadGraph(task.getProject()).allPrerequisites(task);
     }
     
     @Override
     public Set<Task> getAllDependents(Task task) {
-        Set<Task> dependents = new HashSet<>();
-        Set<Task> visited = new HashSet<>();
-        collectDependents(task, dependents, visited);
-        return dependents;
-    }
-    
-    private void collectDependents(Task task, Set<Task> dependents, Set<Task> visited) {
-        if (visited.contains(task)) {
-            return; // Avoid infinite loops
-        }
-        visited.add(task);
-        
-        List<Task> directDeps = getDirectDependents(task);
-        for (Task dependent : directDeps) {
-            dependents.add(dependent);
-            collectDependents(dependent, dependents, visited);
-        }
+        return loadGraph(task.getProject()).allDependents(task);
     }
     
     @Override
@@ -233,53 +306,26 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     
     @Override
     public boolean wouldCreateCycle(Task dependentTask, Task prerequisiteTask) {
-        // Check if prerequisiteTask is in the transitive dependencies of dependentTask
-        Set<Task> transitivePrereqs = getAllPrerequisites(dependentTask);
-        return transitivePrereqs.contains(prerequisiteTask) || 
-               getAllDependents(prerequisiteTask).contains(dependentTask);
-    }
-    
-    @Override
-    public List<List<Task>> detectCycles(Project project) {
-        List<List<Task>> cycles = new ArrayList<>();
-        List<Task> allTasks = taskRepository.findByProject(project);
-        Set<Task> visited = new HashSet<>();
-        Set<Task> recursionStack = new HashSet<>();
-        
-        for (Task task : allTasks) {
-            if (!visited.contains(task)) {
-                List<Task> cycle = detectCycleFromTask(task, visited, recursionStack, new ArrayList<>());
-                if (cycle != null && !cycle.isEmpty()) {
-                    cycles.add(cycle);
-                }
+        // The new edge prerequisite -> dependent closes a cycle if the dependent
+        // task already leads (directly or transitively) back to the prerequisite
+        Project project = dependentTask.getProject();
+        ReachabilityIndex index = reachabilityCache.get(project.getId());
+        if (index == null || !index.contains(dependentTask.getId()) || !index.contains(prerequisiteTask.getId())) {
+            ProjectDependencyGraph graph = loadGraph(project);
+            index = ReachabilityIndex.build(graph);
+            if (index == null) {
+                // Existing cycles: no closure index, answer from the graph directly
+                reachabilityCache.invalidate(project.getId());
+                return graph.isReachable(graph.indexOf(dependentTask), graph.indexOf(prerequisiteTask));
             }
+            reachabilityCache.put(project.getId(), index);
         }
-        
-        return cycles;
+        return index.reaches(dependentTask.getId(), prerequisiteTask.getId());
     }
     
-    private List<Task> detectCycleFromTask(Task task, Set<Task> visited, Set<Task> recursionStack, List<Task> path) {
-        visited.add(task);
-        recursionStack.add(task);
-        path.add(task);
-        
-        List<Task> dependents = getDirectDependents(task);
-        for (Task dependent : dependents) {
-            if (!visited.contains(dependent)) {
-                List<Task> cycle = detectCycleFromTask(dependent, visited, recursionStack, new ArrayList<>(path));
-                if (cycle != null) {
-                    return cycle;
-                }
-            } else if (recursionStack.contains(dependent)) {
-                // Found cycle - return the cycle path
-                List<Task> cycle = new ArrayList<>(path);
-                int cycleStart = cycle.indexOf(dependent);
-                return cycle.subList(cycleStart, cycle.size());
-            }
-        }
-        
-        recursionStack.remove(task);
-        return null;
+    @Override
+    public List<List<Task>> detectCycles(Project project) {
+        return loadGraph(project).findCycles();
     }
     
     @Override
@@ -316,37 +362,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
             return Arrays.asList(fromTask);
         }
         
-        Map<Task, Task> predecessors = new HashMap<>();
-        Set<Task> visited = new HashSet<>();
-        Queue<Task> queue = new LinkedList<>();
-        
-        queue.offer(fromTask);
-        visited.add(fromTask);
-        
-        while (!queue.isEmpty()) {
-            Task current = queue.poll();
-            
-            for (Task dependent : getDirectDependents(current)) {
-                if (!visited.contains(dependent)) {
-                    visited.add(dependent);
-                    predecessors.put(dependent, current);
-                    queue.offer(dependent);
-                    
-                    if (dependent.equals(toTask)) {
-                        // Reconstruct path
-                        List<Task> path = new ArrayList<>();
-                        Task node = toTask;
-                        while (node != null) {
-                            path.add(0, node);
-                            node = predecessors.get(node);
-                        }
-                        return path;
-                    }
-                }
-            }
-        }
-        
-        return Collections.emptyList(); // No path found
+        return loadGraph(fromTask.getProject()).shortestPath(fromTask, toTask);
     }
     
     // =========================================================================
@@ -355,161 +371,50 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     
     @Override
     public CriticalPathResult calculateCriticalPath(Project project) {
-        List<Task> allTasks = taskRepository.findByProject(project);
-        Map<Task, Double> earliestStart = new HashMap<>();
-        Map<Task, Double> earliestFinish = new HashMap<>();
-        Map<Task, Double> latestStart = new HashMap<>();
-        Map<Task, Double> latestFinish = new HashMap<>();
-        Map<Task, Double> taskFloats = new HashMap<>();
+        ProjectDependencyGraph graph = loadGraph(project);
         
-        // Forward pass - calculate earliest start and finish times
-        calculateEarliestTimes(allTasks, earliestStart, earliestFinish);
-        
-        // Backward pass - calculate latest start and finish times
-        calculateLatestTimes(allTasks, earliestFinish, latestStart, latestFinish);
+        // Serve from the incrementally maintained schedule when it still matches the graph
+        CriticalPathSchedule schedule = scheduleCache.resolve(project.getId(), graph);
+        if (schedule == null) {
+            // Cyclic graph - fall back to full passes over the schedulable part
+            ProjectDependencyGraph.CriticalPathTimes times = graph.computeCriticalPath();
+            updateCriticalPathMarkers(project, times.getCriticalTasks(), times.getCriticalDependencies());
+            return new CriticalPathResult(times.getCriticalTasks(), times.getProjectFinish(),
+                                        times.getTaskFloats(), times.getCriticalDependencies());
+        }
         
-        // Calculate float for each task
         List<Task> criticalTasks = new ArrayList<>();
-        for (Task task : allTasks) {
-            double totalFloat = latestStart.get(task) - earliestStart.get(task);
-            taskFloats.put(task, totalFloat);
-            
-            if (Math.abs(totalFloat) < 0.01) { // Consider float of 0 (with small tolerance)
+        Map<Task, Double> taskFloats = new HashMap<>();
+        for (Task task : graph.getTasks()) {
+            taskFloats.put(task, schedule.getTotalFloat(task.getId()));
+            if (schedule.isCritical(task.getId())) {
                 criticalTasks.add(task);
             }
         }
         
-        // Find critical path dependencies
-        List<TaskDependency> criticalDependencies = findCriticalPathDependencies(project, criticalTasks);
-        
-        // Update critical path markers in database
-        updateCriticalPathMarkers(project, criticalTasks, criticalDependencies);
-        
-        double totalDuration = earliestFinish.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
-        
-        return new CriticalPathResult(criticalTasks, totalDuration, taskFloats, criticalDependencies);
-    }
-    
-    private void calculateEarliestTimes(List<Task> allTasks, Map<Task, Double> earliestStart, Map<Task, Double> earliestFinish) {
-        // Topological sort to process tasks in dependency order
-        List<Task> sortedTasks = topologicalSort(allTasks);
-        
-        for (Task task : sortedTasks) {
-            double maxPrereqFinish = 0;
-            
-            // Find the latest finish time of all prerequisites
-            for (Task prereq : getDirectPrerequisites(task)) {
-                TaskDependency dependency = taskDependencyRepository
-                    .findByDependentTaskAndPrerequisiteTask(task, prereq).orElse(null);
-                
-                if (dependency != null) {
-                    double prereqFinish = earliestFinish.getOrDefault(prereq, 0.0);
-                    double lagTime = (dependency.getLagHours() != null) ? dependency.getLagHours() : 0;
-                    maxPrereqFinish = Math.max(maxPrereqFinish, prereqFinish + lagTime);
-                }
+        List<TaskDependency> criticalDependencies = new ArrayList<>();
+        for (TaskDependency dependency : graph.getDependencies()) {
+            if (schedule.isCritical(dependency.getPrerequisiteTask().getId()) &&
+                schedule.isCritical(dependency.getDependentTask().getId())) {
+                criticalDependencies.add(dependency);
             }
-            
-            earliestStart.put(task, maxPrereqFinish);
-            double duration = getTaskDurationHours(task);
-            earliestFinish.put(task, maxPrereqFinish + duration);
         }
-    }
-    
-    private void calculateLatestTimes(List<Task> allTasks, Map<Task, Double> earliestFinish, 
-                                    Map<Task, Double> latestStart, Map<Task, Double> latestFinish) {
-        // Start from project end date
-        double projectFinish = earliestFinish.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
         
-        // Initialize latest finish times for tasks with no dependents
-        for (Task task : allTasks) {
-            if (getDirectDependents(task).isEmpty()) {
-                latestFinish.put(task, projectFinish);
-            }
-        }
-        
-        // Reverse topological order
-        List<Task> sortedTasks = topologicalSort(allTasks);
-        Collections.reverse(sortedTasks);
-        
-        for (Task task : sortedTasks) {
-            if (!latestFinish.containsKey(task)) {
-                double minDependentStart = Double.MAX_VALUE;
-                
-                for (Task dependent : getDirectDependents(task)) {
-                    TaskDependency dependency = taskDependencyRepository
-                        .findByDependentTaskAndPrerequisiteTask(dependent, task).orElse(null);
-                    
-                    if (dependency != null) {
-                        double dependentLatestStart = latestStart.getOrDefault(dependent, 0.0);
-                        double lagTime = (dependency.getLagHours() != null) ? dependency.getLagHours() : 0;
-                        minDependentStart = Math.min(minDependentStart, dependentLatestStart - lagTime);
-                    }
-                }
-                
-                latestFinish.put(task, minDependentStart == Double.MAX_VALUE ? projectFinish : minDependentStart);
-            }
-            
-            double duration = getTaskDurationHours(task);
-            latestStart.put(task, latestFinish.get(task) - duration);
-        }
-    }
-    
-    private List<Task> topologicalSort(List<Task> allTasks) {
-        Map<Task, Integer> inDegree = new HashMap<>();
-        Map<Task, List<Task>> adjList = new HashMap<>();
-        
-        // Initialize
-        for (Task task : allTasks) {
-            inDegree.put(task, 0);
-            adjList.put(task, new ArrayList<>());
-        }
-        
-        // Build adjacency list and calculate in-degrees
-        for (Task task : allTasks) {
-            for (Task dependent : getDirectDependents(task)) {
-                adjList.get(task).add(dependent);
-                inDegree.put(dependent, inDegree.get(dependent) + 1);
-            }
-        }
-        
-        // Kahn's algorithm
-        Queue<Task> queue = new LinkedList<>();
-        for (Task task : allTasks) {
-            if (inDegree.get(task) == 0) {
-                queue.offer(task);
-            }
-        }
-        
-        List<Task> result = new ArrayList<>();
-        while (!queue.isEmpty()) {
-            Task current = queue.poll();
-            result.add(current);
-            
-            for (Task neighbor : adjList.get(current)) {
-                inDegree.put(neighbor, inDegree.get(neighbor) - 1);
-                if (inDegree.get(neighbor) == 0) {
-                    queue.offer(neighbor);
-                }
-            }
-        }
+        // Update critical path markers in database
+        updateCriticalPathMarkers(project, criticalTasks, criticalDependencies);
         
-        return result;
-    }
-    
-    private double getTaskDurationHours(Task task) {
-        if (task.getEstimatedDuration() != null) {
-            return task.getEstimatedDuration().toHours();
-        }
-        return 8.0; // Default 8 hours if no estimate
+        return new CriticalPathResult(criticalTasks, schedule.getProjectFinish(), taskFloats,
+                                    criticalDependencies, schedule.getVersion());
     }
     
-    private List<TaskDependency> findCriticalPathDependencies(Project project, List<Task> criticalTasks) {
-        Set<Task> criticalTaskSet = new HashSet<>(criticalTasks);
-        
-        return taskDependencyRepository.findByProjectAndActive(project, true).stream()
-            .filter(dep -> criticalTaskSet.contains(dep.getDependentTask()) && 
-                          criticalTaskSet.contains(dep.getPrerequisiteTask()))
-            .collect(Collectors.toList());
+    /**
+     * Loads the project's tasks and active dependencies in two queries and
+     * compiles them into an int-indexed graph for traversal and CPM.
+     */
+    private ProjectDependencyGraph loadGraph(Project project) {
+        List<Task> tasks = taskRepository.findByProject(project);
+        List<TaskDependency> dependencies = taskDependencyRepository.findByProjectAndActive(project, true);
+        return ProjectDependencyGraph.build(tasks, dependencies);
     }
     
     private void updateCriticalPathMarkers(Project project, List<Task> criticalTasks, List<TaskDependency> criticalDependencies) {
@@ -539,7 +444,13 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     
     @Override
     public Double calculateTaskFloat(Task task) {
-        // This requires critical path analysis to be run first
+        // O(1) read when the project's schedule is already cached
+        CriticalPathSchedule schedule = scheduleCache.get(task.getProject().getId());
+        if (schedule != null && schedule.contains(task.getId())) {
+            return schedule.getTotalFloat(task.getId());
+        }
+        
+        // Otherwise run critical path analysis, which also primes the cache
         CriticalPathResult result = calculateCriticalPath(task.getProject());
         return result.getTaskFloats().get(task);
     }
@@ -592,29 +503,128 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     // BULK OPERATIONS
     // =========================================================================
     
+    /**
+     * Imports a dependency network as one batch: all referenced tasks are
+     * resolved in one query, the proposed edges are validated together with
+     * the existing graph in a single topological pass, and the accepted rows
+     * are written with JDBC batching. Rows with unknown tasks, self references,
+     * cross-project pairs or duplicates are skipped; any cycle rejects the
+     * whole batch and names the tasks involved.
+     */
     @Override
     public List<TaskDependency> createBulkDependencies(List<DependencySpec> dependencies) {
         List<TaskDependency> created = new ArrayList<>();
+        if (dependencies == null || dependencies.isEmpty()) {
+            return created;
+        }
         
+        // Resolve every referenced task in one query
+        Set<Long> taskIds = new HashSet<>();
         for (DependencySpec spec : dependencies) {
-            try {
-                TaskDependency dependency = createDependency(
-                    spec.getDependentTask(),
-                    spec.getPrerequisiteTask(),
-                    spec.getDependencyType(),
-                    spec.getLagHours(),
-                    spec.getNotes()
-                );
-                created.add(dependency);
-            } catch (Exception e) {
-                LOGGER.log(Level.WARNING, "Failed to create bulk dependency: " + e.getMessage(), e);
-                // Continue with other dependencies
+            if (spec.getDependentTask() != null && spec.getPrerequisiteTask() != null) {
+                taskIds.add(spec.getDependentTask().getId());
+                taskIds.add(spec.getPrerequisiteTask().getId());
+            }
+        }
+        Map<Long, Task> tasksById = taskRepository.findAllById(taskIds).stream()
+            .collect(Collectors.toMap(Task::getId, task -> task));
+        
+        Map<Long, List<TaskDependency>> proposedByProject = new LinkedHashMap<>();
+        for (DependencySpec spec : dependencies) {
+            Task dependentTask = spec.getDependentTask() != null ? tasksById.get(spec.getDependentTask().getId()) : null;
+            Task prerequisiteTask = spec.getPrerequisiteTask() != null ?
+                tasksById.get(spec.getPrerequisiteTask().getId()) : null;
+            
+            if (dependentTask == null || prerequisiteTask == null) {
+                LOGGER.warning("Skipping bulk dependency with unknown task");
+                continue;
+            }
+            if (dependentTask.getId().equals(prerequisiteTask.getId())) {
+                LOGGER.log(Level.WARNING, "Skipping self-dependency for task {0}", dependentTask.getId());
+                continue;
+            }
+            if (!dependentTask.getProject().getId().equals(prerequisiteTask.getProject().getId())) {
+                LOGGER.log(Level.WARNING, "Skipping cross-project dependency {0} -> {1}",
+                          new Object[]{prerequisiteTask.getId(), dependentTask.getId()});
+                continue;
+            }
+            
+            TaskDependency dependency = new TaskDependency(dependentTask, prerequisiteTask,
+                spec.getDependencyType() != null ? spec.getDependencyType() : DependencyType.FINISH_TO_START);
+            dependency.setLagHours(spec.getLagHours());
+            dependency.setNotes(spec.getNotes());
+            proposedByProject.computeIfAbsent(dependentTask.getProject().getId(), id -> new ArrayList<>())
+                .add(dependency);
+        }
+        
+        for (List<TaskDependency> proposed : proposedByProject.values()) {
+            created.addAll(importProjectDependencies(proposed.get(0).getProject(), proposed));
+        }
+        return created;
+    }
+    
+    private List<TaskDependency> importProjectDependencies(Project project, List<TaskDependency> proposed) {
+        // Inactive rows still hold the unique (dependent, prerequisite) pair
+        List<TaskDependency> existing = taskDependencyRepository.findByProject(project);
+        Set<List<Long>> pairs = new HashSet<>();
+        List<TaskDependency> combined = new ArrayList<>(existing.size() + proposed.size());
+        for (TaskDependency dependency : existing) {
+            pairs.add(dependencyPair(dependency));
+            if (dependency.isActive()) {
+                combined.add(dependency);
+            }
+        }
+        
+        List<TaskDependency> accepted = new ArrayList<>(proposed.size());
+        for (TaskDependency dependency : proposed) {
+            if (pairs.add(dependencyPair(dependency))) {
+                accepted.add(dependency);
+            } else {
+                LOGGER.log(Level.WARNING, "Skipping duplicate dependency {0} -> {1}",
+                          new Object[]{dependency.getPrerequisiteTask().getId(), dependency.getDependentTask().getId()});
             }
         }
+        if (accepted.isEmpty()) {
+            return new ArrayList<>();
+        }
+        combined.addAll(accepted);
+        
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(taskRepository.findByProject(project), combined);
+        if (!graph.isAcyclic()) {
+            List<List<Task>> cycles = graph.findCyclicComponents();
+            throw new IllegalArgumentException(String.format("Dependencies would create %d circular chain(s): %s",
+                cycles.size(), cycles.stream()
+                    .map(cycle -> cycle.stream().map(Task::getTitle).collect(Collectors.joining(", ", "[", "]")))
+                    .collect(Collectors.joining("; "))));
+        }
+        
+        batchWriter.insertAll(accepted);
         
+        // Reload once to pick up generated keys
+        Map<List<Long>, TaskDependency> savedByPair = new HashMap<>();
+        for (TaskDependency dependency : taskDependencyRepository.findByProject(project)) {
+            savedByPair.put(dependencyPair(dependency), dependency);
+        }
+        List<TaskDependency> created = new ArrayList<>(accepted.size());
+        for (TaskDependency dependency : accepted) {
+            TaskDependency saved = savedByPair.get(dependencyPair(dependency));
+            if (saved != null) {
+                created.add(saved);
+                publishDependencyChange(DependencyChangedEvent.ChangeType.CREATED, saved);
+            }
+        }
+        
+        webSocketEventPublisher.publishKanbanRefresh(project.getId(),
+            String.format("Imported %d task dependencies", created.size()));
+        LOGGER.log(Level.INFO, "Bulk created {0} dependencies for project {1}",
+                  new Object[]{created.size(), project.getId()});
         return created;
     }
     
+    private static List<Long> dependencyPair(TaskDependency dependency) {
+        return List.of(dependency.getDependentTask().getId(), dependency.getPrerequisiteTask().getId());
+    }
+    
     @Override
     public int updateDependencyTypes(List<Long> dependencyIds, DependencyType newType) {
         int updated = 0;
@@ -625,6 +635,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
                     TaskDependency dep = depOpt.get();
                     dep.setDependencyType(newType);
                     taskDependencyRepository.save(dep);
+                    publishDependencyChange(DependencyChangedEvent.ChangeType.UPDATED, dep);
                     updated++;
                 }
             } catch (Exception e) {
@@ -666,9 +677,15 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         // Simplified implementation - repository method exists and is not commented out
         List<Task> blockedTasks = taskRepository.findBlockedTasks(project.getId());
         Map<Task, List<TaskDependency>> result = new HashMap<>();
+        if (blockedTasks.isEmpty()) {
+            return result;
+        }
         
+        ProjectDependencyGraph graph = loadGraph(project);
         for (Task task : blockedTasks) {
-            List<TaskDependency> blockingDeps = getBlockingDependencies(task);
+            List<TaskDependency> blockingDeps = graph.incomingDependencies(task).stream()
+                .filter(dep -> !dep.isSatisfied())
+                .collect(Collectors.toList());
             result.put(task, blockingDeps);
         }
         
@@ -694,6 +711,37 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         metrics.put("criticalPathLength", criticalTasks.size());
         metrics.put("projectDuration", criticalPath.getTotalDuration());
         
+        // Simulate completion under duration uncertainty
+        Double deadlineProbability = null;
+        if (cycles.isEmpty() && !criticalPath.getTaskFloats().isEmpty()) {
+            ScheduleSimulationResult simulation = simulateCompletion(project, RISK_SIMULATION_SAMPLES);
+            metrics.put("simulationSamples", simulation.getSampleCount());
+            metrics.put("p50FinishHours", simulation.getP50Hours());
+            metrics.put("p80FinishHours", simulation.getP80Hours());
+            metrics.put("p95FinishHours", simulation.getP95Hours());
+            metrics.put("p50FinishDate", simulation.getP50Date());
+            metrics.put("p80FinishDate", simulation.getP80Date());
+            metrics.put("p95FinishDate", simulation.getP95Date());
+            
+            Map<Long, Double> criticality = new LinkedHashMap<>();
+            for (Map.Entry<Task, Double> entry : simulation.getCriticalityIndex().entrySet()) {
+                criticality.put(entry.getKey().getId(), entry.getValue());
+                if (entry.getValue() >= HIGH_CRITICALITY && !entry.getKey().isCompleted()) {
+                    highRiskTasks.add(entry.getKey());
+                }
+            }
+            metrics.put("criticalityIndex", criticality);
+            
+            deadlineProbability = simulation.getDeadlineProbability();
+            if (deadlineProbability != null) {
+                metrics.put("deadlineProbability", deadlineProbability);
+                if (deadlineProbability < DEADLINE_CONFIDENCE_TARGET) {
+                    riskFactors.add(String.format("Only %.0f%% of simulated schedules meet the hard deadline",
+                        deadlineProbability * 100));
+                }
+            }
+        }
+        
         // Find high-risk tasks (many dependencies, external constraints)
         List<TaskDependency> externalConstraints = identifyExternalConstraints(project, 24);
         if (!externalConstraints.isEmpty()) {
@@ -715,7 +763,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         RiskLevel overallRisk = RiskLevel.LOW;
         if (!cycles.isEmpty()) {
             overallRisk = RiskLevel.CRITICAL;
-        } else if (riskFactors.size() >= 3) {
+        } else if (riskFactors.size() >= 3 || (deadlineProbability != null && deadlineProbability < 0.5)) {
             overallRisk = RiskLevel.HIGH;
         } else if (riskFactors.size() >= 1) {
             overallRisk = RiskLevel.MEDIUM;
@@ -724,46 +772,191 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         return new ProjectRiskAssessment(overallRisk, riskFactors, highRiskTasks, metrics);
     }
     
+    /**
+     * The project is read in a short read-only transaction of its own; the
+     * solver then runs for up to {@link #OPTIMIZER_TIME_BUDGET} without
+     * holding a connection.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ScheduleOptimizationResult optimizeSchedule(Project project) {
         List<String> recommendations = new ArrayList<>();
         Map<Task, Integer> suggestedAdjustments = new HashMap<>();
-        double potentialTimeReduction = 0;
-        
-        // Analyze critical path
-        CriticalPathResult criticalPath = calculateCriticalPath(project);
-        
-        // Look for tasks that can be parallelized
-        // Simplified implementation - repository method is commented out
-        List<Task> independentTasks = List.of();
-        if (!independentTasks.isEmpty()) {
-            recommendations.add("Consider parallelizing " + independentTasks.size() + " independent tasks");
-        }
         
-        // Look for soft dependencies that could be relaxed
-        // Simplified implementation - repository method is commented out
-        List<Task> softDependencyTasks = List.of();
-        if (!softDependencyTasks.isEmpty()) {
-            recommendations.add("Review soft dependencies for " + softDependencyTasks.size() + " tasks - these could potentially start earlier");
+        OptimizationInput input = readOnlyTransaction.execute(status -> loadOptimizationInput(project));
+        if (input == null) {
+            recommendations.add("Resolve circular dependencies before levelling the schedule");
+            return new ScheduleOptimizationResult(recommendations, suggestedAdjustments, 0);
+        }
+        ProjectDependencyGraph graph = input.graph();
+        List<TeamMember> members = input.members();
+        double[] workHours = input.workHours();
+        
+        ResourceLevelingScheduler.LevelledSchedule schedule = new ResourceLevelingScheduler(
+            graph, workHours, input.taskMembers(), input.availability(), optimizerPool).solve(OPTIMIZER_TIME_BUDGET);
+        // Same remaining-work basis as the levelled schedule, so delays and finishes compare
+        ProjectDependencyGraph.CriticalPathTimes times = graph.computeCriticalPath(workHours);
+        
+        Map<Task, Double> scheduledStartHours = new LinkedHashMap<>();
+        for (int i = 0; i < graph.size(); i++) {
+            Task task = graph.taskAt(i);
+            scheduledStartHours.put(task, schedule.getStart(i));
+            long delay = Math.round(schedule.getStart(i) - times.getEarliestStart(i));
+            if (delay > 0) {
+                suggestedAdjustments.put(task, (int) delay);
+            }
         }
         
-        // Analyze lag times for optimization opportunities
-        // Simplified implementation - repository method is commented out
-        List<TaskDependency> lagDependencies = List.of();
-        for (TaskDependency dep : lagDependencies) {
-            if (dep.getLagHours() > 24) { // More than 1 day lag
-                recommendations.add("Review lag time for dependency: " + 
-                    dep.getPrerequisiteTask().getTitle() + " -> " + dep.getDependentTask().getTitle());
+        Map<TeamMember, Double> memberLoadHours = new LinkedHashMap<>();
+        Map<TeamMember, Double> memberUtilization = new LinkedHashMap<>();
+        for (int m = 0; m < members.size(); m++) {
+            memberLoadHours.put(members.get(m), schedule.getMemberBusyHours(m));
+            memberUtilization.put(members.get(m), schedule.getMemberUtilization(m));
+            if (schedule.getMemberUtilization(m) > OVERLOADED_UTILIZATION) {
+                recommendations.add(String.format("%s is booked for %.0f%% of the levelled schedule - consider reassigning work",
+                    members.get(m).getFullName(), schedule.getMemberUtilization(m) * 100));
             }
         }
         
+        recommendations.add(0, String.format("Resource-levelled finish: %.0f hours (dependency-only estimate: %.0f hours)",
+            schedule.getMakespan(), times.getProjectFinish()));
+        
         // Look for external constraints
         List<TaskDependency> externalConstraints = identifyExternalConstraints(project, 48);
         if (!externalConstraints.isEmpty()) {
             recommendations.add("Start procurement/ordering early for " + externalConstraints.size() + " external dependencies");
         }
         
-        return new ScheduleOptimizationResult(recommendations, suggestedAdjustments, potentialTimeReduction);
+        LOGGER.log(Level.INFO, "Levelled schedule for project {0}: {1} hours via {2} ({3} schedules evaluated)",
+                  new Object[]{project.getId(), schedule.getMakespan(), schedule.getRule(), schedule.getEvaluatedSchedules()});
+        
+        return new ScheduleOptimizationResult(recommendations, suggestedAdjustments,
+            Math.max(0.0, schedule.getBaselineMakespan() - schedule.getMakespan()),
+            schedule.getMakespan(), scheduledStartHours, memberLoadHours, memberUtilization);
+    }
+    
+    /**
+     * Everything the levelling solver needs, loaded together.
+     *
+     * @return the input, or null if the dependencies are circular
+     */
+    private OptimizationInput loadOptimizationInput(Project project) {
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(
+            taskRepository.findByProjectWithAssignments(project),
+            taskDependencyRepository.findByProjectAndActive(project, true));
+        if (!graph.isAcyclic()) {
+            return null;
+        }
+        
+        // Members become unary resources; remaining work shrinks with progress
+        List<TeamMember> members = new ArrayList<>();
+        Map<Long, Integer> memberIndex = new HashMap<>();
+        int[][] taskMembers = new int[graph.size()][];
+        for (int i = 0; i < graph.size(); i++) {
+            Task task = graph.taskAt(i);
+            List<Integer> assigned = new ArrayList<>();
+            for (TeamMember member : task.getAssignedTo()) {
+                assigned.add(memberIndex.computeIfAbsent(member.getId(), id -> {
+                    members.add(member);
+                    return members.size() - 1;
+                }));
+            }
+            taskMembers[i] = assigned.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new OptimizationInput(graph, members, taskMembers, remainingWorkHours(graph),
+                                     memberAvailability(project, memberIndex));
+    }
+    
+    private record OptimizationInput(ProjectDependencyGraph graph, List<TeamMember> members, int[][] taskMembers,
+                                     double[] workHours, double[] availability) {
+    }
+    
+    @Override
+    public ScheduleSimulationResult simulateCompletion(Project project, int samples) {
+        ProjectDependencyGraph graph = loadGraph(project);
+        if (!graph.isAcyclic()) {
+            throw new IllegalArgumentException("Cannot simulate a schedule with circular dependencies");
+        }
+        
+        // Seeded by project so repeated dashboard loads show stable numbers
+        MonteCarloScheduleSimulator.SimulationResult result =
+            new MonteCarloScheduleSimulator(graph, remainingWorkHours(graph)).run(samples, project.getId());
+        
+        LocalDate start = LocalDate.now();
+        if (project.getStartDate() != null && project.getStartDate().isAfter(start)) {
+            start = project.getStartDate();
+        }
+        
+        Double deadlineProbability = null;
+        if (project.getHardDeadline() != null) {
+            long days = ChronoUnit.DAYS.between(start, project.getHardDeadline());
+            deadlineProbability = days < 0 ? 0.0 : result.getProbabilityWithin(days * WORK_HOURS_PER_DAY);
+        }
+        
+        Map<Task, Double> criticalityIndex = new LinkedHashMap<>();
+        for (int i = 0; i < graph.size(); i++) {
+            criticalityIndex.put(graph.taskAt(i), result.getCriticalityIndex(i));
+        }
+        
+        double p50 = result.getFinishPercentile(0.50);
+        double p80 = result.getFinishPercentile(0.80);
+        double p95 = result.getFinishPercentile(0.95);
+        return new ScheduleSimulationResult(result.getSampleCount(), p50, p80, p95,
+            forecastDate(start, p50), forecastDate(start, p80), forecastDate(start, p95),
+            deadlineProbability, criticalityIndex);
+    }
+    
+    private static LocalDate forecastDate(LocalDate start, double remainingHours) {
+        return start.plusDays((long) Math.ceil(remainingHours / WORK_HOURS_PER_DAY));
+    }
+    
+    /**
+     * Remaining work per task: completed tasks need none, in-progress tasks
+     * are scaled by their progress.
+     */
+    private static double[] remainingWorkHours(ProjectDependencyGraph graph) {
+        double[] hours = new double[graph.size()];
+        for (int i = 0; i < graph.size(); i++) {
+            Task task = graph.taskAt(i);
+            hours[i] = task.isCompleted() ? 0.0 :
+                graph.durationHours(i) * (100 - Math.min(100, task.getProgress())) / 100.0;
+        }
+        return hours;
+    }
+    
+    /**
+     * Share of past meeting time each member actually attended. Members
+     * without attendance history are assumed fully available.
+     */
+    private double[] memberAvailability(Project project, Map<Long, Integer> memberIndex) {
+        double[] scheduledHours = new double[memberIndex.size()];
+        double[] attendedHours = new double[memberIndex.size()];
+        LocalDate today = LocalDate.now();
+        
+        for (Attendance attendance : attendanceRepository.findByProjectIdWithMeeting(project.getId())) {
+            Integer member = attendance.getMember() != null ? memberIndex.get(attendance.getMember().getId()) : null;
+            Meeting meeting = attendance.getMeeting();
+            if (member == null || meeting.getDate() == null || meeting.getDate().isAfter(today)
+                    || meeting.getStartTime() == null || meeting.getEndTime() == null) {
+                continue;
+            }
+            double meetingHours = Duration.between(meeting.getStartTime(), meeting.getEndTime()).toMinutes() / 60.0;
+            if (meetingHours <= 0) {
+                continue;
+            }
+            scheduledHours[member] += meetingHours;
+            if (attendance.isPresent()) {
+                long minutes = attendance.getDurationMinutes();
+                attendedHours[member] += minutes > 0 ? Math.min(meetingHours, minutes / 60.0) : meetingHours;
+            }
+        }
+        
+        double[] availability = new double[memberIndex.size()];
+        for (int m = 0; m < availability.length; m++) {
+            availability[m] = scheduledHours[m] > 0 ?
+                Math.max(MIN_MEMBER_AVAILABILITY, Math.min(1.0, attendedHours[m] / scheduledHours[m])) : 1.0;
+        }
+        return availability;
     }
     
     @Override
@@ -10,6 +10,7 @@ import org.frcpm.repositories.spring.ComponentRepository;
 import org.frcpm.repositories.spring.ProjectRepository;
 import org.frcpm.repositories.spring.TaskRepository;
 import org.frcpm.services.TaskService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -24,6 +26,7 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.frcpm.events.TaskChangedEvent;
 import org.frcpm.events.WebSocketEventPublisher;
 import org.frcpm.models.User;
 import org.springframework.security.core.Authentication;
@@ -46,6 +49,7 @@ public class TaskServiceImpl implements TaskService {
     private final ComponentRepository componentRepository;
 
     private final WebSocketEventPublisher webSocketEventPublisher;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Constructor injection for repositories.
@@ -54,11 +58,13 @@ public class TaskServiceImpl implements TaskService {
     public TaskServiceImpl(TaskRepository taskRepository,
             ProjectRepository projectRepository,
             ComponentRepository componentRepository,
-            WebSocketEventPublisher webSocketEventPublisher) {
+            WebSocketEventPublisher webSocketEventPublisher,
+            ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.componentRepository = componentRepository;
         this.webSocketEventPublisher = webSocketEventPublisher;
+        this.eventPublisher = eventPublisher;
     }
     
     // =========================================================================
@@ -73,6 +79,14 @@ public class TaskServiceImpl implements TaskService {
         return taskRepository.findById(id).orElse(null);
     }
     
+    @Override
+    public List<Task> findAllById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return taskRepository.findAllById(ids);
+    }
+    
     @Override
     public List<Task> findAll() {
         return taskRepository.findAll();
@@ -99,6 +113,8 @@ public class TaskServiceImpl implements TaskService {
             
             // Save the task
             Task savedTask = taskRepository.save(entity);
+            publishTaskChange(isNewTask ? TaskChangedEvent.ChangeType.CREATED : TaskChangedEvent.ChangeType.UPDATED,
+                              savedTask);
             
             // Get current user for WebSocket events
             User currentUser = getCurrentUser();
@@ -132,6 +148,7 @@ public class TaskServiceImpl implements TaskService {
         if (entity != null) {
             try {
                 taskRepository.delete(entity);
+                publishTaskChange(TaskChangedEvent.ChangeType.DELETED, entity);
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error deleting task", e);
                 throw new RuntimeException("Failed to delete task", e);
@@ -143,7 +160,9 @@ public class TaskServiceImpl implements TaskService {
     public boolean deleteById(Long id) {
         if (id != null && taskRepository.existsById(id)) {
             try {
+                Task existingTask = taskRepository.findById(id).orElse(null);
                 taskRepository.deleteById(id);
+                publishTaskChange(TaskChangedEvent.ChangeType.DELETED, existingTask);
                 return true;
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error deleting task by ID", e);
@@ -153,6 +172,20 @@ public class TaskServiceImpl implements TaskService {
         return false;
     }
     
+    /**
+     * Publishes a task change so schedule caches can be updated after commit.
+     */
+    private void publishTaskChange(TaskChangedEvent.ChangeType changeType, Task task) {
+        if (task == null || task.getProject() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(
+            changeType,
+            task.getId(),
+            task.getProject().getId(),
+            task.getEstimatedDuration().getSeconds()));
+    }
+    
     @Override
     public long count() {
         return taskRepository.count();
@@ -261,7 +294,8 @@ public class TaskServiceImpl implements TaskService {
     
         // Save task using repository directly to avoid double WebSocket events from save() method
         Task savedTask = taskRepository.save(task);
-        
+        publishTaskChange(TaskChangedEvent.ChangeType.UPDATED, savedTask);
+
         // Get current user for WebSocket events
         User currentUser = getCurrentUser();
         
@@ -668,6 +702,27 @@ public class TaskServiceImpl implements TaskService {
                 .toList();
     }
 
+    @Override
+    public List<Task> getMostOverdueTasks(Long projectId) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
+        return taskRepository.findTop5ByProjectIdAndCompletedFalseAndEndDateBeforeOrderByEndDateAsc(
+            projectId, LocalDate.now());
+    }
+
+    @Override
+    public List<Task> getRecentlyCompletedTasks(Long projectId, int days) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Project ID cannot be null");
+        }
+        if (days <= 0) {
+            throw new IllegalArgumentException("Days must be positive");
+        }
+        return taskRepository.findTop5ByProjectIdAndCompletedTrueAndEndDateAfterOrderByEndDateDesc(
+            projectId, LocalDate.now().minusDays(days));
+    }
+
     /**
      * Gets the current user from Spring Security context.
      * @return current user or null if not authenticated
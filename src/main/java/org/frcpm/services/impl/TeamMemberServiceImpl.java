@@ -2,17 +2,21 @@
 
 package org.frcpm.services.impl;
 
+import org.frcpm.events.TeamMembershipChangedEvent;
 import org.frcpm.models.Subteam;
 import org.frcpm.models.TeamMember;
 import org.frcpm.repositories.spring.SubteamRepository;
 import org.frcpm.repositories.spring.TeamMemberRepository;
 import org.frcpm.services.TeamMemberService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -31,15 +35,21 @@ public class TeamMemberServiceImpl implements TeamMemberService {
     
     private final TeamMemberRepository teamMemberRepository;
     private final SubteamRepository subteamRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectMetricsStore projectMetricsStore;
     
     /**
      * Constructor injection for repositories.
      * No @Autowired needed with single constructor.
      */
     public TeamMemberServiceImpl(TeamMemberRepository teamMemberRepository,
-                                SubteamRepository subteamRepository) {
+                                SubteamRepository subteamRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                ProjectMetricsStore projectMetricsStore) {
         this.teamMemberRepository = teamMemberRepository;
         this.subteamRepository = subteamRepository;
+        this.eventPublisher = eventPublisher;
+        this.projectMetricsStore = projectMetricsStore;
     }
     
     // =========================================================================
@@ -65,7 +75,11 @@ public class TeamMemberServiceImpl implements TeamMemberService {
             throw new IllegalArgumentException("TeamMember cannot be null");
         }
         try {
-            return teamMemberRepository.save(entity);
+            boolean isNew = entity.getId() == null;
+            TeamMember saved = teamMemberRepository.save(entity);
+            publishMembershipChange(isNew ? TeamMembershipChangedEvent.ChangeType.CREATED
+                                          : TeamMembershipChangedEvent.ChangeType.UPDATED, saved);
+            return saved;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error saving team member", e);
             throw new RuntimeException("Failed to save team member", e);
@@ -77,6 +91,7 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         if (entity != null) {
             try {
                 teamMemberRepository.delete(entity);
+                publishMembershipChange(TeamMembershipChangedEvent.ChangeType.DELETED, entity);
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error deleting team member", e);
                 throw new RuntimeException("Failed to delete team member", e);
@@ -89,6 +104,8 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         if (id != null && teamMemberRepository.existsById(id)) {
             try {
                 teamMemberRepository.deleteById(id);
+                eventPublisher.publishEvent(new TeamMembershipChangedEvent(
+                    TeamMembershipChangedEvent.ChangeType.DELETED, id, null));
                 return true;
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error deleting team member by ID", e);
@@ -98,6 +115,17 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         return false;
     }
     
+    /**
+     * Publishes a membership change so team metrics can be updated after commit.
+     */
+    private void publishMembershipChange(TeamMembershipChangedEvent.ChangeType changeType, TeamMember member) {
+        if (member == null || member.getId() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(
+            changeType, member.getId(), member.getSubteam() != null ? member.getSubteam().getId() : null));
+    }
+    
     @Override
     public long count() {
         return teamMemberRepository.count();
@@ -137,6 +165,17 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         return teamMemberRepository.findByLeaderTrue();
     }
     
+    @Override
+    public Map<String, Object> getTeamStatistics() {
+        TeamMetrics metrics = projectMetricsStore.getTeamMetrics();
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalMembers", metrics.getTotalMembers());
+        statistics.put("leaderCount", metrics.getLeaderCount());
+        statistics.put("totalSubteams", metrics.getTotalSubteams());
+        statistics.put("activeSubteams", metrics.getActiveSubteams());
+        return statistics;
+    }
+    
     @Override
     public TeamMember createTeamMember(String username, String firstName, String lastName, 
                                       String email, String phone, boolean isLeader) {
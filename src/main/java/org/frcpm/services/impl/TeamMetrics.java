@@ -0,0 +1,40 @@
+// src/main/java/org/frcpm/services/impl/TeamMetrics.java
+
+package org.frcpm.services.impl;
+
+/**
+ * Immutable team membership counts served by {@link ProjectMetricsStore}.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-Phase2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+public final class TeamMetrics {
+
+    private final int totalMembers;
+    private final int leaderCount;
+    private final long totalSubteams;
+    private final int activeSubteams;
+
+    TeamMetrics(int totalMembers, int leaderCount, long totalSubteams, int activeSubteams) {
+        this.totalMembers = totalMembers;
+        this.leaderCount = leaderCount;
+        this.totalSubteams = totalSubteams;
+        this.activeSubteams = activeSubteams;
+    }
+
+    public int getTotalMembers() { return totalMembers; }
+    public int getLeaderCount() { return leaderCount; }
+    public long getTotalSubteams() { return totalSubteams; }
+
+    /**
+     * @return number of subteams with at least one member
+     */
+    public int getActiveSubteams() { return activeSubteams; }
+
+    @Override
+    public String toString() {
+        return "TeamMetrics{totalMembers=" + totalMembers + ", leaderCount=" + leaderCount +
+               ", totalSubteams=" + totalSubteams + ", activeSubteams=" + activeSubteams + "}";
+    }
+}
@@ -5,10 +5,14 @@ package org.frcpm.web.controllers;
 
 import org.frcpm.models.Project;
 import org.frcpm.models.User;
+import org.frcpm.services.ExportService;
 import org.frcpm.services.ProjectService;
+import org.frcpm.services.ReportJobService;
 import org.frcpm.services.ReportingService;
 import org.frcpm.services.UserService;
 // import org.frcpm.web.websocket.WebSocketMessageController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -20,11 +24,15 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -60,6 +68,12 @@ public class AnalyticsController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private ExportService exportService;
+    
+    @Autowired
+    private ReportJobService reportJobService;
+    
     // @Autowired
     // private WebSocketMessageController webSocketController;
     
@@ -94,16 +108,15 @@ public class AnalyticsController {
             model.addAttribute("lastUpdated", LocalDateTime.now());
             
             if (selectedProject != null) {
-                // Load analytics data
-                Map<String, Object> analytics = reportingService.getProjectAnalytics(selectedProject.getId());
-                Map<String, Object> teamPerformance = reportingService.getTeamPerformanceMetrics(selectedProject.getId());
-                Map<String, Object> riskAnalysis = reportingService.getProjectRiskAnalysis(selectedProject.getId());
-                Map<String, Object> forecast = reportingService.getProjectCompletionForecast(selectedProject.getId());
+                // Load analytics panels concurrently; slow panels are left out
+                Map<String, Map<String, Object>> dashboard =
+                    reportingService.getAnalyticsDashboard(selectedProject.getId());
                 
-                model.addAttribute("analytics", analytics);
-                model.addAttribute("teamPerformance", teamPerformance);
-                model.addAttribute("riskAnalysis", riskAnalysis);
-                model.addAttribute("forecast", forecast);
+                model.addAttribute("analytics", dashboard.getOrDefault("analytics", new HashMap<>()));
+                model.addAttribute("teamPerformance", dashboard.getOrDefault("teamPerformance", new HashMap<>()));
+                model.addAttribute("riskAnalysis", dashboard.getOrDefault("riskAnalysis", new HashMap<>()));
+                model.addAttribute("forecast", dashboard.getOrDefault("forecast", new HashMap<>()));
+                model.addAttribute("partialResults", dashboard.size() < 4);
                 
                 LOGGER.info("Loaded analytics for project: " + selectedProject.getName());
             } else {
@@ -429,69 +442,165 @@ public class AnalyticsController {
     }
     
     // =========================================================================
-    // DATA EXPORT
+    // SCHEDULED REPORTS
     // =========================================================================
     
     /**
-     * Export project data to CSV.
+     * Schedule a report to be generated in the background.
+     * 
+     * The request holds "projectId", "reportType" and optionally "cron" and "format".
      */
-    @GetMapping("/export/{projectId}/csv")
-    public ResponseEntity<byte[]> exportToCsv(@PathVariable Long projectId,
-                                            @RequestParam(defaultValue = "false") boolean includeDetails) {
+    @PostMapping("/api/reports/schedule")
+    @PreAuthorize("hasAnyRole('MENTOR', 'ADMIN')")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> scheduleReport(@RequestBody Map<String, Object> reportRequest) {
         try {
-            byte[] csvData = reportingService.exportProjectDataToCsv(projectId, includeDetails);
+            Long projectId = ((Number) reportRequest.get("projectId")).longValue();
+            String reportType = (String) reportRequest.get("reportType");
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", "project-" + projectId + "-data.csv");
+            Long scheduledReportId = reportingService.scheduleAutomaticReport(projectId, reportType, reportRequest);
             
-            return ResponseEntity.ok().headers(headers).body(csvData);
+            Map<String, Object> response = new HashMap<>();
+            response.put("id", scheduledReportId);
+            response.put("status", "SCHEDULED");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting to CSV", e);
+            LOGGER.log(Level.SEVERE, "Error scheduling report", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
     /**
-     * Export project data to Excel.
+     * Get a project's scheduled reports.
      */
-    @GetMapping("/export/{projectId}/excel")
-    public ResponseEntity<byte[]> exportToExcel(@PathVariable Long projectId,
-                                              @RequestParam(defaultValue = "false") boolean includeDetails) {
+    @GetMapping("/api/reports/{projectId}/scheduled")
+    @PreAuthorize("hasAnyRole('MENTOR', 'ADMIN')")
+    @ResponseBody
+    public ResponseEntity<List<Map<String, Object>>> getScheduledReports(@PathVariable Long projectId) {
         try {
-            byte[] excelData = reportingService.exportProjectDataToExcel(projectId, includeDetails);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.setContentDispositionFormData("attachment", "project-" + projectId + "-data.xlsx");
-            
-            return ResponseEntity.ok().headers(headers).body(excelData);
+            return ResponseEntity.ok(reportingService.getScheduledReports(projectId));
         } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting to Excel", e);
+            LOGGER.log(Level.SEVERE, "Error getting scheduled reports", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
     /**
-     * Export project data to PDF.
+     * Cancel a scheduled report.
      */
-    @GetMapping("/export/{projectId}/pdf")
-    public ResponseEntity<byte[]> exportToPdf(@PathVariable Long projectId,
-                                            @RequestParam(defaultValue = "project_overview") String reportType) {
+    @DeleteMapping("/api/reports/scheduled/{scheduledReportId}")
+    @PreAuthorize("hasAnyRole('MENTOR', 'ADMIN')")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> cancelScheduledReport(@PathVariable Long scheduledReportId) {
         try {
-            byte[] pdfData = reportingService.exportProjectDataToPdf(projectId, reportType);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "project-" + projectId + "-report.pdf");
-            
-            return ResponseEntity.ok().headers(headers).body(pdfData);
+            Map<String, Object> response = new HashMap<>();
+            response.put("cancelled", reportingService.cancelScheduledReport(scheduledReportId));
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting to PDF", e);
+            LOGGER.log(Level.SEVERE, "Error cancelling scheduled report", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    /**
+     * Download the latest run of a scheduled report. Clients that accept
+     * gzip get the stored file as it is.
+     */
+    @GetMapping("/api/reports/scheduled/{scheduledReportId}/download")
+    @PreAuthorize("hasAnyRole('MENTOR', 'ADMIN')")
+    public void downloadScheduledReport(@PathVariable Long scheduledReportId,
+                                        HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        Optional<ReportJobService.Artifact> latest = reportJobService.findLatestArtifact(scheduledReportId);
+        if (latest.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "No report has been generated yet");
+            return;
+        }
+        ReportJobService.Artifact artifact = latest.get();
+        // The body depends on Accept-Encoding, so caches must key on it
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean compressed = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        if (compressed) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLengthLong(artifact.getCompressedSize());
+        }
+        String filename = "report-" + scheduledReportId + "-" +
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").format(artifact.getCreatedAt()) + "." + artifact.getFormat();
+        streamFile(response, artifact.getContentType(), filename,
+            out -> reportJobService.writeArtifact(artifact, out, compressed));
+    }
+    
+    // =========================================================================
+    // DATA EXPORT
+    // =========================================================================
+    
+    /**
+     * Export project tasks to CSV.
+     */
+    @GetMapping("/export/{projectId}/csv")
+    public void exportToCsv(@PathVariable Long projectId,
+                            @RequestParam(defaultValue = "false") boolean includeDetails,
+                            HttpServletResponse response) {
+        streamExport(response, ExportService.Format.CSV, "project-" + projectId + "-data",
+            out -> exportService.exportProjectTasks(projectId, includeDetails, ExportService.Format.CSV, out));
+    }
+    
+    /**
+     * Export project tasks to Excel.
+     */
+    @GetMapping("/export/{projectId}/excel")
+    public void exportToExcel(@PathVariable Long projectId,
+                              @RequestParam(defaultValue = "false") boolean includeDetails,
+                              HttpServletResponse response) {
+        streamExport(response, ExportService.Format.XLSX, "project-" + projectId + "-data",
+            out -> exportService.exportProjectTasks(projectId, includeDetails, ExportService.Format.XLSX, out));
+    }
+    
+    /**
+     * Export project tasks to PDF, with the detail columns.
+     */
+    @GetMapping("/export/{projectId}/pdf")
+    public void exportToPdf(@PathVariable Long projectId,
+                            HttpServletResponse response) {
+        streamExport(response, ExportService.Format.PDF, "project-" + projectId + "-report",
+            out -> exportService.exportProjectTasks(projectId, true, ExportService.Format.PDF, out));
+    }
+    
+    /**
+     * Export a project's inventory transactions or meeting attendance.
+     * Attendance names team members, so these exports are for mentors.
+     * 
+     * @param dataset "transactions" or "attendance"
+     * @param format "csv", "excel" or "pdf"
+     */
+    @GetMapping("/export/{projectId}/{dataset}/{format}")
+    @PreAuthorize("hasAnyRole('MENTOR', 'ADMIN')")
+    public void exportDataset(@PathVariable Long projectId,
+                              @PathVariable String dataset,
+                              @PathVariable String format,
+                              HttpServletResponse response) throws IOException {
+        ExportService.Format exportFormat;
+        try {
+            exportFormat = ExportService.Format.fromName(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Unknown export format: " + format);
+            return;
+        }
+        String filename = "project-" + projectId + "-" + dataset;
+        switch (dataset) {
+            case "transactions" -> streamExport(response, exportFormat, filename,
+                out -> exportService.exportPartTransactions(projectId, exportFormat, out));
+            case "attendance" -> streamExport(response, exportFormat, filename,
+                out -> exportService.exportAttendance(projectId, exportFormat, out));
+            default -> response.sendError(HttpStatus.NOT_FOUND.value(), "Unknown export: " + dataset);
+        }
+    }
+    
     /**
      * Export analytics data to JSON.
      */
@@ -641,4 +750,36 @@ public class AnalyticsController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Writes an export straight to the response body.
+     */
+    private void streamExport(HttpServletResponse response, ExportService.Format format, String filename,
+                              ExportBody body) {
+        streamFile(response, format.getContentType(), filename + "." + format.getExtension(), body);
+    }
+    
+    private void streamFile(HttpServletResponse response, String contentType, String filename, ExportBody body) {
+        try {
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error exporting " + filename, e);
+            if (!response.isCommitted()) {
+                try {
+                    response.reset();
+                    response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Error exporting data");
+                } catch (IOException ioException) {
+                    LOGGER.log(Level.SEVERE, "Error sending error response", ioException);
+                }
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    private interface ExportBody {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -4,8 +4,6 @@ package org.frcpm.web.controllers;
 
 import org.frcpm.models.Project;
 import org.frcpm.models.Task;
-import org.frcpm.models.TeamMember;
-import org.frcpm.models.Subteam;
 import org.frcpm.services.TaskService;
 import org.frcpm.services.MilestoneService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -306,24 +304,14 @@ public class DashboardController extends BaseController {
             model.addAttribute("upcomingTasks", upcomingTasks);
             model.addAttribute("upcomingTaskCount", upcomingTasks.size());
             
-            // Get overdue tasks
-            List<Task> allTasks = taskService.findByProject(project);
+            // Get overdue tasks (top 5 for display; the count covers all of them)
             LocalDate today = LocalDate.now();
-            List<Task> overdueTasks = allTasks.stream()
-                .filter(task -> !task.isCompleted())
-                .filter(task -> task.getEndDate() != null && task.getEndDate().isBefore(today))
-                .limit(5) // Limit to top 5 for dashboard display
-                .toList();
+            List<Task> overdueTasks = taskService.getMostOverdueTasks(project.getId());
             model.addAttribute("overdueTasks", overdueTasks);
-            model.addAttribute("overdueTaskCount", overdueTasks.size());
+            model.addAttribute("overdueTaskCount", projectSummary.getOrDefault("overdueTasks", overdueTasks.size()));
             
             // Get recent activity (completed tasks in last 7 days)
-            List<Task> recentCompletedTasks = allTasks.stream()
-                .filter(Task::isCompleted)
-                .filter(task -> task.getEndDate() != null && 
-                       task.getEndDate().isAfter(today.minusDays(7)))
-                .limit(5)
-                .toList();
+            List<Task> recentCompletedTasks = taskService.getRecentlyCompletedTasks(project.getId(), 7);
             model.addAttribute("recentActivity", recentCompletedTasks);
             
             // Get upcoming milestones (next 30 days)
@@ -380,21 +368,13 @@ public class DashboardController extends BaseController {
     private void loadGlobalStatistics(Model model) {
         try {
             // Team statistics
-            List<TeamMember> allMembers = teamMemberService.findAll();
-            List<Subteam> allSubteams = subteamService.findAll();
+            Map<String, Object> teamStatistics = teamMemberService.getTeamStatistics();
+            model.addAttribute("totalMembers", teamStatistics.get("totalMembers"));
+            model.addAttribute("totalSubteams", teamStatistics.get("totalSubteams"));
+            model.addAttribute("leaderCount", teamStatistics.get("leaderCount"));
             
-            model.addAttribute("totalMembers", allMembers.size());
-            model.addAttribute("totalSubteams", allSubteams.size());
-            
-            // Count leaders
-            long leaderCount = allMembers.stream().filter(TeamMember::isLeader).count();
-            model.addAttribute("leaderCount", leaderCount);
-            
-            // Get active subteams (those with members)
-            long activeSubteams = allSubteams.stream()
-                .filter(subteam -> !subteam.getMembers().isEmpty())
-                .count();
-            model.addAttribute("activeSubteams", activeSubteams);
+            // Active subteams are those with members
+            model.addAttribute("activeSubteams", teamStatistics.get("activeSubteams"));
             
             // Overall system statistics
             long totalProjects = projectService.count();
@@ -7,11 +7,18 @@ import org.frcpm.models.Task;
 import org.frcpm.models.Milestone;
 import org.frcpm.services.TaskService;
 import org.frcpm.services.MilestoneService;
+import org.frcpm.services.GanttDataService;
+import org.frcpm.web.dto.GanttWindowDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import jakarta.validation.Valid;
@@ -19,6 +26,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Project controller handling all project-related operations.
@@ -48,6 +56,9 @@ public class ProjectController extends BaseController {
     @Autowired
     private MilestoneService milestoneService;
     
+    @Autowired
+    private GanttDataService ganttDataService;
+    
     // =========================================================================
     // PROJECT LIST AND OVERVIEW
     // =========================================================================
@@ -453,10 +464,123 @@ public class ProjectController extends BaseController {
         }
     }
     
+    // =========================================================================
+    // GANTT DATA API
+    // =========================================================================
+    
+    /**
+     * Get one viewport of the project's Gantt chart.
+     * 
+     * Only tasks overlapping the date window are returned, ordered by subsystem
+     * and start date and sliced by row offset and limit, so a client renders the
+     * visible rows without downloading the whole season.
+     * 
+     * @param id the project ID
+     * @param start first day of the window (defaults to today)
+     * @param end last day of the window (defaults to two weeks after start)
+     * @param offset number of rows to skip
+     * @param limit maximum number of rows
+     * @return the window payload
+     */
+    @GetMapping("/{id}/gantt")
+    @ResponseBody
+    public ResponseEntity<GanttWindowDto> getGanttWindow(
+            @PathVariable Long id,
+            @RequestParam(value = "start", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(value = "end", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        
+        try {
+            GanttWindowDto window = ganttDataService.getGanttWindow(id, start, end, offset, limit);
+            if (window == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(window);
+            
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid Gantt window request: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error loading Gantt window", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Get one viewport of the project's Gantt chart in the columnar format.
+     * 
+     * Selected when the Accept header asks for the columnar media type; rows are
+     * the same as the JSON window. The body is streamed from the schedule
+     * snapshot and gzip-compressed when the client accepts it.
+     * 
+     * @param id the project ID
+     * @param start first day of the window (defaults to today)
+     * @param end last day of the window (defaults to two weeks after start)
+     * @param offset number of rows to skip
+     * @param limit maximum number of rows
+     * @param acceptEncoding the Accept-Encoding request header
+     * @return the streamed window
+     */
+    @GetMapping(value = "/{id}/gantt", produces = GanttDataService.COLUMNAR_MEDIA_TYPE)
+    @ResponseBody
+    public ResponseEntity<StreamingResponseBody> getGanttWindowColumnar(
+            @PathVariable Long id,
+            @RequestParam(value = "start", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(value = "end", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        try {
+            GanttDataService.ColumnarWindow window =
+                ganttDataService.getGanttWindowColumnar(id, start, end, offset, limit);
+            if (window == null) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(GanttDataService.COLUMNAR_MEDIA_TYPE))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            
+            if (acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+                    GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+                    window.writeTo(gzip);
+                    gzip.finish();
+                });
+            }
+            return response.body(window::writeTo);
+            
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid Gantt window request: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error loading Gantt window", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     // =========================================================================
     // PRIVATE HELPER METHODS
     // =========================================================================
     
+    /**
+     * Check whether an Accept-Encoding header allows gzip.
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
     /**
      * Filter projects by status.
      */
@@ -10,11 +10,13 @@ import org.frcpm.models.Task;
 import org.frcpm.models.TeamMember;
 import org.frcpm.models.Project;
 import org.frcpm.models.Subsystem;
+import org.frcpm.services.KanbanSyncService;
 import org.frcpm.services.TaskService;
 import org.frcpm.services.TeamMemberService;
 import org.frcpm.services.ProjectService;
 import org.frcpm.services.SubsystemService;
 import org.frcpm.web.dto.TaskUpdateMessage;
+import org.frcpm.events.WebSocketEventBus;
 import org.frcpm.events.WebSocketEventPublisher;
 import org.frcpm.security.UserPrincipal;
 
@@ -26,11 +28,12 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import jakarta.validation.Valid;
 import java.time.LocalDate;
@@ -85,7 +88,10 @@ public class TaskController {
     private WebSocketEventPublisher webSocketEventPublisher;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private WebSocketEventBus eventBus;
+    
+    @Autowired
+    private KanbanSyncService kanbanSyncService;
     
     // =========================================================================
     // TASK LIST AND OVERVIEW
@@ -906,9 +912,13 @@ public class TaskController {
             // Get tasks for Kanban organization
             List<Task> allTasks = new ArrayList<>();
             if (projectId != null) {
-                Optional<Project> projectOpt = Optional.ofNullable(projectService.findById(projectId));
-                if (projectOpt.isPresent()) {
-                    allTasks = taskService.findByProject(projectOpt.get());
+                KanbanSyncService.KanbanSync snapshot = kanbanSyncService.getSnapshot(projectId);
+                if (snapshot != null) {
+                    allTasks = snapshot.getTasks();
+                    
+                    // Position the board's delta sync starts from
+                    model.addAttribute("kanbanEpoch", snapshot.getEpoch());
+                    model.addAttribute("kanbanSeq", snapshot.getSequence());
                 }
             } else {
                 allTasks = taskService.findAll();
@@ -1011,45 +1021,42 @@ public class TaskController {
     /**
      * Get Kanban board data as JSON for dynamic updates.
      * 
+     * For a project, a client that passes the epoch and sequence of the last
+     * change it applied receives only the cards changed since (mode DELTA);
+     * without a position, or when it is too far behind, it receives the
+     * whole board (mode SNAPSHOT).
+     * 
      * @param projectId Optional project filter
+     * @param since Last change sequence applied by the client
+     * @param epoch Epoch of that sequence
      * @param user Current authenticated user
      * @return JSON response with Kanban board data
      */
     @GetMapping("/kanban/data")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getKanbanData(@RequestParam(value = "projectId", required = false) Long projectId,
+                                                            @RequestParam(value = "since", required = false) Long since,
+                                                            @RequestParam(value = "epoch", required = false) String epoch,
                                                             @AuthenticationPrincipal UserPrincipal user) {
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            // Get tasks
-            List<Task> allTasks = new ArrayList<>();
             if (projectId != null) {
-                Optional<Project> projectOpt = Optional.ofNullable(projectService.findById(projectId));
-                if (projectOpt.isPresent()) {
-                    allTasks = taskService.findByProject(projectOpt.get());
+                KanbanSyncService.KanbanSync sync = kanbanSyncService.getChangesSince(projectId, epoch, since);
+                if (sync == null) {
+                    response.put("success", false);
+                    response.put("message", "Project not found");
+                    return ResponseEntity.status(404).body(response);
                 }
-            } else {
-                allTasks = taskService.findAll();
+                return ResponseEntity.ok(kanbanSyncToResponse(sync));
             }
             
-            // Organize for Kanban
-            Map<String, List<Task>> kanbanColumns = organizeTasksForKanban(allTasks);
-            
-            // Convert to proper DTOs for JSON response
-            Map<String, Object> kanbanData = new HashMap<>();
-            
-            for (Map.Entry<String, List<Task>> entry : kanbanColumns.entrySet()) {
-                List<Map<String, Object>> taskDtos = new ArrayList<>();
-                for (Task task : entry.getValue()) {
-                    taskDtos.add(taskToKanbanDto(task));
-                }
-                kanbanData.put(entry.getKey(), taskDtos);
-            }
+            // Get tasks
+            List<Task> allTasks = taskService.findAll();
             
             response.put("success", true);
-            response.put("columns", kanbanData);
+            response.put("columns", kanbanColumnsToDtos(allTasks));
             response.put("totalTasks", allTasks.size());
             response.put("lastUpdated", LocalDateTime.now());
             
@@ -1191,6 +1198,37 @@ public class TaskController {
         return null;
     }
     
+    /**
+     * Catch a Kanban board up when it (re)subscribes.
+     * 
+     * Clients subscribe to /app/kanban/{projectId}/sync with "epoch" and
+     * "last-seq" headers and receive a single reply with the missed changes,
+     * or a reload marker when those are no longer available.
+     * 
+     * @param projectId Project ID
+     * @param epoch Epoch of the client's last applied change
+     * @param lastSeq Sequence of the client's last applied change
+     * @return Delta or reload reply
+     */
+    @SubscribeMapping("/kanban/{projectId}/sync")
+    public Map<String, Object> onKanbanSync(@DestinationVariable Long projectId,
+                                            @Header(value = "epoch", required = false) String epoch,
+                                            @Header(value = "last-seq", required = false) Long lastSeq) {
+        try {
+            KanbanSyncService.KanbanSync sync = kanbanSyncService.getChangesSince(projectId, epoch, lastSeq);
+            if (sync != null) {
+                return kanbanSyncToResponse(sync);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error syncing Kanban board for project " + projectId, e);
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "Failed to sync Kanban board");
+        return response;
+    }
+    
     // =========================================================================
     // HELPER METHODS - DATA LOADING
     // =========================================================================
@@ -1946,6 +1984,51 @@ public class TaskController {
         return columns;
     }
 
+    /**
+     * Organize tasks into Kanban columns of card DTOs.
+     * 
+     * @param tasks List of tasks to organize
+     * @return Map of column names to card DTOs
+     */
+    private Map<String, Object> kanbanColumnsToDtos(List<Task> tasks) {
+        Map<String, Object> kanbanData = new HashMap<>();
+        for (Map.Entry<String, List<Task>> entry : organizeTasksForKanban(tasks).entrySet()) {
+            List<Map<String, Object>> taskDtos = new ArrayList<>();
+            for (Task task : entry.getValue()) {
+                taskDtos.add(taskToKanbanDto(task));
+            }
+            kanbanData.put(entry.getKey(), taskDtos);
+        }
+        return kanbanData;
+    }
+
+    /**
+     * Convert a sync result to its JSON response.
+     * 
+     * @param sync Delta or reload marker
+     * @return Response map with the board position and, for a delta, the
+     *         changed cards and deleted task IDs
+     */
+    private Map<String, Object> kanbanSyncToResponse(KanbanSyncService.KanbanSync sync) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("mode", sync.getMode().name());
+        response.put("epoch", sync.getEpoch());
+        response.put("seq", sync.getSequence());
+        
+        // A reload marker carries only the position; the board reloads the server-rendered page
+        if (sync.getMode() == KanbanSyncService.KanbanSync.Mode.DELTA) {
+            List<Map<String, Object>> cards = new ArrayList<>();
+            for (Task task : sync.getTasks()) {
+                cards.add(taskToKanbanDto(task));
+            }
+            response.put("cards", cards);
+            response.put("deleted", sync.getDeletedTaskIds());
+        }
+        response.put("lastUpdated", LocalDateTime.now());
+        return response;
+    }
+
     /**
      * Determine Kanban status for a task.
      * 
@@ -2241,7 +2324,7 @@ public class TaskController {
             deleteMessage.setTimestamp(LocalDateTime.now());
             
             // Broadcast the deletion
-            messagingTemplate.convertAndSend("/topic/project/" + projectId, deleteMessage);
+            eventBus.publish("/topic/project/" + projectId, deleteMessage);
             
             LOGGER.info(String.format("Published task deletion: Task %d '%s'", taskId, taskTitle));
             
@@ -2309,13 +2392,13 @@ public class TaskController {
         try {
             if (message.getProjectId() != null) {
                 String destination = "/topic/project/" + message.getProjectId();
-                messagingTemplate.convertAndSend(destination, message);
+                eventBus.publish(destination, message);
                 
                 LOGGER.info(String.format("Broadcasted task update to %s: Task %d, Type: %s", 
                                         destination, message.getTaskId(), message.getChangeType()));
                 
                 // Also send to general task updates for list view compatibility
-                messagingTemplate.convertAndSend("/topic/tasks", message);
+                eventBus.publish("/topic/tasks", message);
             }
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error broadcasting task update", e);
@@ -8,6 +8,7 @@ import org.frcpm.models.Task;
 import org.frcpm.models.TaskDependency;
 import org.frcpm.models.Project;
 import org.frcpm.models.DependencyType;
+import org.frcpm.models.TeamMember;
 import org.frcpm.services.TaskDependencyService;
 import org.frcpm.services.TaskService;
 import org.frcpm.services.ProjectService;
@@ -577,6 +578,7 @@ public class TaskDependencyController extends BaseController {
             
             response.put("success", true);
             response.put("criticalPath", criticalPathDto);
+            response.put("scheduleVersion", result.getScheduleVersion());
             
             return ResponseEntity.ok(response);
             
@@ -759,6 +761,24 @@ public class TaskDependencyController extends BaseController {
                 adjustments.put(entry.getKey().getId().toString(), entry.getValue());
             }
             optimization.put("suggestedAdjustments", adjustments);
+            optimization.put("makespanHours", result.getMakespanHours());
+            
+            List<Map<String, Object>> memberLoad = new ArrayList<>();
+            for (Map.Entry<TeamMember, Double> entry : result.getMemberLoadHours().entrySet()) {
+                Map<String, Object> load = new HashMap<>();
+                load.put("memberId", entry.getKey().getId());
+                load.put("memberName", entry.getKey().getFullName());
+                load.put("loadHours", entry.getValue());
+                load.put("utilization", result.getMemberUtilization().get(entry.getKey()));
+                memberLoad.add(load);
+            }
+            optimization.put("memberLoad", memberLoad);
+            
+            Map<String, Double> scheduledStarts = new HashMap<>();
+            for (Map.Entry<Task, Double> entry : result.getScheduledStartHours().entrySet()) {
+                scheduledStarts.put(entry.getKey().getId().toString(), entry.getValue());
+            }
+            optimization.put("scheduledStartHours", scheduledStarts);
             
             response.put("success", true);
             response.put("projectId", projectId);
@@ -797,11 +817,20 @@ public class TaskDependencyController extends BaseController {
         try {
             LOGGER.info("Creating bulk dependencies: " + dependencies.size() + " items");
             
-            // Convert DTOs to dependency specs
+            // Resolve all referenced tasks in one lookup, then convert DTOs to dependency specs
+            Set<Long> taskIds = new HashSet<>();
+            for (TaskDependencyDto dto : dependencies) {
+                taskIds.add(dto.getSuccessorTaskId());
+                taskIds.add(dto.getPredecessorTaskId());
+            }
+            taskIds.remove(null);
+            Map<Long, Task> tasksById = taskService.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+            
             List<TaskDependencyService.DependencySpec> specs = new ArrayList<>();
             for (TaskDependencyDto dto : dependencies) {
-                Task dependentTask = taskService.findById(dto.getSuccessorTaskId());
-                Task prerequisiteTask = taskService.findById(dto.getPredecessorTaskId());
+                Task dependentTask = tasksById.get(dto.getSuccessorTaskId());
+                Task prerequisiteTask = tasksById.get(dto.getPredecessorTaskId());
                 
                 if (dependentTask == null || prerequisiteTask == null) {
                     response.put("success", false);
@@ -5,6 +5,7 @@ package org.frcpm.web.controllers;
 import org.frcpm.models.Subteam;
 import org.frcpm.models.TeamMember;
 import org.frcpm.models.Task;
+import org.frcpm.services.ExportService;
 import org.frcpm.services.TaskService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -16,7 +17,6 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -50,6 +50,9 @@ public class TeamController extends BaseController {
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private ExportService exportService;
+    
     // =========================================================================
     // TEAM OVERVIEW AND DASHBOARD
     // =========================================================================
@@ -773,41 +776,9 @@ public class TeamController extends BaseController {
             response.setContentType("text/csv");
             response.setHeader("Content-Disposition", "attachment; filename=\"team_members_export.csv\"");
             
-            // Get members to export
-            List<TeamMember> members = teamMemberService.findAll();
-            
-            // Apply filters
-            members = filterTeamMembers(members, subteamId, role);
-            
-            // Write CSV headers
-            PrintWriter writer = response.getWriter();
-            writer.println("ID,Username,First Name,Last Name,Email,Phone,Skills,Subteam,Is Leader,Task Count");
-            
-            // Write member data
-            for (TeamMember member : members) {
-                StringBuilder line = new StringBuilder();
-                line.append(escapeCSV(member.getId().toString())).append(",");
-                line.append(escapeCSV(member.getUsername())).append(",");
-                line.append(escapeCSV(member.getFirstName())).append(",");
-                line.append(escapeCSV(member.getLastName())).append(",");
-                line.append(escapeCSV(member.getEmail())).append(",");
-                line.append(escapeCSV(member.getPhone())).append(",");
-                line.append(escapeCSV(member.getSkills())).append(",");
-                line.append(escapeCSV(member.getSubteam() != null ? member.getSubteam().getName() : "")).append(",");
-                line.append(member.isLeader()).append(",");
-                
-                // Count assigned tasks
-                try {
-                    int taskCount = member.getAssignedTasks().size();
-                    line.append(taskCount);
-                } catch (Exception e) {
-                    line.append("0");
-                }
-                
-                writer.println(line.toString());
-            }
-            
-            writer.flush();
+            // Stream members with their task counts straight to the response
+            exportService.exportTeamMembers(subteamId, role, ExportService.Format.CSV, response.getOutputStream());
+            response.flushBuffer();
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error exporting team members to CSV", e);
@@ -1345,20 +1316,4 @@ public class TeamController extends BaseController {
         
         return false;
     }
-    
-    /**
-     * Helper method to escape CSV values.
-     */
-    private String escapeCSV(String value) {
-        if (value == null) {
-            return "";
-        }
-        
-        // Escape quotes and wrap in quotes if necessary
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
-        }
-        
-        return value;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+// src/main/java/org/frcpm/web/dto/GanttWindowDto.java
+// Phase 2E-D: Windowed Gantt Data Transfer Object
+
+package org.frcpm.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for one viewport of a project's Gantt chart.
+ *
+ * Carries only the task rows overlapping the requested date window and row
+ * range, the dependency links between those rows and the milestones inside
+ * the window. totalRows lets the client size its scroll area without
+ * loading the remaining rows.
+ *
+ * @author FRC Project Management Team - Phase 2E-D
+ * @version 2.0.0-2E-D
+ * @since Phase 2E-D - Advanced Task Management
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GanttWindowDto {
+
+    private final Long projectId;
+
+    private final String projectName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private final LocalDate windowStart;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private final LocalDate windowEnd;
+
+    private final int offset;
+    private final int limit;
+    private final long totalRows;
+
+    private final List<Row> rows;
+    private final List<Link> links;
+    private final List<MilestoneMarker> milestones;
+
+    public GanttWindowDto(Long projectId, String projectName, LocalDate windowStart, LocalDate windowEnd,
+                          int offset, int limit, long totalRows,
+                          List<Row> rows, List<Link> links, List<MilestoneMarker> milestones) {
+        this.projectId = projectId;
+        this.projectName = projectName;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.offset = offset;
+        this.limit = limit;
+        this.totalRows = totalRows;
+        this.rows = rows;
+        this.links = links;
+        this.milestones = milestones;
+    }
+
+    public Long getProjectId() { return projectId; }
+    public String getProjectName() { return projectName; }
+    public LocalDate getWindowStart() { return windowStart; }
+    public LocalDate getWindowEnd() { return windowEnd; }
+    public int getOffset() { return offset; }
+    public int getLimit() { return limit; }
+    public long getTotalRows() { return totalRows; }
+    public List<Row> getRows() { return rows; }
+    public List<Link> getLinks() { return links; }
+    public List<MilestoneMarker> getMilestones() { return milestones; }
+
+    /**
+     * @return true if rows exist after this slice
+     */
+    public boolean isHasMore() {
+        return offset + rows.size() < totalRows;
+    }
+
+    // =========================================================================
+    // ROW TYPES
+    // =========================================================================
+
+    /**
+     * One task bar.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Row {
+        private final Long id;
+        private final String title;
+        private final String subsystem;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private final LocalDate start;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private final LocalDate end;
+
+        private final int progress;
+        private final boolean completed;
+        private final String priority;
+        private final String assignee;
+
+        public Row(Long id, String title, String subsystem, LocalDate start, LocalDate end,
+                   int progress, boolean completed, String priority, String assignee) {
+            this.id = id;
+            this.title = title;
+            this.subsystem = subsystem;
+            this.start = start;
+            this.end = end;
+            this.progress = progress;
+            this.completed = completed;
+            this.priority = priority;
+            this.assignee = assignee;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public String getSubsystem() { return subsystem; }
+        public LocalDate getStart() { return start; }
+        public LocalDate getEnd() { return end; }
+        public int getProgress() { return progress; }
+        public boolean isCompleted() { return completed; }
+        public String getPriority() { return priority; }
+        public String getAssignee() { return assignee; }
+    }
+
+    /**
+     * A dependency arrow between two rows in view.
+     */
+    public static class Link {
+        private final Long from;
+        private final Long to;
+        private final String type;
+        private final int lagHours;
+
+        public Link(Long from, Long to, String type, int lagHours) {
+            this.from = from;
+            this.to = to;
+            this.type = type;
+            this.lagHours = lagHours;
+        }
+
+        public Long getFrom() { return from; }
+        public Long getTo() { return to; }
+        public String getType() { return type; }
+        public int getLagHours() { return lagHours; }
+    }
+
+    /**
+     * A milestone diamond inside the window.
+     */
+    public static class MilestoneMarker {
+        private final Long id;
+        private final String name;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private final LocalDate date;
+
+        private final boolean passed;
+
+        public MilestoneMarker(Long id, String name, LocalDate date, boolean passed) {
+            this.id = id;
+            this.name = name;
+            this.date = date;
+            this.passed = passed;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public LocalDate getDate() { return date; }
+        public boolean isPassed() { return passed; }
+    }
+}
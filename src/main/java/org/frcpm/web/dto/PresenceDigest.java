@@ -0,0 +1,81 @@
+package org.frcpm.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact periodic summary of who is at a meeting and who is connected.
+ * Replaces per-check-in presence broadcasts; clients keep the latest digest
+ * per meeting and discard any with a lower version.
+ */
+public class PresenceDigest {
+
+    private Long meetingId;
+    private long version;
+    private LocalDateTime generatedAt;
+
+    // Attendance totals as last computed from the attendance records
+    private Integer totalPresent;
+    private Integer totalExpected;
+    private Double attendancePercentage;
+    private String workshopStatus;
+    private List<TeamPresenceMessage.SubteamPresence> subteamPresence;
+
+    // Live state held by the presence registry
+    private List<Long> presentMemberIds;
+    private List<Long> connectedMemberIds;
+    private int viewers;
+    private List<TeamPresenceMessage.RecentActivity> recentActivity;
+
+    public PresenceDigest() {
+        this.generatedAt = LocalDateTime.now();
+        this.subteamPresence = new ArrayList<>();
+        this.presentMemberIds = new ArrayList<>();
+        this.connectedMemberIds = new ArrayList<>();
+        this.recentActivity = new ArrayList<>();
+    }
+
+    public PresenceDigest(Long meetingId, long version) {
+        this();
+        this.meetingId = meetingId;
+        this.version = version;
+    }
+
+    // Getters and setters
+    public Long getMeetingId() { return meetingId; }
+    public void setMeetingId(Long meetingId) { this.meetingId = meetingId; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+
+    public Integer getTotalPresent() { return totalPresent; }
+    public void setTotalPresent(Integer totalPresent) { this.totalPresent = totalPresent; }
+
+    public Integer getTotalExpected() { return totalExpected; }
+    public void setTotalExpected(Integer totalExpected) { this.totalExpected = totalExpected; }
+
+    public Double getAttendancePercentage() { return attendancePercentage; }
+    public void setAttendancePercentage(Double attendancePercentage) { this.attendancePercentage = attendancePercentage; }
+
+    public String getWorkshopStatus() { return workshopStatus; }
+    public void setWorkshopStatus(String workshopStatus) { this.workshopStatus = workshopStatus; }
+
+    public List<TeamPresenceMessage.SubteamPresence> getSubteamPresence() { return subteamPresence; }
+    public void setSubteamPresence(List<TeamPresenceMessage.SubteamPresence> subteamPresence) { this.subteamPresence = subteamPresence; }
+
+    public List<Long> getPresentMemberIds() { return presentMemberIds; }
+    public void setPresentMemberIds(List<Long> presentMemberIds) { this.presentMemberIds = presentMemberIds; }
+
+    public List<Long> getConnectedMemberIds() { return connectedMemberIds; }
+    public void setConnectedMemberIds(List<Long> connectedMemberIds) { this.connectedMemberIds = connectedMemberIds; }
+
+    public int getViewers() { return viewers; }
+    public void setViewers(int viewers) { this.viewers = viewers; }
+
+    public List<TeamPresenceMessage.RecentActivity> getRecentActivity() { return recentActivity; }
+    public void setRecentActivity(List<TeamPresenceMessage.RecentActivity> recentActivity) { this.recentActivity = recentActivity; }
+}
@@ -4,10 +4,10 @@ package org.frcpm.web.websocket;
 
 import org.frcpm.web.dto.ActivityMessage;
 import org.frcpm.security.UserPrincipal;
+import org.frcpm.events.WebSocketEventBus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
@@ -32,7 +32,7 @@ public class ActivityController {
     private static final Logger LOGGER = Logger.getLogger(ActivityController.class.getName());
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private WebSocketEventBus eventBus;
     
     /**
      * Handle activity updates from clients.
@@ -85,13 +85,13 @@ public class ActivityController {
     public void broadcastActivity(ActivityMessage activity) {
         try {
             // Send to global team activity feed
-            messagingTemplate.convertAndSend("/topic/team/activity", activity);
+            eventBus.publish("/topic/team/activity", activity);
             
             // Also send to subteam-specific feed if available
             if (activity.getSubteamName() != null && !activity.getSubteamName().isEmpty()) {
                 String subteamDestination = "/topic/subteam/" + 
                     activity.getSubteamName().replaceAll("\\s+", "_").toLowerCase() + "/activity";
-                messagingTemplate.convertAndSend(subteamDestination, activity);
+                eventBus.publish(subteamDestination, activity);
             }
             
             LOGGER.info(String.format("Broadcasted activity: %s - %s", 
@@ -112,7 +112,7 @@ public class ActivityController {
     public void broadcastUserPresence(ActivityMessage activity) {
         try {
             // Send presence updates to team presence channel
-            messagingTemplate.convertAndSend("/topic/team/presence", activity);
+            eventBus.publish("/topic/team/presence", activity);
             
             LOGGER.info(String.format("User presence update: %s - %s", 
                                     activity.getUserName(), activity.getAction()));
@@ -134,7 +134,7 @@ public class ActivityController {
     public void broadcastProjectActivity(Long projectId, ActivityMessage activity) {
         try {
             String destination = "/topic/project/" + projectId + "/activity";
-            messagingTemplate.convertAndSend(destination, activity);
+            eventBus.publish(destination, activity, coalesceKey(activity));
             
             LOGGER.info(String.format("Broadcasted project activity to %s: %s", 
                                     destination, activity.getAction()));
@@ -143,4 +143,15 @@ public class ActivityController {
             LOGGER.log(Level.SEVERE, "Error broadcasting project activity", e);
         }
     }
+    
+    /**
+     * Progress activity for the same user and task supersedes itself, so only
+     * the latest entry in a dispatch window reaches the feed.
+     */
+    private static String coalesceKey(ActivityMessage activity) {
+        if ("TASK_PROGRESS_UPDATED".equals(activity.getAction()) && activity.getRelatedEntityId() != null) {
+            return "progress:" + activity.getUserId() + ":" + activity.getRelatedEntityId();
+        }
+        return null;
+    }
 }
\ No newline at end of file
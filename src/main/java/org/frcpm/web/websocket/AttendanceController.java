@@ -2,14 +2,16 @@
 
 package org.frcpm.web.websocket;
 
+import org.frcpm.events.WebSocketEventBus;
 import org.frcpm.web.dto.AttendanceUpdateMessage;
+import org.frcpm.web.dto.PresenceDigest;
 import org.frcpm.web.dto.TeamPresenceMessage;
 import org.frcpm.security.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
@@ -27,6 +29,9 @@ import java.util.logging.Level;
  * - Team coordination features
  * - COPPA-compliant attendance tracking
  * 
+ * Presence summaries are not broadcast per event; they are folded into the
+ * {@link PresenceRegistry}, which publishes periodic digests.
+ * 
  * @author FRC Project Management Team
  * @version 2.0.0
  * @since Phase 2D - Real-time Attendance Features
@@ -36,11 +41,13 @@ public class AttendanceController {
     
     private static final Logger LOGGER = Logger.getLogger(AttendanceController.class.getName());
     
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketEventBus eventBus;
+    private final PresenceRegistry presenceRegistry;
     
     @Autowired
-    public AttendanceController(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public AttendanceController(WebSocketEventBus eventBus, PresenceRegistry presenceRegistry) {
+        this.eventBus = eventBus;
+        this.presenceRegistry = presenceRegistry;
     }
     
     // =========================================================================
@@ -48,18 +55,18 @@ public class AttendanceController {
     // =========================================================================
     
     /**
-     * Broadcast attendance update to all meeting subscribers.
+     * Broadcast attendance update to meeting subscribers. Workshop-wide
+     * dashboards see it in the next presence digest instead.
      * 
      * @param message Attendance update message
      */
     public void broadcastAttendanceUpdate(AttendanceUpdateMessage message) {
         try {
+            presenceRegistry.recordAttendance(message);
+            
             // Broadcast to meeting-specific channel
             String destination = "/topic/meeting/" + message.getMeetingId() + "/attendance";
-            messagingTemplate.convertAndSend(destination, message);
-            
-            // Also broadcast to general workshop channel for dashboard widgets
-            messagingTemplate.convertAndSend("/topic/workshop/attendance", message);
+            eventBus.publish(destination, message);
             
             LOGGER.info(String.format("Broadcast attendance update: %s - %s", 
                                     message.getMemberName(), message.getEventType()));
@@ -70,20 +77,15 @@ public class AttendanceController {
     }
     
     /**
-     * Broadcast workshop presence summary to all subscribers.
+     * Record a workshop presence summary for the next presence digest.
      * 
      * @param message Team presence summary
      */
     public void broadcastPresenceUpdate(TeamPresenceMessage message) {
         try {
-            // Broadcast to meeting-specific channel
-            String destination = "/topic/meeting/" + message.getMeetingId() + "/presence";
-            messagingTemplate.convertAndSend(destination, message);
+            presenceRegistry.updateSummary(message);
             
-            // Also broadcast to general workshop channel
-            messagingTemplate.convertAndSend("/topic/workshop/presence", message);
-            
-            LOGGER.info(String.format("Broadcast presence update: %d/%d present (%d%%)", 
+            LOGGER.fine(String.format("Recorded presence update: %d/%d present (%d%%)", 
                                     message.getTotalPresent(), 
                                     message.getTotalExpected(),
                                     message.getAttendancePercentage().intValue()));
@@ -96,15 +98,15 @@ public class AttendanceController {
     /**
      * Send targeted attendance notification to specific user.
      * 
-     * @param userId Target user ID
+     * @param username Target user's username (the STOMP principal name)
      * @param message Attendance notification
      */
-    public void sendAttendanceNotificationToUser(Long userId, AttendanceUpdateMessage message) {
+    public void sendAttendanceNotificationToUser(String username, AttendanceUpdateMessage message) {
         try {
-            String destination = "/user/" + userId + "/queue/attendance";
-            messagingTemplate.convertAndSend(destination, message);
+            String destination = "/user/" + username + "/queue/attendance";
+            eventBus.publish(destination, message);
             
-            LOGGER.info(String.format("Sent attendance notification to user %d", userId));
+            LOGGER.info(String.format("Sent attendance notification to user %s", username));
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sending attendance notification to user", e);
@@ -149,25 +151,26 @@ public class AttendanceController {
     }
     
     /**
-     * Handle workshop presence request from client.
+     * Handle workshop presence request from client, e.g. on page load before
+     * the first periodic digest arrives.
      * 
      * @param meetingId Meeting ID to get presence for
      * @param user Current authenticated user
+     * @return Current presence digest, sent only to the requesting session
      */
     @MessageMapping("/attendance/presence/request")
-    public void handlePresenceRequest(@Payload Long meetingId,
-                                     @AuthenticationPrincipal UserPrincipal user) {
+    @SendToUser(destinations = "/queue/presence", broadcast = false)
+    public PresenceDigest handlePresenceRequest(@Payload Long meetingId,
+                                                @AuthenticationPrincipal UserPrincipal user) {
         try {
-            // This would typically trigger a service call to get current presence
-            // and then broadcast the result - placeholder for now
-            LOGGER.info(String.format("Presence request for meeting %d from user %s", 
+            LOGGER.fine(String.format("Presence request for meeting %d from user %s", 
                                     meetingId, user != null ? user.getUsername() : "unknown"));
             
-            // TODO: Integrate with AttendanceService to get real presence data
-            // and broadcast via broadcastPresenceUpdate()
+            return meetingId != null ? presenceRegistry.getDigest(meetingId) : null;
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error handling presence request", e);
+            return null;
         }
     }
     
@@ -184,14 +187,8 @@ public class AttendanceController {
      */
     public void broadcastWorkshopStatusChange(Long meetingId, String status, String updatedBy) {
         try {
-            TeamPresenceMessage statusMessage = new TeamPresenceMessage(meetingId, "Workshop Session");
-            statusMessage.setWorkshopStatus(status);
-            statusMessage.setLastUpdated(java.time.LocalDateTime.now());
-            
-            // Add status change to recent activity
-            statusMessage.addRecentActivity(updatedBy, "STATUS_CHANGE", java.time.LocalTime.now());
-            
-            broadcastPresenceUpdate(statusMessage);
+            // Reaches clients with the next presence digest
+            presenceRegistry.updateWorkshopStatus(meetingId, status, updatedBy);
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error broadcasting workshop status change", e);
@@ -210,7 +207,7 @@ public class AttendanceController {
             message.setNotes("Arrived after scheduled start time");
             
             // Broadcast to supervisors/mentors channel
-            messagingTemplate.convertAndSend("/topic/workshop/alerts", message);
+            eventBus.publish("/topic/workshop/alerts", message);
             
             // Also broadcast to general attendance channel
             broadcastAttendanceUpdate(message);
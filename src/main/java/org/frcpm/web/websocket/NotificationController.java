@@ -4,10 +4,10 @@ package org.frcpm.web.websocket;
 
 import org.frcpm.web.dto.ProjectNotification;
 import org.frcpm.security.UserPrincipal;
+import org.frcpm.events.WebSocketEventBus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
@@ -32,7 +32,7 @@ public class NotificationController {
     private static final Logger LOGGER = Logger.getLogger(NotificationController.class.getName());
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private WebSocketEventBus eventBus;
     
     /**
      * Handle notification broadcasts from authenticated users.
@@ -87,7 +87,7 @@ public class NotificationController {
         try {
             if (notification.getProjectId() != null) {
                 String destination = "/topic/project/" + notification.getProjectId() + "/notifications";
-                messagingTemplate.convertAndSend(destination, notification);
+                eventBus.publish(destination, notification);
                 
                 LOGGER.info(String.format("Broadcasted notification to %s: %s (Type: %s)", 
                                         destination, notification.getTitle(), notification.getType()));
@@ -102,15 +102,15 @@ public class NotificationController {
      * 
      * Used for personal notifications like task assignments or mentions.
      * 
-     * @param userId Target user ID
+     * @param username Target user's username (the STOMP principal name)
      * @param notification Notification to send
      */
-    public void sendNotificationToUser(Long userId, ProjectNotification notification) {
+    public void sendNotificationToUser(String username, ProjectNotification notification) {
         try {
-            String destination = "/user/" + userId + "/queue/notifications";
-            messagingTemplate.convertAndSend(destination, notification);
+            String destination = "/user/" + username + "/queue/notifications";
+            eventBus.publish(destination, notification);
             
-            LOGGER.info(String.format("Sent notification to user %d: %s", userId, notification.getTitle()));
+            LOGGER.info(String.format("Sent notification to user %s: %s", username, notification.getTitle()));
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sending notification to user", e);
@@ -127,7 +127,7 @@ public class NotificationController {
      */
     public void broadcastSystemAlert(ProjectNotification notification) {
         try {
-            messagingTemplate.convertAndSend("/topic/system/alerts", notification);
+            eventBus.publish("/topic/system/alerts", notification);
             
             LOGGER.info(String.format("Broadcasted system alert: %s (Priority: %s)", 
                                     notification.getTitle(), notification.getPriority()));
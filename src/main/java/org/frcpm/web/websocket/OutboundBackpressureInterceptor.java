@@ -0,0 +1,256 @@
+// src/main/java/org/frcpm/web/websocket/OutboundBackpressureInterceptor.java
+
+package org.frcpm.web.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounds the bytes waiting to be written to each WebSocket session.
+ *
+ * Frames for a client that cannot keep up - a phone on bad Wi-Fi - pile up
+ * in the session's send buffer while an earlier write is still blocked on
+ * its socket. Every session is given a buffering decorator from
+ * {@link #decorateSession}, which measures that buffer after each frame is
+ * added. A session whose buffer passes
+ * {@code frc.websocket.outbound.resync-buffer-bytes} is closed with
+ * {@link #RESYNC} before Spring's own limit is reached, and frames still on
+ * their way to it are dropped. Clients reconnect on close and resynchronize
+ * from their last known state. Should Spring close a session for its buffer
+ * or send time limit first, the close is sent as {@link #RESYNC} too.
+ *
+ * The outbound executor's queue is bounded as well. A frame it has no room
+ * for is handed to {@link #rejectedExecutionHandler()} rather than failing
+ * the sender: its session has lost a frame, so it is closed the same way.
+ *
+ * The buffered bytes after each frame are recorded in the
+ * websocket.outbound.session.buffer.bytes summary, the largest current
+ * buffer in the websocket.outbound.session.buffer.bytes.max gauge, and
+ * evictions in websocket.outbound.evicted.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+@Component
+public class OutboundBackpressureInterceptor implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(OutboundBackpressureInterceptor.class.getName());
+
+    /** Close status telling the client it was evicted and should resynchronize. */
+    public static final CloseStatus RESYNC = new CloseStatus(4429, "RESYNC");
+
+    private final ConcurrentMap<String, BufferedSession> sessions = new ConcurrentHashMap<>();
+    private final int resyncBufferBytes;
+
+    private final DistributionSummary bufferBytes;
+    private final Counter evicted;
+
+    private final RejectedExecutionHandler rejectedExecutionHandler = new EvictingRejectionHandler();
+
+    @Autowired
+    public OutboundBackpressureInterceptor(MeterRegistry meterRegistry,
+                                           @Value("${frc.websocket.outbound.resync-buffer-bytes:196608}") int resyncBufferBytes) {
+        this.resyncBufferBytes = resyncBufferBytes;
+        this.bufferBytes = DistributionSummary.builder("websocket.outbound.session.buffer.bytes")
+            .description("Bytes buffered for a session after a frame is added")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.evicted = Counter.builder("websocket.outbound.evicted")
+            .description("Sessions closed because they could not keep up with their outbound frames")
+            .register(meterRegistry);
+        Gauge.builder("websocket.outbound.session.buffer.bytes.max", this, OutboundBackpressureInterceptor::maxBufferSize)
+            .description("Largest outbound buffer of any session")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    // =========================================================================
+    // SESSION TRACKING
+    // =========================================================================
+
+    /**
+     * Wraps a session in the buffering decorator it is sent through.
+     *
+     * @param session the WebSocket session
+     * @param sendTimeLimit Spring's limit on the time one write may take
+     * @param bufferSizeLimit Spring's limit on buffered bytes
+     * @return the decorated session
+     */
+    public ConcurrentWebSocketSessionDecorator decorateSession(WebSocketSession session, int sendTimeLimit,
+                                                               int bufferSizeLimit) {
+        BufferedSession buffered = new BufferedSession(new EvictableSession(session), sendTimeLimit, bufferSizeLimit);
+        sessions.put(session.getId(), buffered);
+        return buffered;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // =========================================================================
+    // OUTBOUND CHANNEL
+    // =========================================================================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        BufferedSession session = session(message);
+        return session != null && session.target.evicted.get() ? null : message;
+    }
+
+    /**
+     * @return handler for the outbound channel executor that evicts the
+     *         session of a frame the executor has no room for
+     */
+    public RejectedExecutionHandler rejectedExecutionHandler() {
+        return rejectedExecutionHandler;
+    }
+
+    /**
+     * @param sessionId WebSocket (and STOMP) session ID
+     * @return bytes currently buffered for the session, 0 if unknown
+     */
+    public int getBufferSize(String sessionId) {
+        BufferedSession session = sessions.get(sessionId);
+        return session != null ? session.getBufferSize() : 0;
+    }
+
+    /**
+     * @return largest current buffer of any session
+     */
+    public int maxBufferSize() {
+        int max = 0;
+        for (BufferedSession session : sessions.values()) {
+            max = Math.max(max, session.getBufferSize());
+        }
+        return max;
+    }
+
+    private BufferedSession session(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    private void evict(BufferedSession session, String reason) {
+        if (!session.target.markEvicted()) {
+            return;
+        }
+        LOGGER.warning(String.format("Evicting slow WebSocket session %s: %s", session.getId(), reason));
+        try {
+            session.close(RESYNC);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Error closing slow WebSocket session", e);
+        }
+    }
+
+    /**
+     * Spring's send buffer, measured after every frame added to it.
+     */
+    private final class BufferedSession extends ConcurrentWebSocketSessionDecorator {
+
+        final EvictableSession target;
+
+        BufferedSession(EvictableSession target, int sendTimeLimit, int bufferSizeLimit) {
+            super(target, sendTimeLimit, bufferSizeLimit);
+            this.target = target;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            int buffered = getBufferSize();
+            bufferBytes.record(buffered);
+            if (buffered > resyncBufferBytes) {
+                evict(this, buffered + " bytes buffered");
+            }
+        }
+    }
+
+    /**
+     * The underlying session. Spring closes a session over its buffer or send
+     * time limit as SESSION_NOT_RELIABLE (1011), which clients treat as a
+     * failure; it is sent as RESYNC instead.
+     */
+    private final class EvictableSession extends WebSocketSessionDecorator {
+
+        final AtomicBoolean evicted = new AtomicBoolean();
+
+        EvictableSession(WebSocketSession session) {
+            super(session);
+        }
+
+        boolean markEvicted() {
+            if (evicted.compareAndSet(false, true)) {
+                OutboundBackpressureInterceptor.this.evicted.increment();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close(CloseStatus status) throws IOException {
+            if (CloseStatus.SESSION_NOT_RELIABLE.equals(status)) {
+                markEvicted();
+                status = RESYNC;
+            }
+            super.close(status);
+        }
+    }
+
+    /**
+     * Runs instead of the executor's default abort policy, which would throw
+     * into whichever broker or handler thread sent the frame.
+     */
+    private final class EvictingRejectionHandler implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (!(task instanceof MessageHandlingRunnable runnable)) {
+                LOGGER.warning("Outbound channel executor full; dropped " + task);
+                return;
+            }
+            Message<?> message = runnable.getMessage();
+            BufferedSession session = session(message);
+            if (session != null) {
+                evict(session, "outbound channel executor full");
+            } else {
+                LOGGER.warning("Outbound channel executor full; dropped a frame for session "
+                               + SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+// src/main/java/org/frcpm/web/websocket/PresenceRegistry.java
+
+package org.frcpm.web.websocket;
+
+import org.frcpm.events.WebSocketEventBus;
+import org.frcpm.web.dto.AttendanceUpdateMessage;
+import org.frcpm.web.dto.PresenceDigest;
+import org.frcpm.web.dto.TeamPresenceMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory presence registry for workshop meetings.
+ *
+ * Holds, per meeting, the attendance state of each member and the STOMP
+ * sessions watching the meeting, plus the live session count of every
+ * connected user. Every update is a single compute on a concurrent map, so
+ * writers only contend when they touch the same member or user. Sessions
+ * are added on CONNECT, linked to meetings when they subscribe to a
+ * /topic/meeting/{id}/ destination, kept alive by any inbound frame
+ * (including STOMP heartbeats) and removed on DISCONNECT.
+ *
+ * Nothing is broadcast when an update arrives; it only bumps the meeting's
+ * version. A single scheduled sweep expires sessions that stopped sending
+ * heartbeats and publishes one {@link PresenceDigest} for each meeting
+ * whose version moved since the last sweep.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+@Component
+public class PresenceRegistry implements ChannelInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(PresenceRegistry.class.getName());
+
+    static final int RECENT_ACTIVITY_LIMIT = 10;
+
+    // Meetings nobody watches or attends are dropped after this long without changes
+    static final long MEETING_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(6);
+
+    private static final Pattern MEETING_DESTINATION = Pattern.compile("^/topic/meeting/(\\d+)/");
+
+    private final ConcurrentMap<Long, MeetingPresence> meetings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> liveSessionsByUser = new ConcurrentHashMap<>();
+
+    private final long staleAfterMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    @Lazy
+    private WebSocketEventBus eventBus;
+
+    @Autowired
+    public PresenceRegistry(@Value("${frc.websocket.presence.stale-after-ms:60000}") long staleAfterMillis) {
+        this(staleAfterMillis, System::currentTimeMillis);
+    }
+
+    PresenceRegistry(long staleAfterMillis, LongSupplier clock) {
+        this.staleAfterMillis = staleAfterMillis;
+        this.clock = clock;
+    }
+
+    // =========================================================================
+    // ATTENDANCE UPDATES
+    // =========================================================================
+
+    /**
+     * Records a member's check-in or check-out once the surrounding
+     * transaction commits.
+     *
+     * @param message attendance update
+     */
+    public void recordAttendance(AttendanceUpdateMessage message) {
+        if (message == null || message.getMeetingId() == null || message.getMemberId() == null) {
+            return;
+        }
+        afterCommit(() -> {
+            MeetingPresence meeting = meeting(message.getMeetingId());
+            meeting.members.compute(message.getMemberId(), (id, previous) -> new MemberPresence(
+                id,
+                message.getMemberUsername() != null ? message.getMemberUsername()
+                    : previous != null ? previous.username : null,
+                message.isPresent()));
+            meeting.addActivity(message.getMemberName(), message.getEventType(),
+                                message.getArrivalTime() != null && message.isPresent()
+                                    ? message.getArrivalTime() : LocalTime.now());
+            meeting.markChanged(clock.getAsLong());
+        });
+    }
+
+    /**
+     * Replaces the attendance totals of a meeting once the surrounding
+     * transaction commits.
+     *
+     * @param summary totals computed from the attendance records
+     */
+    public void updateSummary(TeamPresenceMessage summary) {
+        if (summary == null || summary.getMeetingId() == null) {
+            return;
+        }
+        afterCommit(() -> {
+            MeetingPresence meeting = meeting(summary.getMeetingId());
+            meeting.summary = summary;
+            if (summary.getWorkshopStatus() != null) {
+                meeting.workshopStatus = summary.getWorkshopStatus();
+            }
+            meeting.markChanged(clock.getAsLong());
+        });
+    }
+
+    /**
+     * @param meetingId the meeting ID
+     * @param status new workshop status (ACTIVE, BREAK, CLOSED)
+     * @param updatedBy user making the change
+     */
+    public void updateWorkshopStatus(Long meetingId, String status, String updatedBy) {
+        if (meetingId == null) {
+            return;
+        }
+        MeetingPresence meeting = meeting(meetingId);
+        meeting.workshopStatus = status;
+        meeting.addActivity(updatedBy, "STATUS_CHANGE", LocalTime.now());
+        meeting.markChanged(clock.getAsLong());
+    }
+
+    // =========================================================================
+    // STOMP SESSIONS
+    // =========================================================================
+
+    @EventListener
+    public void onSessionConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        sessionConnected(SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders()),
+                         user != null ? user.getName() : null);
+    }
+
+    @EventListener
+    public void onSessionSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        sessionSubscribed(accessor.getSessionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        sessionClosed(event.getSessionId());
+    }
+
+    /**
+     * Any inbound frame, heartbeats included, proves the session is alive.
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            SessionPresence session = sessions.get(sessionId);
+            if (session != null) {
+                session.lastSeen = clock.getAsLong();
+            }
+        }
+        return message;
+    }
+
+    void sessionConnected(String sessionId, String username) {
+        if (sessionId == null) {
+            return;
+        }
+        sessions.put(sessionId, new SessionPresence(username, clock.getAsLong()));
+        if (username != null && liveSessionsByUser.merge(username, 1, Integer::sum) == 1) {
+            markMemberChanged(username);
+        }
+    }
+
+    void sessionSubscribed(String sessionId, String destination) {
+        if (sessionId == null || destination == null) {
+            return;
+        }
+        Matcher matcher = MEETING_DESTINATION.matcher(destination);
+        if (!matcher.find()) {
+            return;
+        }
+        Long meetingId = Long.valueOf(matcher.group(1));
+        SessionPresence session = sessions.computeIfAbsent(sessionId,
+                                                           id -> new SessionPresence(null, clock.getAsLong()));
+        if (session.meetingIds.add(meetingId)) {
+            MeetingPresence meeting = meeting(meetingId);
+            meeting.viewers.add(sessionId);
+            meeting.markChanged(clock.getAsLong());
+        }
+    }
+
+    void sessionClosed(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        for (Long meetingId : session.meetingIds) {
+            MeetingPresence meeting = meetings.get(meetingId);
+            if (meeting != null && meeting.viewers.remove(sessionId)) {
+                meeting.markChanged(now);
+            }
+        }
+        if (session.username != null
+                && liveSessionsByUser.computeIfPresent(session.username, (u, count) -> count > 1 ? count - 1 : null) == null) {
+            markMemberChanged(session.username);
+        }
+    }
+
+    // =========================================================================
+    // SWEEPER
+    // =========================================================================
+
+    /**
+     * Expires silent sessions and publishes a digest for every meeting that
+     * changed since the previous sweep.
+     */
+    @Scheduled(fixedDelayString = "${frc.websocket.presence.digest-interval-ms:5000}")
+    public void sweep() {
+        try {
+            long now = clock.getAsLong();
+
+            int expired = 0;
+            for (var entry : sessions.entrySet()) {
+                if (now - entry.getValue().lastSeen > staleAfterMillis) {
+                    sessionClosed(entry.getKey());
+                    expired++;
+                }
+            }
+            if (expired > 0) {
+                LOGGER.info(String.format("Expired %d stale WebSocket sessions", expired));
+            }
+
+            for (var entry : meetings.entrySet()) {
+                Long meetingId = entry.getKey();
+                MeetingPresence meeting = entry.getValue();
+                long version = meeting.version.get();
+                if (version != meeting.publishedVersion) {
+                    meeting.publishedVersion = version;
+                    publishDigest(buildDigest(meetingId, meeting, version));
+                } else if (meeting.isAbandoned(now)) {
+                    meetings.remove(meetingId, meeting);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error sweeping workshop presence", e);
+        }
+    }
+
+    /**
+     * @param meetingId the meeting ID
+     * @return the meeting's current digest, empty if nothing is known about it
+     */
+    public PresenceDigest getDigest(Long meetingId) {
+        MeetingPresence meeting = meetingId != null ? meetings.get(meetingId) : null;
+        if (meeting == null) {
+            return new PresenceDigest(meetingId, 0L);
+        }
+        return buildDigest(meetingId, meeting, meeting.version.get());
+    }
+
+    /**
+     * @return number of live STOMP sessions being tracked
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void publishDigest(PresenceDigest digest) {
+        if (eventBus == null) {
+            return;
+        }
+        eventBus.publish("/topic/meeting/" + digest.getMeetingId() + "/presence", digest, "presence");
+        eventBus.publish("/topic/workshop/presence", digest, "presence:" + digest.getMeetingId());
+    }
+
+    private PresenceDigest buildDigest(Long meetingId, MeetingPresence meeting, long version) {
+        PresenceDigest digest = new PresenceDigest(meetingId, version);
+
+        TeamPresenceMessage summary = meeting.summary;
+        if (summary != null) {
+            digest.setTotalPresent(summary.getTotalPresent());
+            digest.setTotalExpected(summary.getTotalExpected());
+            digest.setAttendancePercentage(summary.getAttendancePercentage());
+            digest.setSubteamPresence(summary.getSubteamPresence());
+        }
+        digest.setWorkshopStatus(meeting.workshopStatus);
+
+        for (MemberPresence member : meeting.members.values()) {
+            if (member.present) {
+                digest.getPresentMemberIds().add(member.memberId);
+            }
+            if (member.username != null && liveSessionsByUser.containsKey(member.username)) {
+                digest.getConnectedMemberIds().add(member.memberId);
+            }
+        }
+        digest.getPresentMemberIds().sort(null);
+        digest.getConnectedMemberIds().sort(null);
+        digest.setViewers(meeting.viewers.size());
+        digest.setRecentActivity(meeting.recentActivity());
+        return digest;
+    }
+
+    private MeetingPresence meeting(Long meetingId) {
+        return meetings.computeIfAbsent(meetingId, id -> new MeetingPresence(clock.getAsLong()));
+    }
+
+    private void markMemberChanged(String username) {
+        long now = clock.getAsLong();
+        for (MeetingPresence meeting : meetings.values()) {
+            for (MemberPresence member : meeting.members.values()) {
+                if (username.equals(member.username)) {
+                    meeting.markChanged(now);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // =========================================================================
+    // STATE
+    // =========================================================================
+
+    private static final class MeetingPresence {
+        final ConcurrentMap<Long, MemberPresence> members = new ConcurrentHashMap<>();
+        final Set<String> viewers = ConcurrentHashMap.newKeySet();
+        final AtomicLong version = new AtomicLong();
+        final Deque<TeamPresenceMessage.RecentActivity> activity = new ArrayDeque<>();
+
+        volatile TeamPresenceMessage summary;
+        volatile String workshopStatus;
+        volatile long publishedVersion;
+        volatile long lastChanged;
+
+        MeetingPresence(long created) {
+            this.lastChanged = created;
+        }
+
+        void markChanged(long now) {
+            lastChanged = now;
+            version.incrementAndGet();
+        }
+
+        boolean isAbandoned(long now) {
+            return viewers.isEmpty()
+                && members.values().stream().noneMatch(member -> member.present)
+                && now - lastChanged > MEETING_RETENTION_MILLIS;
+        }
+
+        synchronized void addActivity(String memberName, String eventType, LocalTime time) {
+            activity.addLast(new TeamPresenceMessage.RecentActivity(memberName, eventType, time));
+            if (activity.size() > RECENT_ACTIVITY_LIMIT) {
+                activity.removeFirst();
+            }
+        }
+
+        synchronized List<TeamPresenceMessage.RecentActivity> recentActivity() {
+            return new ArrayList<>(activity);
+        }
+    }
+
+    private static final class MemberPresence {
+        final Long memberId;
+        final String username;
+        final boolean present;
+
+        MemberPresence(Long memberId, String username, boolean present) {
+            this.memberId = memberId;
+            this.username = username;
+            this.present = present;
+        }
+    }
+
+    private static final class SessionPresence {
+        final String username;
+        final Set<Long> meetingIds = ConcurrentHashMap.newKeySet();
+        volatile long lastSeen;
+
+        SessionPresence(String username, long lastSeen) {
+            this.username = username;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+// src/main/java/org/frcpm/web/websocket/StompMetrics.java
+
+package org.frcpm.web.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.frcpm.models.UserRole;
+import org.frcpm.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer meters for the STOMP layer, exported through Actuator on
+ * /actuator/metrics and /actuator/prometheus.
+ *
+ * - websocket.publish: frames sent to the broker, tagged by destination
+ * - websocket.fanout: subscriptions each broker frame was delivered to
+ * - websocket.serialization: time to turn a payload into a JSON frame
+ * - websocket.inbound.handler: @MessageMapping / @SubscribeMapping latency,
+ *   as a histogram tagged by mapping
+ * - websocket.channel.queued: frames waiting on the client inbound and
+ *   outbound channel executors
+ * - websocket.sessions: connected sessions, tagged by role
+ *
+ * Destinations are tagged with numeric path segments replaced by {id}
+ * (/topic/project/{id}/kanban), so there is one series per mapping rather
+ * than one per project or meeting.
+ *
+ * Fan-out is read from subscription counts kept as SUBSCRIBE, UNSUBSCRIBE
+ * and disconnects pass through this instance's inbound channel, so a
+ * publish costs one map lookup. With the broker relay the counts cover
+ * this instance's sessions only; sum websocket.fanout across instances.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+@Component
+public class StompMetrics {
+
+    static final String ANONYMOUS_ROLE = "anonymous";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, String> sessionRoles = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> sessionsByRole = new LinkedHashMap<>();
+    private final ThreadLocal<Timer.Sample> handlerSample = new ThreadLocal<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> sessionSubscriptions =
+        new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> subscribersByDestination = new ConcurrentHashMap<>();
+
+    private final ChannelInterceptor inboundInterceptor = new InboundInterceptor();
+    private final ChannelInterceptor brokerInterceptor = new BrokerInterceptor();
+
+    @Autowired
+    public StompMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (UserRole role : UserRole.values()) {
+            registerRole(role.name().toLowerCase(Locale.ROOT));
+        }
+        registerRole(ANONYMOUS_ROLE);
+    }
+
+    /**
+     * The client channel executors are defined by the message broker
+     * configuration, which depends on this class through WebSocketConfig -
+     * hence lazy. They are only resolved when the gauges are read. The
+     * broker channel has no executor; it runs on the sender's thread.
+     */
+    @Autowired
+    public void setChannelExecutors(@Lazy @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inbound,
+                                    @Lazy @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outbound) {
+        registerChannel("inbound", inbound);
+        registerChannel("outbound", outbound);
+    }
+
+    /**
+     * @return interceptor for the client inbound channel, timing handlers
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return inboundInterceptor;
+    }
+
+    /**
+     * @return interceptor for the broker channel, counting publishes
+     */
+    public ChannelInterceptor brokerInterceptor() {
+        return brokerInterceptor;
+    }
+
+    // =========================================================================
+    // SERIALIZATION
+    // =========================================================================
+
+    /**
+     * Records the time spent serializing one outgoing payload.
+     *
+     * @param payload the payload that was serialized
+     * @param nanos elapsed time
+     */
+    public void recordSerialization(Object payload, long nanos) {
+        Timer.builder("websocket.serialization")
+            .description("Time to serialize an outgoing STOMP payload")
+            .tag("type", payload instanceof Iterable ? "List" : payload.getClass().getSimpleName())
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // =========================================================================
+    // SESSIONS
+    // =========================================================================
+
+    @EventListener
+    public void handleSessionConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessionConnected(sessionId, roleOf(event.getUser()));
+        }
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        sessionClosed(event.getSessionId());
+    }
+
+    void sessionConnected(String sessionId, String role) {
+        if (sessionRoles.putIfAbsent(sessionId, role) == null) {
+            sessionsByRole.get(role).incrementAndGet();
+        }
+    }
+
+    void sessionClosed(String sessionId) {
+        // Disconnect events may be published more than once per session
+        String role = sessionRoles.remove(sessionId);
+        if (role != null) {
+            sessionsByRole.get(role).decrementAndGet();
+        }
+        Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::removeSubscriber);
+        }
+    }
+
+    // =========================================================================
+    // SUBSCRIPTIONS
+    // =========================================================================
+
+    void subscribed(String sessionId, String subscriptionId, String destination) {
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+            .put(subscriptionId, destination);
+        if (previous != null) {
+            removeSubscriber(previous);
+        }
+        subscribersByDestination.computeIfAbsent(destination, d -> new AtomicInteger()).incrementAndGet();
+    }
+
+    void unsubscribed(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) {
+            removeSubscriber(destination);
+        }
+    }
+
+    /**
+     * @param destination STOMP destination
+     * @return subscriptions to the destination held by this instance's sessions
+     */
+    int getSubscriberCount(String destination) {
+        AtomicInteger count = subscribersByDestination.get(destination);
+        return count != null ? count.get() : 0;
+    }
+
+    private void removeSubscriber(String destination) {
+        // Drop the entry once empty so per-project destinations do not accumulate
+        subscribersByDestination.computeIfPresent(destination,
+            (d, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    /**
+     * @return connected sessions
+     */
+    public int getSessionCount() {
+        return sessionRoles.size();
+    }
+
+    /**
+     * @return connection and message figures read back from the meters
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        Map<String, Integer> byRole = new LinkedHashMap<>();
+        sessionsByRole.forEach((role, count) -> byRole.put(role, count.get()));
+        stats.put("sessions", getSessionCount());
+        stats.put("sessionsByRole", byRole);
+        stats.put("inboundHandled", meterRegistry.find("websocket.inbound.handler").timers().stream()
+            .mapToLong(Timer::count).sum());
+        stats.put("published", (long) meterRegistry.find("websocket.publish").counters().stream()
+            .mapToDouble(Counter::count).sum());
+        return stats;
+    }
+
+    // =========================================================================
+    // DESTINATIONS
+    // =========================================================================
+
+    /**
+     * @param destination STOMP destination
+     * @return the destination with every path segment containing a digit
+     *         replaced by {id}
+     */
+    static String destinationPattern(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        String[] segments = destination.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].chars().anyMatch(Character::isDigit)) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private void recordPublish(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (destination == null || destination.startsWith("/user/")) {
+            // Counted once resolved to the user's sessions
+            return;
+        }
+        String original = (String) accessor.getHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+        if (original != null) {
+            counter(destinationPattern(original)).increment();
+            return;
+        }
+        String pattern = destinationPattern(destination);
+        counter(pattern).increment();
+        DistributionSummary.builder("websocket.fanout")
+            .description("Subscriptions a broker frame was delivered to")
+            .tag("destination", pattern)
+            .register(meterRegistry)
+            .record(getSubscriberCount(destination));
+    }
+
+    private Counter counter(String pattern) {
+        return Counter.builder("websocket.publish")
+            .description("Frames sent to the broker")
+            .tag("destination", pattern)
+            .register(meterRegistry);
+    }
+
+    // =========================================================================
+    // HELPERS
+    // =========================================================================
+
+    private void registerRole(String role) {
+        AtomicInteger count = new AtomicInteger();
+        sessionsByRole.put(role, count);
+        Gauge.builder("websocket.sessions", count, AtomicInteger::get)
+            .description("Connected WebSocket sessions")
+            .tag("role", role)
+            .register(meterRegistry);
+    }
+
+    private void registerChannel(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+            .description("Messages waiting for a channel executor thread")
+            .tag("channel", channel)
+            .register(meterRegistry);
+    }
+
+    private static String roleOf(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal userPrincipal
+                && userPrincipal.getUser().getRole() != null) {
+            return userPrincipal.getUser().getRole().name().toLowerCase(Locale.ROOT);
+        }
+        return ANONYMOUS_ROLE;
+    }
+
+    /**
+     * Tracks subscriptions as frames are accepted, and times
+     * @MessageMapping and @SubscribeMapping methods on the executor thread
+     * that runs them.
+     */
+    private final class InboundInterceptor implements ExecutorChannelInterceptor {
+
+        @Override
+        public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+            // Frames refused by a later interceptor, e.g. an unauthorized SUBSCRIBE, never reach the broker
+            if (!sent || ex != null) {
+                return;
+            }
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            String sessionId = accessor.getSessionId();
+            String subscriptionId = accessor.getSubscriptionId();
+            if (sessionId == null) {
+                return;
+            }
+            if (accessor.getMessageType() == SimpMessageType.SUBSCRIBE
+                    && subscriptionId != null && accessor.getDestination() != null) {
+                subscribed(sessionId, subscriptionId, accessor.getDestination());
+            } else if (accessor.getMessageType() == SimpMessageType.UNSUBSCRIBE && subscriptionId != null) {
+                unsubscribed(sessionId, subscriptionId);
+            } else if (accessor.getMessageType() == SimpMessageType.DISCONNECT) {
+                sessionClosed(sessionId);
+            }
+        }
+
+        @Override
+        public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+            if (handler instanceof SimpAnnotationMethodMessageHandler && isHandled(message)) {
+                handlerSample.set(Timer.start(meterRegistry));
+            }
+            return message;
+        }
+
+        @Override
+        public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                        Exception ex) {
+            Timer.Sample sample = handlerSample.get();
+            if (sample == null || !(handler instanceof SimpAnnotationMethodMessageHandler)) {
+                return;
+            }
+            handlerSample.remove();
+            sample.stop(Timer.builder("websocket.inbound.handler")
+                .description("Latency of STOMP message handler methods")
+                .tag("mapping", destinationPattern(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+
+        private boolean isHandled(Message<?> message) {
+            SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+            return type == SimpMessageType.MESSAGE || type == SimpMessageType.SUBSCRIBE;
+        }
+    }
+
+    /**
+     * Counts frames on their way to the broker, whether sent through the
+     * event bus or directly with the messaging template.
+     */
+    private final class BrokerInterceptor implements ChannelInterceptor {
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                recordPublish(message);
+            }
+            return message;
+        }
+    }
+}
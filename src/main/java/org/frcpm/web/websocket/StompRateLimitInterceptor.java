@@ -0,0 +1,193 @@
+// src/main/java/org/frcpm/web/websocket/StompRateLimitInterceptor.java
+
+package org.frcpm.web.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.frcpm.events.WebSocketEventBus;
+import org.frcpm.security.UserPrincipal;
+import org.frcpm.web.dto.TaskUpdateMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Rate limiter for client-to-server STOMP messages.
+ *
+ * Registered on the client inbound channel, it meters every SEND frame
+ * against a per-user token bucket sized to the user's per-minute limit and
+ * refilled continuously. Each bucket is a single atomic timestamp - the
+ * moment it will next be full - so taking a token is one CAS, refill is
+ * computed on demand and no timer is ever scheduled. A bucket whose
+ * timestamp has passed is full and holds no state worth keeping, so such
+ * buckets are swept whenever the table grows past its soft bound.
+ *
+ * Rejected frames are dropped before reaching any controller, counted in the
+ * websocket.inbound.rejected meter, and answered with a RATE_LIMIT_ERROR on
+ * the user's task queue (coalesced, so a flood yields one notice per window).
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(StompRateLimitInterceptor.class.getName());
+
+    // Rate limiting for COPPA compliance (students have lower rates)
+    static final int MAX_MESSAGES_PER_MINUTE_STUDENT = 30;
+    static final int MAX_MESSAGES_PER_MINUTE_MENTOR = 60;
+
+    static final int SWEEP_THRESHOLD = 10_000;
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong sweepGuard = new AtomicLong();
+    private final LongSupplier clock;
+
+    private final Counter rejectedStudent;
+    private final Counter rejectedMentor;
+    private final Counter rejectedAnonymous;
+
+    @Autowired
+    @Lazy
+    private WebSocketEventBus eventBus;
+
+    @Autowired
+    public StompRateLimitInterceptor(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    StompRateLimitInterceptor(MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+        this.rejectedStudent = rejectedCounter(meterRegistry, "student");
+        this.rejectedMentor = rejectedCounter(meterRegistry, "mentor");
+        this.rejectedAnonymous = rejectedCounter(meterRegistry, "anonymous");
+        Gauge.builder("websocket.inbound.rate.buckets", buckets, ConcurrentMap::size)
+            .description("Per-user STOMP rate limit buckets currently held")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SEND) {
+            return message;
+        }
+
+        UserPrincipal user = userPrincipal(accessor.getUser());
+        String key = user != null ? "user:" + user.getUsername() : "session:" + accessor.getSessionId();
+        int limit = user != null && !user.getUser().getRole().isStudent()
+            ? MAX_MESSAGES_PER_MINUTE_MENTOR : MAX_MESSAGES_PER_MINUTE_STUDENT;
+
+        if (tryAcquire(key, limit)) {
+            return message;
+        }
+
+        if (user == null) {
+            rejectedAnonymous.increment();
+        } else if (user.getUser().getRole().isStudent()) {
+            rejectedStudent.increment();
+        } else {
+            rejectedMentor.increment();
+        }
+        LOGGER.fine(String.format("Rate limit exceeded for %s on %s", key, accessor.getDestination()));
+
+        if (user != null && eventBus != null) {
+            sendRateLimitError(user);
+        }
+        return null;
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @param key bucket key
+     * @param perMinute bucket capacity and refill rate per minute
+     * @return false if the bucket is empty
+     */
+    boolean tryAcquire(String key, int perMinute) {
+        long now = clock.getAsLong();
+        long interval = MINUTE_NANOS / perMinute;
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt == null) {
+            sweepIfNeeded(now);
+            fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = fullAt.get();
+            // A bucket full at 'current' is missing (current - now) / interval tokens
+            long next = Math.max(current, now) + interval;
+            if (next - now > MINUTE_NANOS) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private void sweepIfNeeded(long now) {
+        if (buckets.size() < SWEEP_THRESHOLD) {
+            return;
+        }
+        // One sweeper at a time; others carry on and may briefly exceed the bound
+        long guard = sweepGuard.get();
+        if (guard % 2 == 0 && sweepGuard.compareAndSet(guard, guard + 1)) {
+            try {
+                buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+            } finally {
+                sweepGuard.incrementAndGet();
+            }
+        }
+    }
+
+    private void sendRateLimitError(UserPrincipal user) {
+        TaskUpdateMessage errorMessage = new TaskUpdateMessage();
+        errorMessage.setChangeType("RATE_LIMIT_ERROR");
+        errorMessage.setUpdatedBy("System");
+        errorMessage.setTaskTitle("Message rate limit exceeded - please slow down");
+        errorMessage.setTimestamp(LocalDateTime.now());
+
+        eventBus.publish("/user/" + user.getUsername() + "/queue/tasks", errorMessage, "rate-limit");
+    }
+
+    private static UserPrincipal userPrincipal(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal;
+        }
+        return null;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("websocket.inbound.rejected")
+            .description("Inbound STOMP messages dropped by the rate limiter")
+            .tag("role", role)
+            .register(meterRegistry);
+    }
+}
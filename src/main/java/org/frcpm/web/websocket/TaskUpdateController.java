@@ -8,12 +8,12 @@ import org.frcpm.services.TaskService;
 import org.frcpm.services.ProjectService;
 import org.frcpm.models.Task;
 import org.frcpm.models.Project;
+import org.frcpm.events.WebSocketEventBus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -23,7 +23,6 @@ import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.time.LocalDateTime;
 
 /**
@@ -51,18 +50,17 @@ public class TaskUpdateController {
     
     private static final Logger LOGGER = Logger.getLogger(TaskUpdateController.class.getName());
     
-    // Performance tracking and connection management
+    // Connection management
     private final ConcurrentHashMap<String, LocalDateTime> connectionTimestamps = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, AtomicInteger> messageRates = new ConcurrentHashMap<>();
-    private final AtomicInteger totalConnections = new AtomicInteger(0);
-    private final AtomicInteger totalMessages = new AtomicInteger(0);
     
-    // Rate limiting for COPPA compliance (students have lower rates)
-    private static final int MAX_MESSAGES_PER_MINUTE_STUDENT = 30;
-    private static final int MAX_MESSAGES_PER_MINUTE_MENTOR = 60;
+    @Autowired
+    private WebSocketEventBus eventBus;
+    
+    @Autowired
+    private StompMetrics stompMetrics;
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private StompRateLimitInterceptor rateLimiter;
     
     @Autowired
     private TaskService taskService;
@@ -153,7 +151,7 @@ public class TaskUpdateController {
         try {
             if (message.getProjectId() != null) {
                 String destination = "/topic/project/" + message.getProjectId();
-                messagingTemplate.convertAndSend(destination, message);
+                eventBus.publish(destination, message, coalesceKey(message));
                 
                 LOGGER.info(String.format("Broadcasted task update to %s: Task %d, Type: %s", 
                                         destination, message.getTaskId(), message.getChangeType()));
@@ -166,17 +164,18 @@ public class TaskUpdateController {
     /**
      * Send targeted task update to specific user.
      * 
-     * Used for user-specific notifications like task assignments.
+     * Used for user-specific notifications like task assignments. Delivered
+     * to every session of the user, on whichever instance it is connected.
      * 
-     * @param userId Target user ID
+     * @param username Target user's username (the STOMP principal name)
      * @param message Task update message
      */
-    public void sendTaskUpdateToUser(Long userId, TaskUpdateMessage message) {
+    public void sendTaskUpdateToUser(String username, TaskUpdateMessage message) {
         try {
-            String destination = "/user/" + userId + "/queue/tasks";
-            messagingTemplate.convertAndSend(destination, message);
+            String destination = "/user/" + username + "/queue/tasks";
+            eventBus.publish(destination, message, coalesceKey(message));
             
-            LOGGER.info(String.format("Sent task update to user %d: Task %d", userId, message.getTaskId()));
+            LOGGER.info(String.format("Sent task update to user %s: Task %d", username, message.getTaskId()));
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sending task update to user", e);
@@ -207,11 +206,9 @@ public class TaskUpdateController {
             
             String sessionKey = user.getUsername() + ":" + projectId;
             connectionTimestamps.put(sessionKey, LocalDateTime.now());
-            messageRates.put(sessionKey, new AtomicInteger(0));
-            totalConnections.incrementAndGet();
             
             LOGGER.info(String.format("Enhanced subscription: User %s connected to project %d (Total connections: %d)", 
-                                    user.getUsername(), projectId, totalConnections.get()));
+                                    user.getUsername(), projectId, stompMetrics.getSessionCount()));
             
             // Load current project status for immediate sync
             Project project = projectService.findById(projectId);
@@ -249,14 +246,7 @@ public class TaskUpdateController {
         
         return CompletableFuture.runAsync(() -> {
             try {
-                // Rate limiting check
-                if (!checkRateLimit(user)) {
-                    LOGGER.warning(String.format("Rate limit exceeded for user %s", user.getUsername()));
-                    sendRateLimitError(message, user);
-                    return;
-                }
-                
-                // Enhanced processing with better error handling
+                // Rate limits are enforced by StompRateLimitInterceptor before dispatch
                 processTaskUpdateEnhanced(message, user);
                 
             } catch (Exception e) {
@@ -289,9 +279,6 @@ public class TaskUpdateController {
                 try {
                     processTaskUpdateEnhanced(message, user);
                     
-                    // Small delay to prevent overwhelming the system
-                    Thread.sleep(10);
-                    
                 } catch (Exception e) {
                     LOGGER.log(Level.WARNING, String.format("Error in bulk update for task %d", message.getTaskId()), e);
                 }
@@ -337,7 +324,7 @@ public class TaskUpdateController {
                 enhanceMessageWithProjectMetrics(metricsMessage, project);
                 
                 // Send to user's personal channel
-                sendTaskUpdateToUser(user.getUser().getId(), metricsMessage);
+                sendTaskUpdateToUser(user.getUsername(), metricsMessage);
             }
             
         } catch (Exception e) {
@@ -366,7 +353,7 @@ public class TaskUpdateController {
             status.setTimestamp(LocalDateTime.now());
             
             // Broadcast to all connected users
-            messagingTemplate.convertAndSend("/topic/workshop/status", status);
+            eventBus.publish("/topic/workshop/status", status);
             
             LOGGER.info(String.format("Workshop status updated by %s: %s", 
                                     user.getUsername(), status.getTaskTitle()));
@@ -385,8 +372,6 @@ public class TaskUpdateController {
      */
     private void processTaskUpdateEnhanced(TaskUpdateMessage message, UserPrincipal user) {
         try {
-            totalMessages.incrementAndGet();
-            
             // Enhanced validation
             if (message.getTaskId() == null || message.getProjectId() == null) {
                 LOGGER.warning("Invalid task update message - missing required fields");
@@ -430,35 +415,17 @@ public class TaskUpdateController {
     }
     
     /**
-     * Rate limiting check for COPPA compliance.
+     * Progress updates for the same task supersede each other, as do board
+     * refreshes, so only the latest one in a dispatch window reaches clients.
      */
-    private boolean checkRateLimit(UserPrincipal user) {
-        try {
-            String userKey = user.getUsername();
-            AtomicInteger userRate = messageRates.computeIfAbsent(userKey, k -> new AtomicInteger(0));
-            
-            int currentRate = userRate.incrementAndGet();
-            int maxRate = user.getUser().getRole().isStudent() ? 
-                MAX_MESSAGES_PER_MINUTE_STUDENT : MAX_MESSAGES_PER_MINUTE_MENTOR;
-            
-            // Reset rate counter every minute
-            scheduleRateReset(userKey);
-            
-            return currentRate <= maxRate;
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error checking rate limit", e);
-            return true; // Allow on error
+    private static String coalesceKey(TaskUpdateMessage message) {
+        if ("PROGRESS_CHANGED".equals(message.getChangeType()) && message.getTaskId() != null) {
+            return "task:" + message.getTaskId() + ":progress";
         }
-    }
-    
-    /**
-     * Schedule rate counter reset.
-     */
-    private void scheduleRateReset(String userKey) {
-        // Simple rate reset - in production, use proper scheduling
-        CompletableFuture.delayedExecutor(60, java.util.concurrent.TimeUnit.SECONDS)
-            .execute(() -> messageRates.remove(userKey));
+        if ("KANBAN_REFRESH".equals(message.getChangeType())) {
+            return "kanban-refresh";
+        }
+        return null;
     }
     
     /**
@@ -469,33 +436,13 @@ public class TaskUpdateController {
             // This would integrate with project analytics
             // For now, add basic project context
             message.getMetadata().put("projectName", project.getName());
-            message.getMetadata().put("totalConnections", totalConnections.get());
-            message.getMetadata().put("totalMessages", totalMessages.get());
+            message.getMetadata().put("totalConnections", stompMetrics.getSessionCount());
             
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Error enhancing message with metrics", e);
         }
     }
     
-    /**
-     * Send rate limit error message.
-     */
-    private void sendRateLimitError(TaskUpdateMessage originalMessage, UserPrincipal user) {
-        try {
-            TaskUpdateMessage errorMessage = new TaskUpdateMessage();
-            errorMessage.setProjectId(originalMessage.getProjectId());
-            errorMessage.setChangeType("RATE_LIMIT_ERROR");
-            errorMessage.setUpdatedBy("System");
-            errorMessage.setTaskTitle("Message rate limit exceeded - please slow down");
-            errorMessage.setTimestamp(LocalDateTime.now());
-            
-            sendTaskUpdateToUser(user.getUser().getId(), errorMessage);
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error sending rate limit message", e);
-        }
-    }
-    
     /**
      * Send error message to user.
      */
@@ -509,7 +456,7 @@ public class TaskUpdateController {
             errorMessage.setTaskTitle("Error: " + error);
             errorMessage.setTimestamp(LocalDateTime.now());
             
-            sendTaskUpdateToUser(user.getUser().getId(), errorMessage);
+            sendTaskUpdateToUser(user.getUsername(), errorMessage);
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sending error message", e);
@@ -517,14 +464,13 @@ public class TaskUpdateController {
     }
     
     /**
-     * Get current connection statistics.
+     * Get current connection statistics, read back from the STOMP meters
+     * that are also exported on /actuator/metrics and /actuator/prometheus.
      */
     public java.util.Map<String, Object> getConnectionStats() {
-        java.util.Map<String, Object> stats = new java.util.HashMap<>();
-        stats.put("totalConnections", totalConnections.get());
-        stats.put("totalMessages", totalMessages.get());
+        java.util.Map<String, Object> stats = new java.util.HashMap<>(stompMetrics.getStats());
         stats.put("activeConnections", connectionTimestamps.size());
-        stats.put("activeMessageRates", messageRates.size());
+        stats.put("activeMessageRates", rateLimiter.bucketCount());
         return stats;
     }
 }
\ No newline at end of file
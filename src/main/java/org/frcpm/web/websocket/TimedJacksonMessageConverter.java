@@ -0,0 +1,45 @@
+// src/main/java/org/frcpm/web/websocket/TimedJacksonMessageConverter.java
+
+package org.frcpm.web.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * The JSON converter Spring configures for STOMP by default, using the
+ * application's ObjectMapper, with the time spent serializing each outgoing
+ * payload recorded in {@link StompMetrics}.
+ *
+ * @author FRC Project Management Team
+ * @version 2.0.0-2E-E
+ * @since Phase 2E-E - Enhanced Real-time Features
+ */
+public class TimedJacksonMessageConverter extends MappingJackson2MessageConverter {
+
+    private final StompMetrics stompMetrics;
+
+    /**
+     * @param objectMapper the application's ObjectMapper
+     * @param stompMetrics where serialization times are recorded
+     */
+    public TimedJacksonMessageConverter(ObjectMapper objectMapper, StompMetrics stompMetrics) {
+        this.stompMetrics = stompMetrics;
+        DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
+        resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+        setContentTypeResolver(resolver);
+        setObjectMapper(objectMapper);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        long start = System.nanoTime();
+        try {
+            return super.convertToInternal(payload, headers, conversionHint);
+        } finally {
+            stompMetrics.recordSerialization(payload, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+// src/test/java/org/frcpm/config/BrokerRelayIntegrationTest.java
+
+package org.frcpm.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.frcpm.web.websocket.OutboundBackpressureInterceptor;
+import org.frcpm.web.websocket.PresenceRegistry;
+import org.frcpm.web.websocket.StompMetrics;
+import org.frcpm.web.websocket.StompRateLimitInterceptor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the STOMP broker relay mode against an embedded broker.
+ */
+@SpringJUnitWebConfig(classes = {
+    WebSocketConfig.class,
+    StompRateLimitInterceptor.class,
+    PresenceRegistry.class,
+    OutboundBackpressureInterceptor.class,
+    StompMetrics.class,
+    JacksonAutoConfiguration.class,
+    BrokerRelayIntegrationTest.TestConfig.class
+})
+@DirtiesContext
+class BrokerRelayIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static EmbeddedStompBroker broker;
+
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private SimpMessagingTemplate brokerMessagingTemplate;
+
+    @Autowired
+    private StompBrokerRelayMessageHandler relayHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("messageBrokerTaskScheduler")
+    private TaskScheduler taskScheduler;
+
+    private ReactorNettyTcpStompClient stompClient;
+    private StompSession session;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        broker = new EmbeddedStompBroker();
+        broker.start();
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        broker.stop();
+    }
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("frc.websocket.broker.mode", () -> "relay");
+        registry.add("frc.websocket.broker.relay-host", () -> "127.0.0.1");
+        registry.add("frc.websocket.broker.relay-port", () -> broker.getPort());
+    }
+
+    @BeforeEach
+    void connect() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!relayHandler.isBrokerAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(relayHandler.isBrokerAvailable(), "relay did not connect to the embedded broker");
+
+        // Plays the part of another application instance attached to the same broker
+        stompClient = new ReactorNettyTcpStompClient("127.0.0.1", broker.getPort());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(taskScheduler);
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.setLogin("guest");
+        connectHeaders.setPasscode("guest");
+        session = stompClient.connectAsync(connectHeaders, new StompSessionHandlerAdapter() {})
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+    }
+
+    @AfterEach
+    void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+        stompClient.shutdown();
+    }
+
+    @Test
+    void testTopicMessagesFanOutThroughExternalBroker() throws Exception {
+        BlockingQueue<Map<?, ?>> received = subscribe("/topic/project/1/kanban");
+
+        brokerMessagingTemplate.convertAndSend("/topic/project/1/kanban", Map.of(
+            "changeType", "KANBAN_DELTA", "timestamp", LocalDateTime.of(2026, 10, 17, 10, 0)));
+
+        Map<?, ?> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(message);
+        assertEquals("KANBAN_DELTA", message.get("changeType"));
+        // Written by the application's ObjectMapper, as the browser's new Date(...) expects
+        assertEquals("2026-10-17T10:00:00", message.get("timestamp"));
+        assertEquals(1.0, meterRegistry.get("websocket.publish")
+            .tag("destination", "/topic/project/{id}/kanban").counter().count());
+        assertEquals(1, meterRegistry.get("websocket.serialization").timer().count());
+    }
+
+    @Test
+    void testUserDestinationForUserOnAnotherNodeIsBroadcast() throws Exception {
+        BlockingQueue<Map<?, ?>> received = subscribe(WebSocketConfig.USER_DESTINATION_BROADCAST);
+
+        // No session for this user here, so the message goes to the other instances
+        brokerMessagingTemplate.convertAndSend("/user/student1/queue/tasks", Map.of("taskId", 42));
+
+        Map<?, ?> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(message);
+        assertEquals(42, message.get("taskId"));
+    }
+
+    private BlockingQueue<Map<?, ?>> subscribe(String destination) throws InterruptedException {
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<?, ?>) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertTrue(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "subscription not acknowledged");
+        return received;
+    }
+}
@@ -0,0 +1,55 @@
+// src/test/java/org/frcpm/config/EmbeddedStompBroker.java
+
+package org.frcpm.config;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * In-JVM Artemis broker with a STOMP acceptor, standing in for the external
+ * broker that frc.websocket.broker.mode=relay connects to.
+ */
+class EmbeddedStompBroker {
+
+    private final EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+    private int port;
+
+    void start() throws Exception {
+        port = freePort();
+        Path dataDir = Files.createTempDirectory("stomp-broker");
+
+        Configuration configuration = new ConfigurationImpl()
+            .setPersistenceEnabled(false)
+            .setSecurityEnabled(false)
+            .setJournalDirectory(dataDir.resolve("journal").toString())
+            .setBindingsDirectory(dataDir.resolve("bindings").toString())
+            .setPagingDirectory(dataDir.resolve("paging").toString())
+            .setLargeMessagesDirectory(dataDir.resolve("large-messages").toString())
+            // Same destination conventions as the simple broker
+            .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port
+                + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/");
+
+        server.setConfiguration(configuration);
+        server.start();
+    }
+
+    void stop() throws Exception {
+        server.stop();
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+// src/test/java/org/frcpm/events/WebSocketEventBusTest.java
+
+package org.frcpm.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the coalescing WebSocket event bus.
+ */
+class WebSocketEventBusTest {
+
+    private static final long WINDOW_MILLIS = 100;
+
+    private SimpMessagingTemplate messagingTemplate;
+    private WebSocketEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        bus = new WebSocketEventBus(messagingTemplate, 64, WINDOW_MILLIS);
+        bus.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(bus);
+    }
+
+    @Test
+    void testBurstForSameKeyCollapsesToLatest() {
+        for (int progress = 1; progress <= 20; progress++) {
+            bus.publish("/topic/project/1", "progress-" + progress, "task:7:progress");
+        }
+
+        verify(messagingTemplate, timeout(2000)).convertAndSend("/topic/project/1", (Object) "progress-20");
+        bus.stop();
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+        assertEquals(19L, bus.getStats().get("coalesced"));
+    }
+
+    @Test
+    void testMessagesToOneDestinationShareOneFrame() {
+        bus.publish("/topic/project/1", "created");
+        bus.publish("/topic/project/1", "progress-10", "task:7:progress");
+        bus.publish("/topic/project/2", "other");
+        bus.publish("/topic/project/1", "progress-40", "task:7:progress");
+        bus.publish("/topic/project/1", "completed");
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, timeout(2000)).convertAndSend(eq("/topic/project/1"), payload.capture());
+        verify(messagingTemplate, timeout(2000)).convertAndSend("/topic/project/2", (Object) "other");
+
+        // The coalesced update keeps the position of the first one it replaced
+        assertEquals(List.of("created", "progress-40", "completed"), payload.getValue());
+    }
+
+    @Test
+    void testPayloadSentToSeveralDestinationsIsSerializedOnce() throws Exception {
+        MessageConverter converter = spy(new MappingJackson2MessageConverter());
+        when(messagingTemplate.getMessageConverter()).thenReturn(converter);
+        Map<String, Object> update = Map.of("taskId", 7, "progress", 40);
+        Map<String, Object> other = Map.of("taskId", 8);
+
+        bus.publish("/topic/project/1", update);
+        bus.publish("/user/student1/queue/tasks", update);
+        bus.publish("/user/student2/queue/tasks", other);
+        bus.publish("/user/student2/queue/tasks", update);
+
+        ArgumentCaptor<Message<byte[]>> project = frameCaptor();
+        ArgumentCaptor<Message<byte[]>> student1 = frameCaptor();
+        ArgumentCaptor<Message<byte[]>> student2 = frameCaptor();
+        verify(messagingTemplate, timeout(2000)).send(eq("/topic/project/1"), project.capture());
+        verify(messagingTemplate, timeout(2000)).send(eq("/user/student1/queue/tasks"), student1.capture());
+        verify(messagingTemplate, timeout(2000)).send(eq("/user/student2/queue/tasks"), student2.capture());
+
+        verify(converter, times(1)).toMessage(same(update), any());
+        assertSame(project.getValue().getPayload(), student1.getValue().getPayload());
+        bus.stop();
+        assertEquals(2L, bus.getStats().get("serializationsSaved"));
+
+        // The shared frame is spliced into the array sent to student2
+        ObjectMapper objectMapper = new ObjectMapper();
+        String expected = "[" + objectMapper.writeValueAsString(other) + ","
+            + objectMapper.writeValueAsString(update) + "]";
+        assertEquals(expected, new String(student2.getValue().getPayload(), StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Message<byte[]>> frameCaptor() {
+        return ArgumentCaptor.forClass(Message.class);
+    }
+
+    @Test
+    void testTransactionalPublishWaitsForCommit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish("/topic/project/1", "created");
+
+        Thread.sleep(WINDOW_MILLIS * 3);
+        verifyNoInteractions(messagingTemplate);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(messagingTemplate, timeout(2000)).convertAndSend("/topic/project/1", (Object) "created");
+        assertNull(TransactionSynchronizationManager.getResource(bus));
+    }
+
+    @Test
+    void testRolledBackPublishIsDiscarded() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish("/topic/project/1", "created");
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        bus.publish("/topic/project/1", "after-rollback");
+        verify(messagingTemplate, timeout(2000)).convertAndSend("/topic/project/1", (Object) "after-rollback");
+        verify(messagingTemplate, never()).convertAndSend("/topic/project/1", (Object) "created");
+    }
+
+    @Test
+    void testRingBufferRejectsWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothing() throws Exception {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 5000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        boolean[] seen = new boolean[producers * perProducer];
+        int received = 0;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (received < seen.length && System.currentTimeMillis() < deadline) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertFalse(seen[value], "duplicate " + value);
+                seen[value] = true;
+                received++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(seen.length, received);
+    }
+}
@@ -0,0 +1,84 @@
+// src/test/java/org/frcpm/repositories/AuditLogPartitionsIntegrationTest.java
+
+package org.frcpm.repositories;
+
+import org.frcpm.models.AuditLevel;
+import org.frcpm.repositories.spring.AuditLogBatchWriter;
+import org.frcpm.repositories.spring.AuditLogPartitions;
+import org.frcpm.repositories.spring.AuditLogRow;
+import org.frcpm.repositories.spring.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the audit log storage periods on H2, where a period
+ * is a month range of the single audit_logs table.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditLogPartitions.class, AuditLogBatchWriter.class})
+class AuditLogPartitionsIntegrationTest {
+
+    @Autowired
+    private AuditLogPartitions partitions;
+
+    @Autowired
+    private AuditLogBatchWriter batchWriter;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @BeforeEach
+    void setUp() {
+        batchWriter.insertAll(List.of(
+            row("JANUARY_EARLY", LocalDateTime.of(2024, 1, 1, 0, 0)),
+            row("JANUARY_LATE", LocalDateTime.of(2024, 1, 31, 23, 59)),
+            row("MARCH", LocalDateTime.of(2024, 3, 5, 12, 0)),
+            row("RECENT", LocalDateTime.now())));
+    }
+
+    @Test
+    void testPeriodsBeforeCutoffStartAtOldestRow() {
+        assertThat(partitions.isPartitioningSupported()).isFalse();
+        assertThat(partitions.periodsBefore(YearMonth.of(2024, 4)))
+            .containsExactly(YearMonth.of(2024, 1), YearMonth.of(2024, 2), YearMonth.of(2024, 3));
+        assertThat(partitions.periodsBefore(YearMonth.of(2024, 1))).isEmpty();
+    }
+
+    @Test
+    void testReadPeriodReturnsOnlyThatMonth() {
+        List<String> actions = new ArrayList<>();
+        partitions.readPeriod(YearMonth.of(2024, 1), 100, rs -> actions.add(rs.getString("action")));
+
+        assertThat(actions).containsExactly("JANUARY_EARLY", "JANUARY_LATE");
+    }
+
+    @Test
+    void testDropPeriodRemovesWholeMonth() {
+        assertThat(partitions.dropPeriod(YearMonth.of(2024, 1))).isEqualTo(2);
+
+        assertThat(auditLogRepository.findAll())
+            .extracting(log -> log.getAction())
+            .containsExactlyInAnyOrder("MARCH", "RECENT");
+        assertThat(partitions.periodsBefore(YearMonth.of(2024, 4)))
+            .containsExactly(YearMonth.of(2024, 3));
+    }
+
+    private AuditLogRow row(String action, LocalDateTime timestamp) {
+        return new AuditLogRow(null, null, null, action, "Test entry", "127.0.0.1", null,
+                               AuditLevel.INFO, timestamp, false, null, null);
+    }
+}
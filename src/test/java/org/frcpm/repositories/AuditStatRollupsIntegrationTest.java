@@ -0,0 +1,108 @@
+// src/test/java/org/frcpm/repositories/AuditStatRollupsIntegrationTest.java
+
+package org.frcpm.repositories;
+
+import org.frcpm.models.AuditLevel;
+import org.frcpm.models.AuditStatRollup.Dimension;
+import org.frcpm.repositories.spring.AuditLogBatchWriter;
+import org.frcpm.repositories.spring.AuditLogRow;
+import org.frcpm.repositories.spring.AuditStatRollups;
+import org.frcpm.repositories.spring.AuditStatRollups.Bucket;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the hourly audit statistics rollups on H2.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditStatRollups.class, AuditLogBatchWriter.class})
+class AuditStatRollupsIntegrationTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 10, 4, 9, 0);
+
+    @Autowired
+    private AuditStatRollups statRollups;
+
+    @Autowired
+    private AuditLogBatchWriter batchWriter;
+
+    @Test
+    void testIncrementsAccumulateAcrossBatches() {
+        statRollups.increment(List.of(
+            row("LOGIN_FAILED", AuditLevel.WARNING, NINE.plusMinutes(5), "10.0.0.5"),
+            row("LOGIN_FAILED", AuditLevel.WARNING, NINE.plusMinutes(50), "10.0.0.5")));
+        statRollups.increment(List.of(
+            row("LOGIN_FAILED", AuditLevel.WARNING, NINE.plusMinutes(55), "10.0.0.5"),
+            row("LOGIN_SUCCESS", AuditLevel.INFO, NINE.plusHours(1), "10.0.0.5")));
+
+        List<Bucket> buckets = statRollups.bucketsSince(null, Set.of(Dimension.TOTAL, Dimension.FAILED_LOGIN_IP));
+
+        assertThat(buckets).containsExactlyInAnyOrder(
+            new Bucket(NINE, Dimension.TOTAL, "", 3L),
+            new Bucket(NINE.plusHours(1), Dimension.TOTAL, "", 1L),
+            new Bucket(NINE, Dimension.FAILED_LOGIN_IP, "10.0.0.5", 3L));
+    }
+
+    @Test
+    void testPartialFirstHourIsCountedFromRawRows() {
+        List<AuditLogRow> rows = List.of(
+            row("VIEW", AuditLevel.INFO, NINE.plusMinutes(10), null),
+            row("VIEW", AuditLevel.INFO, NINE.plusMinutes(40), null),
+            row("VIEW", AuditLevel.INFO, NINE.plusMinutes(70), null));
+        batchWriter.insertAll(rows);
+        statRollups.increment(rows);
+
+        List<Bucket> buckets = statRollups.bucketsSince(NINE.plusMinutes(30), Set.of(Dimension.TOTAL));
+
+        // 9:40 from audit_logs, 10:10 from the rollup; 9:10 is outside the window
+        assertThat(buckets).containsExactlyInAnyOrder(
+            new Bucket(NINE, Dimension.TOTAL, "", 1L),
+            new Bucket(NINE.plusHours(1), Dimension.TOTAL, "", 1L));
+    }
+
+    @Test
+    void testTotalSumsWholeHoursFromTheCutoff() {
+        statRollups.increment(List.of(
+            row("VIEW", AuditLevel.INFO, NINE.minusDays(40), null),
+            row("VIEW", AuditLevel.INFO, NINE.plusMinutes(5), null),
+            row("EXPORT", AuditLevel.INFO, NINE.plusHours(2), null)));
+
+        assertThat(statRollups.total(NINE.minusDays(1), Dimension.TOTAL)).isEqualTo(2);
+        assertThat(statRollups.total(NINE.minusDays(41), Dimension.TOTAL)).isEqualTo(3);
+        assertThat(statRollups.total(NINE, Dimension.COPPA)).isZero();
+    }
+
+    @Test
+    void testRebuildCountsExistingRows() {
+        assertThat(statRollups.isEmpty()).isTrue();
+        batchWriter.insertAll(List.of(
+            row("VIEW", AuditLevel.INFO, NINE, null),
+            row("EXPORT", AuditLevel.SECURITY_ALERT, NINE.plusMinutes(1), null)));
+
+        assertThat(statRollups.rebuild()).isEqualTo(2);
+
+        assertThat(statRollups.isEmpty()).isFalse();
+        assertThat(statRollups.bucketsSince(null, Set.of(Dimension.LEVEL))).containsExactlyInAnyOrder(
+            new Bucket(NINE, Dimension.LEVEL, "INFO", 1L),
+            new Bucket(NINE, Dimension.LEVEL, "SECURITY_ALERT", 1L));
+        assertThat(statRollups.deleteBefore(NINE.plusHours(1))).isEqualTo(5);
+        assertThat(statRollups.isEmpty()).isTrue();
+    }
+
+    private AuditLogRow row(String action, AuditLevel level, LocalDateTime timestamp, String ipAddress) {
+        return new AuditLogRow(null, null, null, action, "Test entry", ipAddress, null,
+                               level, timestamp, false, null, null);
+    }
+}
@@ -7,7 +7,10 @@ import org.frcpm.models.Subsystem;
 import org.frcpm.models.Subteam;
 import org.frcpm.models.Task;
 import org.frcpm.models.TeamMember;
+import org.frcpm.models.User;
+import org.frcpm.models.UserRole;
 import org.frcpm.repositories.spring.TaskRepository;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -538,6 +541,41 @@ class TaskRepositoryIntegrationTest {
         assertThat(otherMemberTasks.get(0).getTitle()).isEqualTo("Program Autonomous");
     }
     
+    @Test
+    void testFindByProjectWithAssignmentsFetchesMemberAccounts() {
+        // Setup - A member with a user account, assigned to a task
+        Project savedProject = entityManager.persistAndFlush(testProject);
+        Subsystem savedSubsystem = entityManager.persistAndFlush(testSubsystem);
+        
+        User user = new User();
+        user.setUsername("taskuser");
+        user.setPassword("encoded-password");
+        user.setEmail("taskuser@example.com");
+        user.setFirstName("Task");
+        user.setLastName("User");
+        user.setRole(UserRole.MENTOR);
+        user.setAge(35);
+        User savedUser = entityManager.persistAndFlush(user);
+        
+        testMember.setUser(savedUser);
+        TeamMember savedMember = entityManager.persistAndFlush(testMember);
+        
+        testTask.setProject(savedProject);
+        testTask.setSubsystem(savedSubsystem);
+        testTask.assignMember(savedMember);
+        entityManager.persistAndFlush(testTask);
+        entityManager.clear();
+        
+        // Execute
+        List<Task> tasks = taskRepository.findByProjectWithAssignments(savedProject);
+        
+        // Verify - Members and their accounts come back with the tasks, not from later queries
+        assertThat(tasks).hasSize(1);
+        TeamMember member = tasks.get(0).getAssignedTo().iterator().next();
+        assertThat(Hibernate.isInitialized(member.getUser())).isTrue();
+        assertThat(member.getAuthenticationRole()).isEqualTo(UserRole.MENTOR);
+    }
+    
     @Test
     void testFindIncompleteTasksByProject() {
         // Setup - Persist tasks with different completion status
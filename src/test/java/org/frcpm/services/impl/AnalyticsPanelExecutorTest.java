@@ -0,0 +1,158 @@
+// src/test/java/org/frcpm/services/impl/AnalyticsPanelExecutorTest.java
+
+package org.frcpm.services.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for concurrent analytics panel loading.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsPanelExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnalyticsPanelExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new AnalyticsPanelExecutor(transactionManager, 5_000, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testPanelsRunConcurrentlyInReadOnlyTransactions() {
+        // Every panel waits until all three have started, so this only finishes if they overlap
+        CountDownLatch started = new CountDownLatch(3);
+        Map<String, Supplier<?>> panels = new LinkedHashMap<>();
+        for (String name : new String[] {"analytics", "tasks", "forecast"}) {
+            panels.put(name, () -> {
+                started.countDown();
+                await(started);
+                return name.toUpperCase();
+            });
+        }
+
+        AnalyticsPanelExecutor.PanelResults results = executor.load(panels);
+
+        assertTrue(results.isComplete());
+        assertEquals("ANALYTICS", results.get("analytics"));
+        assertEquals("FORECAST", results.get("forecast"));
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(3)).getTransaction(definitions.capture());
+        assertTrue(definitions.getAllValues().stream().allMatch(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void testSlowPanelIsLeftOutAndCancelled() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Map<String, Supplier<?>> panels = new LinkedHashMap<>();
+        panels.put("analytics", () -> "ready");
+        panels.put("forecast", () -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        });
+
+        long start = System.nanoTime();
+        AnalyticsPanelExecutor.PanelResults results = executor.load(panels, Duration.ofMillis(200));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals("ready", results.get("analytics"));
+        assertNull(results.get("forecast"));
+        assertEquals(Set.of("forecast"), results.getUnavailable());
+        assertFalse(results.isComplete());
+        await(interrupted);
+    }
+
+    @Test
+    void testFailedPanelDoesNotFailThePage() {
+        Map<String, Supplier<?>> panels = new LinkedHashMap<>();
+        panels.put("tasks", () -> {
+            throw new IllegalStateException("boom");
+        });
+        panels.put("analytics", () -> 42);
+
+        AnalyticsPanelExecutor.PanelResults results = executor.load(panels);
+
+        assertEquals(Integer.valueOf(42), results.get("analytics"));
+        assertEquals(Set.of("tasks"), results.getUnavailable());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testConcurrencyIsBounded() {
+        AnalyticsPanelExecutor bounded = new AnalyticsPanelExecutor(transactionManager, 5_000, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Map<String, Supplier<?>> panels = new LinkedHashMap<>();
+        for (int i = 0; i < 8; i++) {
+            panels.put("panel" + i, () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return true;
+            });
+        }
+
+        try {
+            assertTrue(bounded.load(panels).isComplete());
+            assertTrue(peak.get() <= 2);
+        } finally {
+            bounded.shutdown();
+        }
+    }
+
+    @Test
+    void testSupplyAsyncRunsOffTheCallingThread() throws Exception {
+        Thread caller = Thread.currentThread();
+
+        Thread worker = executor.supplyAsync(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+        assertNotSame(caller, worker);
+        assertTrue(worker.isVirtual());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+// src/test/java/org/frcpm/services/impl/AuditLogWriterTest.java
+
+package org.frcpm.services.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.frcpm.models.AuditLevel;
+import org.frcpm.models.AuditLog;
+import org.frcpm.models.User;
+import org.frcpm.repositories.spring.AuditLogBatchWriter;
+import org.frcpm.repositories.spring.AuditLogRow;
+import org.frcpm.repositories.spring.AuditStatRollups;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the write-behind audit log writer.
+ */
+class AuditLogWriterTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final long FLUSH_MILLIS = 50;
+    private static final long RETRY_MILLIS = 100;
+
+    @TempDir
+    Path spillDir;
+
+    private AuditLogBatchWriter batchWriter;
+    private AuditStatRollups statRollups;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        batchWriter = mock(AuditLogBatchWriter.class);
+        statRollups = mock(AuditStatRollups.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditLogWriter(batchWriter, statRollups, transactionManager, meterRegistry, 8, BATCH_SIZE,
+                                    FLUSH_MILLIS, RETRY_MILLIS, spillDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(writer);
+    }
+
+    @Test
+    void testRowsAreInsertedInBatches() {
+        writer.start();
+        for (int i = 0; i < 7; i++) {
+            writer.append(log("ACTION_" + i));
+        }
+
+        verify(batchWriter, timeout(2000).atLeast(3)).insertAll(anyList());
+        writer.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditLogRow>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter, atLeast(3)).insertAll(batches.capture());
+        assertTrue(batches.getAllValues().stream().allMatch(batch -> batch.size() <= BATCH_SIZE));
+        assertEquals(7, batches.getAllValues().stream().mapToInt(List::size).sum());
+        assertEquals(7.0, meterRegistry.get("audit.writer.written").functionCounter().count());
+
+        // Every inserted batch is added to the statistics rollups as well
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditLogRow>> rolledUp = ArgumentCaptor.forClass(List.class);
+        verify(statRollups, atLeast(3)).increment(rolledUp.capture());
+        assertEquals(7, rolledUp.getAllValues().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void testRowsSurviveDatabaseOutageThroughSpillFile() throws Exception {
+        when(batchWriter.insertAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("database down"))
+            .thenReturn(2);
+        // Queue both rows before the writer thread runs so they form one batch
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.append(log("FIRST"));
+        writer.append(log("SECOND"));
+        writer.start();
+
+        // Replayed from the spill file once the retry delay has passed
+        verify(batchWriter, timeout(2000).times(2)).insertAll(argThat(rows -> rows.size() == 2));
+        writer.stop();
+
+        assertEquals(2L, writer.getStats().get("spilled"));
+        assertEquals(2L, writer.getStats().get("replayed"));
+        assertFalse(Files.exists(spillDir.resolve(AuditLogWriter.SPILL_FILE)));
+        assertFalse(Files.exists(spillDir.resolve(AuditLogWriter.REPLAY_FILE)));
+    }
+
+    @Test
+    void testFailedRollupRebuildIsRetriedBeforeRowsAreCounted() throws Exception {
+        when(statRollups.isEmpty()).thenReturn(true);
+        when(statRollups.rebuild())
+            .thenThrow(new DataAccessResourceFailureException("statement timeout"))
+            .thenReturn(40L);
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.append(log("FIRST"));
+        writer.append(log("SECOND"));
+        writer.start();
+
+        verify(batchWriter, timeout(2000)).insertAll(argThat(rows -> rows.size() == 2));
+        writer.append(log("THIRD"));
+        verify(batchWriter, timeout(2000)).insertAll(argThat(rows -> rows.size() == 1));
+        writer.stop();
+
+        // The first batch waited in the spill file until history was counted
+        InOrder order = inOrder(statRollups, batchWriter);
+        order.verify(statRollups).rebuild();
+        order.verify(statRollups).rebuild();
+        order.verify(batchWriter).insertAll(anyList());
+        order.verify(statRollups).increment(anyList());
+        verify(statRollups, times(2)).rebuild();
+        assertEquals(2L, writer.getStats().get("replayed"));
+    }
+
+    @Test
+    void testFullQueueSpillsOnCallerThread() throws Exception {
+        // Writer not started, so the queue only fills up
+        writer = new AuditLogWriter(batchWriter, statRollups, mock(PlatformTransactionManager.class), meterRegistry,
+                                    2, BATCH_SIZE, FLUSH_MILLIS, RETRY_MILLIS, spillDir.toString());
+        ReflectionTestUtils.setField(writer, "running", true);
+        for (int i = 0; i < 3; i++) {
+            writer.append(log("ACTION_" + i));
+        }
+
+        List<String> spilled = Files.readAllLines(spillDir.resolve(AuditLogWriter.SPILL_FILE));
+        assertEquals(1, spilled.size());
+        assertTrue(spilled.get(0).contains("ACTION_2"));
+        assertEquals(2, writer.getStats().get("queued"));
+        assertEquals(0L, writer.getStats().get("dropped"));
+    }
+
+    @Test
+    void testRejectedRowDoesNotBlockTheRestOfItsBatch() {
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLogRow> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> "BAD".equals(row.action()))) {
+                throw new DataIntegrityViolationException("constraint");
+            }
+            return rows.size();
+        });
+        writer.start();
+
+        writer.append(log("GOOD_1"));
+        writer.append(log("BAD"));
+        writer.append(log("GOOD_2"));
+
+        verify(batchWriter, timeout(2000)).insertAll(argThat(rows -> rows.size() == 1
+            && "GOOD_2".equals(rows.get(0).action())));
+        writer.stop();
+        assertEquals(2L, writer.getStats().get("written"));
+        assertEquals(1L, writer.getStats().get("rejected"));
+    }
+
+    @Test
+    void testTransactionalAppendWaitsForCommit() throws Exception {
+        writer.start();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        writer.append(log("IN_TRANSACTION"));
+
+        Thread.sleep(FLUSH_MILLIS * 3);
+        verifyNoInteractions(batchWriter);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(batchWriter, timeout(2000)).insertAll(argThat(rows -> "IN_TRANSACTION".equals(rows.get(0).action())));
+    }
+
+    private AuditLog log(String action) {
+        User user = new User();
+        user.setId(5L);
+        AuditLog log = new AuditLog(user, action, "Test description", AuditLevel.INFO);
+        log.setIpAddress("192.168.1.10");
+        return log;
+    }
+}
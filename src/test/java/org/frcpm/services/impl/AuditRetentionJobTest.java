@@ -0,0 +1,155 @@
+// src/test/java/org/frcpm/services/impl/AuditRetentionJobTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.repositories.spring.AuditLogPartitions;
+import org.frcpm.repositories.spring.AuditStatRollups;
+import org.frcpm.services.COPPAComplianceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the audit log retention job.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditRetentionJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Mock
+    private AuditLogPartitions partitions;
+
+    @Mock
+    private AuditStatRollups statRollups;
+
+    @Mock
+    private COPPAComplianceService coppaComplianceService;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ResultSetMetaData metaData;
+
+    @TempDir
+    Path archiveDir;
+
+    private AuditRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new AuditRetentionJob(partitions, statRollups, coppaComplianceService, true, 365, 3,
+                                    archiveDir.toString());
+    }
+
+    @Test
+    void testExpiredMonthsAreArchivedBeforeBeingDropped() throws Exception {
+        when(coppaComplianceService.getMaximumDataRetentionPeriodDays()).thenReturn(730);
+        YearMonth january = YearMonth.of(2024, 1);
+        YearMonth february = YearMonth.of(2024, 2);
+        when(partitions.periodsBefore(YearMonth.of(2024, 3))).thenReturn(List.of(january, february));
+        stubRows(january, 2);
+        stubRows(february, 1);
+
+        Map<String, Object> result = job.rollOff(TODAY);
+
+        // The longer of the COPPA and configured retention periods wins
+        assertEquals(730, result.get("retentionDays"));
+        assertEquals(2, result.get("monthsArchived"));
+        assertEquals(3L, result.get("rowsArchived"));
+
+        InOrder inOrder = inOrder(partitions);
+        inOrder.verify(partitions).readPeriod(eq(january), anyInt(), any());
+        inOrder.verify(partitions).dropPeriod(january);
+        inOrder.verify(partitions).readPeriod(eq(february), anyInt(), any());
+        inOrder.verify(partitions).dropPeriod(february);
+        verify(statRollups).deleteBefore(LocalDateTime.of(2024, 3, 1, 0, 0));
+
+        List<String> lines = readArchive(job.archiveFile(january));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"action\":\"LOGIN\""));
+        assertTrue(lines.get(0).contains("\"timestamp\":\"2024-01-10T08:30\""));
+    }
+
+    @Test
+    void testMonthIsKeptWhenArchiveFails() throws Exception {
+        when(coppaComplianceService.getMaximumDataRetentionPeriodDays()).thenReturn(365);
+        YearMonth january = YearMonth.of(2025, 1);
+        when(partitions.periodsBefore(YearMonth.of(2025, 3))).thenReturn(List.of(january));
+        // Archive target is taken by a directory, so the move fails
+        stubRows(january, 1);
+        Files.createDirectories(job.archiveFile(january).resolve("blocker"));
+
+        Map<String, Object> result = job.rollOff(TODAY);
+
+        assertEquals(0, result.get("monthsArchived"));
+        verify(partitions, never()).dropPeriod(any());
+        verify(statRollups, never()).deleteBefore(any());
+        assertFalse(Files.exists(archiveDir.resolve(job.archiveFile(january).getFileName() + ".partial")));
+    }
+
+    @Test
+    void testUpcomingPartitionsAreCreated() {
+        when(coppaComplianceService.getMaximumDataRetentionPeriodDays()).thenReturn(2555);
+        when(partitions.periodsBefore(any())).thenReturn(List.of());
+
+        Map<String, Object> result = job.rollOff(TODAY);
+
+        verify(partitions).ensurePeriods(YearMonth.of(2026, 3), YearMonth.of(2026, 6));
+        assertEquals(0, result.get("monthsArchived"));
+        verify(partitions, never()).dropPeriod(any());
+    }
+
+    private void stubRows(YearMonth month, int rows) throws Exception {
+        lenient().when(resultSet.getMetaData()).thenReturn(metaData);
+        lenient().when(metaData.getColumnCount()).thenReturn(3);
+        lenient().when(metaData.getColumnLabel(1)).thenReturn("ID");
+        lenient().when(metaData.getColumnLabel(2)).thenReturn("ACTION");
+        lenient().when(metaData.getColumnLabel(3)).thenReturn("TIMESTAMP");
+        lenient().when(resultSet.getObject(1)).thenReturn(1L);
+        lenient().when(resultSet.getObject(2)).thenReturn("LOGIN");
+        lenient().when(resultSet.getObject(3)).thenReturn(Timestamp.valueOf(LocalDateTime.of(2024, 1, 10, 8, 30)));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (int i = 0; i < rows; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(partitions).readPeriod(eq(month), anyInt(), any());
+    }
+
+    private List<String> readArchive(Path file) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+// src/test/java/org/frcpm/services/impl/CriticalPathScheduleTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.DependencyType;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the incrementally maintained CPM schedule.
+ * Every incremental update must agree with a full recomputation.
+ */
+class CriticalPathScheduleTest {
+
+    private static final int TASK_COUNT = 120;
+
+    @Test
+    void testIncrementalUpdatesMatchFullRecomputation() {
+        Random random = new Random(42);
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task("Task " + i, project, null);
+            task.setId((long) i + 1);
+            task.setEstimatedDuration(Duration.ofHours(1 + random.nextInt(12)));
+            tasks.add(task);
+        }
+
+        // Edges only point from lower to higher index, so the graph stays acyclic
+        Map<Long, TaskDependency> dependencies = new LinkedHashMap<>();
+        long nextDependencyId = 1000;
+        for (int i = 0; i < TASK_COUNT * 2; i++) {
+            TaskDependency dependency = randomDependency(random, tasks, nextDependencyId++);
+            if (dependency != null) {
+                dependencies.put(dependency.getId(), dependency);
+            }
+        }
+
+        CriticalPathSchedule schedule = CriticalPathSchedule.fromGraph(
+            ProjectDependencyGraph.build(tasks, new ArrayList<>(dependencies.values())), new AtomicLong());
+        assertNotNull(schedule);
+
+        for (int step = 0; step < 300; step++) {
+            long versionBefore = schedule.getVersion();
+            int action = random.nextInt(4);
+
+            if (action == 0) {
+                Task task = tasks.get(random.nextInt(TASK_COUNT));
+                int hours = 1 + random.nextInt(30);
+                task.setEstimatedDuration(Duration.ofHours(hours));
+                assertTrue(schedule.updateDuration(task.getId(), hours));
+            } else if (action == 1 && !dependencies.isEmpty()) {
+                TaskDependency dependency = randomExisting(random, dependencies);
+                int lag = random.nextInt(10) - 2;
+                dependency.setLagHours(lag);
+                assertTrue(schedule.upsertDependency(dependency.getId(), dependency.getPrerequisiteTask().getId(),
+                                                     dependency.getDependentTask().getId(), lag));
+            } else if (action == 2 && !dependencies.isEmpty()) {
+                TaskDependency dependency = randomExisting(random, dependencies);
+                dependencies.remove(dependency.getId());
+                schedule.removeDependency(dependency.getId());
+            } else {
+                TaskDependency dependency = randomDependency(random, tasks, nextDependencyId++);
+                if (dependency != null) {
+                    dependencies.put(dependency.getId(), dependency);
+                    assertTrue(schedule.upsertDependency(dependency.getId(), dependency.getPrerequisiteTask().getId(),
+                                                         dependency.getDependentTask().getId(),
+                                                         dependency.getLagHours()));
+                }
+            }
+
+            ProjectDependencyGraph graph = ProjectDependencyGraph.build(tasks, new ArrayList<>(dependencies.values()));
+            ProjectDependencyGraph.CriticalPathTimes expected = graph.computeCriticalPath();
+
+            assertTrue(schedule.matches(graph), "step " + step);
+            assertTrue(schedule.getVersion() >= versionBefore);
+            assertEquals(expected.getProjectFinish(), schedule.getProjectFinish(), 0.0001, "step " + step);
+            for (int i = 0; i < graph.size(); i++) {
+                Long taskId = graph.taskAt(i).getId();
+                assertEquals(expected.getEarliestStart(i), schedule.getEarliestStart(taskId), 0.0001);
+                assertEquals(expected.getTotalFloat(i), schedule.getTotalFloat(taskId), 0.0001,
+                             "float of task " + taskId + " at step " + step);
+            }
+        }
+    }
+
+    @Test
+    void testBackwardEdgeClosingCycleIsRejected() {
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+        Task first = new Task("First", project, null);
+        first.setId(1L);
+        Task second = new Task("Second", project, null);
+        second.setId(2L);
+        TaskDependency dependency = new TaskDependency(second, first, DependencyType.FINISH_TO_START);
+        dependency.setId(10L);
+
+        CriticalPathSchedule schedule = CriticalPathSchedule.fromGraph(
+            ProjectDependencyGraph.build(List.of(first, second), List.of(dependency)), new AtomicLong());
+
+        assertFalse(schedule.upsertDependency(11L, 2L, 1L, 0));
+    }
+
+    @Test
+    void testMovedEdgeReleasesItsOldEndpoints() {
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Task task = new Task("Task " + i, project, null);
+            task.setId((long) i);
+            task.setEstimatedDuration(Duration.ofHours(2L * i));
+            tasks.add(task);
+        }
+        // 1 -> 2 -> 3 and 4 alone
+        TaskDependency moving = new TaskDependency(tasks.get(1), tasks.get(0), DependencyType.FINISH_TO_START);
+        moving.setId(10L);
+        TaskDependency fixed = new TaskDependency(tasks.get(2), tasks.get(1), DependencyType.FINISH_TO_START);
+        fixed.setId(11L);
+        CriticalPathSchedule schedule = CriticalPathSchedule.fromGraph(
+            ProjectDependencyGraph.build(tasks, List.of(moving, fixed)), new AtomicLong());
+        assertEquals(2.0, schedule.getEarliestStart(2L), 0.0001);
+
+        // Same dependency now runs 4 -> 3: task 2 loses its prerequisite, task 1 its dependent
+        TaskDependency moved = new TaskDependency(tasks.get(2), tasks.get(3), DependencyType.FINISH_TO_START);
+        moved.setId(10L);
+        assertTrue(schedule.upsertDependency(10L, 4L, 3L, 0));
+
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(tasks, List.of(moved, fixed));
+        ProjectDependencyGraph.CriticalPathTimes expected = graph.computeCriticalPath();
+        assertTrue(schedule.matches(graph));
+        assertEquals(0.0, schedule.getEarliestStart(2L), 0.0001);
+        assertEquals(expected.getProjectFinish(), schedule.getProjectFinish(), 0.0001);
+        for (int i = 0; i < graph.size(); i++) {
+            Long taskId = graph.taskAt(i).getId();
+            assertEquals(expected.getEarliestStart(i), schedule.getEarliestStart(taskId), 0.0001);
+            assertEquals(expected.getTotalFloat(i), schedule.getTotalFloat(taskId), 0.0001, "float of task " + taskId);
+        }
+    }
+
+    private TaskDependency randomDependency(Random random, List<Task> tasks, long id) {
+        int from = random.nextInt(TASK_COUNT - 1);
+        int to = from + 1 + random.nextInt(Math.min(10, TASK_COUNT - from - 1));
+        if (to >= TASK_COUNT) {
+            return null;
+        }
+        TaskDependency dependency = new TaskDependency(tasks.get(to), tasks.get(from), DependencyType.FINISH_TO_START);
+        dependency.setId(id);
+        dependency.setLagHours(random.nextInt(6));
+        return dependency;
+    }
+
+    private TaskDependency randomExisting(Random random, Map<Long, TaskDependency> dependencies) {
+        List<TaskDependency> values = new ArrayList<>(dependencies.values());
+        return values.get(random.nextInt(values.size()));
+    }
+}
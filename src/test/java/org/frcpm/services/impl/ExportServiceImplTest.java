@@ -0,0 +1,140 @@
+// src/test/java/org/frcpm/services/impl/ExportServiceImplTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.PartTransaction;
+import org.frcpm.models.Task;
+import org.frcpm.repositories.spring.AttendanceExportRow;
+import org.frcpm.repositories.spring.AttendanceRepository;
+import org.frcpm.repositories.spring.PartTransactionExportRow;
+import org.frcpm.repositories.spring.PartTransactionRepository;
+import org.frcpm.repositories.spring.TaskExportRow;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.repositories.spring.TeamMemberExportRow;
+import org.frcpm.repositories.spring.TeamMemberRepository;
+import org.frcpm.services.ExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for ExportServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PartTransactionRepository partTransactionRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(taskRepository, partTransactionRepository,
+                                              attendanceRepository, teamMemberRepository);
+    }
+
+    @Test
+    void testTaskExportStreamsRowsAndClosesTheStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamExportRowsByProjectId(1L)).thenReturn(Stream.of(
+            new TaskExportRow(1L, "Build drivetrain", "Drive", Task.Priority.HIGH, 50, false,
+                              LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 20), 5400, 1800L, 2),
+            new TaskExportRow(2L, "Order parts", null, Task.Priority.LOW, 100, true,
+                              null, null, 3600, null, 0))
+            .onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportProjectTasks(1L, true, ExportService.Format.CSV, out);
+
+        assertEquals("ID,Title,Subsystem,Priority,Progress,Completed,Start Date,End Date,Estimated Hours," +
+                     "Actual Hours,Assignees\r\n" +
+                     "1,Build drivetrain,Drive,HIGH,50,false,2026-01-10,2026-01-20,1.5,0.5,2\r\n" +
+                     "2,Order parts,,LOW,100,true,,,1.0,,0\r\n",
+                     out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testTaskExportWithoutDetailsLeavesDetailColumnsOut() throws Exception {
+        when(taskRepository.streamExportRowsByProjectId(1L)).thenReturn(Stream.of(
+            new TaskExportRow(1L, "Build drivetrain", "Drive", Task.Priority.HIGH, 50, false,
+                              null, null, 5400, 1800L, 2)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportProjectTasks(1L, false, ExportService.Format.CSV, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("1,Build drivetrain,Drive,HIGH,50,false,,,1.5\r\n"));
+    }
+
+    @Test
+    void testTransactionsForAllProjectsOrOne() throws Exception {
+        PartTransactionExportRow row = new PartTransactionExportRow(
+            9L, LocalDateTime.of(2026, 2, 3, 16, 30), PartTransaction.TransactionType.PURCHASE, "am-1234",
+            "Falcon 500", 4, new BigDecimal("199.99"), new BigDecimal("799.96"), 6, "AndyMark", "PO-17", null,
+            "Sam", "Lee", true);
+        when(partTransactionRepository.streamExportRows()).thenReturn(Stream.of(row));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportPartTransactions(null, ExportService.Format.CSV, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains(
+            "9,2026-02-03 16:30:00,PURCHASE,am-1234,Falcon 500,4,199.99,799.96,6,AndyMark,PO-17,,Sam Lee,true"));
+        verify(partTransactionRepository, never()).streamExportRowsByProjectId(any());
+    }
+
+    @Test
+    void testAttendanceExportAsSpreadsheet() throws Exception {
+        when(attendanceRepository.streamExportRowsByProjectId(1L)).thenReturn(Stream.of(
+            new AttendanceExportRow(LocalDate.of(2026, 1, 5), "Kickoff", 3L, "Alex", "Kim", true,
+                                    LocalTime.of(9, 0), LocalTime.of(12, 0))));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportAttendance(1L, ExportService.Format.XLSX, out);
+
+        byte[] bytes = out.toByteArray();
+        assertTrue(bytes.length > 0);
+        // Zip local file header
+        assertEquals('P', bytes[0]);
+        assertEquals('K', bytes[1]);
+    }
+
+    @Test
+    void testMemberRoleFilterIsPushedIntoTheQuery() throws Exception {
+        when(teamMemberRepository.streamExportRows(5L, false, false)).thenReturn(Stream.of(
+            new TeamMemberExportRow(3L, "alex", "Alex", "Kim", "alex@example.com", null, "CAD", "Mechanical",
+                                    false, 4)));
+        when(teamMemberRepository.streamExportRows(null, null, true)).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream students = new ByteArrayOutputStream();
+        exportService.exportTeamMembers(5L, "student", ExportService.Format.CSV, students);
+        exportService.exportTeamMembers(null, "unassigned", ExportService.Format.CSV, new ByteArrayOutputStream());
+
+        assertTrue(students.toString(StandardCharsets.UTF_8).endsWith(
+            "3,alex,Alex,Kim,alex@example.com,,CAD,Mechanical,false,4\r\n"));
+        verify(teamMemberRepository).streamExportRows(null, null, true);
+    }
+}
@@ -2,14 +2,24 @@
 
 package org.frcpm.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.frcpm.events.TaskChangedEvent;
+import org.frcpm.models.DependencyType;
 import org.frcpm.models.GanttChartData;
 import org.frcpm.models.Milestone;
 import org.frcpm.models.Project;
+import org.frcpm.models.Subsystem;
 import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.frcpm.repositories.spring.GanttWindowRepository;
 import org.frcpm.repositories.spring.MilestoneRepository;
 import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.TaskDependencyRepository;
 import org.frcpm.repositories.spring.TaskRepository;
 import org.frcpm.services.GanttChartTransformationService;
+import org.frcpm.services.GanttDataService;
+import org.frcpm.web.dto.GanttWindowDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +27,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -40,9 +52,17 @@ class GanttDataServiceTest {
     @Mock
     private MilestoneRepository milestoneRepository;
     
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+    
+    @Mock
+    private GanttWindowRepository ganttWindowRepository;
+    
     @Mock
     private GanttChartTransformationService transformationService;
     
+    private ProjectScheduleSnapshotCache snapshotCache;
+    
     private GanttDataServiceImpl ganttDataService; // ✅ FIXED: Use implementation class
     
     private Project testProject;
@@ -51,7 +71,6 @@ class GanttDataServiceTest {
     private LocalDate now;
     private List<GanttChartData> testTasksGanttData;
     private List<GanttChartData> testMilestonesGanttData;
-    private List<Map<String, Object>> testDependencyData;
     
     @BeforeEach
     void setUp() {
@@ -62,14 +81,17 @@ class GanttDataServiceTest {
         testMilestone = createTestMilestone();
         testTasksGanttData = createTestTasksGanttData();
         testMilestonesGanttData = createTestMilestonesGanttData();
-        testDependencyData = createTestDependencyData();
         
-        // Create service with injected mocks
+        // Create service with injected mocks and a fresh snapshot cache
+        snapshotCache = new ProjectScheduleSnapshotCache();
         ganttDataService = new GanttDataServiceImpl(
             projectRepository,
             taskRepository,
             milestoneRepository,
-            transformationService
+            taskDependencyRepository,
+            ganttWindowRepository,
+            transformationService,
+            snapshotCache
         );
         
         // ✅ FIXED: NO mock stubbing in setUp() - move to individual test methods
@@ -130,25 +152,32 @@ class GanttDataServiceTest {
     }
     
     /**
-     * Creates test dependency data for use in tests.
+     * Creates a task with the given ID and estimate in hours.
+     */
+    private Task createTask(Long id, long hours) {
+        Task task = new Task("Task " + id, testProject, null);
+        task.setId(id);
+        task.setEstimatedDuration(Duration.ofHours(hours));
+        return task;
+    }
+    
+    /**
+     * Stubs the snapshot load for the test project.
      */
-    private List<Map<String, Object>> createTestDependencyData() {
-        Map<String, Object> dependency = new HashMap<>();
-        dependency.put("source", "task_2");
-        dependency.put("target", "task_1");
-        dependency.put("type", "finish-to-start");
-        return List.of(dependency);
+    private void stubSnapshot(List<Task> tasks, List<TaskDependency> dependencies) {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(taskRepository.findByProjectForSchedule(testProject)).thenReturn(tasks);
+        when(taskDependencyRepository.findByProjectAndActive(testProject, true)).thenReturn(dependencies);
     }
     
     @Test
     void testFormatTasksForGantt() {
         // Setup - Only stub what THIS test needs
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProject(testProject)).thenReturn(List.of(testTask));
+        Task prerequisite = createTask(2L, 4);
+        stubSnapshot(List.of(testTask, prerequisite), List.of(new TaskDependency(testTask, prerequisite)));
         when(milestoneRepository.findByProject(testProject)).thenReturn(List.of(testMilestone));
         when(transformationService.transformTasksToChartData(anyList())).thenReturn(testTasksGanttData);
         when(transformationService.transformMilestonesToChartData(anyList())).thenReturn(testMilestonesGanttData);
-        when(transformationService.createDependencyData(anyList())).thenReturn(testDependencyData);
         
         // Execute
         Map<String, Object> result = ganttDataService.formatTasksForGantt(1L, null, null);
@@ -174,14 +203,16 @@ class GanttDataServiceTest {
         assertNotNull(dependencies);
         assertEquals(1, dependencies.size());
         assertEquals("task_2", dependencies.get(0).get("source"));
+        assertEquals("task_1", dependencies.get(0).get("target"));
+        assertEquals("finish-to-start", dependencies.get(0).get("type"));
+        assertEquals(List.of(2L, 1L), result.get("criticalPath"));
         
         // Verify repository and service calls
         verify(projectRepository).findById(1L);
-        verify(taskRepository).findByProject(testProject);
+        verify(taskRepository).findByProjectForSchedule(testProject);
         verify(milestoneRepository).findByProject(testProject);
-        verify(transformationService).transformTasksToChartData(List.of(testTask));
+        verify(transformationService).transformTasksToChartData(List.of(testTask, prerequisite));
         verify(transformationService).transformMilestonesToChartData(List.of(testMilestone));
-        verify(transformationService).createDependencyData(List.of(testTask));
     }
     
     @Test
@@ -198,7 +229,7 @@ class GanttDataServiceTest {
         
         // Verify repository calls
         verify(projectRepository).findById(999L);
-        verify(taskRepository, never()).findByProject(any(Project.class));
+        verify(taskRepository, never()).findByProjectForSchedule(any(Project.class));
         verify(milestoneRepository, never()).findByProject(any(Project.class));
     }
     
@@ -211,7 +242,7 @@ class GanttDataServiceTest {
         
         // Verify repository was never called
         verify(projectRepository, never()).findById(any());
-        verify(taskRepository, never()).findByProject(any());
+        verify(taskRepository, never()).findByProjectForSchedule(any());
         verify(milestoneRepository, never()).findByProject(any());
     }
     
@@ -221,12 +252,10 @@ class GanttDataServiceTest {
         LocalDate startDate = now.minusDays(5);
         LocalDate endDate = now.plusDays(15);
         
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProject(testProject)).thenReturn(List.of(testTask));
+        stubSnapshot(List.of(testTask), List.of());
         when(milestoneRepository.findByProject(testProject)).thenReturn(List.of(testMilestone));
         when(transformationService.transformTasksToChartData(anyList())).thenReturn(testTasksGanttData);
         when(transformationService.transformMilestonesToChartData(anyList())).thenReturn(testMilestonesGanttData);
-        when(transformationService.createDependencyData(anyList())).thenReturn(testDependencyData);
         
         // Execute
         Map<String, Object> result = ganttDataService.formatTasksForGantt(1L, startDate, endDate);
@@ -238,7 +267,7 @@ class GanttDataServiceTest {
         
         // Verify repository and service calls
         verify(projectRepository).findById(1L);
-        verify(taskRepository).findByProject(testProject);
+        verify(taskRepository).findByProjectForSchedule(testProject);
         verify(milestoneRepository).findByProject(testProject);
     }
     
@@ -346,26 +375,22 @@ class GanttDataServiceTest {
     
     @Test
     void testCalculateCriticalPath() {
-        // Setup
-        Task criticalTask = new Task("Critical Task", testProject, null);
-        criticalTask.setId(2L);
-        criticalTask.setPriority(Task.Priority.CRITICAL);
-        
-        List<Task> tasks = List.of(testTask, criticalTask);
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        // Setup: design (4h) -> build (4h) is the longest chain; paperwork (2h) has float
+        Task design = createTask(1L, 4);
+        Task build = createTask(2L, 4);
+        Task paperwork = createTask(3L, 2);
+        stubSnapshot(List.of(build, paperwork, design), List.of(new TaskDependency(build, design)));
         
         // Execute
         List<Long> result = ganttDataService.calculateCriticalPath(1L);
         
-        // Verify
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(2L, result.get(0));
+        // Verify - critical tasks in schedule order
+        assertEquals(List.of(1L, 2L), result);
         
         // Verify repository calls
         verify(projectRepository).findById(1L);
-        verify(taskRepository).findByProject(testProject);
+        verify(taskRepository).findByProjectForSchedule(testProject);
+        verify(taskDependencyRepository).findByProjectAndActive(testProject, true);
     }
     
     @Test
@@ -382,7 +407,7 @@ class GanttDataServiceTest {
         
         // Verify repository calls
         verify(projectRepository).findById(999L);
-        verify(taskRepository, never()).findByProject(any(Project.class));
+        verify(taskRepository, never()).findByProjectForSchedule(any(Project.class));
     }
     
     @Test
@@ -394,7 +419,7 @@ class GanttDataServiceTest {
         
         // Verify repository was never called
         verify(projectRepository, never()).findById(any());
-        verify(taskRepository, never()).findByProject(any());
+        verify(taskRepository, never()).findByProjectForSchedule(any());
     }
     
     @Test
@@ -465,26 +490,22 @@ class GanttDataServiceTest {
     
     @Test
     void testGetTaskDependencies() {
-        // Setup tasks without dependencies (current implementation)
-        Task dependentTask = new Task("Dependent Task", testProject, null);
-        dependentTask.setId(2L);
-        
-        List<Task> tasks = List.of(testTask, dependentTask);
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        // Setup: task 2 depends on task 1
+        Task dependentTask = createTask(2L, 4);
+        stubSnapshot(List.of(testTask, dependentTask), List.of(new TaskDependency(dependentTask, testTask)));
         
         // Execute
         Map<Long, List<Long>> result = ganttDataService.getTaskDependencies(1L);
         
-        // Verify - current implementation returns empty dependencies
+        // Verify - every task is present, mapped to its direct dependents
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertTrue(result.containsKey(1L));
-        assertEquals(0, result.get(1L).size()); // No dependencies in current implementation
+        assertEquals(List.of(2L), result.get(1L));
+        assertTrue(result.get(2L).isEmpty());
         
         // Verify repository calls
         verify(projectRepository).findById(1L);
-        verify(taskRepository).findByProject(testProject);
+        verify(taskRepository).findByProjectForSchedule(testProject);
     }
     
     @Test
@@ -501,7 +522,7 @@ class GanttDataServiceTest {
         
         // Verify repository calls
         verify(projectRepository).findById(999L);
-        verify(taskRepository, never()).findByProject(any(Project.class));
+        verify(taskRepository, never()).findByProjectForSchedule(any(Project.class));
     }
     
     @Test
@@ -513,36 +534,20 @@ class GanttDataServiceTest {
         
         // Verify repository was never called
         verify(projectRepository, never()).findById(any());
-        verify(taskRepository, never()).findByProject(any());
+        verify(taskRepository, never()).findByProjectForSchedule(any());
     }
     
     @Test
     void testIdentifyBottlenecks() {
-        // Setup tasks with dependencies
-        Task task1 = new Task("Task 1", testProject, null);
-        task1.setId(1L);
-        
-        Task task2 = new Task("Task 2", testProject, null);
-        task2.setId(2L);
-        
-        Task task3 = new Task("Task 3", testProject, null);
-        task3.setId(3L);
-        
-        Task task4 = new Task("Task 4", testProject, null);
-        task4.setId(4L);
-        
-        // Dependencies are now managed through TaskDependencyService
-        // For testing purposes, we'll skip setting up dependencies
-        // TODO: Update test to use TaskDependencyService
-        // Set up task priorities to simulate bottleneck detection
-        task1.setPriority(Task.Priority.LOW);
-        task2.setPriority(Task.Priority.MEDIUM);
-        task3.setPriority(Task.Priority.CRITICAL); // Most "connected" based on priority
-        task4.setPriority(Task.Priority.HIGH);
-        
-        List<Task> tasks = List.of(task1, task2, task3, task4);
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        // Setup: tasks 1 and 2 both feed task 3, which gates task 4
+        Task task1 = createTask(1L, 4);
+        Task task2 = createTask(2L, 4);
+        Task task3 = createTask(3L, 4);
+        Task task4 = createTask(4L, 4);
+        stubSnapshot(List.of(task1, task2, task3, task4), List.of(
+            new TaskDependency(task3, task1),
+            new TaskDependency(task3, task2),
+            new TaskDependency(task4, task3)));
         
         // Execute
         List<Long> result = ganttDataService.identifyBottlenecks(1L);
@@ -550,11 +555,58 @@ class GanttDataServiceTest {
         // Verify
         assertNotNull(result);
         assertEquals(1, result.size()); // Top 25% of 4 tasks = 1 task
-        assertEquals(3L, result.get(0)); // Task3 should be identified as the bottleneck
+        assertEquals(3L, result.get(0)); // Task3 has the highest fan-in plus fan-out
         
         // Verify repository calls
         verify(projectRepository).findById(1L);
-        verify(taskRepository).findByProject(testProject);
+        verify(taskRepository).findByProjectForSchedule(testProject);
+    }
+    
+    @Test
+    void testIdentifyBottlenecks_SkipsCompletedTasks() {
+        // Setup: the hub is already done, so the next most connected open task is reported
+        Task task1 = createTask(1L, 4);
+        Task task2 = createTask(2L, 4);
+        Task task3 = createTask(3L, 4);
+        Task task4 = createTask(4L, 4);
+        task3.setCompleted(true);
+        stubSnapshot(List.of(task1, task2, task3, task4), List.of(
+            new TaskDependency(task3, task1),
+            new TaskDependency(task3, task2),
+            new TaskDependency(task4, task3),
+            new TaskDependency(task4, task2)));
+        
+        // Execute
+        List<Long> result = ganttDataService.identifyBottlenecks(1L);
+        
+        // Verify
+        assertEquals(List.of(2L), result);
+    }
+    
+    @Test
+    void testSnapshotSharedAcrossEndpointsUntilInvalidated() {
+        // Setup
+        Task dependentTask = createTask(2L, 4);
+        stubSnapshot(List.of(testTask, dependentTask), List.of(new TaskDependency(dependentTask, testTask)));
+        
+        // Execute - several endpoints, as fired by one Gantt page load
+        ganttDataService.getTaskDependencies(1L);
+        ganttDataService.calculateCriticalPath(1L);
+        ganttDataService.identifyBottlenecks(1L);
+        long version = snapshotCache.get(1L).getVersion();
+        
+        // Verify - one load serves all of them
+        verify(projectRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findByProjectForSchedule(testProject);
+        verify(taskDependencyRepository, times(1)).findByProjectAndActive(testProject, true);
+        
+        // A task write drops the snapshot; the next request reloads a newer version
+        snapshotCache.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.UPDATED, 2L, 1L, 3600));
+        assertNull(snapshotCache.get(1L));
+        ganttDataService.calculateCriticalPath(1L);
+        
+        verify(taskRepository, times(2)).findByProjectForSchedule(testProject);
+        assertTrue(snapshotCache.get(1L).getVersion() > version);
     }
     
     @Test
@@ -571,7 +623,7 @@ class GanttDataServiceTest {
         
         // Verify repository calls
         verify(projectRepository).findById(999L);
-        verify(taskRepository, never()).findByProject(any(Project.class));
+        verify(taskRepository, never()).findByProjectForSchedule(any(Project.class));
     }
     
     @Test
@@ -583,7 +635,151 @@ class GanttDataServiceTest {
         
         // Verify repository was never called
         verify(projectRepository, never()).findById(any());
+        verify(taskRepository, never()).findByProjectForSchedule(any());
+    }
+    
+    @Test
+    void testGetGanttWindow() {
+        // Setup: two rows in view linked by a dependency, one milestone in the window
+        LocalDate windowEnd = now.plusDays(13);
+        Task dependentTask = createTask(2L, 4);
+        dependentTask.setStartDate(now.plusDays(6));
+        dependentTask.setEndDate(now.plusDays(9));
+        TaskDependency dependency = new TaskDependency(dependentTask, testTask, DependencyType.FINISH_TO_START);
+        dependency.setLagHours(2);
+        
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(ganttWindowRepository.countOverlapping(testProject, now, windowEnd)).thenReturn(30L);
+        when(ganttWindowRepository.findOverlapping(testProject, now, windowEnd, 10, 2))
+            .thenReturn(List.of(testTask, dependentTask));
+        when(ganttWindowRepository.findActiveDependenciesAmong(List.of(1L, 2L))).thenReturn(List.of(dependency));
+        when(milestoneRepository.findByProjectAndDateBetweenOrderByDateAsc(testProject, now, windowEnd))
+            .thenReturn(List.of(testMilestone));
+        
+        // Execute
+        GanttWindowDto window = ganttDataService.getGanttWindow(1L, now, windowEnd, 10, 2);
+        
+        // Verify
+        assertEquals(30L, window.getTotalRows());
+        assertTrue(window.isHasMore());
+        assertEquals(List.of(1L, 2L), window.getRows().stream().map(GanttWindowDto.Row::getId).toList());
+        assertEquals("MEDIUM", window.getRows().get(0).getPriority());
+        
+        assertEquals(1, window.getLinks().size());
+        GanttWindowDto.Link link = window.getLinks().get(0);
+        assertEquals(1L, link.getFrom());
+        assertEquals(2L, link.getTo());
+        assertEquals("FS", link.getType());
+        assertEquals(2, link.getLagHours());
+        
+        assertEquals(1, window.getMilestones().size());
+        assertEquals("Test Milestone", window.getMilestones().get(0).getName());
+        
+        // The full project is never loaded
         verify(taskRepository, never()).findByProject(any());
+        verify(taskRepository, never()).findByProjectForSchedule(any());
+    }
+    
+    @Test
+    void testGetGanttWindow_DefaultsToTwoWeeksFromToday() {
+        // Setup
+        LocalDate windowEnd = now.plusDays(13);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(ganttWindowRepository.countOverlapping(testProject, now, windowEnd)).thenReturn(0L);
+        when(ganttWindowRepository.findActiveDependenciesAmong(List.of())).thenReturn(List.of());
+        when(milestoneRepository.findByProjectAndDateBetweenOrderByDateAsc(testProject, now, windowEnd))
+            .thenReturn(List.of());
+        
+        // Execute
+        GanttWindowDto window = ganttDataService.getGanttWindow(1L, null, null, 0, 50);
+        
+        // Verify - an empty window skips the row query
+        assertEquals(now, window.getWindowStart());
+        assertEquals(windowEnd, window.getWindowEnd());
+        assertTrue(window.getRows().isEmpty());
+        assertFalse(window.isHasMore());
+        verify(ganttWindowRepository, never()).findOverlapping(any(), any(), any(), anyInt(), anyInt());
+    }
+    
+    @Test
+    void testGetGanttWindow_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ganttDataService.getGanttWindow(null, now, now, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> ganttDataService.getGanttWindow(1L, now, now, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> ganttDataService.getGanttWindow(1L, now, now, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> ganttDataService.getGanttWindow(1L, now, now, 0, GanttDataServiceImpl.MAX_WINDOW_ROWS + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> ganttDataService.getGanttWindow(1L, now, now.minusDays(1), 0, 10));
+        
+        verify(projectRepository, never()).findById(any());
+    }
+    
+    @Test
+    void testGetGanttWindow_ProjectNotFound() {
+        when(projectRepository.findById(999L)).thenReturn(Optional.empty());
+        
+        assertNull(ganttDataService.getGanttWindow(999L, now, now.plusDays(13), 0, 10));
+        verify(ganttWindowRepository, never()).countOverlapping(any(), any(), any());
+    }
+    
+    @Test
+    void testGetGanttWindowColumnar() throws Exception {
+        // Setup: two drivetrain tasks in view, an intake task outside the window
+        Subsystem drivetrain = new Subsystem("Drivetrain", testProject, null);
+        Subsystem intake = new Subsystem("Intake", testProject, null);
+        Task gearbox = createTask(1L, 8);
+        gearbox.setSubsystem(drivetrain);
+        gearbox.setStartDate(now.plusDays(2));
+        gearbox.setEndDate(now.plusDays(4));
+        Task frame = createTask(2L, 8);
+        frame.setSubsystem(drivetrain);
+        frame.setStartDate(now);
+        frame.setEndDate(now.plusDays(1));
+        frame.setCompleted(true);
+        Task roller = createTask(3L, 8);
+        roller.setSubsystem(intake);
+        roller.setStartDate(now.plusDays(30));
+        roller.setEndDate(now.plusDays(31));
+        stubSnapshot(List.of(gearbox, frame, roller), List.of(new TaskDependency(gearbox, frame)));
+        when(milestoneRepository.findByProjectAndDateBetweenOrderByDateAsc(testProject, now, now.plusDays(13)))
+            .thenReturn(List.of(testMilestone));
+        
+        // Execute
+        GanttDataService.ColumnarWindow window = ganttDataService.getGanttWindowColumnar(1L, now, null, 0, 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        window.writeTo(out);
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        
+        // Verify - rows ordered by subsystem then start, as parallel arrays
+        assertEquals(2, json.get("totalRows").asInt());
+        JsonNode rows = json.get("rows");
+        assertEquals("[2,1]", rows.get("id").toString());
+        assertEquals("[" + now.toEpochDay() + "," + now.plusDays(2).toEpochDay() + "]", rows.get("start").toString());
+        assertEquals("[2,3]", rows.get("duration").toString());
+        assertEquals(GanttColumnarWriter.FLAG_COMPLETED | GanttColumnarWriter.FLAG_CRITICAL,
+                     rows.get("flags").get(0).asInt());
+        
+        // Repeated strings are dictionary indexes
+        JsonNode strings = json.get("strings");
+        assertEquals(rows.get("subsystem").get(0).asInt(), rows.get("subsystem").get(1).asInt());
+        assertEquals("Drivetrain", strings.get(rows.get("subsystem").get(0).asInt()).asText());
+        assertEquals(-1, rows.get("assignee").get(0).asInt());
+        
+        // Link endpoints are row positions
+        assertEquals("[0]", json.get("links").get("from").toString());
+        assertEquals("[1]", json.get("links").get("to").toString());
+        assertEquals("FS", strings.get(json.get("links").get("type").get(0).asInt()).asText());
+        assertEquals("Test Milestone", strings.get(json.get("milestones").get("name").get(0).asInt()).asText());
+        
+        verifyNoInteractions(transformationService, ganttWindowRepository);
+    }
+    
+    @Test
+    void testGetGanttWindowColumnar_ProjectNotFound() {
+        when(projectRepository.findById(999L)).thenReturn(Optional.empty());
+        
+        assertNull(ganttDataService.getGanttWindowColumnar(999L, now, null, 0, 100));
+        verify(milestoneRepository, never()).findByProjectAndDateBetweenOrderByDateAsc(any(), any(), any());
     }
     
     @Test
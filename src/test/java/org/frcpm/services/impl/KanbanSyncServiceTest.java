@@ -0,0 +1,148 @@
+// src/test/java/org/frcpm/services/impl/KanbanSyncServiceTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.TaskChangedEvent;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.services.KanbanSyncService.KanbanSync;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for kanban delta sync over the per-project change log.
+ */
+@ExtendWith(MockitoExtension.class)
+class KanbanSyncServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private KanbanChangeLog changeLog;
+    private KanbanSyncServiceImpl kanbanSyncService;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new KanbanChangeLog();
+        kanbanSyncService = new KanbanSyncServiceImpl(projectRepository, taskRepository, changeLog);
+        project = new Project("Robot", LocalDate.now(), LocalDate.now().plusDays(30), LocalDate.now().plusDays(40));
+        project.setId(PROJECT_ID);
+    }
+
+    @Test
+    void testSnapshotCarriesCurrentPosition() {
+        changeLog.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.UPDATED, 10L, PROJECT_ID, 0));
+        changeLog.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.UPDATED, 11L, PROJECT_ID, 0));
+        List<Task> tasks = List.of(createTask(10L), createTask(11L));
+        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(taskRepository.findByProjectForSchedule(project)).thenReturn(tasks);
+
+        KanbanSync snapshot = kanbanSyncService.getSnapshot(PROJECT_ID);
+
+        assertEquals(KanbanSync.Mode.SNAPSHOT, snapshot.getMode());
+        assertEquals(changeLog.getEpoch(), snapshot.getEpoch());
+        assertEquals(2L, snapshot.getSequence());
+        assertEquals(tasks, snapshot.getTasks());
+    }
+
+    @Test
+    void testDeltaReturnsEachChangedTaskOnce() {
+        String epoch = changeLog.getEpoch();
+        changeLog.record(PROJECT_ID, 10L, false);
+        long position = changeLog.record(PROJECT_ID, 11L, false);
+        changeLog.record(PROJECT_ID, 12L, false);
+        changeLog.record(PROJECT_ID, 12L, false);
+        changeLog.record(PROJECT_ID, 13L, false);
+        changeLog.record(PROJECT_ID, 11L, true);
+        changeLog.record(2L, 99L, false);
+
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+        when(taskRepository.findByIdInForKanban(List.of(12L, 13L))).thenReturn(List.of(createTask(12L)));
+
+        KanbanSync delta = kanbanSyncService.getChangesSince(PROJECT_ID, epoch, position);
+
+        assertEquals(KanbanSync.Mode.DELTA, delta.getMode());
+        assertEquals(6L, delta.getSequence());
+        assertEquals(List.of(12L), delta.getTasks().stream().map(Task::getId).toList());
+        // 11 was deleted; 13 changed but no longer exists
+        assertEquals(List.of(11L, 13L), delta.getDeletedTaskIds());
+        verify(taskRepository, never()).findByProjectForSchedule(any());
+    }
+
+    @Test
+    void testUpToDateClientGetsEmptyDelta() {
+        long position = changeLog.record(PROJECT_ID, 10L, false);
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+
+        KanbanSync delta = kanbanSyncService.getChangesSince(PROJECT_ID, changeLog.getEpoch(), position);
+
+        assertEquals(KanbanSync.Mode.DELTA, delta.getMode());
+        assertTrue(delta.getTasks().isEmpty());
+        assertTrue(delta.getDeletedTaskIds().isEmpty());
+        verify(taskRepository, never()).findByIdInForKanban(any());
+    }
+
+    @Test
+    void testTellsClientToReloadWhenGapTooLarge() {
+        for (long i = 0; i <= KanbanChangeLog.LOG_CAPACITY; i++) {
+            changeLog.record(PROJECT_ID, i, false);
+        }
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+
+        KanbanSync sync = kanbanSyncService.getChangesSince(PROJECT_ID, changeLog.getEpoch(), 0L);
+
+        assertEquals(KanbanSync.Mode.RELOAD, sync.getMode());
+        assertEquals(KanbanChangeLog.LOG_CAPACITY + 1L, sync.getSequence());
+        assertTrue(sync.getTasks().isEmpty());
+        // The board reloads the page, so no snapshot is built for it
+        verifyNoInteractions(taskRepository);
+
+        // One change fewer still fits in the ring
+        assertNotNull(changeLog.changesSince(PROJECT_ID, changeLog.getEpoch(), 1L));
+    }
+
+    @Test
+    void testTellsClientToReloadForOtherEpochOrFuturePosition() {
+        changeLog.record(PROJECT_ID, 10L, false);
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+
+        assertEquals(KanbanSync.Mode.RELOAD,
+                     kanbanSyncService.getChangesSince(PROJECT_ID, "before-restart", 1L).getMode());
+        assertEquals(KanbanSync.Mode.RELOAD,
+                     kanbanSyncService.getChangesSince(PROJECT_ID, changeLog.getEpoch(), 5L).getMode());
+        assertEquals(KanbanSync.Mode.RELOAD,
+                     kanbanSyncService.getChangesSince(PROJECT_ID, null, null).getMode());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testUnknownProjectReturnsNull() {
+        when(projectRepository.existsById(42L)).thenReturn(false);
+
+        assertNull(kanbanSyncService.getChangesSince(42L, null, null));
+    }
+
+    private Task createTask(Long id) {
+        Task task = new Task("Task " + id, project, null);
+        task.setId(id);
+        return task;
+    }
+}
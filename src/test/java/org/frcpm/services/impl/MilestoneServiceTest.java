@@ -2,6 +2,7 @@
 
 package org.frcpm.services.impl;
 
+import org.frcpm.events.MilestoneChangedEvent;
 import org.frcpm.models.Milestone;
 import org.frcpm.models.Project;
 import org.frcpm.repositories.spring.MilestoneRepository;
@@ -9,8 +10,10 @@ import org.frcpm.repositories.spring.ProjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +37,9 @@ class MilestoneServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     private MilestoneServiceImpl milestoneService; // ✅ FIXED: Use implementation class
     
     private Milestone testMilestone;
@@ -48,7 +54,7 @@ class MilestoneServiceTest {
         testMilestone = createTestMilestone();
         
         // Create service with injected mocks
-        milestoneService = new MilestoneServiceImpl(milestoneRepository, projectRepository);
+        milestoneService = new MilestoneServiceImpl(milestoneRepository, projectRepository, eventPublisher);
         
         // ✅ FIXED: NO mock stubbing in setUp() - move to individual test methods
     }
@@ -604,4 +610,21 @@ class MilestoneServiceTest {
         verify(projectRepository, never()).findById(any());
         verify(milestoneRepository, never()).findUpcomingMilestones(any(), any(), any());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testUpdateMilestoneDatePublishesChange() {
+        // Setup
+        when(milestoneRepository.findById(1L)).thenReturn(Optional.of(testMilestone));
+        when(milestoneRepository.save(any(Milestone.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Execute
+        milestoneService.updateMilestoneDate(1L, now.plusDays(10));
+        
+        // Verify the change is announced for the project metrics
+        ArgumentCaptor<MilestoneChangedEvent> event = ArgumentCaptor.forClass(MilestoneChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(MilestoneChangedEvent.ChangeType.UPDATED, event.getValue().getChangeType());
+        assertEquals(1L, event.getValue().getMilestoneId());
+        assertEquals(testProject.getId(), event.getValue().getProjectId());
+    }
+}
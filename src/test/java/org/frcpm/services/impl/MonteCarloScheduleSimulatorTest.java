@@ -0,0 +1,114 @@
+// src/test/java/org/frcpm/services/impl/MonteCarloScheduleSimulatorTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.DependencyType;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Monte Carlo schedule simulator.
+ */
+class MonteCarloScheduleSimulatorTest {
+
+    private final Project project = createProject();
+
+    @Test
+    void testSingleTaskFollowsTriangularDistribution() {
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(List.of(createTask(1L)), List.of());
+
+        MonteCarloScheduleSimulator.SimulationResult result =
+            new MonteCarloScheduleSimulator(graph, new double[]{10.0}).run(50_000, 42L);
+
+        // Triangular(8, 10, 16) has its median at 16 - sqrt(0.5 * 8 * 6)
+        assertEquals(50_000, result.getSampleCount());
+        assertEquals(16 - Math.sqrt(24), result.getFinishPercentile(0.5), 0.1);
+        assertTrue(result.getFinishPercentile(0.95) <= 16.0);
+        assertTrue(result.getFinishPercentile(0.0) >= 8.0);
+        assertEquals(0.0, result.getProbabilityWithin(7.9), 1e-9);
+        assertEquals(1.0, result.getProbabilityWithin(16.0), 1e-9);
+        assertEquals(1.0, result.getCriticalityIndex(0), 1e-9);
+    }
+
+    @Test
+    void testCriticalityIndexSeparatesParallelChains() {
+        Task start = createTask(1L);
+        Task longBranch = createTask(2L);
+        Task shortBranch = createTask(3L);
+        Task balancedA = createTask(4L);
+        Task balancedB = createTask(5L);
+        List<TaskDependency> dependencies = List.of(
+            dependency(10L, longBranch, start),
+            dependency(11L, shortBranch, start));
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(
+            List.of(start, longBranch, shortBranch, balancedA, balancedB), dependencies);
+
+        // start + long branch always dominates; the two independent 30h tasks share criticality
+        MonteCarloScheduleSimulator.SimulationResult result = new MonteCarloScheduleSimulator(
+            graph, new double[]{5.0, 20.0, 2.0, 30.0, 30.0}).run(20_000, 7L);
+
+        assertEquals(0.0, result.getCriticalityIndex(graph.indexOf(shortBranch)), 1e-9);
+        assertEquals(result.getCriticalityIndex(graph.indexOf(start)),
+                     result.getCriticalityIndex(graph.indexOf(longBranch)), 1e-9);
+        double a = result.getCriticalityIndex(graph.indexOf(balancedA));
+        double b = result.getCriticalityIndex(graph.indexOf(balancedB));
+        assertEquals(1.0, a + b + result.getCriticalityIndex(graph.indexOf(start)), 0.01);
+        assertEquals(a, b, 0.05);
+    }
+
+    @Test
+    void testLargeSimulationIsReproducible() {
+        Random random = new Random(3);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(createTask((long) i + 1));
+        }
+        List<TaskDependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int from = random.nextInt(999);
+            int to = from + 1 + random.nextInt(Math.min(30, 999 - from));
+            dependencies.add(dependency(5000L + i, tasks.get(to), tasks.get(from)));
+        }
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(tasks, dependencies);
+        double[] hours = new double[graph.size()];
+        for (int i = 0; i < hours.length; i++) {
+            hours[i] = 1 + random.nextInt(12);
+        }
+        MonteCarloScheduleSimulator simulator = new MonteCarloScheduleSimulator(graph, hours);
+
+        MonteCarloScheduleSimulator.SimulationResult first = simulator.run(20_000, 99L);
+        MonteCarloScheduleSimulator.SimulationResult second = simulator.run(20_000, 99L);
+
+        double deterministic = graph.computeCriticalPath().getProjectFinish();
+        assertEquals(first.getFinishPercentile(0.8), second.getFinishPercentile(0.8), 0.0);
+        assertTrue(first.getFinishPercentile(0.5) >= deterministic * MonteCarloScheduleSimulator.OPTIMISTIC_FACTOR);
+        assertTrue(first.getFinishPercentile(0.5) <= first.getFinishPercentile(0.8));
+        assertTrue(first.getFinishPercentile(0.8) <= first.getFinishPercentile(0.95));
+    }
+
+    private static Project createProject() {
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+        return project;
+    }
+
+    private Task createTask(Long id) {
+        Task task = new Task("Task " + id, project, null);
+        task.setId(id);
+        return task;
+    }
+
+    private TaskDependency dependency(Long id, Task dependent, Task prerequisite) {
+        TaskDependency dependency = new TaskDependency(dependent, prerequisite, DependencyType.FINISH_TO_START);
+        dependency.setId(id);
+        return dependency;
+    }
+}
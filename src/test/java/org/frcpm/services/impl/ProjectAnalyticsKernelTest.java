@@ -0,0 +1,169 @@
+// src/test/java/org/frcpm/services/impl/ProjectAnalyticsKernelTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TeamMember;
+import org.frcpm.services.ReportingService.MemberStats;
+import org.frcpm.services.ReportingService.ProjectTaskAnalytics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the single-scan project analytics kernel.
+ */
+class ProjectAnalyticsKernelTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 18);
+
+    private Project project;
+    private TeamMember alex;
+    private TeamMember sam;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project("Robot", TODAY.minusMonths(1), TODAY.plusMonths(1), TODAY.plusMonths(2));
+        project.setId(1L);
+        alex = member(1L, "alex", "Alex", "Kim");
+        sam = member(2L, "sam", "Sam", "Lee");
+    }
+
+    @Test
+    void testSingleScanComputesAllProjectFigures() {
+        Task overdue = task(1L, Task.Priority.HIGH, 20, false, TODAY.minusDays(5), TODAY.minusDays(1), 4, alex);
+        Task atRisk = task(2L, Task.Priority.CRITICAL, 10, false, TODAY, TODAY.plusDays(3), 2, alex, sam);
+        Task done = task(3L, Task.Priority.HIGH, 100, true, TODAY.minusDays(10), TODAY.minusDays(2), 6, sam);
+        Task unscheduled = task(4L, Task.Priority.LOW, 0, false, null, null, 0);
+
+        ProjectTaskAnalytics analytics = ProjectAnalyticsKernel.analyze(
+            TaskColumns.of(List.of(overdue, atRisk, done, unscheduled)), TODAY);
+
+        assertEquals(4, analytics.getTotalTasks());
+        assertEquals(1, analytics.getCompletedTasks());
+        assertEquals(2, analytics.getInProgressTasks());
+        assertEquals(1, analytics.getTodoTasks());
+        assertEquals(3, analytics.getOpenTasks());
+        assertEquals(1, analytics.getOverdueTasks());
+        assertEquals(1, analytics.getAtRiskTasks());
+        assertEquals(1, analytics.getUnscheduledTasks());
+        assertEquals(1, analytics.getUnassignedOpenTasks());
+        assertEquals(2, analytics.getTaskCount(Task.Priority.HIGH));
+        assertEquals(1, analytics.getCompletedCount(Task.Priority.HIGH));
+        assertEquals(0, analytics.getCompletedCount(Task.Priority.CRITICAL));
+        assertEquals(6 * 3600, analytics.getRemainingEstimatedSeconds());
+        assertEquals(32.5, analytics.getAverageProgress(), 1e-9);
+        assertEquals(5.0, analytics.getAveragePlannedDays(), 1e-9);
+        assertEquals(TODAY.minusDays(10), analytics.getEarliestStart());
+        assertEquals(TODAY.plusDays(3), analytics.getLatestEnd());
+        assertEquals(25.0, analytics.getCompletionRate(), 1e-9);
+    }
+
+    @Test
+    void testPerMemberFiguresFollowAssignments() {
+        ProjectTaskAnalytics analytics = ProjectAnalyticsKernel.analyze(TaskColumns.of(List.of(
+            task(1L, Task.Priority.HIGH, 20, false, null, TODAY.minusDays(1), 4, alex),
+            task(2L, Task.Priority.MEDIUM, 10, false, null, TODAY.plusDays(3), 2, alex, sam),
+            task(3L, Task.Priority.HIGH, 100, true, null, TODAY.minusDays(2), 6, sam),
+            task(4L, Task.Priority.LOW, 100, true, null, TODAY.minusDays(2), 1, sam))), TODAY);
+
+        List<MemberStats> members = analytics.getMembers();
+        assertEquals(2, members.size());
+
+        MemberStats first = members.get(0);
+        assertEquals(2L, first.getMemberId());
+        assertEquals("Sam Lee", first.getMemberName());
+        assertEquals(3, first.getTotalTasks());
+        assertEquals(2, first.getCompletedTasks());
+        assertEquals(0, first.getOverdueTasks());
+        assertEquals(2 * 3600, first.getRemainingEstimatedSeconds());
+
+        MemberStats second = members.get(1);
+        assertEquals("Alex Kim", second.getMemberName());
+        assertEquals(2, second.getTotalTasks());
+        assertEquals(1, second.getOverdueTasks());
+        assertEquals(0.0, second.getCompletionRate(), 1e-9);
+    }
+
+    @Test
+    void testParallelScanMatchesPerTaskFigures() {
+        List<Task> tasks = new ArrayList<>();
+        Task.Priority[] priorities = Task.Priority.values();
+        int count = ProjectAnalyticsKernel.PARALLEL_THRESHOLD + ProjectAnalyticsKernel.CHUNK_SIZE / 2;
+        for (int i = 0; i < count; i++) {
+            LocalDate end = i % 11 == 0 ? null : TODAY.plusDays(i % 30 - 15);
+            TeamMember[] assignees = i % 5 == 0 ? new TeamMember[0]
+                : i % 3 == 0 ? new TeamMember[] {alex, sam} : new TeamMember[] {i % 2 == 0 ? alex : sam};
+            tasks.add(task((long) i, priorities[i % priorities.length], i % 101, i % 4 == 0,
+                           TODAY.minusDays(i % 40), end, i % 9, assignees));
+        }
+
+        ProjectTaskAnalytics parallel = ProjectAnalyticsKernel.analyze(TaskColumns.of(tasks), TODAY);
+
+        // Straightforward per-entity computation of the same figures
+        assertEquals(count, parallel.getTotalTasks());
+        assertEquals(tasks.stream().filter(Task::isCompleted).count(), parallel.getCompletedTasks());
+        assertEquals(tasks.stream().filter(t -> isOverdue(t)).count(), parallel.getOverdueTasks());
+        assertEquals(tasks.stream().filter(t -> !t.isCompleted() && t.getAssignedTo().isEmpty()).count(),
+                     parallel.getUnassignedOpenTasks());
+        assertEquals(tasks.stream().filter(t -> !t.isCompleted())
+                         .mapToLong(t -> t.getEstimatedDuration().getSeconds()).sum(),
+                     parallel.getRemainingEstimatedSeconds());
+        assertEquals(tasks.stream().mapToInt(Task::getProgress).average().orElse(0),
+                     parallel.getAverageProgress(), 1e-9);
+        for (Task.Priority priority : priorities) {
+            assertEquals(tasks.stream().filter(t -> t.getPriority() == priority).count(),
+                         parallel.getTaskCount(priority));
+        }
+        for (MemberStats member : parallel.getMembers()) {
+            TeamMember teamMember = member.getMemberId() == alex.getId() ? alex : sam;
+            assertEquals(tasks.stream().filter(t -> t.getAssignedTo().contains(teamMember)).count(),
+                         member.getTotalTasks());
+            assertEquals(tasks.stream().filter(t -> t.getAssignedTo().contains(teamMember) && isOverdue(t)).count(),
+                         member.getOverdueTasks());
+        }
+    }
+
+    @Test
+    void testEmptyProject() {
+        ProjectTaskAnalytics analytics = ProjectAnalyticsKernel.analyze(TaskColumns.of(List.of()), TODAY);
+
+        assertEquals(0, analytics.getTotalTasks());
+        assertEquals(0.0, analytics.getCompletionRate());
+        assertNull(analytics.getEarliestStart());
+        assertTrue(analytics.getMembers().isEmpty());
+    }
+
+    private boolean isOverdue(Task task) {
+        return !task.isCompleted() && task.getEndDate() != null && task.getEndDate().isBefore(TODAY);
+    }
+
+    private Task task(Long id, Task.Priority priority, int progress, boolean completed, LocalDate startDate,
+                      LocalDate endDate, int estimatedHours, TeamMember... assignees) {
+        Task task = new Task("Task " + id, project, null);
+        task.setId(id);
+        task.setPriority(priority);
+        task.setProgress(progress);
+        task.setCompleted(completed);
+        task.setStartDate(startDate);
+        task.setEndDate(endDate);
+        task.setEstimatedDuration(Duration.ofHours(estimatedHours));
+        for (TeamMember assignee : assignees) {
+            task.getAssignedTo().add(assignee);
+        }
+        return task;
+    }
+
+    private TeamMember member(Long id, String username, String firstName, String lastName) {
+        TeamMember member = new TeamMember(username, firstName, lastName, username + "@example.com");
+        member.setId(id);
+        return member;
+    }
+}
@@ -0,0 +1,253 @@
+// src/test/java/org/frcpm/services/impl/ProjectMetricsStoreTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.MilestoneChangedEvent;
+import org.frcpm.events.TaskChangedEvent;
+import org.frcpm.events.TeamMembershipChangedEvent;
+import org.frcpm.models.Milestone;
+import org.frcpm.models.Project;
+import org.frcpm.models.Subteam;
+import org.frcpm.models.Task;
+import org.frcpm.models.TeamMember;
+import org.frcpm.repositories.spring.MilestoneRepository;
+import org.frcpm.repositories.spring.SubteamRepository;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.repositories.spring.TeamMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the materialized project metrics store.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProjectMetricsStoreTest {
+
+    // A Wednesday
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 18);
+    private static final long MAX_AGE_MILLIS = 300_000L;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private MilestoneRepository milestoneRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private SubteamRepository subteamRepository;
+
+    private ProjectMetricsStore store;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProjectMetricsStore(taskRepository, milestoneRepository, teamMemberRepository, subteamRepository,
+                                        MAX_AGE_MILLIS);
+        project = new Project("Robot", TODAY.minusMonths(1), TODAY.plusMonths(1), TODAY.plusMonths(2));
+        project.setId(1L);
+    }
+
+    @Test
+    void testFirstReadAggregatesProjectTasksAndMilestones() {
+        when(taskRepository.findByProject(project)).thenReturn(List.of(
+            task(1L, Task.Priority.HIGH, 0, false, TODAY.minusDays(2)),
+            task(2L, Task.Priority.HIGH, 40, false, TODAY.plusDays(3)),
+            task(3L, Task.Priority.LOW, 100, true, TODAY.minusDays(1)),
+            task(4L, Task.Priority.CRITICAL, 10, false, TODAY.minusDays(9))));
+        when(milestoneRepository.findByProject(project)).thenReturn(List.of(
+            milestone(1L, TODAY.minusDays(5)), milestone(2L, TODAY.plusDays(10)), milestone(3L, TODAY.plusDays(60))));
+
+        ProjectMetrics metrics = store.get(project, TODAY);
+
+        assertEquals(4, metrics.getTotalTasks());
+        assertEquals(1, metrics.getCompletedTasks());
+        assertEquals(2, metrics.getInProgressTasks());
+        assertEquals(1, metrics.getTodoTasks());
+        assertEquals(2, metrics.getOverdueTasks());
+        assertEquals(25.0, metrics.getCompletionPercentage());
+        assertEquals(Map.of("HIGH", 2L, "LOW", 1L, "CRITICAL", 1L), metrics.getPriorityDistribution());
+        assertEquals(3, metrics.getTotalMilestones());
+        assertEquals(1, metrics.getUpcomingMilestones());
+
+        // Unchanged project on the same day is served from the same snapshot
+        assertSame(metrics, store.get(project, TODAY));
+        verify(taskRepository, times(1)).findByProject(project);
+    }
+
+    @Test
+    void testEventsUpdateAggregateWithoutReloadingProject() {
+        Task open = task(1L, Task.Priority.MEDIUM, 0, false, TODAY.minusDays(1));
+        when(taskRepository.findByProject(project)).thenReturn(List.of(open, task(2L, Task.Priority.LOW, 0, false, null)));
+        when(milestoneRepository.findByProject(project)).thenReturn(List.of());
+        assertEquals(1, store.get(project, TODAY).getOverdueTasks());
+
+        // Task 1 completed, task 2 deleted, a milestone added
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L, Task.Priority.MEDIUM, 100, true, TODAY)));
+        store.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.UPDATED, 1L, 1L, 0));
+        store.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.DELETED, 2L, 1L, 0));
+        when(milestoneRepository.findById(7L)).thenReturn(Optional.of(milestone(7L, TODAY.plusDays(1))));
+        store.onMilestoneChanged(new MilestoneChangedEvent(MilestoneChangedEvent.ChangeType.CREATED, 7L, 1L));
+
+        ProjectMetrics metrics = store.get(project, TODAY);
+        assertEquals(1, metrics.getTotalTasks());
+        assertEquals(1, metrics.getCompletedTasks());
+        assertEquals(0, metrics.getOverdueTasks());
+        assertEquals(Map.of("MEDIUM", 1L), metrics.getPriorityDistribution());
+        assertEquals(1, metrics.getUpcomingMilestones());
+        assertEquals(1, metrics.getCompletionsInLast(7));
+        verify(taskRepository, times(1)).findByProject(project);
+    }
+
+    @Test
+    void testTaskMovedToAnotherProjectLeavesItsOldProject() {
+        Project other = new Project("Outreach", TODAY, TODAY.plusMonths(1), TODAY.plusMonths(2));
+        other.setId(2L);
+        Task moving = task(5L, Task.Priority.HIGH, 0, false, null);
+        when(taskRepository.findByProject(project)).thenReturn(new ArrayList<>(List.of(moving)));
+        when(taskRepository.findByProject(other)).thenReturn(List.of());
+        assertEquals(1, store.get(project, TODAY).getTotalTasks());
+        assertEquals(0, store.get(other, TODAY).getTotalTasks());
+
+        Task moved = task(5L, Task.Priority.HIGH, 0, false, null);
+        moved.setProject(other);
+        when(taskRepository.findById(5L)).thenReturn(Optional.of(moved));
+        store.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.UPDATED, 5L, 2L, 0));
+
+        assertEquals(0, store.get(project, TODAY).getTotalTasks());
+        assertEquals(1, store.get(other, TODAY).getTotalTasks());
+    }
+
+    @Test
+    void testLoadOverlappingChangeIsNotKept() {
+        when(taskRepository.findByProject(project)).thenAnswer(invocation -> {
+            // A write commits while the project is being read
+            store.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.DELETED, 9L, 1L, 0));
+            return List.of(task(9L, Task.Priority.LOW, 0, false, null));
+        });
+
+        store.get(project, TODAY);
+        store.get(project, TODAY);
+
+        verify(taskRepository, times(2)).findByProject(project);
+    }
+
+    @Test
+    void testEvictionInsideTransactionWaitsForCommit() {
+        when(taskRepository.findByProject(project)).thenReturn(List.of());
+        store.get(project, TODAY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            store.evict(1L);
+            // Still the committed state; a reload now would see the project before its deletion
+            store.get(project, TODAY);
+            verify(taskRepository, times(1)).findByProject(project);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        store.get(project, TODAY);
+        verify(taskRepository, times(2)).findByProject(project);
+    }
+
+    @Test
+    void testAggregatesOlderThanMaxAgeAreReloaded() {
+        store = new ProjectMetricsStore(taskRepository, milestoneRepository, teamMemberRepository, subteamRepository,
+                                        0L);
+        when(taskRepository.findByProject(project)).thenReturn(List.of());
+        when(teamMemberRepository.findMembershipRows()).thenReturn(List.of());
+
+        store.get(project, TODAY);
+        store.get(project, TODAY);
+        store.getTeamMetrics();
+        store.getTeamMetrics();
+
+        verify(taskRepository, times(2)).findByProject(project);
+        verify(teamMemberRepository, times(2)).findMembershipRows();
+    }
+
+    @Test
+    void testVelocityFromDailyCompletions() {
+        when(taskRepository.findByProject(project)).thenReturn(List.of(
+            task(1L, Task.Priority.LOW, 100, true, TODAY),
+            task(2L, Task.Priority.LOW, 100, true, TODAY.minusDays(2)),
+            task(3L, Task.Priority.LOW, 100, true, TODAY.minusDays(8)),
+            task(4L, Task.Priority.LOW, 100, true, TODAY.minusDays(40))));
+
+        ProjectMetrics metrics = store.get(project, TODAY);
+
+        assertEquals(3, metrics.getCompletionsInLast(14));
+        assertEquals(0.1, metrics.getAverageCompletionsPerDay(30), 1e-9);
+        // Weeks starting 2026-03-02, 03-09 and 03-16
+        assertEquals(List.of(0, 1, 2), new ArrayList<>(metrics.getWeeklyCompletions(14).values()));
+        assertEquals(LocalDate.of(2026, 3, 2), metrics.getWeeklyCompletions(14).firstKey());
+        assertTrue(metrics.getVelocityVariation(14) > 0);
+    }
+
+    @Test
+    void testTeamMetricsFollowMembershipEvents() {
+        when(subteamRepository.count()).thenReturn(3L);
+        when(teamMemberRepository.findMembershipRows()).thenReturn(List.of(
+            new Object[] {1L, true, 10L},
+            new Object[] {2L, false, 10L},
+            new Object[] {3L, false, null}));
+
+        TeamMetrics metrics = store.getTeamMetrics();
+        assertEquals(3, metrics.getTotalMembers());
+        assertEquals(1, metrics.getLeaderCount());
+        assertEquals(3L, metrics.getTotalSubteams());
+        assertEquals(1, metrics.getActiveSubteams());
+
+        Subteam programming = new Subteam();
+        programming.setId(20L);
+        TeamMember member = new TeamMember("sam", "Sam", "Lee", "sam@example.com");
+        member.setId(3L);
+        member.setSubteam(programming);
+        member.setLeader(true);
+        when(teamMemberRepository.findById(3L)).thenReturn(Optional.of(member));
+        store.onTeamMembershipChanged(new TeamMembershipChangedEvent(
+            TeamMembershipChangedEvent.ChangeType.UPDATED, 3L, 20L));
+        store.onTeamMembershipChanged(new TeamMembershipChangedEvent(
+            TeamMembershipChangedEvent.ChangeType.DELETED, 2L, 10L));
+
+        metrics = store.getTeamMetrics();
+        assertEquals(2, metrics.getTotalMembers());
+        assertEquals(2, metrics.getLeaderCount());
+        assertEquals(2, metrics.getActiveSubteams());
+        verify(teamMemberRepository, times(1)).findMembershipRows();
+    }
+
+    private Task task(Long id, Task.Priority priority, int progress, boolean completed, LocalDate endDate) {
+        Task task = new Task("Task " + id, project, null);
+        task.setId(id);
+        task.setPriority(priority);
+        task.setProgress(progress);
+        task.setCompleted(completed);
+        task.setEndDate(endDate);
+        return task;
+    }
+
+    private Milestone milestone(Long id, LocalDate date) {
+        Milestone milestone = new Milestone("Milestone " + id, date, project);
+        milestone.setId(id);
+        return milestone;
+    }
+}
@@ -4,8 +4,11 @@ package org.frcpm.services.impl;
 
 import org.frcpm.models.Project;
 import org.frcpm.models.Task;
+import org.frcpm.repositories.spring.MilestoneRepository;
 import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.SubteamRepository;
 import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.repositories.spring.TeamMemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +43,15 @@ class ProjectServiceTest {
     @Mock
     private WebSocketEventPublisher webSocketEventPublisher;
     
+    @Mock
+    private MilestoneRepository milestoneRepository;
+    
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+    
+    @Mock
+    private SubteamRepository subteamRepository;
+    
     private ProjectServiceImpl projectService; // ✅ FIXED: Use implementation class
     
     private Project testProject;
@@ -52,7 +64,10 @@ class ProjectServiceTest {
         testProject = createTestProject();
         
         // ✅ FIXED: Create service with WebSocketEventPublisher mock
-        projectService = new ProjectServiceImpl(projectRepository, taskRepository, webSocketEventPublisher);
+        ProjectMetricsStore metricsStore = new ProjectMetricsStore(taskRepository, milestoneRepository,
+                                                                   teamMemberRepository, subteamRepository, 300_000L);
+        projectService = new ProjectServiceImpl(projectRepository, taskRepository, webSocketEventPublisher,
+                                                metricsStore);
         
         // NO mock stubbing in setUp() - move to individual test methods
     }
@@ -500,6 +515,10 @@ class ProjectServiceTest {
         tasks.add(createTestTask(testProject, true));
         tasks.add(createTestTask(testProject, false));
         tasks.add(createTestTask(testProject, false));
+        // Project metrics are kept per task, so each task needs its own ID
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(i + 1L);
+        }
         
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
         when(taskRepository.findByProject(testProject)).thenReturn(tasks);
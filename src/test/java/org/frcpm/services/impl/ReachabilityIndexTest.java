@@ -0,0 +1,80 @@
+// src/test/java/org/frcpm/services/impl/ReachabilityIndexTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.DependencyType;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the transitive-closure reachability index.
+ * Every incremental update must agree with a traversal of the rebuilt graph.
+ */
+class ReachabilityIndexTest {
+
+    private static final int TASK_COUNT = 90;
+
+    @Test
+    void testIncrementalUpdatesMatchGraphTraversal() {
+        Random random = new Random(7);
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task("Task " + i, project, null);
+            task.setId((long) i + 1);
+            tasks.add(task);
+        }
+
+        Map<Long, TaskDependency> dependencies = new LinkedHashMap<>();
+        ReachabilityIndex index = ReachabilityIndex.build(ProjectDependencyGraph.build(tasks, List.of()));
+        assertNotNull(index);
+
+        long nextDependencyId = 1000;
+        for (int step = 0; step < 400; step++) {
+            if (random.nextInt(3) == 0 && !dependencies.isEmpty()) {
+                List<Long> ids = new ArrayList<>(dependencies.keySet());
+                Long id = ids.get(random.nextInt(ids.size()));
+                dependencies.remove(id);
+                index.removeDependency(id);
+            } else {
+                Task prerequisite = tasks.get(random.nextInt(TASK_COUNT));
+                Task dependent = tasks.get(random.nextInt(TASK_COUNT));
+                if (prerequisite == dependent) {
+                    continue;
+                }
+                boolean closesCycle = index.reaches(dependent.getId(), prerequisite.getId());
+                boolean added = index.addDependency(nextDependencyId, prerequisite.getId(), dependent.getId());
+                assertEquals(!closesCycle, added, "step " + step);
+                if (added) {
+                    TaskDependency dependency = new TaskDependency(dependent, prerequisite,
+                                                                   DependencyType.FINISH_TO_START);
+                    dependency.setId(nextDependencyId);
+                    dependencies.put(nextDependencyId, dependency);
+                }
+                nextDependencyId++;
+            }
+
+            if (step % 20 == 0) {
+                ProjectDependencyGraph graph = ProjectDependencyGraph.build(tasks, new ArrayList<>(dependencies.values()));
+                assertTrue(graph.isAcyclic());
+                for (int from = 0; from < TASK_COUNT; from++) {
+                    for (int to = 0; to < TASK_COUNT; to++) {
+                        assertEquals(from == to || graph.isReachable(from, to),
+                                     index.reaches(graph.taskAt(from).getId(), graph.taskAt(to).getId()),
+                                     "step " + step + ": " + from + " -> " + to);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+// src/test/java/org/frcpm/services/impl/ReportJobServiceImplTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.Project;
+import org.frcpm.models.ReportJob;
+import org.frcpm.repositories.spring.ProjectRepository;
+import org.frcpm.repositories.spring.ReportJobRepository;
+import org.frcpm.services.ExportService;
+import org.frcpm.services.ReportJobService;
+import org.frcpm.services.ReportingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for ReportJobServiceImpl and its artifact store.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 3, 0, 5);
+    private static final String WEEKLY = "0 0 3 * * MON";
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ReportingService reportingService;
+
+    @Mock
+    private ExportService exportService;
+
+    @TempDir
+    Path artifactDir;
+
+    private ReportArtifactStore artifactStore;
+    private ThreadPoolExecutor workers;
+    private ReportJobServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        artifactStore = new ReportArtifactStore(artifactDir.toString(), 14);
+        workers = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(3));
+        service = new ReportJobServiceImpl(reportJobRepository, projectRepository, artifactStore,
+                                           reportingService, exportService, true, workers);
+    }
+
+    @Test
+    void testDueJobIsClaimedRunAndStoredCompressed() throws Exception {
+        ReportJob job = job(7L, "tasks", "csv");
+        when(reportJobRepository.findDue(NOW, PageRequest.of(0, 3))).thenReturn(List.of(job));
+        LocalDateTime nextWeek = LocalDateTime.of(2026, 3, 23, 3, 0);
+        when(reportJobRepository.claim(7L, job.getNextRunAt(), nextWeek, NOW)).thenReturn(1);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("ID,Title\r\n1,Build drivetrain\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportProjectTasks(eq(1L), eq(true), eq(ExportService.Format.CSV), any());
+
+        assertEquals(1, service.dispatchDueJobs(NOW));
+        awaitWorkers();
+
+        verify(reportJobRepository).recordRun(7L, ReportJob.RunStatus.SUCCEEDED, null);
+        ReportJobService.Artifact artifact = artifactStore.latest(7L, NOW).orElseThrow();
+        assertEquals(NOW, artifact.getCreatedAt());
+        assertEquals("text/csv", artifact.getContentType());
+        assertEquals(artifactDir.resolve("job-7").resolve("20260316-030005.csv.gz"), artifact.getPath());
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        service.writeArtifact(artifact, content, false);
+        assertEquals("ID,Title\r\n1,Build drivetrain\r\n", content.toString(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        service.writeArtifact(artifact, stored, true);
+        // gzip magic number
+        assertEquals((byte) 0x1f, stored.toByteArray()[0]);
+        assertEquals((byte) 0x8b, stored.toByteArray()[1]);
+    }
+
+    @Test
+    void testRunTakenByAnotherInstanceIsSkipped() {
+        ReportJob job = job(7L, "tasks", "csv");
+        when(reportJobRepository.findDue(NOW, PageRequest.of(0, 3))).thenReturn(List.of(job));
+        when(reportJobRepository.claim(eq(7L), eq(job.getNextRunAt()), any(), eq(NOW))).thenReturn(0);
+
+        assertEquals(0, service.dispatchDueJobs(NOW));
+
+        verifyNoInteractions(exportService);
+        verify(reportJobRepository, never()).recordRun(any(), any(), any());
+    }
+
+    @Test
+    void testFailedRunIsRecordedAndLeavesNoFile() throws Exception {
+        ReportJob job = job(8L, "attendance", "pdf");
+        when(reportJobRepository.findDue(NOW, PageRequest.of(0, 3))).thenReturn(List.of(job));
+        when(reportJobRepository.claim(eq(8L), any(), any(), eq(NOW))).thenReturn(1);
+        doThrow(new IOException("disk full"))
+            .when(exportService).exportAttendance(eq(1L), eq(ExportService.Format.PDF), any());
+
+        service.dispatchDueJobs(NOW);
+        awaitWorkers();
+
+        verify(reportJobRepository).recordRun(8L, ReportJob.RunStatus.FAILED, "IOException: disk full");
+        assertTrue(artifactStore.latest(8L, NOW).isEmpty());
+        try (Stream<Path> files = Files.list(artifactDir.resolve("job-8"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testJsonReportIsServedFromTheLatestRun() throws Exception {
+        // Stored reports are looked up against the clock
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        ReportJob job = job(9L, "mentor_weekly", "json");
+        when(reportJobRepository.findDue(now, PageRequest.of(0, 3))).thenReturn(List.of(job));
+        when(reportJobRepository.claim(eq(9L), any(), any(), eq(now))).thenReturn(1);
+        when(reportingService.generateCustomReport(eq("mentor_weekly"), anyMap())).thenReturn(Map.of(
+            "reportType", "mentor_weekly",
+            "data", Map.of("completedTasks", 12, "projectEndDate", LocalDate.of(2026, 4, 1))));
+        when(reportJobRepository.findFirstByProjectIdAndReportTypeAndFormatAndActiveTrueOrderByIdAsc(
+            1L, "mentor_weekly", "json")).thenReturn(Optional.of(job));
+
+        service.dispatchDueJobs(now);
+        awaitWorkers();
+
+        Map<String, Object> report = service.findLatestReport(1L, "mentor_weekly").orElseThrow();
+        assertEquals(Map.of("completedTasks", 12, "projectEndDate", "2026-04-01"), report.get("data"));
+        verify(reportingService).generateCustomReport("mentor_weekly", Map.of("projectId", 1L));
+    }
+
+    @Test
+    void testReportComputedOnDemandIsServedUntilTheNextRun() throws Exception {
+        ReportJob job = job(9L, "mentor_weekly", "json");
+        when(reportJobRepository.findFirstByProjectIdAndReportTypeAndFormatAndActiveTrueOrderByIdAsc(
+            1L, "mentor_weekly", "json")).thenReturn(Optional.of(job));
+
+        service.storeReport(9L, Map.of(
+            "reportType", "mentor_weekly",
+            "data", Map.of("completedTasks", 4, "reportGeneratedAt", LocalDateTime.of(2026, 3, 16, 9, 30))));
+
+        Map<String, Object> report = service.findLatestReport(1L, "mentor_weekly").orElseThrow();
+        assertEquals(Map.of("completedTasks", 4, "reportGeneratedAt", "2026-03-16T09:30:00"), report.get("data"));
+        verifyNoInteractions(reportingService);
+    }
+
+    @Test
+    void testExpiredArtifactsAreHiddenAndEvicted() throws Exception {
+        artifactStore.write(3L, "csv", NOW.minusDays(20), out -> out.write('a'));
+        artifactStore.write(3L, "csv", NOW.minusDays(1), out -> out.write('b'));
+        artifactStore.write(4L, "json", NOW.minusDays(15), out -> out.write('c'));
+
+        assertEquals(NOW.minusDays(1), artifactStore.latest(3L, NOW).orElseThrow().getCreatedAt());
+        assertTrue(artifactStore.latest(4L, NOW).isEmpty());
+
+        assertEquals(2, artifactStore.evictExpired(NOW));
+        try (Stream<Path> files = Files.list(artifactDir.resolve("job-3"))) {
+            assertEquals(List.of("20260315-030005.csv.gz"),
+                         files.map(file -> file.getFileName().toString()).toList());
+        }
+        assertFalse(Files.exists(artifactDir.resolve("job-4")));
+    }
+
+    @Test
+    void testScheduleRejectsUnusableRequests() {
+        assertEquals("json", ReportJobServiceImpl.artifactFormat("risk_analysis", null));
+        assertEquals("xlsx", ReportJobServiceImpl.artifactFormat("tasks", "excel"));
+        assertEquals("csv", ReportJobServiceImpl.artifactFormat("transactions", ""));
+        assertThrows(IllegalArgumentException.class, () -> ReportJobServiceImpl.artifactFormat("tasks", "json"));
+        assertThrows(IllegalArgumentException.class, () -> ReportJobServiceImpl.artifactFormat("risk_analysis", "pdf"));
+        assertThrows(IllegalArgumentException.class, () -> ReportJobServiceImpl.artifactFormat("tasks", "docx"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.schedule(1L, "tasks", "csv", "every monday"));
+        assertEquals(LocalDateTime.of(2026, 3, 23, 3, 0), ReportJobServiceImpl.nextRun(WEEKLY, NOW));
+        verifyNoInteractions(reportJobRepository);
+    }
+
+    private static ReportJob job(Long id, String reportType, String format) {
+        Project project = new Project();
+        project.setId(1L);
+        ReportJob job = new ReportJob(project, reportType, format, WEEKLY, LocalDateTime.of(2026, 3, 16, 3, 0));
+        job.setId(id);
+        return job;
+    }
+
+    private void awaitWorkers() throws InterruptedException {
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
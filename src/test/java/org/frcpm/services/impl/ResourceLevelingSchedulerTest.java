@@ -0,0 +1,123 @@
+// src/test/java/org/frcpm/services/impl/ResourceLevelingSchedulerTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.models.DependencyType;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the resource-levelling list scheduler.
+ * Schedules must respect dependencies, lags and member capacity.
+ */
+class ResourceLevelingSchedulerTest {
+
+    private static final int TASK_COUNT = 1000;
+    private static final int MEMBER_COUNT = 25;
+
+    @Test
+    void testLargeProjectIsFeasibleWithinBudget() {
+        Random random = new Random(11);
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task("Task " + i, project, null);
+            task.setId((long) i + 1);
+            task.setEstimatedDuration(Duration.ofHours(1 + random.nextInt(16)));
+            tasks.add(task);
+        }
+        List<TaskDependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT * 2; i++) {
+            int from = random.nextInt(TASK_COUNT - 1);
+            int to = from + 1 + random.nextInt(Math.min(40, TASK_COUNT - from - 1));
+            TaskDependency dependency = new TaskDependency(tasks.get(to), tasks.get(from), DependencyType.FINISH_TO_START);
+            dependency.setId(1000L + i);
+            dependency.setLagHours(random.nextInt(3));
+            dependencies.add(dependency);
+        }
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(tasks, dependencies);
+
+        double[] workHours = new double[TASK_COUNT];
+        int[][] taskMembers = new int[TASK_COUNT][];
+        for (int i = 0; i < TASK_COUNT; i++) {
+            workHours[i] = graph.durationHours(i);
+            taskMembers[i] = random.nextInt(10) == 0 ? new int[0] :
+                random.ints(0, MEMBER_COUNT).distinct().limit(1 + random.nextInt(2)).toArray();
+        }
+        double[] availability = new double[MEMBER_COUNT];
+        for (int m = 0; m < MEMBER_COUNT; m++) {
+            availability[m] = 0.5 + random.nextDouble() / 2;
+        }
+
+        ResourceLevelingScheduler scheduler = new ResourceLevelingScheduler(graph, workHours, taskMembers,
+                                                                            availability, ForkJoinPool.commonPool());
+        long started = System.nanoTime();
+        ResourceLevelingScheduler.LevelledSchedule schedule = scheduler.solve(Duration.ofMillis(300));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Generous bound for shared CI machines; the budget itself is 300 ms
+        assertTrue(elapsedMillis < 2000, "took " + elapsedMillis + " ms");
+        assertTrue(schedule.getEvaluatedSchedules() >= ResourceLevelingScheduler.PriorityRule.values().length);
+        assertTrue(schedule.getMakespan() <= schedule.getBaselineMakespan() + 1e-6);
+        assertTrue(schedule.getMakespan() >= graph.computeCriticalPath().getProjectFinish() - 1e-6);
+
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            int from = graph.edgeSource(e);
+            int to = graph.edgeTarget(e);
+            assertTrue(schedule.getStart(to) + 1e-6 >= schedule.getFinish(from) + graph.edgeLagHours(e),
+                       "dependency " + from + " -> " + to);
+        }
+
+        for (int m = 0; m < MEMBER_COUNT; m++) {
+            List<double[]> intervals = new ArrayList<>();
+            for (int i = 0; i < TASK_COUNT; i++) {
+                for (int member : taskMembers[i]) {
+                    if (member == m) {
+                        intervals.add(new double[]{schedule.getStart(i), schedule.getFinish(i)});
+                    }
+                }
+            }
+            intervals.sort(Comparator.comparingDouble(interval -> interval[0]));
+            for (int k = 1; k < intervals.size(); k++) {
+                assertTrue(intervals.get(k)[0] + 1e-6 >= intervals.get(k - 1)[1], "member " + m + " double-booked");
+            }
+            assertTrue(schedule.getMemberUtilization(m) <= 1.0 + 1e-6);
+        }
+    }
+
+    @Test
+    void testSharedMemberSerializesWorkAndAvailabilityStretchesIt() {
+        Project project = new Project("Season", LocalDate.now(), LocalDate.now().plusDays(40),
+                                      LocalDate.now().plusDays(45));
+        project.setId(1L);
+        Task first = new Task("First", project, null);
+        first.setId(1L);
+        Task second = new Task("Second", project, null);
+        second.setId(2L);
+        ProjectDependencyGraph graph = ProjectDependencyGraph.build(List.of(first, second), List.of());
+        int[][] taskMembers = {{0}, {0}};
+
+        ResourceLevelingScheduler.LevelledSchedule fullTime = new ResourceLevelingScheduler(
+            graph, new double[]{10, 10}, taskMembers, new double[]{1.0}, ForkJoinPool.commonPool())
+            .solve(Duration.ofMillis(20));
+        ResourceLevelingScheduler.LevelledSchedule halfTime = new ResourceLevelingScheduler(
+            graph, new double[]{10, 10}, taskMembers, new double[]{0.5}, ForkJoinPool.commonPool())
+            .solve(Duration.ofMillis(20));
+
+        assertEquals(20.0, fullTime.getMakespan(), 1e-6);
+        assertEquals(40.0, halfTime.getMakespan(), 1e-6);
+        assertEquals(1.0, halfTime.getMemberUtilization(0), 1e-6);
+    }
+}
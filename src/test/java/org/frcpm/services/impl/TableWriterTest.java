@@ -0,0 +1,119 @@
+// src/test/java/org/frcpm/services/impl/TableWriterTest.java
+
+package org.frcpm.services.impl;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.frcpm.models.Task;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CSV, Excel and PDF export table writers.
+ */
+class TableWriterTest {
+
+    private static final List<String> COLUMNS = List.of("ID", "Title", "Priority", "Due", "Cost", "Done");
+
+    @Test
+    void testCsvQuotesOnlyWhereNeeded() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter writer = new CsvTableWriter(out);
+
+        writer.header(COLUMNS);
+        writer.row(1L, "Drive, \"tank\" style", Task.Priority.HIGH, LocalDate.of(2026, 2, 1),
+                   new BigDecimal("12.50"), true);
+        writer.row(2L, "Line one\nline two", null, null, null, false);
+        writer.finish();
+
+        assertEquals("ID,Title,Priority,Due,Cost,Done\r\n" +
+                     "1,\"Drive, \"\"tank\"\" style\",HIGH,2026-02-01,12.50,true\r\n" +
+                     "2,\"Line one\nline two\",,,,false\r\n",
+                     out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testXlsxIsACompleteWorkbookWithTypedCells() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter writer = new XlsxTableWriter(out, "Project Tasks");
+
+        writer.header(COLUMNS);
+        writer.row(7L, "Wire <CAN> & test", Task.Priority.LOW, LocalDate.of(2026, 2, 1), 3.25, false);
+        writer.finish();
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertTrue(entries.keySet().containsAll(List.of(
+            "[Content_Types].xml", "_rels/.rels", "xl/workbook.xml", "xl/_rels/workbook.xml.rels",
+            "xl/styles.xml", "xl/worksheets/sheet1.xml")));
+        assertTrue(entries.get("xl/workbook.xml").contains("name=\"Project Tasks\""));
+
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<row r=\"1\"><c s=\"1\" t=\"inlineStr\"><is><t xml:space=\"preserve\">ID</t>"));
+        assertTrue(sheet.contains("<row r=\"2\"><c><v>7</v></c>"));
+        assertTrue(sheet.contains("Wire &lt;CAN&gt; &amp; test"));
+        assertTrue(sheet.contains("<c><v>3.25</v></c><c t=\"b\"><v>0</v></c></row>"));
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    @Test
+    void testPdfRepeatsHeadersOnEveryPage() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter writer = new PdfTableWriter(out, "Project Tasks");
+
+        writer.header(COLUMNS);
+        for (int i = 1; i <= 120; i++) {
+            writer.row((long) i, "Task " + i + " – élan", Task.Priority.MEDIUM, LocalDate.of(2026, 2, 1),
+                       null, i % 2 == 0);
+        }
+        writer.finish();
+
+        try (PDDocument document = PDDocument.load(out.toByteArray())) {
+            assertTrue(document.getNumberOfPages() >= 3);
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(document.getNumberOfPages());
+            stripper.setEndPage(document.getNumberOfPages());
+            String lastPage = stripper.getText(document);
+            assertTrue(lastPage.contains("Project Tasks"));
+            assertTrue(lastPage.contains("Priority"));
+            assertTrue(lastPage.contains("Task 120 ? élan"));
+            assertTrue(lastPage.contains("Page " + document.getNumberOfPages()));
+        }
+    }
+
+    @Test
+    void testPdfWithNoRowsStillHasAPage() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TableWriter writer = new PdfTableWriter(out, "Empty");
+
+        writer.header(COLUMNS);
+        writer.finish();
+
+        try (PDDocument document = PDDocument.load(out.toByteArray())) {
+            assertEquals(1, document.getNumberOfPages());
+        }
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
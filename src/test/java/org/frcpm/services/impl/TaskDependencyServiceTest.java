@@ -0,0 +1,456 @@
+// src/test/java/org/frcpm/services/impl/TaskDependencyServiceTest.java
+
+package org.frcpm.services.impl;
+
+import org.frcpm.events.DependencyChangedEvent;
+import org.frcpm.events.TaskChangedEvent;
+import org.frcpm.events.WebSocketEventPublisher;
+import org.frcpm.models.Attendance;
+import org.frcpm.models.DependencyType;
+import org.frcpm.models.Meeting;
+import org.frcpm.models.Project;
+import org.frcpm.models.Task;
+import org.frcpm.models.TaskDependency;
+import org.frcpm.models.TeamMember;
+import org.frcpm.repositories.spring.AttendanceRepository;
+import org.frcpm.repositories.spring.TaskDependencyBatchWriter;
+import org.frcpm.repositories.spring.TaskDependencyRepository;
+import org.frcpm.repositories.spring.TaskRepository;
+import org.frcpm.services.TaskDependencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for TaskDependencyService implementation.
+ * Graph traversals and CPM run against a graph loaded with one task query
+ * and one dependency query per operation.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskDependencyServiceTest {
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private TaskDependencyBatchWriter batchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private WebSocketEventPublisher webSocketEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CriticalPathScheduleCache scheduleCache;
+
+    private ReachabilityIndexCache reachabilityCache;
+
+    private TaskDependencyServiceImpl dependencyService;
+
+    private Project testProject;
+    private Task design;
+    private Task fabricate;
+    private Task wiring;
+    private Task assembly;
+    private List<Task> tasks;
+    private List<TaskDependency> dependencies;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate now = LocalDate.now();
+        testProject = new Project("Test Project", now, now.plusDays(40), now.plusDays(45));
+        testProject.setId(1L);
+
+        // design(10h) -> fabricate(20h) -> assembly(5h)
+        // design(10h) -> wiring(4h, +2h lag) -> assembly
+        design = createTask(1L, "Design", 10);
+        fabricate = createTask(2L, "Fabricate", 20);
+        wiring = createTask(3L, "Wiring", 4);
+        assembly = createTask(4L, "Assembly", 5);
+        tasks = List.of(design, fabricate, wiring, assembly);
+
+        dependencies = new ArrayList<>();
+        dependencies.add(createDependency(10L, fabricate, design, 0));
+        dependencies.add(createDependency(11L, wiring, design, 2));
+        dependencies.add(createDependency(12L, assembly, fabricate, 0));
+        dependencies.add(createDependency(13L, assembly, wiring, 0));
+
+        scheduleCache = new CriticalPathScheduleCache();
+        reachabilityCache = new ReachabilityIndexCache();
+        dependencyService = new TaskDependencyServiceImpl(taskDependencyRepository, taskRepository,
+                                                          attendanceRepository, batchWriter,
+                                                          scheduleCache, reachabilityCache, eventPublisher,
+                                                          webSocketEventPublisher, transactionManager);
+    }
+
+    private Task createTask(Long id, String title, int hours) {
+        Task task = new Task(title, testProject, null);
+        task.setId(id);
+        task.setEstimatedDuration(Duration.ofHours(hours));
+        return task;
+    }
+
+    private TaskDependency createDependency(Long id, Task dependent, Task prerequisite, int lagHours) {
+        TaskDependency dependency = new TaskDependency(dependent, prerequisite, DependencyType.FINISH_TO_START);
+        dependency.setId(id);
+        dependency.setLagHours(lagHours);
+        return dependency;
+    }
+
+    private void stubGraph() {
+        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        when(taskDependencyRepository.findByProjectAndActive(testProject, true)).thenReturn(dependencies);
+    }
+
+    @Test
+    void testCalculateCriticalPath() {
+        stubGraph();
+
+        TaskDependencyService.CriticalPathResult result = dependencyService.calculateCriticalPath(testProject);
+
+        assertEquals(35.0, result.getTotalDuration(), 0.001);
+        assertEquals(List.of(design, fabricate, assembly), result.getCriticalPath());
+        assertEquals(0.0, result.getTaskFloats().get(design), 0.001);
+        assertEquals(14.0, result.getTaskFloats().get(wiring), 0.001);
+        assertEquals(2, result.getCriticalDependencies().size());
+
+        // Constant number of queries regardless of graph size
+        verify(taskRepository, times(1)).findByProject(testProject);
+        verify(taskDependencyRepository, times(1)).findByProjectAndActive(testProject, true);
+        verify(taskDependencyRepository, never()).findByDependentTaskAndPrerequisiteTask(any(), any());
+        verify(taskDependencyRepository, never()).findByDependentTaskAndActive(any(), anyBoolean());
+        verify(taskDependencyRepository, never()).findByPrerequisiteTaskAndActive(any(), anyBoolean());
+    }
+
+    @Test
+    void testTransitiveQueries() {
+        stubGraph();
+
+        assertEquals(Set.of(design, fabricate, wiring), dependencyService.getAllPrerequisites(assembly));
+        assertEquals(Set.of(fabricate, wiring, assembly), dependencyService.getAllDependents(design));
+
+        List<Task> path = dependencyService.findShortestDependencyPath(design, assembly);
+        assertEquals(3, path.size());
+        assertEquals(design, path.get(0));
+        assertEquals(assembly, path.get(2));
+        assertTrue(dependencyService.findShortestDependencyPath(assembly, design).isEmpty());
+    }
+
+    @Test
+    void testWouldCreateCycle() {
+        stubGraph();
+
+        // assembly -> design would close design -> ... -> assembly
+        assertTrue(dependencyService.wouldCreateCycle(design, assembly));
+        // A redundant shortcut along existing direction is not a cycle
+        assertFalse(dependencyService.wouldCreateCycle(assembly, design));
+        assertFalse(dependencyService.wouldCreateCycle(wiring, fabricate));
+    }
+
+    @Test
+    void testWouldCreateCycle_ServedFromReachabilityIndex() {
+        stubGraph();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(dependencyService.wouldCreateCycle(design, assembly));
+            assertFalse(dependencyService.wouldCreateCycle(assembly, design));
+        }
+
+        // Only the first check compiled the graph
+        verify(taskRepository, times(1)).findByProject(testProject);
+        verify(taskDependencyRepository, times(1)).findByProjectAndActive(testProject, true);
+    }
+
+    @Test
+    void testCreateDependency_UpdatesReachabilityIndexImmediately() {
+        Task inspection = createTask(5L, "Inspection", 2);
+        tasks = List.of(design, fabricate, wiring, assembly, inspection);
+        stubGraph();
+        when(taskDependencyRepository.save(any(TaskDependency.class))).thenAnswer(invocation -> {
+            TaskDependency saved = invocation.getArgument(0);
+            saved.setId(20L);
+            return saved;
+        });
+
+        dependencyService.createDependency(inspection, assembly, DependencyType.FINISH_TO_START);
+
+        // inspection now follows assembly, so making design depend on it is a cycle
+        assertTrue(dependencyService.wouldCreateCycle(design, inspection));
+        assertThrows(IllegalArgumentException.class,
+            () -> dependencyService.createDependency(design, inspection, DependencyType.FINISH_TO_START));
+        verify(taskRepository, times(1)).findByProject(testProject);
+
+        // Removing the edge through the committed event clears the reachability
+        reachabilityCache.onDependencyChanged(new DependencyChangedEvent(DependencyChangedEvent.ChangeType.DELETED,
+                                                                         20L, 1L, 4L, 5L, 0, true));
+        assertFalse(dependencyService.wouldCreateCycle(design, inspection));
+    }
+
+    @Test
+    void testCreateDependency_SharedReachabilityIndexChangesOnlyOnCommit() {
+        Task inspection = createTask(5L, "Inspection", 2);
+        tasks = List.of(design, fabricate, wiring, assembly, inspection);
+        stubGraph();
+        when(taskDependencyRepository.save(any(TaskDependency.class))).thenAnswer(invocation -> {
+            TaskDependency saved = invocation.getArgument(0);
+            saved.setId(20L);
+            return saved;
+        });
+        // Shared index of the committed graph
+        assertFalse(dependencyService.wouldCreateCycle(design, inspection));
+
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> {
+            dependencyService.createDependency(inspection, assembly, DependencyType.FINISH_TO_START);
+            // The transaction sees its own edge
+            assertTrue(dependencyService.wouldCreateCycle(design, inspection));
+        });
+        // Rolled back: the shared index never had the edge
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertFalse(dependencyService.wouldCreateCycle(design, inspection));
+
+        synchronizations = inTransaction(
+            () -> dependencyService.createDependency(inspection, assembly, DependencyType.FINISH_TO_START));
+        // Other requests do not see it before commit
+        assertFalse(dependencyService.wouldCreateCycle(design, inspection));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        reachabilityCache.onDependencyChanged(new DependencyChangedEvent(DependencyChangedEvent.ChangeType.CREATED,
+                                                                         20L, 1L, 4L, 5L, 0, true));
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertTrue(dependencyService.wouldCreateCycle(design, inspection));
+
+        // Every check was answered from an index built once
+        verify(taskRepository, times(1)).findByProject(testProject);
+    }
+
+    @Test
+    void testReachabilityIndexBuiltInTransactionIsSharedOnlyIfStillCurrent() {
+        stubGraph();
+
+        // Another transaction commits an edge while this one holds its build
+        List<TransactionSynchronization> synchronizations =
+            inTransaction(() -> assertTrue(dependencyService.wouldCreateCycle(design, assembly)));
+        reachabilityCache.onDependencyChanged(new DependencyChangedEvent(DependencyChangedEvent.ChangeType.CREATED,
+                                                                         21L, 1L, 2L, 3L, 0, true));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertTrue(dependencyService.wouldCreateCycle(design, assembly));
+        verify(taskRepository, times(2)).findByProject(testProject);
+
+        // Nothing else committed: the build is shared
+        reachabilityCache.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.DELETED, 9L, 1L, 0L));
+        synchronizations = inTransaction(() -> assertFalse(dependencyService.wouldCreateCycle(assembly, design)));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertTrue(dependencyService.wouldCreateCycle(design, assembly));
+        verify(taskRepository, times(3)).findByProject(testProject);
+    }
+
+    /**
+     * Runs the work with transaction synchronization active, as inside a
+     * transaction, and returns the synchronizations it registered.
+     */
+    private List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testDetectCycles() {
+        dependencies.add(createDependency(14L, design, assembly, 0));
+        stubGraph();
+
+        List<List<Task>> cycles = dependencyService.detectCycles(testProject);
+
+        assertEquals(1, cycles.size());
+        assertEquals(design, cycles.get(0).get(0));
+        assertTrue(cycles.get(0).contains(assembly));
+    }
+
+    @Test
+    void testDetectCycles_NoCycles() {
+        stubGraph();
+
+        assertTrue(dependencyService.detectCycles(testProject).isEmpty());
+    }
+
+    @Test
+    void testCalculateTaskFloat_ServedFromCachedSchedule() {
+        stubGraph();
+        TaskDependencyService.CriticalPathResult first = dependencyService.calculateCriticalPath(testProject);
+
+        assertEquals(14.0, dependencyService.calculateTaskFloat(wiring), 0.001);
+        assertTrue(first.getScheduleVersion() > 0);
+
+        // Only the initial critical path run touched the repositories
+        verify(taskRepository, times(1)).findByProject(testProject);
+        verify(taskDependencyRepository, times(1)).findByProjectAndActive(testProject, true);
+    }
+
+    @Test
+    void testIncrementalUpdates() {
+        stubGraph();
+        dependencyService.calculateCriticalPath(testProject);
+        CriticalPathSchedule schedule = scheduleCache.get(1L);
+        long version = schedule.getVersion();
+
+        // Wiring grows from 4h to 20h: wiring path (10 + 2 + 20 + 5 = 37) becomes critical
+        scheduleCache.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.UPDATED, 3L, 1L,
+                                                         Duration.ofHours(20).getSeconds()));
+        assertEquals(37.0, schedule.getProjectFinish(), 0.001);
+        assertEquals(0.0, dependencyService.calculateTaskFloat(wiring), 0.001);
+        assertEquals(2.0, dependencyService.calculateTaskFloat(fabricate), 0.001);
+        assertTrue(schedule.getVersion() > version);
+
+        // Drop the wiring lag: fabricate path is critical again alongside wiring
+        scheduleCache.onDependencyChanged(new DependencyChangedEvent(DependencyChangedEvent.ChangeType.UPDATED,
+                                                                     11L, 1L, 1L, 3L, 0, true));
+        assertEquals(35.0, schedule.getProjectFinish(), 0.001);
+        assertEquals(0.0, dependencyService.calculateTaskFloat(fabricate), 0.001);
+
+        // Remove design -> fabricate: fabricate can start at 0
+        scheduleCache.onDependencyChanged(new DependencyChangedEvent(DependencyChangedEvent.ChangeType.DELETED,
+                                                                     10L, 1L, 1L, 2L, 0, true));
+        assertEquals(0.0, schedule.getEarliestStart(2L), 0.001);
+        assertEquals(10.0, dependencyService.calculateTaskFloat(fabricate), 0.001);
+
+        // A new task cannot be applied incrementally and drops the cached schedule
+        scheduleCache.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.ChangeType.CREATED, 5L, 1L, 3600));
+        assertNull(scheduleCache.get(1L));
+    }
+
+    @Test
+    void testCreateBulkDependencies_SingleBatch() {
+        Task inspection = createTask(5L, "Inspection", 2);
+        Task shipping = createTask(6L, "Shipping", 1);
+        tasks = List.of(design, fabricate, wiring, assembly, inspection, shipping);
+        when(taskRepository.findAllById(any())).thenReturn(tasks);
+        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        List<TaskDependency> persisted = new ArrayList<>(dependencies);
+        persisted.add(createDependency(20L, inspection, assembly, 0));
+        persisted.add(createDependency(21L, shipping, inspection, 0));
+        when(taskDependencyRepository.findByProject(testProject)).thenReturn(dependencies, persisted);
+
+        List<TaskDependency> created = dependencyService.createBulkDependencies(List.of(
+            new TaskDependencyService.DependencySpec(inspection, assembly, DependencyType.FINISH_TO_START),
+            new TaskDependencyService.DependencySpec(shipping, inspection, DependencyType.FINISH_TO_START),
+            // Already exists and is skipped
+            new TaskDependencyService.DependencySpec(fabricate, design, DependencyType.FINISH_TO_START)));
+
+        assertEquals(List.of(20L, 21L), created.stream().map(TaskDependency::getId).toList());
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(batchWriter, times(1)).insertAll(argThat(rows -> rows.size() == 2));
+        verify(taskDependencyRepository, never()).save(any());
+        verify(webSocketEventPublisher, times(1)).publishKanbanRefresh(eq(1L), anyString());
+        verify(eventPublisher, times(2)).publishEvent(any(DependencyChangedEvent.class));
+    }
+
+    @Test
+    void testCreateBulkDependencies_ReportsEveryCycle() {
+        Task inspection = createTask(5L, "Inspection", 2);
+        Task shipping = createTask(6L, "Shipping", 1);
+        tasks = List.of(design, fabricate, wiring, assembly, inspection, shipping);
+        when(taskRepository.findAllById(any())).thenReturn(tasks);
+        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        when(taskDependencyRepository.findByProject(testProject)).thenReturn(dependencies);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> dependencyService.createBulkDependencies(List.of(
+                new TaskDependencyService.DependencySpec(design, assembly, DependencyType.FINISH_TO_START),
+                new TaskDependencyService.DependencySpec(inspection, shipping, DependencyType.FINISH_TO_START),
+                new TaskDependencyService.DependencySpec(shipping, inspection, DependencyType.FINISH_TO_START))));
+
+        assertTrue(error.getMessage().contains("2 circular chain(s)"), error.getMessage());
+        assertTrue(error.getMessage().contains("[Design, Fabricate, Wiring, Assembly]"), error.getMessage());
+        assertTrue(error.getMessage().contains("[Inspection, Shipping]"), error.getMessage());
+        verifyNoInteractions(batchWriter, webSocketEventPublisher);
+    }
+
+    @Test
+    void testOptimizeSchedule_LevelsSharedMemberByAttendance() {
+        TeamMember builder = new TeamMember("builder", "Casey", "Lee", "casey@example.com");
+        builder.setId(7L);
+        fabricate.setAssignedTo(new HashSet<>(Set.of(builder)));
+        wiring.setAssignedTo(new HashSet<>(Set.of(builder)));
+        when(taskRepository.findByProjectWithAssignments(testProject)).thenReturn(tasks);
+        when(taskDependencyRepository.findByProjectAndActive(testProject, true)).thenReturn(dependencies);
+
+        // Present for half of a three-hour build session
+        Meeting session = new Meeting(LocalDate.now().minusDays(1), LocalTime.of(15, 0), LocalTime.of(18, 0), testProject);
+        Attendance attendance = new Attendance(session, builder, true);
+        attendance.setArrivalTime(LocalTime.of(15, 0));
+        attendance.setDepartureTime(LocalTime.of(16, 30));
+        when(attendanceRepository.findByProjectIdWithMeeting(1L)).thenReturn(List.of(attendance));
+
+        TaskDependencyService.ScheduleOptimizationResult result = dependencyService.optimizeSchedule(testProject);
+
+        // design 0-10, fabricate 10-50, wiring 50-58, assembly 58-63
+        assertEquals(63.0, result.getMakespanHours(), 0.001);
+        assertEquals(48.0, result.getMemberLoadHours().get(builder), 0.001);
+        assertEquals(50.0, result.getScheduledStartHours().get(wiring), 0.001);
+        assertEquals(38, result.getSuggestedAdjustments().get(wiring));
+        assertTrue(result.getRecommendations().get(0).contains("63 hours"));
+    }
+
+    @Test
+    void testOptimizeSchedule_ComparesWithRemainingWorkCriticalPath() {
+        TeamMember builder = new TeamMember("builder", "Casey", "Lee", "casey@example.com");
+        builder.setId(7L);
+        fabricate.setAssignedTo(new HashSet<>(Set.of(builder)));
+        wiring.setAssignedTo(new HashSet<>(Set.of(builder)));
+        design.setProgress(50);
+        when(taskRepository.findByProjectWithAssignments(testProject)).thenReturn(tasks);
+        when(taskDependencyRepository.findByProjectAndActive(testProject, true)).thenReturn(dependencies);
+        when(attendanceRepository.findByProjectIdWithMeeting(1L)).thenReturn(List.of());
+
+        TaskDependencyService.ScheduleOptimizationResult result = dependencyService.optimizeSchedule(testProject);
+
+        // Remaining work: design 0-5, fabricate 5-25, wiring 25-29, assembly 29-34;
+        // without the shared builder wiring would start at 7 and the project end at 30
+        assertEquals(34.0, result.getMakespanHours(), 0.001);
+        assertEquals(18, result.getSuggestedAdjustments().get(wiring));
+        assertTrue(result.getRecommendations().get(0).contains("34 hours (dependency-only estimate: 30 hours)"),
+                   result.getRecommendations().get(0));
+    }
+
+    @Test
+    void testSimulateCompletion() {
+        stubGraph();
+
+        TaskDependencyService.ScheduleSimulationResult result = dependencyService.simulateCompletion(testProject, 5_000);
+
+        // The wiring branch can never catch up with fabrication
+        assertEquals(1.0, result.getCriticalityIndex().get(fabricate), 1e-9);
+        assertEquals(0.0, result.getCriticalityIndex().get(wiring), 1e-9);
+        assertTrue(result.getP50Hours() >= 35.0 * 0.8 && result.getP95Hours() <= 35.0 * 1.6);
+        assertFalse(result.getP80Date().isAfter(result.getP95Date()));
+        assertEquals(1.0, result.getDeadlineProbability(), 1e-9);
+    }
+}
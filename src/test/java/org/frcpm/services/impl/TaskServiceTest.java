@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -50,6 +51,9 @@ class TaskServiceTest {
     @Mock
     private WebSocketEventPublisher webSocketEventPublisher;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     private TaskServiceImpl taskService; // ✅ Use implementation class, not interface
     
     private Task testTask;
@@ -68,7 +72,7 @@ class TaskServiceTest {
         testTask = createTestTask();
         
         // ✅ FIXED: Create service with WebSocketEventPublisher mock
-        taskService = new TaskServiceImpl(taskRepository, projectRepository, componentRepository, webSocketEventPublisher);
+        taskService = new TaskServiceImpl(taskRepository, projectRepository, componentRepository, webSocketEventPublisher, eventPublisher);
         
         // NO mock stubbing in setUp() - move to individual test methods
     }
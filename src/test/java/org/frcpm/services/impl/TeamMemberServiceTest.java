@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +34,12 @@ class TeamMemberServiceTest {
     @Mock
     private SubteamRepository subteamRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private ProjectMetricsStore projectMetricsStore;
+    
     private TeamMemberServiceImpl teamMemberService; // ✅ Use implementation class, not interface
     
     private TeamMember testMember;
@@ -45,7 +52,8 @@ class TeamMemberServiceTest {
         testMember = createTestMember();
         
         // Create service with injected mocks
-        teamMemberService = new TeamMemberServiceImpl(teamMemberRepository, subteamRepository);
+        teamMemberService = new TeamMemberServiceImpl(teamMemberRepository, subteamRepository, eventPublisher,
+                                                      projectMetricsStore);
         
         // ✅ NO mock stubbing in setUp() - move to individual test methods
     }
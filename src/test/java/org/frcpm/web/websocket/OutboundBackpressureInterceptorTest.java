@@ -0,0 +1,206 @@
+// src/test/java/org/frcpm/web/websocket/OutboundBackpressureInterceptorTest.java
+
+package org.frcpm.web.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for per-session outbound buffer limits.
+ */
+class OutboundBackpressureInterceptorTest {
+
+    private static final int RESYNC_BYTES = 100;
+    private static final int SEND_TIME_LIMIT = 10_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundBackpressureInterceptor interceptor;
+    private WebSocketSession session;
+    private CountDownLatch socketBlocked;
+    private CountDownLatch releaseSocket;
+    private Thread writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new OutboundBackpressureInterceptor(meterRegistry, RESYNC_BYTES);
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("s1");
+
+        // The first write blocks, as on a client that stopped reading
+        socketBlocked = new CountDownLatch(1);
+        releaseSocket = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            socketBlocked.countDown();
+            releaseSocket.await(5, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseSocket.countDown();
+        if (writer != null) {
+            writer.join(5_000);
+        }
+    }
+
+    @Test
+    void testBufferIsMeasuredAndSessionEvictedWithResyncBeforeSpringLimit() throws Exception {
+        ConcurrentWebSocketSessionDecorator decorated = interceptor.decorateSession(session, SEND_TIME_LIMIT, 1_000);
+        blockSocket(decorated);
+
+        decorated.sendMessage(frameOf(60));
+        assertEquals(60, interceptor.getBufferSize("s1"));
+        assertEquals(60, interceptor.maxBufferSize());
+        verify(session, never()).close(any(CloseStatus.class));
+
+        decorated.sendMessage(frameOf(60));
+
+        verify(session).close(OutboundBackpressureInterceptor.RESYNC);
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.evicted").counter().count());
+        assertEquals(120.0, meterRegistry.get("websocket.outbound.session.buffer.bytes").summary().max());
+    }
+
+    @Test
+    void testSpringBufferOverflowClosesWithResync() throws Exception {
+        interceptor = new OutboundBackpressureInterceptor(meterRegistry, 10_000);
+        ConcurrentWebSocketSessionDecorator decorated = interceptor.decorateSession(session, SEND_TIME_LIMIT, 100);
+        blockSocket(decorated);
+
+        decorated.sendMessage(frameOf(60));
+        SessionLimitExceededException overflow = assertThrows(SessionLimitExceededException.class,
+            () -> decorated.sendMessage(frameOf(60)));
+        // What SubProtocolWebSocketHandler does with the exception
+        decorated.close(overflow.getStatus());
+
+        verify(session).close(OutboundBackpressureInterceptor.RESYNC);
+        verify(session, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.evicted").counter().count());
+    }
+
+    @Test
+    void testFramesForEvictedSessionAreDropped() throws Exception {
+        ConcurrentWebSocketSessionDecorator decorated = interceptor.decorateSession(session, SEND_TIME_LIMIT, 1_000);
+        Message<?> before = frame("s1");
+        assertSame(before, interceptor.preSend(before, null));
+
+        blockSocket(decorated);
+        decorated.sendMessage(frameOf(60));
+        decorated.sendMessage(frameOf(60));
+
+        assertNull(interceptor.preSend(frame("s1"), null));
+    }
+
+    @Test
+    void testFrameRejectedByFullExecutorEvictsItsSession() throws Exception {
+        interceptor.decorateSession(session, SEND_TIME_LIMIT, 1_000);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(interceptor.rejectedExecutionHandler());
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+        channel.addInterceptor(interceptor);
+        channel.subscribe(message -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            // One frame being handled, one queued, and no room for the third
+            assertTrue(channel.send(frame("s1")));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertTrue(channel.send(frame("s1")));
+            assertDoesNotThrow(() -> channel.send(frame("s1")));
+
+            verify(session).close(OutboundBackpressureInterceptor.RESYNC);
+            assertEquals(1.0, meterRegistry.get("websocket.outbound.evicted").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testOtherSessionsAreUnaffected() throws Exception {
+        WebSocketSession other = mock(WebSocketSession.class);
+        when(other.getId()).thenReturn("s2");
+        ConcurrentWebSocketSessionDecorator decorated = interceptor.decorateSession(session, SEND_TIME_LIMIT, 1_000);
+        ConcurrentWebSocketSessionDecorator otherDecorated =
+            interceptor.decorateSession(other, SEND_TIME_LIMIT, 1_000);
+
+        blockSocket(decorated);
+        decorated.sendMessage(frameOf(60));
+        decorated.sendMessage(frameOf(60));
+        otherDecorated.sendMessage(frameOf(60));
+
+        assertNotNull(interceptor.preSend(frame("s2"), null));
+        assertEquals(0, interceptor.getBufferSize("s2"));
+        verify(other, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void testClosedAndUnknownSessionsAreNotTracked() throws Exception {
+        interceptor.decorateSession(session, SEND_TIME_LIMIT, 1_000);
+        WebSocketHandler handler = interceptor.decorate(mock(WebSocketHandler.class));
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        Message<?> message = frame("s1");
+        assertSame(message, interceptor.preSend(message, null));
+        assertEquals(0, interceptor.getBufferSize("s1"));
+        assertEquals(0, interceptor.maxBufferSize());
+    }
+
+    /**
+     * Starts a write that blocks on the socket, so later frames are buffered.
+     */
+    private void blockSocket(ConcurrentWebSocketSessionDecorator decorated) throws InterruptedException {
+        writer = new Thread(() -> {
+            try {
+                decorated.sendMessage(new TextMessage("first"));
+            } catch (Exception e) {
+                // Closed while blocked
+            }
+        });
+        writer.start();
+        assertTrue(socketBlocked.await(5, TimeUnit.SECONDS));
+    }
+
+    private static TextMessage frameOf(int bytes) {
+        return new TextMessage("x".repeat(bytes));
+    }
+
+    private Message<?> frame(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
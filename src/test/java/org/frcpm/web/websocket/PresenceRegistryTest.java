@@ -0,0 +1,147 @@
+// src/test/java/org/frcpm/web/websocket/PresenceRegistryTest.java
+
+package org.frcpm.web.websocket;
+
+import org.frcpm.events.WebSocketEventBus;
+import org.frcpm.web.dto.AttendanceUpdateMessage;
+import org.frcpm.web.dto.PresenceDigest;
+import org.frcpm.web.dto.TeamPresenceMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the workshop presence registry and its sweeper.
+ */
+class PresenceRegistryTest {
+
+    private static final long STALE_AFTER = TimeUnit.SECONDS.toMillis(60);
+    private static final Long MEETING_ID = 7L;
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(1));
+    private WebSocketEventBus eventBus;
+    private PresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = mock(WebSocketEventBus.class);
+        registry = new PresenceRegistry(STALE_AFTER, now::get);
+        ReflectionTestUtils.setField(registry, "eventBus", eventBus);
+    }
+
+    @Test
+    void testCheckInsCollapseIntoOneDigestPerSweep() {
+        for (long member = 1; member <= 60; member++) {
+            registry.recordAttendance(checkIn(member, "student" + member));
+        }
+        TeamPresenceMessage summary = new TeamPresenceMessage(MEETING_ID, "Workshop Session");
+        summary.setTotalPresent(60);
+        summary.setTotalExpected(64);
+        summary.calculateAttendancePercentage();
+        registry.updateSummary(summary);
+
+        registry.sweep();
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(eventBus).publish(eq("/topic/meeting/7/presence"), payload.capture(), eq("presence"));
+        verify(eventBus).publish(eq("/topic/workshop/presence"), any(), eq("presence:7"));
+        PresenceDigest digest = (PresenceDigest) payload.getValue();
+        assertEquals(60, digest.getPresentMemberIds().size());
+        assertEquals(60, digest.getTotalPresent());
+        assertEquals(PresenceRegistry.RECENT_ACTIVITY_LIMIT, digest.getRecentActivity().size());
+
+        // Nothing changed since, nothing is sent
+        registry.sweep();
+        verifyNoMoreInteractions(eventBus);
+    }
+
+    @Test
+    void testCheckOutRemovesMemberFromDigest() {
+        registry.recordAttendance(checkIn(1L, "student1"));
+        registry.recordAttendance(checkIn(2L, "student2"));
+        registry.recordAttendance(AttendanceUpdateMessage.checkOut(
+            null, MEETING_ID, 1L, "Student 1", "student1", LocalTime.of(20, 0), "System"));
+
+        assertEquals(List.of(2L), registry.getDigest(MEETING_ID).getPresentMemberIds());
+    }
+
+    @Test
+    void testConnectionsAndSubscriptionsShowInDigest() {
+        registry.recordAttendance(checkIn(1L, "student1"));
+        registry.recordAttendance(checkIn(2L, "student2"));
+
+        registry.sessionConnected("s1", "student1");
+        registry.sessionConnected("s2", "student1");
+        registry.sessionSubscribed("s1", "/topic/meeting/7/attendance");
+        registry.sessionSubscribed("s2", "/topic/meeting/7/presence");
+        registry.sessionSubscribed("s2", "/topic/project/3/kanban");
+
+        PresenceDigest digest = registry.getDigest(MEETING_ID);
+        assertEquals(List.of(1L), digest.getConnectedMemberIds());
+        assertEquals(2, digest.getViewers());
+
+        // Still connected through the second session
+        registry.sessionClosed("s1");
+        assertEquals(List.of(1L), registry.getDigest(MEETING_ID).getConnectedMemberIds());
+
+        registry.sessionClosed("s2");
+        digest = registry.getDigest(MEETING_ID);
+        assertTrue(digest.getConnectedMemberIds().isEmpty());
+        assertEquals(0, digest.getViewers());
+    }
+
+    @Test
+    void testSweepExpiresSessionsWithoutHeartbeats() {
+        registry.recordAttendance(checkIn(1L, "student1"));
+        registry.sessionConnected("quiet", "student1");
+        registry.sessionConnected("alive", "mentor1");
+        registry.sessionSubscribed("quiet", "/topic/meeting/7/presence");
+        registry.sweep();
+        clearInvocations(eventBus);
+
+        now.addAndGet(STALE_AFTER / 2);
+        registry.preSend(heartbeat("alive"), null);
+        now.addAndGet(STALE_AFTER / 2 + 1);
+        registry.sweep();
+
+        assertEquals(1, registry.getSessionCount());
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(eventBus).publish(eq("/topic/meeting/7/presence"), payload.capture(), eq("presence"));
+        PresenceDigest digest = (PresenceDigest) payload.getValue();
+        assertTrue(digest.getConnectedMemberIds().isEmpty());
+        assertEquals(0, digest.getViewers());
+    }
+
+    @Test
+    void testUnknownMeetingGivesEmptyDigest() {
+        PresenceDigest digest = registry.getDigest(99L);
+
+        assertEquals(99L, digest.getMeetingId());
+        assertEquals(0L, digest.getVersion());
+        assertTrue(digest.getPresentMemberIds().isEmpty());
+    }
+
+    private AttendanceUpdateMessage checkIn(Long memberId, String username) {
+        return AttendanceUpdateMessage.checkIn(null, MEETING_ID, memberId, "Student " + memberId,
+                                               username, LocalTime.of(18, 0), "System");
+    }
+
+    private org.springframework.messaging.Message<byte[]> heartbeat(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
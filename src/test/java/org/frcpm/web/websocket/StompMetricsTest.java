@@ -0,0 +1,154 @@
+// src/test/java/org/frcpm/web/websocket/StompMetricsTest.java
+
+package org.frcpm.web.websocket;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the STOMP layer meters.
+ */
+class StompMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StompMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new StompMetrics(meterRegistry);
+    }
+
+    @Test
+    void testDestinationPatternHidesIds() {
+        assertEquals("/topic/project/{id}/kanban", StompMetrics.destinationPattern("/topic/project/12/kanban"));
+        assertEquals("/app/task/{id}/update", StompMetrics.destinationPattern("/app/task/7/update"));
+        assertEquals("/topic/workshop/presence", StompMetrics.destinationPattern("/topic/workshop/presence"));
+    }
+
+    @Test
+    void testPublishIsCountedPerDestinationWithFanOut() {
+        ChannelInterceptor inbound = metrics.inboundInterceptor();
+        for (String session : new String[] {"s1", "s2", "s3"}) {
+            inbound.afterSendCompletion(subscribe(session, "sub-0", "/topic/project/1/kanban"), null, true, null);
+        }
+
+        metrics.brokerInterceptor().preSend(message(SimpMessageType.MESSAGE, "/topic/project/1/kanban"), null);
+        metrics.brokerInterceptor().preSend(message(SimpMessageType.MESSAGE, "/topic/project/2/kanban"), null);
+
+        assertEquals(2.0, meterRegistry.get("websocket.publish")
+            .tag("destination", "/topic/project/{id}/kanban").counter().count());
+        assertEquals(3.0, meterRegistry.get("websocket.fanout").summary().max());
+    }
+
+    @Test
+    void testUserDestinationsAreCountedOnceResolved() {
+        metrics.brokerInterceptor().preSend(message(SimpMessageType.MESSAGE, "/user/student1/queue/tasks"), null);
+        assertNull(meterRegistry.find("websocket.publish").counter());
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/queue/tasks-usera1b2");
+        accessor.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/queue/tasks");
+        metrics.brokerInterceptor().preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+                                            null);
+
+        assertEquals(1.0, meterRegistry.get("websocket.publish")
+            .tag("destination", "/user/queue/tasks").counter().count());
+        assertNull(meterRegistry.find("websocket.fanout").summary());
+    }
+
+    @Test
+    void testSubscriptionsAreCountedFromInboundFrames() {
+        ChannelInterceptor inbound = metrics.inboundInterceptor();
+        String kanban = "/topic/project/1/kanban";
+        inbound.afterSendCompletion(subscribe("s1", "sub-0", kanban), null, true, null);
+        inbound.afterSendCompletion(subscribe("s1", "sub-1", "/topic/workshop/presence"), null, true, null);
+        inbound.afterSendCompletion(subscribe("s2", "sub-0", kanban), null, true, null);
+        inbound.afterSendCompletion(subscribe("s3", "sub-0", kanban), null, true, null);
+        // Refused by the authorization interceptor
+        inbound.afterSendCompletion(subscribe("s4", "sub-0", kanban), null, false,
+                                    new IllegalStateException("denied"));
+        assertEquals(3, metrics.getSubscriberCount(kanban));
+
+        SimpMessageHeaderAccessor unsubscribe = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        unsubscribe.setSessionId("s2");
+        unsubscribe.setSubscriptionId("sub-0");
+        inbound.afterSendCompletion(MessageBuilder.createMessage(new byte[0], unsubscribe.getMessageHeaders()),
+                                    null, true, null);
+        assertEquals(2, metrics.getSubscriberCount(kanban));
+
+        SimpMessageHeaderAccessor disconnect = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        disconnect.setSessionId("s1");
+        inbound.afterSendCompletion(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()),
+                                    null, true, null);
+        // Closed without a DISCONNECT frame
+        metrics.sessionClosed("s3");
+        metrics.sessionClosed("s3");
+
+        assertEquals(0, metrics.getSubscriberCount(kanban));
+        assertEquals(0, metrics.getSubscriberCount("/topic/workshop/presence"));
+    }
+
+    @Test
+    void testInboundHandlerLatencyIsTimedPerMapping() {
+        ExecutorChannelInterceptor interceptor = (ExecutorChannelInterceptor) metrics.inboundInterceptor();
+        MessageHandler annotationHandler = mock(SimpAnnotationMethodMessageHandler.class);
+        MessageHandler brokerHandler = mock(MessageHandler.class);
+        Message<?> message = message(SimpMessageType.MESSAGE, "/app/task/7/update");
+
+        interceptor.beforeHandle(message, null, annotationHandler);
+        interceptor.afterMessageHandled(message, null, annotationHandler, null);
+        interceptor.beforeHandle(message, null, brokerHandler);
+        interceptor.afterMessageHandled(message, null, brokerHandler, null);
+
+        Timer timer = meterRegistry.get("websocket.inbound.handler").tag("mapping", "/app/task/{id}/update").timer();
+        assertEquals(1, timer.count());
+        assertEquals(1L, metrics.getStats().get("inboundHandled"));
+    }
+
+    @Test
+    void testSessionsAreCountedByRole() {
+        metrics.sessionConnected("s1", "student");
+        metrics.sessionConnected("s2", "student");
+        metrics.sessionConnected("s3", "mentor");
+        metrics.sessionClosed("s2");
+        metrics.sessionClosed("s2");
+
+        assertEquals(1.0, meterRegistry.get("websocket.sessions").tag("role", "student").gauge().value());
+        assertEquals(1.0, meterRegistry.get("websocket.sessions").tag("role", "mentor").gauge().value());
+        assertEquals(0.0, meterRegistry.get("websocket.sessions").tag("role", StompMetrics.ANONYMOUS_ROLE)
+            .gauge().value());
+        assertEquals(2, metrics.getSessionCount());
+        assertEquals(Map.of("student", 1, "mentor", 1, "parent", 0, "admin", 0, "anonymous", 0),
+                     metrics.getStats().get("sessionsByRole"));
+    }
+
+    private Message<?> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<?> message(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,146 @@
+// src/test/java/org/frcpm/web/websocket/StompRateLimitInterceptorTest.java
+
+package org.frcpm.web.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.frcpm.models.User;
+import org.frcpm.models.UserRole;
+import org.frcpm.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the STOMP inbound token-bucket rate limiter.
+ */
+class StompRateLimitInterceptorTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private SimpleMeterRegistry meterRegistry;
+    private StompRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new StompRateLimitInterceptor(meterRegistry, now::get);
+    }
+
+    @Test
+    void testStudentBurstIsCappedAtPerMinuteLimit() {
+        UserPrincipal student = principal(1L, "student1", UserRole.STUDENT);
+
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (interceptor.preSend(send(student, "session-1"), null) != null) {
+                accepted++;
+            }
+        }
+
+        assertEquals(StompRateLimitInterceptor.MAX_MESSAGES_PER_MINUTE_STUDENT, accepted);
+        assertEquals(100 - accepted, rejected("student"));
+        assertEquals(0.0, rejected("mentor"));
+    }
+
+    @Test
+    void testMentorGetsHigherLimit() {
+        UserPrincipal mentor = principal(2L, "mentor1", UserRole.MENTOR);
+
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (interceptor.preSend(send(mentor, "session-2"), null) != null) {
+                accepted++;
+            }
+        }
+
+        assertEquals(StompRateLimitInterceptor.MAX_MESSAGES_PER_MINUTE_MENTOR, accepted);
+        assertEquals(100 - accepted, rejected("mentor"));
+    }
+
+    @Test
+    void testTokensRefillContinuously() {
+        int limit = StompRateLimitInterceptor.MAX_MESSAGES_PER_MINUTE_STUDENT;
+        for (int i = 0; i < limit; i++) {
+            assertTrue(interceptor.tryAcquire("user:a", limit));
+        }
+        assertFalse(interceptor.tryAcquire("user:a", limit));
+
+        // One token comes back every 60 / limit seconds, not all at once at the minute mark
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60) / limit);
+        assertTrue(interceptor.tryAcquire("user:a", limit));
+        assertFalse(interceptor.tryAcquire("user:a", limit));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        int refilled = 0;
+        while (interceptor.tryAcquire("user:a", limit)) {
+            refilled++;
+        }
+        assertEquals(limit / 2, refilled);
+    }
+
+    @Test
+    void testNonSendFramesAreNotMetered() {
+        UserPrincipal student = principal(1L, "student1", UserRole.STUDENT);
+        for (int i = 0; i < 100; i++) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setUser(new UsernamePasswordAuthenticationToken(student, null, student.getAuthorities()));
+            accessor.setSessionId("session-1");
+            Message<byte[]> subscribe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            assertNotNull(interceptor.preSend(subscribe, null));
+        }
+        assertEquals(0, interceptor.bucketCount());
+    }
+
+    @Test
+    void testAnonymousSessionsAreLimitedPerSession() {
+        int accepted = 0;
+        for (int i = 0; i < 50; i++) {
+            if (interceptor.preSend(send(null, "anon-1"), null) != null) {
+                accepted++;
+            }
+        }
+        assertEquals(StompRateLimitInterceptor.MAX_MESSAGES_PER_MINUTE_STUDENT, accepted);
+        assertNotNull(interceptor.preSend(send(null, "anon-2"), null));
+        assertEquals(50 - accepted, rejected("anonymous"));
+    }
+
+    @Test
+    void testFullBucketsAreSweptWhenTableGrows() {
+        for (int i = 0; i < StompRateLimitInterceptor.SWEEP_THRESHOLD; i++) {
+            interceptor.tryAcquire("user:" + i, StompRateLimitInterceptor.MAX_MESSAGES_PER_MINUTE_MENTOR);
+        }
+        assertEquals(StompRateLimitInterceptor.SWEEP_THRESHOLD, interceptor.bucketCount());
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertTrue(interceptor.tryAcquire("user:new", StompRateLimitInterceptor.MAX_MESSAGES_PER_MINUTE_MENTOR));
+        assertEquals(1, interceptor.bucketCount());
+    }
+
+    private double rejected(String role) {
+        return meterRegistry.get("websocket.inbound.rejected").tag("role", role).counter().count();
+    }
+
+    private static Message<byte[]> send(UserPrincipal user, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/task/update");
+        accessor.setSessionId(sessionId);
+        if (user != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static UserPrincipal principal(Long id, String username, UserRole role) {
+        User user = new User(username, "password", username + "@example.com", "Test", "User", role);
+        user.setId(id);
+        return new UserPrincipal(user);
+    }
+}